@@ -20,6 +20,9 @@ package com.github.croesch.micro_debug;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.logging.Logger;
@@ -28,12 +31,16 @@ import com.github.croesch.micro_debug.annotation.Nullable;
 import com.github.croesch.micro_debug.argument.AArgument;
 import com.github.croesch.micro_debug.argument.Help;
 import com.github.croesch.micro_debug.argument.Version;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.console.Debugger;
 import com.github.croesch.micro_debug.error.MacroFileFormatException;
 import com.github.croesch.micro_debug.error.MicroFileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.Mic1Monitor;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
 
 /**
  * TODO Comment here ...
@@ -111,12 +118,18 @@ public final class MicroDebug {
       LOGGER.config(".ijvm-file: " + ijvmFile);
       LOGGER.config(".mic1-file: " + mic1File);
       final FileInputStream micAsm = createFileInputStream(mic1File);
-      final FileInputStream asm = createFileInputStream(ijvmFile);
+      final InputStream asm = assembleIfSource(ijvmFile, createFileInputStream(ijvmFile));
 
       // if files where found, try to start application
       if (micAsm != null && asm != null) {
         try {
-          new Debugger(new Mic1(micAsm, asm)).run();
+          final Mic1 processor = createProcessor(mic1File, micAsm, asm);
+          if (processor != null) {
+            final Mic1Monitor monitor = new Mic1Monitor(processor);
+            monitor.register();
+            new Debugger(processor).run();
+            monitor.unregister();
+          }
         } catch (final MicroFileFormatException e) {
           LOGGER.severe(e.getMessage());
           Printer.printErrorln(Text.WRONG_FORMAT_MIC1.text());
@@ -168,6 +181,59 @@ public final class MicroDebug {
     }
   }
 
+  /**
+   * Assembles the program read from the given stream, if the file is the source of an IJVM program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param ijvmFile the path to the file the stream reads from
+   * @param in the stream reading the file, may be <code>null</code>
+   * @return the stream providing the binary program, the given stream if the file isn't a source file,<br>
+   *         or <code>null</code> if the given stream is <code>null</code> or the source couldn't be assembled
+   */
+  @Nullable
+  private static InputStream assembleIfSource(final String ijvmFile, final InputStream in) {
+    if (in == null || !ijvmFile.toLowerCase(Locale.ENGLISH).endsWith(IJVMAssembler.FILE_EXTENSION)) {
+      return in;
+    }
+    try {
+      return new IJVMAssembler().assemble(new InputStreamReader(in)).toInputStream();
+    } catch (final MacroFileFormatException e) {
+      LOGGER.severe(e.getMessage());
+      Printer.printErrorln(Text.ASSEMBLER_ERROR.text(ijvmFile, e.getMessage()));
+      return null;
+    }
+  }
+
+  /**
+   * Creates the processor to debug. If the micro program file is the source of a micro program, it's assembled first.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mic1File the path to the file containing the micro program
+   * @param micAsm the stream reading the micro program
+   * @param asm the stream reading the binary assembler program
+   * @return the created processor or <code>null</code> if the source of the micro program couldn't be assembled
+   * @throws MacroFileFormatException if the assembler program has invalid format
+   * @throws MicroFileFormatException if the micro program has invalid format
+   */
+  @Nullable
+  private static Mic1 createProcessor(final String mic1File,
+                                      final InputStream micAsm,
+                                      final InputStream asm) throws MacroFileFormatException,
+                                                            MicroFileFormatException {
+    if (!mic1File.toLowerCase(Locale.ENGLISH).endsWith(MicroAssembler.FILE_EXTENSION)) {
+      return new Mic1(micAsm, asm);
+    }
+    final MicroControlStore store;
+    try {
+      store = new MicroAssembler().assemble(new InputStreamReader(micAsm));
+    } catch (final MicroFileFormatException e) {
+      LOGGER.severe(e.getMessage());
+      Printer.printErrorln(Text.ASSEMBLER_ERROR.text(mic1File, e.getMessage()));
+      return null;
+    }
+    return new Mic1(store, asm);
+  }
+
   /**
    * Performs the handling of passing only one {@link AArgument} to the program.
    * 
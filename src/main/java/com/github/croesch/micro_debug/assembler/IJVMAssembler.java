@@ -0,0 +1,834 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.assembler;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommandArgument;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.parser.IntegerParser;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Assembler for IJVM programs, that translates the source of a program into the binary format of an .ijvm-file
+ * without writing any file. It knows the instructions configured in the file ijvm.conf and understands the following
+ * source format:
+ * 
+ * <pre>
+ * // comments start with two slashes
+ * .constant
+ * objref 0x40
+ * .end-constant
+ * 
+ * .main
+ * .var
+ * a
+ * .end-var
+ * loop: BIPUSH 'a'
+ *       ISTORE a
+ *       LDC_W objref
+ *       ILOAD a
+ *       INVOKEVIRTUAL print
+ *       HALT
+ * .end-main
+ * 
+ * .method print(c)
+ *       ILOAD c
+ *       OUT
+ *       BIPUSH 0
+ *       IRETURN
+ * .end-method
+ * </pre>
+ * 
+ * The main program is placed at the start of the code, followed by the methods in the order of their definition. The
+ * constant pool contains the declared constants followed by the addresses of the methods. Variables are numbered
+ * starting with zero in the main program and after the parameters in methods, where the parameter with number zero is
+ * the object reference. A variable with a number higher than 255 or the prefix <code>WIDE</code> makes the variable
+ * number of the instruction two bytes long, prefixed by a <code>WIDE</code> instruction.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class IJVMAssembler {
+
+  /** the extension of files containing the source of an IJVM program */
+  public static final String FILE_EXTENSION = ".jas";
+
+  /** the name of the main program in the symbol table */
+  private static final String MAIN = "main";
+
+  /** the mnemonic of the prefix instruction for two byte variable numbers */
+  private static final String WIDE = "WIDE";
+
+  /** the start of a comment in the source */
+  private static final String COMMENT = "//";
+
+  /** the pattern of a label at the start of a line */
+  private static final Pattern LABEL = Pattern.compile("([A-Za-z_]\\w*)\\s*:(.*)");
+
+  /** the pattern of the head of a method */
+  private static final Pattern METHOD = Pattern.compile("\\.method\\s+([A-Za-z_]\\w*)\\s*\\(([^)]*)\\)");
+
+  /** the pattern of a name of a constant, variable or method */
+  private static final Pattern NAME = Pattern.compile("[A-Za-z_]\\w*");
+
+  /** the pattern of the characters between two operands */
+  private static final Pattern SEPARATOR = Pattern.compile("[\\s,]+");
+
+  /** the number of bytes of the head of a method, containing the number of parameters and local variables */
+  private static final int METHOD_HEADER_BYTES = 4;
+
+  /** the lowest value of a single byte operand */
+  private static final int MIN_BYTE = -0x80;
+
+  /** the highest value of a single byte operand */
+  private static final int MAX_BYTE = 0xFF;
+
+  /** the lowest value of a two byte offset */
+  private static final int MIN_OFFSET = -0x8000;
+
+  /** the highest value of a two byte offset */
+  private static final int MAX_OFFSET = 0x7FFF;
+
+  /** the highest value of a two byte operand */
+  private static final int MAX_SHORT = 0xFFFF;
+
+  /** the table of the known instructions */
+  @NotNull
+  private final IJVMOpcodeTable opcodes;
+
+  /** the operation codes of the known instructions, mapped by their upper case mnemonic */
+  @NotNull
+  private final Map<String, Integer> mnemonics = new HashMap<String, Integer>();
+
+  /**
+   * Constructs an assembler for the instructions configured in the file ijvm.conf.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public IJVMAssembler() {
+    this(IJVMOpcodeTable.getDefault());
+  }
+
+  /**
+   * Constructs an assembler for the instructions of the given table.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param table the table of the known instructions
+   */
+  public IJVMAssembler(final IJVMOpcodeTable table) {
+    this.opcodes = table;
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final IJVMCommand cmd = table.getCommand(opcode);
+      if (cmd != null) {
+        this.mnemonics.put(cmd.getName().toUpperCase(Locale.ENGLISH), Integer.valueOf(opcode));
+      }
+    }
+  }
+
+  /**
+   * Assembles the given source of a program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param source the source of the program
+   * @return the assembled {@link IJVMProgram}
+   * @throws MacroFileFormatException if the source isn't a valid program, the message contains the number of the line
+   *         containing the error.
+   */
+  @NotNull
+  public IJVMProgram assemble(final String source) throws MacroFileFormatException {
+    return assemble(new StringReader(source));
+  }
+
+  /**
+   * Assembles the source of a program read from the given reader.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param source the reader providing the source of the program, will be read until its end but not closed
+   * @return the assembled {@link IJVMProgram}
+   * @throws MacroFileFormatException if the source isn't a valid program or couldn't be read, the message contains
+   *         the number of the line containing the error.
+   */
+  @NotNull
+  public IJVMProgram assemble(final Reader source) throws MacroFileFormatException {
+    final Assembly assembly = new Assembly();
+    final BufferedReader reader = new BufferedReader(source);
+    try {
+      String line = reader.readLine();
+      int number = 1;
+      while (line != null) {
+        assembly.parseLine(number, line);
+        line = reader.readLine();
+        ++number;
+      }
+    } catch (final IOException e) {
+      throw new MacroFileFormatException(e.getMessage(), e);
+    }
+    return assembly.link();
+  }
+
+  /**
+   * Creates the exception to signal an error in the given line of the source.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line containing the error
+   * @param message the description of the error
+   * @return the exception to throw
+   */
+  @NotNull
+  private static MacroFileFormatException error(final int line, final String message) {
+    return new MacroFileFormatException("line " + line + ": " + message);
+  }
+
+  /**
+   * Parses the given number. Accepts the number formats of {@link IntegerParser} and single characters in quotes.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param s the text to parse
+   * @return the parsed number or <code>null</code> if the text isn't a number
+   */
+  @Nullable
+  private static Integer parseNumber(final String s) {
+    if (s.length() == 3 && s.charAt(0) == '\'' && s.charAt(2) == '\'') {
+      return Integer.valueOf(s.charAt(1));
+    }
+    return new IntegerParser().parse(s);
+  }
+
+  /**
+   * Appends the given value as a big endian number with the given number of bytes to the given stream.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param out the stream to write to
+   * @param value the value to write
+   * @param bytes the number of bytes to write
+   */
+  private static void write(final ByteArrayOutputStream out, final int value, final int bytes) {
+    for (int i = bytes - 1; i >= 0; --i) {
+      out.write(value >> (Byte.SIZE * i));
+    }
+  }
+
+  /**
+   * The part of the source that is currently parsed.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private enum Block {
+    /** outside of any block */
+    NONE,
+    /** inside the declaration of constants */
+    CONSTANT,
+    /** inside the code of a method */
+    METHOD,
+    /** inside the declaration of variables of a method */
+    VAR
+  }
+
+  /**
+   * A method of the program, or the main program.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class Method {
+
+    /** the name of the method */
+    @NotNull
+    private final String name;
+
+    /** the number of parameters, including the object reference */
+    private final int parameters;
+
+    /** the numbers of the parameters and variables, mapped by their name */
+    @NotNull
+    private final Map<String, Integer> variables = new HashMap<String, Integer>();
+
+    /** the number of local variables */
+    private int locals = 0;
+
+    /** the offsets of the labels in the method, mapped by their name */
+    @NotNull
+    private final Map<String, Integer> labels = new LinkedHashMap<String, Integer>();
+
+    /** the instructions of the method */
+    @NotNull
+    private final List<Statement> statements = new ArrayList<Statement>();
+
+    /** the number of bytes of the method, including its head */
+    private int size;
+
+    /** the byte address of the method in the memory */
+    private int address;
+
+    /**
+     * Constructs a method with the given parameters.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param n the name of the method
+     * @param params the names of the parameters, without the object reference, <code>null</code> for the main program
+     */
+    Method(final String n, final List<String> params) {
+      this.name = n;
+      if (params == null) {
+        this.parameters = 0;
+        this.size = 0;
+      } else {
+        this.parameters = params.size() + 1;
+        this.size = METHOD_HEADER_BYTES;
+        for (int i = 0; i < params.size(); ++i) {
+          this.variables.put(params.get(i), Integer.valueOf(i + 1));
+        }
+      }
+    }
+
+    /**
+     * Returns whether this is the main program.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return <code>true</code> if this is the main program without a head
+     */
+    boolean isMain() {
+      return this.parameters == 0;
+    }
+  }
+
+  /**
+   * A single instruction of a method.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class Statement {
+
+    /** the number of the line in the source */
+    private final int line;
+
+    /** the offset of the instruction in the method, including a prefix */
+    private final int offset;
+
+    /** the operation code of the instruction */
+    private final int opcode;
+
+    /** whether the instruction is prefixed with WIDE and has two byte variable numbers */
+    private final boolean wide;
+
+    /** the types of the operands */
+    @NotNull
+    private final IJVMCommandArgument[] types;
+
+    /** the operands as written in the source */
+    @NotNull
+    private final String[] operands;
+
+    /** the values of the variable numbers, already resolved when parsing */
+    @NotNull
+    private final int[] values;
+
+    /**
+     * Constructs a statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param l the number of the line in the source
+     * @param offs the offset of the instruction in the method
+     * @param code the operation code of the instruction
+     * @param w whether the instruction is prefixed with WIDE
+     * @param t the types of the operands
+     * @param ops the operands as written in the source
+     * @param vals the resolved variable numbers
+     */
+    Statement(final int l,
+              final int offs,
+              final int code,
+              final boolean w,
+              final IJVMCommandArgument[] t,
+              final String[] ops,
+              final int[] vals) {
+      this.line = l;
+      this.offset = offs;
+      this.opcode = code;
+      this.wide = w;
+      this.types = t;
+      this.operands = ops;
+      this.values = vals;
+    }
+  }
+
+  /**
+   * The state of assembling a single program.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private final class Assembly {
+
+    /** the values of the declared constants, mapped by their name */
+    @NotNull
+    private final Map<String, Integer> constants = new LinkedHashMap<String, Integer>();
+
+    /** the methods, mapped by their name */
+    @NotNull
+    private final Map<String, Method> methods = new LinkedHashMap<String, Method>();
+
+    /** the part of the source that is currently parsed */
+    @NotNull
+    private Block block = Block.NONE;
+
+    /** the method currently parsed */
+    @Nullable
+    private Method method = null;
+
+    /** the number of the line of the WIDE prefix that stands alone in its line, or zero */
+    private int pendingWide = 0;
+
+    /**
+     * Parses a single line of the source.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param text the text of the line
+     * @throws MacroFileFormatException if the line contains an error
+     */
+    void parseLine(final int number, final String text) throws MacroFileFormatException {
+      String line = text;
+      final int comment = line.indexOf(COMMENT);
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      line = line.trim();
+      if (line.length() == 0) {
+        return;
+      }
+
+      if (line.charAt(0) == '.') {
+        parseDirective(number, line);
+      } else if (this.block == Block.CONSTANT) {
+        parseConstant(number, line);
+      } else if (this.block == Block.VAR) {
+        for (final String var : SEPARATOR.split(line)) {
+          declare(number, var, this.method.parameters + this.method.locals);
+          ++this.method.locals;
+        }
+      } else if (this.block == Block.METHOD) {
+        parseInstruction(number, line);
+      } else {
+        throw error(number, "instruction outside of a method: " + line);
+      }
+    }
+
+    /**
+     * Parses a line that starts a block or ends it.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param line the line without comments
+     * @throws MacroFileFormatException if the directive isn't valid here
+     */
+    private void parseDirective(final int number, final String line) throws MacroFileFormatException {
+      final String directive = SEPARATOR.split(line)[0].toLowerCase(Locale.ENGLISH);
+      if (directive.equals(".constant") && this.block == Block.NONE) {
+        this.block = Block.CONSTANT;
+      } else if (directive.equals(".end-constant") && this.block == Block.CONSTANT) {
+        this.block = Block.NONE;
+      } else if (directive.equals(".main") && this.block == Block.NONE) {
+        startMethod(number, MAIN, null);
+      } else if (directive.startsWith(".method") && this.block == Block.NONE) {
+        final Matcher m = METHOD.matcher(line);
+        if (!m.matches()) {
+          throw error(number, "invalid head of method: " + line);
+        }
+        final List<String> params = new ArrayList<String>();
+        for (final String param : m.group(2).split(",")) {
+          if (param.trim().length() > 0) {
+            params.add(param.trim());
+          }
+        }
+        startMethod(number, m.group(1), params);
+      } else if (directive.equals(".var") && this.block == Block.METHOD) {
+        this.block = Block.VAR;
+      } else if (directive.equals(".end-var") && this.block == Block.VAR) {
+        this.block = Block.METHOD;
+      } else if ((directive.equals(".end-main") && this.method != null && this.method.isMain()
+                  || directive.equals(".end-method") && this.method != null && !this.method.isMain())
+                 && this.block == Block.METHOD) {
+        if (this.pendingWide != 0) {
+          throw error(this.pendingWide, WIDE + " without instruction");
+        }
+        this.block = Block.NONE;
+        this.method = null;
+      } else {
+        throw error(number, "unexpected directive: " + line);
+      }
+    }
+
+    /**
+     * Starts parsing the method with the given name.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param name the name of the method
+     * @param params the names of the parameters, <code>null</code> for the main program
+     * @throws MacroFileFormatException if there is already a method with the given name
+     */
+    private void startMethod(final int number,
+                             final String name,
+                             final List<String> params) throws MacroFileFormatException {
+      if (this.methods.containsKey(name)) {
+        throw error(number, "method defined twice: " + name);
+      }
+      this.method = new Method(name, params);
+      if (params != null) {
+        for (final String param : params) {
+          if (!NAME.matcher(param).matches()) {
+            throw error(number, "invalid name of parameter: " + param);
+          }
+        }
+        if (this.method.variables.size() != params.size()) {
+          throw error(number, "parameter defined twice");
+        }
+      }
+      this.methods.put(name, this.method);
+      this.block = Block.METHOD;
+    }
+
+    /**
+     * Declares the variable with the given name and number in the current method.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param name the name of the variable
+     * @param varnum the number of the variable
+     * @throws MacroFileFormatException if the name is invalid or already used
+     */
+    private void declare(final int number, final String name, final int varnum) throws MacroFileFormatException {
+      if (!NAME.matcher(name).matches()) {
+        throw error(number, "invalid name of variable: " + name);
+      }
+      if (this.method.variables.containsKey(name)) {
+        throw error(number, "variable defined twice: " + name);
+      }
+      this.method.variables.put(name, Integer.valueOf(varnum));
+    }
+
+    /**
+     * Parses the declaration of a constant.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param line the line without comments
+     * @throws MacroFileFormatException if the declaration is invalid
+     */
+    private void parseConstant(final int number, final String line) throws MacroFileFormatException {
+      final String[] parts = SEPARATOR.split(line);
+      if (parts.length != 2 || !NAME.matcher(parts[0]).matches()) {
+        throw error(number, "invalid declaration of constant: " + line);
+      }
+      final Integer value = parseNumber(parts[1]);
+      if (value == null) {
+        throw error(number, "invalid value of constant: " + parts[1]);
+      }
+      if (this.constants.containsKey(parts[0])) {
+        throw error(number, "constant defined twice: " + parts[0]);
+      }
+      this.constants.put(parts[0], value);
+    }
+
+    /**
+     * Parses an instruction, optionally preceded by a label.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param text the line without comments
+     * @throws MacroFileFormatException if the instruction is invalid
+     */
+    private void parseInstruction(final int number, final String text) throws MacroFileFormatException {
+      String line = text;
+      final Matcher m = LABEL.matcher(line);
+      if (m.matches()) {
+        if (this.method.labels.containsKey(m.group(1))) {
+          throw error(number, "label defined twice: " + m.group(1));
+        }
+        this.method.labels.put(m.group(1), Integer.valueOf(this.method.size));
+        line = m.group(2).trim();
+        if (line.length() == 0) {
+          return;
+        }
+      }
+
+      final String[] tokens = SEPARATOR.split(line);
+      int first = 0;
+      boolean wide = this.pendingWide != 0;
+      if (tokens[0].equalsIgnoreCase(WIDE)) {
+        if (tokens.length == 1) {
+          this.pendingWide = number;
+          return;
+        }
+        wide = true;
+        first = 1;
+      }
+      this.pendingWide = 0;
+
+      final Integer opcode = IJVMAssembler.this.mnemonics.get(tokens[first].toUpperCase(Locale.ENGLISH));
+      if (opcode == null) {
+        throw error(number, "unknown instruction: " + tokens[first]);
+      }
+      final IJVMCommand cmd = IJVMAssembler.this.opcodes.getCommand(opcode.intValue());
+      final List<IJVMCommandArgument> args = cmd.getArgs();
+      if (tokens.length - first - 1 != args.size()) {
+        throw error(number, cmd.getName() + " expects " + args.size() + " operand(s)");
+      }
+
+      final IJVMCommandArgument[] types = args.toArray(new IJVMCommandArgument[args.size()]);
+      final String[] operands = new String[types.length];
+      final int[] values = new int[types.length];
+      for (int i = 0; i < types.length; ++i) {
+        operands[i] = tokens[first + 1 + i];
+        if (types[i] == IJVMCommandArgument.VARNUM) {
+          values[i] = resolveVariable(number, operands[i]);
+          wide |= values[i] > MAX_BYTE;
+        }
+      }
+
+      final Statement statement = new Statement(number, this.method.size, opcode.intValue(), wide, types, operands,
+                                                values);
+      this.method.statements.add(statement);
+      this.method.size += IJVMAssembler.this.opcodes.getLength(opcode.intValue());
+      if (wide) {
+        // the prefix and the second byte of each variable number
+        ++this.method.size;
+        for (final IJVMCommandArgument type : types) {
+          if (type == IJVMCommandArgument.VARNUM) {
+            ++this.method.size;
+          }
+        }
+      }
+    }
+
+    /**
+     * Returns the number of the given variable of the current method.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param operand the name or number of the variable
+     * @return the number of the variable
+     * @throws MacroFileFormatException if the variable is unknown
+     */
+    private int resolveVariable(final int number, final String operand) throws MacroFileFormatException {
+      Integer value = this.method.variables.get(operand);
+      if (value == null) {
+        value = parseNumber(operand);
+      }
+      if (value == null || value.intValue() < 0 || value.intValue() > MAX_SHORT) {
+        throw error(number, "unknown variable: " + operand);
+      }
+      return value.intValue();
+    }
+
+    /**
+     * Places the methods in the memory, resolves all names and builds the binary image of the program.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the assembled program
+     * @throws MacroFileFormatException if a block isn't closed, a name can't be resolved or the program is too big
+     */
+    @NotNull
+    IJVMProgram link() throws MacroFileFormatException {
+      if (this.block != Block.NONE) {
+        throw new MacroFileFormatException("unexpected end of file, block isn't closed");
+      }
+      final Method main = this.methods.get(MAIN);
+      if (main == null || !main.isMain()) {
+        throw new MacroFileFormatException("missing " + MAIN + " program");
+      }
+
+      // the main program is the first code, the methods follow in the order of their definition
+      final List<Method> order = new ArrayList<Method>();
+      order.add(main);
+      for (final Method m : this.methods.values()) {
+        if (m != main) {
+          order.add(m);
+        }
+      }
+      final int codeStart = 4 * (Settings.MIC1_REGISTER_PC_DEFVAL.getValue() + 1);
+      final int poolStart = 4 * Settings.MIC1_REGISTER_CPP_DEFVAL.getValue();
+      int address = codeStart;
+      final Map<String, Integer> symbols = new LinkedHashMap<String, Integer>();
+      for (final Method m : order) {
+        m.address = address;
+        address += m.size;
+        symbols.put(m.name, Integer.valueOf(m.address));
+        for (final Entry<String, Integer> label : m.labels.entrySet()) {
+          symbols.put(m.name + "." + label.getKey(), Integer.valueOf(m.address + label.getValue().intValue()));
+        }
+      }
+      if (address > poolStart && codeStart < poolStart) {
+        throw new MacroFileFormatException("code overlaps the constant pool");
+      }
+
+      // the constant pool contains the declared constants followed by the addresses of the methods
+      final Map<String, Integer> indexes = new LinkedHashMap<String, Integer>();
+      final int[] pool = new int[this.constants.size() + order.size() - 1];
+      int index = 0;
+      for (final Entry<String, Integer> constant : this.constants.entrySet()) {
+        indexes.put(constant.getKey(), Integer.valueOf(index));
+        pool[index++] = constant.getValue().intValue();
+      }
+      for (final Method m : order) {
+        if (m != main) {
+          if (indexes.containsKey(m.name)) {
+            throw new MacroFileFormatException("name of method is already used by a constant: " + m.name);
+          }
+          indexes.put(m.name, Integer.valueOf(index));
+          pool[index++] = m.address;
+        }
+      }
+
+      final ByteArrayOutputStream code = new ByteArrayOutputStream();
+      for (final Method m : order) {
+        if (!m.isMain()) {
+          write(code, m.parameters, 2);
+          write(code, m.locals, 2);
+        }
+        for (final Statement s : m.statements) {
+          encode(code, m, s, indexes);
+        }
+      }
+
+      final ByteArrayOutputStream image = new ByteArrayOutputStream();
+      write(image, Memory.IJVM_MAGIC_NUMBER, 4);
+      write(image, poolStart, 4);
+      write(image, 4 * pool.length, 4);
+      for (final int word : pool) {
+        write(image, word, 4);
+      }
+      write(image, codeStart, 4);
+      write(image, code.size(), 4);
+      final byte[] bytes = code.toByteArray();
+      image.write(bytes, 0, bytes.length);
+      return new IJVMProgram(image.toByteArray(), symbols, indexes, pool);
+    }
+
+    /**
+     * Appends the binary representation of the given instruction to the given stream.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param out the stream containing the code
+     * @param m the method the instruction belongs to
+     * @param s the instruction to encode
+     * @param indexes the indexes of the constants in the constant pool
+     * @throws MacroFileFormatException if an operand can't be resolved or is out of range
+     */
+    private void encode(final ByteArrayOutputStream out,
+                        final Method m,
+                        final Statement s,
+                        final Map<String, Integer> indexes) throws MacroFileFormatException {
+      int opcodeAddress = m.address + s.offset;
+      if (s.wide) {
+        final Integer wide = IJVMAssembler.this.mnemonics.get(WIDE);
+        if (wide == null) {
+          throw error(s.line, WIDE + " isn't a known instruction");
+        }
+        write(out, wide.intValue(), 1);
+        ++opcodeAddress;
+      }
+      write(out, s.opcode, 1);
+      for (int i = 0; i < s.types.length; ++i) {
+        final String operand = s.operands[i];
+        switch (s.types[i]) {
+          case VARNUM:
+            if (s.wide) {
+              write(out, s.values[i], 2);
+            } else {
+              write(out, s.values[i], 1);
+            }
+            break;
+          case LABEL:
+            final Integer label = m.labels.get(operand);
+            final int offset;
+            if (label == null) {
+              offset = number(s.line, operand, MIN_OFFSET, MAX_OFFSET);
+            } else {
+              offset = m.address + label.intValue() - opcodeAddress;
+              if (offset < MIN_OFFSET || offset > MAX_OFFSET) {
+                throw error(s.line, "label too far away: " + operand);
+              }
+            }
+            write(out, offset, 2);
+            break;
+          case INDEX:
+          case OFFSET:
+            final Integer constant = indexes.get(operand);
+            if (constant == null) {
+              write(out, number(s.line, operand, 0, MAX_SHORT), 2);
+            } else {
+              write(out, constant.intValue(), 2);
+            }
+            break;
+          default:
+            write(out, number(s.line, operand, MIN_BYTE, MAX_BYTE), s.types[i].getNumberOfBytes());
+            break;
+        }
+      }
+    }
+
+    /**
+     * Parses the given operand as a number in the given range.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param line the number of the line
+     * @param operand the operand to parse
+     * @param min the lowest allowed value
+     * @param max the highest allowed value
+     * @return the value of the operand
+     * @throws MacroFileFormatException if the operand isn't a number in the given range
+     */
+    private int number(final int line,
+                       final String operand,
+                       final int min,
+                       final int max) throws MacroFileFormatException {
+      final Integer value = parseNumber(operand);
+      if (value == null) {
+        throw error(line, "unknown name: " + operand);
+      }
+      if (value.intValue() < min || value.intValue() > max) {
+        throw error(line, "value out of range: " + operand);
+      }
+      return value.intValue();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.assembler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * The result of assembling an IJVM program. Contains the binary image in the format of an .ijvm-file and the symbols
+ * defined in the source of the program.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class IJVMProgram {
+
+  /** the binary image of the program in the format of an .ijvm-file */
+  @NotNull
+  private final byte[] image;
+
+  /** the addresses of the methods and labels, mapped by their name */
+  @NotNull
+  private final Map<String, Integer> symbols;
+
+  /** the indexes in the constant pool of the constants and methods, mapped by their name */
+  @NotNull
+  private final Map<String, Integer> constants;
+
+  /** the content of the constant pool */
+  @NotNull
+  private final int[] constantPool;
+
+  /**
+   * Constructs the result of assembling a program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param img the binary image of the program in the format of an .ijvm-file
+   * @param syms the addresses of the methods and labels, mapped by their name
+   * @param consts the indexes in the constant pool of the constants and methods, mapped by their name
+   * @param pool the content of the constant pool
+   */
+  IJVMProgram(final byte[] img, final Map<String, Integer> syms, final Map<String, Integer> consts, final int[] pool) {
+    this.image = img;
+    this.symbols = Collections.unmodifiableMap(syms);
+    this.constants = Collections.unmodifiableMap(consts);
+    this.constantPool = pool;
+  }
+
+  /**
+   * Returns the binary image of the program in the format of an .ijvm-file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return a copy of the bytes of the image
+   */
+  @NotNull
+  public byte[] getImage() {
+    return this.image.clone();
+  }
+
+  /**
+   * Returns a stream to read the binary image of the program from. It can be passed to the constructors of the
+   * processor or the memory instead of a stream reading an .ijvm-file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return a new stream that provides the image of the program
+   */
+  @NotNull
+  public InputStream toInputStream() {
+    return new ByteArrayInputStream(this.image);
+  }
+
+  /**
+   * Returns the byte addresses of the methods and labels of the program. Methods are stored with their name,
+   * <code>main</code> for the main program. Labels are stored with the name of their method, followed by a dot and the
+   * name of the label, for example <code>main.loop</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return an unmodifiable {@link Map} containing the addresses of the symbols, in the order of their definition
+   */
+  @NotNull
+  public Map<String, Integer> getSymbols() {
+    return this.symbols;
+  }
+
+  /**
+   * Returns the indexes in the constant pool of the constants and the methods of the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return an unmodifiable {@link Map} containing the indexes of the constants, in the order of the constant pool
+   */
+  @NotNull
+  public Map<String, Integer> getConstants() {
+    return this.constants;
+  }
+
+  /**
+   * Returns the content of the constant pool, the declared constants followed by the addresses of the methods.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return a copy of the words in the constant pool
+   */
+  @NotNull
+  public int[] getConstantPool() {
+    return this.constantPool.clone();
+  }
+}
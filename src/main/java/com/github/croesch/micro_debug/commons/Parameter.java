@@ -21,10 +21,14 @@ package com.github.croesch.micro_debug.commons;
 import com.github.croesch.micro_debug.annotation.NotNull;
 import com.github.croesch.micro_debug.annotation.Nullable;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.parser.ConsistencyModelParser;
 import com.github.croesch.micro_debug.parser.IParser;
 import com.github.croesch.micro_debug.parser.IntegerParser;
 import com.github.croesch.micro_debug.parser.DebugModeParser;
+import com.github.croesch.micro_debug.parser.PipelineModelParser;
 import com.github.croesch.micro_debug.parser.RegisterParser;
+import com.github.croesch.micro_debug.parser.ReplacementPolicyParser;
+import com.github.croesch.micro_debug.parser.SchedulingModeParser;
 
 /**
  * Represents the different types of parameter that are possible.
@@ -41,7 +45,19 @@ public enum Parameter {
   REGISTER (new RegisterParser(), Text.INVALID_REGISTER),
 
   /** a {@link com.github.croesch.micro_debug.datatypes.DebugMode} as argument */
-  DEBUG_MODE (new DebugModeParser(), Text.INVALID_DEBUG_MODE);
+  DEBUG_MODE (new DebugModeParser(), Text.INVALID_DEBUG_MODE),
+
+  /** a {@link com.github.croesch.micro_debug.datatypes.ReplacementPolicy} as argument */
+  REPLACEMENT_POLICY (new ReplacementPolicyParser(), Text.INVALID_REPLACEMENT_POLICY),
+
+  /** a {@link com.github.croesch.micro_debug.mic3.PipelineModel} as argument */
+  PIPELINE_MODEL (new PipelineModelParser(), Text.INVALID_PIPELINE_MODEL),
+
+  /** a {@link com.github.croesch.micro_debug.mic1.smp.SchedulingMode} as argument */
+  SCHEDULING_MODE (new SchedulingModeParser(), Text.INVALID_SCHEDULING_MODE),
+
+  /** a {@link com.github.croesch.micro_debug.mic1.mem.ConsistencyModel} as argument */
+  CONSISTENCY_MODEL (new ConsistencyModelParser(), Text.INVALID_CONSISTENCY_MODEL);
 
   /** the parser that is able to parse a given string and return the parsed object */
   @NotNull
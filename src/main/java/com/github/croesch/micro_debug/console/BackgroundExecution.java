@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.io.StandardIO;
+
+/**
+ * Runs the processor on its own simulation thread, so that the debugger can still read instructions of the user while
+ * the program is being executed. While the execution is running, the processor must not be touched by any other
+ * thread. The progress is read from the values the processor publishes itself, so the execution doesn't need any lock.
+ * While the processor is connected to the console, the program gets its own {@link BackgroundIO} for the execution, so
+ * that the simulation thread doesn't read the instructions of the user.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class BackgroundExecution implements Runnable {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(BackgroundExecution.class.getName());
+
+  /** the number of milliseconds per second, to calculate the speed of the execution */
+  private static final long MILLIS_PER_SECOND = 1000;
+
+  /** the processor being executed */
+  @NotNull
+  private final Mic1 processor;
+
+  /** the thread executing the processor */
+  @Nullable
+  private Thread thread = null;
+
+  /** the io of the program while it's running, or <code>null</code> if the io of the processor isn't replaced */
+  @Nullable
+  private BackgroundIO io = null;
+
+  /** the time in milliseconds when the execution has been started */
+  private long startTime;
+
+  /**
+   * Constructs the background execution of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mic1 the processor to execute
+   */
+  BackgroundExecution(final Mic1 mic1) {
+    this.processor = mic1;
+  }
+
+  /**
+   * Starts running the processor on a new thread, until the program ends, a breakpoint is reached or the execution is
+   * interrupted.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  synchronized void start() {
+    if (this.thread == null) {
+      if (this.processor.getMemory().getIO() == StandardIO.getInstance()) {
+        this.io = new BackgroundIO(StandardIO.getInstance());
+        this.processor.getMemory().setIO(this.io);
+      }
+      this.startTime = System.currentTimeMillis();
+      this.thread = new Thread(this, "simulation");
+      this.thread.setDaemon(true);
+      this.thread.start();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    try {
+      this.processor.run();
+    } catch (final RuntimeException e) {
+      LOGGER.log(Level.WARNING, "execution of processor failed", e);
+      Printer.printErrorln(e.getMessage());
+    }
+  }
+
+  /**
+   * Returns whether the processor is still being executed. If the execution has ended, the thread is joined, so that
+   * the calling thread sees the complete state of the processor afterwards.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the processor is being executed by the simulation thread
+   */
+  boolean isRunning() {
+    final Thread t;
+    synchronized (this) {
+      t = this.thread;
+    }
+    if (t == null) {
+      return false;
+    }
+    if (t.isAlive()) {
+      return true;
+    }
+    join();
+    return false;
+  }
+
+  /**
+   * Gives the running program the given line as input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the text the program reads, followed by a line feed
+   * @return <code>true</code> if the input has been given to the program,<br>
+   *         <code>false</code> if no program is running in the background with its own io
+   */
+  synchronized boolean supply(final String line) {
+    if (this.thread == null || this.io == null) {
+      return false;
+    }
+    this.io.supply(line);
+    return true;
+  }
+
+  /**
+   * Interrupts the execution of the processor and waits until the simulation thread has stopped it. A read of the
+   * input that waits for the user is cancelled, the processor repeats it when it continues. An interruption that
+   * arrives after the execution has ended on its own is discarded, so that it doesn't stop the next execution.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void stop() {
+    final Thread t;
+    final BackgroundIO backgroundIO;
+    synchronized (this) {
+      t = this.thread;
+      backgroundIO = this.io;
+    }
+    if (t != null && t.isAlive()) {
+      this.processor.interrupt();
+      if (backgroundIO != null) {
+        backgroundIO.cancel();
+      }
+    }
+    join();
+    this.processor.clearInterrupt();
+  }
+
+  /**
+   * Waits until the simulation thread has ended and connects the processor to the io it had before it was started.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void join() {
+    final Thread t;
+    synchronized (this) {
+      t = this.thread;
+    }
+    if (t != null) {
+      boolean interrupted = false;
+      while (t.isAlive()) {
+        try {
+          t.join();
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      synchronized (this) {
+        this.thread = null;
+        if (this.io != null) {
+          this.processor.getMemory().setIO(this.io.getOutput());
+          this.io = null;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Prints the number of executed ticks, the speed of the execution and the address of the currently executed macro
+   * instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void printStatus() {
+    final long ticks = this.processor.getPublishedTicks();
+    final long millis = Math.max(1, System.currentTimeMillis() - this.startTime);
+    Printer.println(Text.RUNNING_STATUS.text(ticks, ticks * MILLIS_PER_SECOND / millis,
+                                             Utils.toHexString(this.processor.getPublishedMacroAddress())));
+  }
+}
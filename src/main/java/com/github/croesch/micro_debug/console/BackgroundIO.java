@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.LinkedList;
+import java.util.Queue;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+import com.github.croesch.micro_debug.mic1.io.InputCancelledException;
+
+/**
+ * The io of a program running in the background. The simulation thread mustn't read the console, because the console
+ * thread reads the instructions of the user from it. So the input is given by the console thread via
+ * {@link #supply(String)} and a read waits until input has been given or the execution is paused or stopped. The
+ * output is written to the io the processor has been connected to before.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class BackgroundIO implements IProcessorIO {
+
+  /** the io the output is written to */
+  @NotNull
+  private final IProcessorIO output;
+
+  /** the bytes given by the user, that haven't been read yet */
+  @NotNull
+  private final Queue<Byte> input = new LinkedList<Byte>();
+
+  /** whether reading is cancelled, because the execution is being paused or stopped */
+  private boolean cancelled = false;
+
+  /**
+   * Constructs the io of a program running in the background.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param out the io to write the output of the program to
+   */
+  BackgroundIO(final IProcessorIO out) {
+    this.output = out;
+  }
+
+  /**
+   * Returns the io the output is written to.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the io the processor has been connected to, before it has been started in the background
+   */
+  @NotNull
+  IProcessorIO getOutput() {
+    return this.output;
+  }
+
+  /**
+   * Gives the program the given line as input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the text to read, followed by a line feed
+   */
+  synchronized void supply(final String line) {
+    for (final byte b : line.getBytes()) {
+      this.input.add(Byte.valueOf(b));
+    }
+    this.input.add(Byte.valueOf((byte) '\n'));
+    notifyAll();
+  }
+
+  /**
+   * Cancels the read that is waiting for input and all further reads.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  synchronized void cancel() {
+    this.cancelled = true;
+    notifyAll();
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws InputCancelledException if reading has been cancelled before input has been given
+   */
+  public synchronized byte read() {
+    if (this.input.isEmpty() && !this.cancelled) {
+      Printer.println(Text.WAITING_FOR_INPUT);
+    }
+    while (this.input.isEmpty()) {
+      if (this.cancelled) {
+        throw new InputCancelledException();
+      }
+      try {
+        wait();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InputCancelledException();
+      }
+    }
+    return this.input.remove().byteValue();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void write(final byte value) {
+    this.output.write(value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized void reset() {
+    this.input.clear();
+    this.output.reset();
+  }
+}
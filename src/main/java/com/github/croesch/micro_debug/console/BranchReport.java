@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Profile;
+import com.github.croesch.micro_debug.mic1.api.IReadableMemory;
+import com.github.croesch.micro_debug.mic1.branch.BranchModel;
+
+/**
+ * Presents the accuracy of the branch predictors evaluated by a {@link BranchModel} to the user, for the whole program
+ * and for each branch site.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class BranchReport {
+
+  /** the percentage of all branches */
+  private static final int PERCENT = 100;
+
+  /** the presented model */
+  @NotNull
+  private final BranchModel model;
+
+  /** the memory containing the macro code, to name the branches */
+  @NotNull
+  private final IReadableMemory memory;
+
+  /**
+   * Constructs the report of the given model.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param m the model of the branch predictors to present
+   * @param mem the memory containing the macro code
+   */
+  BranchReport(final BranchModel m, final IReadableMemory mem) {
+    this.model = m;
+    this.memory = mem;
+  }
+
+  /**
+   * Prints the number of branches, the mispredictions and accuracy of each predictor and the accuracy of each
+   * predictor for each branch site, ordered by the address of the branch.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    final long branches = this.model.getBranches();
+    Printer.println(Text.BRANCH_COUNTERS.text(branches, this.model.getTakenBranches(),
+                                              percentage(this.model.getTakenBranches(), branches),
+                                              this.model.getNumberOfSites()));
+    for (int p = 0; p < this.model.getNumberOfPredictors(); ++p) {
+      final long misses = this.model.getMispredictions(p);
+      Printer.println(Text.BRANCH_PREDICTOR.text(this.model.getPredictor(p).getName(), misses,
+                                                 percentage(branches - misses, branches)));
+    }
+
+    final Map<Integer, Integer> sites = new TreeMap<Integer, Integer>();
+    for (int site = 0; site < this.model.getNumberOfSites(); ++site) {
+      if (this.model.getSiteExecutions(site) > 0) {
+        sites.put(Integer.valueOf(this.model.getSiteAddress(site)), Integer.valueOf(site));
+      }
+    }
+    Printer.println(Text.BRANCH_SITES);
+    for (final Map.Entry<Integer, Integer> entry : sites.entrySet()) {
+      final int address = entry.getKey().intValue();
+      final int site = entry.getValue().intValue();
+      final long executions = this.model.getSiteExecutions(site);
+      final StringBuilder accuracy = new StringBuilder();
+      for (int p = 0; p < this.model.getNumberOfPredictors(); ++p) {
+        final long misses = this.model.getSiteMispredictions(p, site);
+        accuracy.append(Text.BRANCH_SITE_PREDICTOR.text(this.model.getPredictor(p).getName(),
+                                                        percentage(executions - misses, executions)));
+      }
+      Printer.println(Text.BRANCH_SITE.text(Utils.toHexString(address) + " "
+                                                + Profile.getOpcodeName(this.memory.getByte(address)),
+                                            executions, this.model.getSiteTaken(site), accuracy));
+    }
+  }
+
+  /**
+   * Returns the given part in percent of the given total.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param part the part
+   * @param total the total
+   * @return the percentage, <code>0</code> if the total is zero
+   */
+  private static long percentage(final long part, final long total) {
+    if (total == 0) {
+      return 0;
+    }
+    return part * PERCENT / total;
+  }
+}
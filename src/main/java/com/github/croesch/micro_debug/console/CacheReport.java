@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Profile;
+import com.github.croesch.micro_debug.mic1.mem.Cache;
+import com.github.croesch.micro_debug.mic1.mem.CacheModel;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Presents the counters of a {@link CacheModel} to the user, for the whole program and for each IJVM instruction.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class CacheReport {
+
+  /** the percentage of all accesses */
+  private static final int PERCENT = 100;
+
+  /** the presented cache model */
+  @NotNull
+  private final CacheModel model;
+
+  /**
+   * Constructs the report of the given cache model.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param m the cache model to present
+   */
+  CacheReport(final CacheModel m) {
+    this.model = m;
+  }
+
+  /**
+   * Prints the configuration and the counters of both caches, the resulting stall ticks and the accesses of each
+   * IJVM instruction that has accessed the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    print(Text.CACHE_INSTRUCTION_CACHE.text(), this.model.getInstructionCache());
+    print(Text.CACHE_DATA_CACHE.text(), this.model.getDataCache());
+    Printer.println(Text.CACHE_STALLS.text(this.model.getStallTicks(), this.model.getMissPenalty()));
+
+    Printer.println(Text.CACHE_INSTRUCTIONS);
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final long fetches = this.model.getInstructionAccesses(opcode);
+      final long data = this.model.getDataAccesses(opcode);
+      if (fetches > 0 || data > 0) {
+        Printer.println(Text.CACHE_INSTRUCTION.text(Utils.toHexString(opcode) + " " + Profile.getOpcodeName(opcode),
+                                                    fetches, this.model.getInstructionMisses(opcode), data,
+                                                    this.model.getDataMisses(opcode),
+                                                    this.model.getEvictions(opcode)));
+      }
+    }
+  }
+
+  /**
+   * Prints the configuration and the counters of the given cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the cache
+   * @param cache the cache to print
+   */
+  private static void print(final String name, final Cache cache) {
+    Printer.println(Text.CACHE_CONFIGURATION.text(name, cache.getSize(), cache.getAssociativity(),
+                                                  cache.getLineSize(), cache.getPolicy()));
+    final long accesses = cache.getHits() + cache.getMisses();
+    long missRate = 0;
+    if (accesses > 0) {
+      missRate = cache.getMisses() * PERCENT / accesses;
+    }
+    Printer.println(Text.CACHE_COUNTERS.text(accesses, cache.getHits(), cache.getMisses(), missRate,
+                                             cache.getEvictions()));
+  }
+}
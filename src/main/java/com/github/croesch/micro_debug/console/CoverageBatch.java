@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.debug.CoverageRun;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Coverage;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Measures the coverage of a micro program by executing a set of IJVM programs with it. The programs are executed in
+ * parallel and the coverage of the micro program is merged into a single {@link Coverage}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class CoverageBatch {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(CoverageBatch.class.getName());
+
+  /** the micro program to measure the coverage of */
+  @NotNull
+  private final MicroControlStore store;
+
+  /** the coverage to merge the coverage of the programs into */
+  @NotNull
+  private final Coverage coverage;
+
+  /** the runs of the programs */
+  @NotNull
+  private final List<CoverageRun> runs = new ArrayList<CoverageRun>();
+
+  /**
+   * Constructs the batch measuring the coverage of the given micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param controlStore the control store containing the micro program
+   * @param cov the coverage to merge the coverage of the programs into
+   */
+  CoverageBatch(final MicroControlStore controlStore, final Coverage cov) {
+    this.store = controlStore;
+    this.coverage = cov;
+  }
+
+  /**
+   * Adds the given IJVM program to the programs to execute. Prints an error if the program can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .ijvm-file or .jas-file
+   */
+  void addProgram(final String file) {
+    final byte[] program = ProgramFiles.readProgram(file);
+    if (program != null) {
+      this.runs.add(new CoverageRun(file, this.store, program, ProgramFiles.readInput(file),
+                                    Settings.MIC1_COVERAGE_MAX_TICKS.getValue(), this.coverage));
+    }
+  }
+
+  /**
+   * Executes the programs in parallel and prints how they ended.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void run() {
+    if (this.runs.isEmpty()) {
+      return;
+    }
+    final int threads = Math.min(this.runs.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<Future<?>>();
+      for (final CoverageRun run : this.runs) {
+        futures.add(pool.submit(run));
+      }
+      for (int i = 0; i < futures.size(); ++i) {
+        futures.get(i).get();
+        print(this.runs.get(i));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      LOGGER.log(Level.WARNING, "coverage run failed", e);
+      Printer.printErrorln(String.valueOf(e.getCause()));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Prints how the given run ended.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param run the executed run
+   */
+  private static void print(final CoverageRun run) {
+    if (run.getError() != null) {
+      Printer.printErrorln(Text.COVERAGE_ERROR.text(run.getName(), run.getError()));
+    } else if (run.isHalted()) {
+      Printer.println(Text.COVERAGE_RUN.text(run.getName(), run.getTicks()));
+    } else {
+      Printer.println(Text.COVERAGE_RUN_LIMIT.text(run.getName(), run.getTicks()));
+    }
+  }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Coverage;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionDecoder;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Presents a {@link Coverage} of the micro program and the macro code to the user. The report can be printed as
+ * summary or written to a file, either in the LCOV tracefile format or as annotated HTML listing.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class CoverageReport {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(CoverageReport.class.getName());
+
+  /** the name of the micro program in the LCOV tracefile */
+  private static final String MICRO_SOURCE = "micro-program";
+
+  /** the name of the macro code in the LCOV tracefile */
+  private static final String MACRO_SOURCE = "macro-program";
+
+  /** the percentage of complete coverage */
+  private static final int PERCENT = 100;
+
+  /** the line separator of the written files */
+  private static final String NL = "\n";
+
+  /** the coverage to present */
+  @NotNull
+  private final Coverage coverage;
+
+  /** the control store containing the covered micro program */
+  @NotNull
+  private final MicroControlStore store;
+
+  /** the interpreter of the memory containing the covered macro code */
+  @NotNull
+  private final MemoryInterpreter memory;
+
+  /**
+   * Constructs the report of the given coverage.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param cov the coverage to present
+   * @param controlStore the control store containing the covered micro program
+   * @param memInterpreter the interpreter of the memory containing the covered macro code
+   */
+  CoverageReport(final Coverage cov, final MicroControlStore controlStore, final MemoryInterpreter memInterpreter) {
+    this.coverage = cov;
+    this.store = controlStore;
+    this.memory = memInterpreter;
+  }
+
+  /**
+   * Prints how many micro instructions, branch directions, dispatch targets and macro instructions have been covered.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    int instructions = 0;
+    int coveredInstructions = 0;
+    int branches = 0;
+    int coveredBranches = 0;
+    for (int mpc = 0; mpc < this.store.getSize(); ++mpc) {
+      if (isUsed(mpc)) {
+        final MicroInstruction instruction = this.store.getInstruction(mpc);
+        ++instructions;
+        if (this.coverage.isMicroInstructionCovered(mpc)) {
+          ++coveredInstructions;
+        }
+        if (isBranch(instruction)) {
+          branches += 2;
+          coveredBranches += countBranches(mpc);
+        }
+      }
+    }
+
+    int dispatchTargets = 0;
+    int coveredDispatchTargets = 0;
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      if (isDispatchTarget(opcode)) {
+        ++dispatchTargets;
+        if (this.coverage.isDispatchTarget(opcode)) {
+          ++coveredDispatchTargets;
+        }
+      }
+    }
+
+    final MacroCodeIndex index = this.memory.getIndex();
+    int coveredMacroInstructions = 0;
+    for (int i = 0; i < index.getSize(); ++i) {
+      if (this.coverage.isMacroInstructionCovered(index.getAddress(i))) {
+        ++coveredMacroInstructions;
+      }
+    }
+
+    Printer.println(Text.COVERAGE_MICRO.text(coveredInstructions, instructions, percentage(coveredInstructions,
+                                                                                          instructions)));
+    Printer.println(Text.COVERAGE_BRANCHES.text(coveredBranches, branches, percentage(coveredBranches, branches)));
+    Printer.println(Text.COVERAGE_DISPATCH.text(coveredDispatchTargets, dispatchTargets,
+                                                percentage(coveredDispatchTargets, dispatchTargets)));
+    Printer.println(Text.COVERAGE_MACRO.text(coveredMacroInstructions, index.getSize(),
+                                             percentage(coveredMacroInstructions, index.getSize())));
+  }
+
+  /**
+   * Writes the report to the given file. If the name of the file ends with <code>.html</code> or <code>.htm</code>
+   * the report is written as HTML listing, otherwise as LCOV tracefile.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  void write(final String file) {
+    final String lowerName = file.toLowerCase(Locale.ENGLISH);
+    Writer writer = null;
+    try {
+      writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+      if (lowerName.endsWith(".html") || lowerName.endsWith(".htm")) {
+        writeHtml(writer);
+      } else {
+        writeLcov(writer);
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't write " + file, e);
+      Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+    } finally {
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (final IOException e) {
+          Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the coverage as LCOV tracefile. The micro program and the macro code are written as separate source files,
+   * each line number is the address of the instruction plus one. The conditional jumps are written as branches and
+   * the targets of the JMPC dispatch as functions named like the IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param writer the writer to write the tracefile to
+   * @throws IOException if the tracefile couldn't be written
+   */
+  private void writeLcov(final Writer writer) throws IOException {
+    writer.write("TN:" + NL);
+    writer.write("SF:" + MICRO_SOURCE + NL);
+    int functions = 0;
+    int coveredFunctions = 0;
+    final IJVMOpcodeTable opcodes = IJVMOpcodeTable.getDefault();
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      if (isDispatchTarget(opcode)) {
+        writer.write("FN:" + (opcode + 1) + "," + opcodes.getCommand(opcode).getName() + NL);
+      }
+    }
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      if (isDispatchTarget(opcode)) {
+        final int hits;
+        if (this.coverage.isDispatchTarget(opcode)) {
+          hits = 1;
+          ++coveredFunctions;
+        } else {
+          hits = 0;
+        }
+        writer.write("FNDA:" + hits + "," + opcodes.getCommand(opcode).getName() + NL);
+        ++functions;
+      }
+    }
+    writer.write("FNF:" + functions + NL);
+    writer.write("FNH:" + coveredFunctions + NL);
+
+    int branches = 0;
+    int coveredBranches = 0;
+    for (int mpc = 0; mpc < this.store.getSize(); ++mpc) {
+      if (isUsed(mpc) && isBranch(this.store.getInstruction(mpc))) {
+        final boolean executed = this.coverage.isMicroInstructionCovered(mpc);
+        writer.write("BRDA:" + (mpc + 1) + ",0,0," + branchHits(executed, this.coverage.isBranchNotTaken(mpc)) + NL);
+        writer.write("BRDA:" + (mpc + 1) + ",0,1," + branchHits(executed, this.coverage.isBranchTaken(mpc)) + NL);
+        branches += 2;
+        coveredBranches += countBranches(mpc);
+      }
+    }
+    writer.write("BRF:" + branches + NL);
+    writer.write("BRH:" + coveredBranches + NL);
+
+    int lines = 0;
+    int coveredLines = 0;
+    for (int mpc = 0; mpc < this.store.getSize(); ++mpc) {
+      if (isUsed(mpc)) {
+        coveredLines += writeLine(writer, mpc, this.coverage.isMicroInstructionCovered(mpc));
+        ++lines;
+      }
+    }
+    writer.write("LF:" + lines + NL);
+    writer.write("LH:" + coveredLines + NL);
+    writer.write("end_of_record" + NL);
+
+    writer.write("TN:" + NL);
+    writer.write("SF:" + MACRO_SOURCE + NL);
+    final MacroCodeIndex index = this.memory.getIndex();
+    coveredLines = 0;
+    for (int i = 0; i < index.getSize(); ++i) {
+      final int addr = index.getAddress(i);
+      coveredLines += writeLine(writer, addr, this.coverage.isMacroInstructionCovered(addr));
+    }
+    writer.write("LF:" + index.getSize() + NL);
+    writer.write("LH:" + coveredLines + NL);
+    writer.write("end_of_record" + NL);
+  }
+
+  /**
+   * Writes the coverage as HTML page, containing the listings of the micro program and of the macro code. Each
+   * instruction is marked whether it has been executed, conditional jumps additionally show which directions have been
+   * taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param writer the writer to write the page to
+   * @throws IOException if the page couldn't be written
+   */
+  private void writeHtml(final Writer writer) throws IOException {
+    writer.write("<!DOCTYPE html>" + NL);
+    writer.write("<html><head><meta charset=\"UTF-8\"><title>micro-debug coverage</title>" + NL);
+    writer.write("<style>.covered { background: #c0ffc0; } .uncovered { background: #ffc0c0; } "
+                 + ".partial { background: #ffffc0; } td { font-family: monospace; padding: 0 1em; }</style>" + NL);
+    writer.write("</head><body>" + NL);
+
+    writer.write("<h1>" + MICRO_SOURCE + "</h1>" + NL);
+    writer.write("<table>" + NL);
+    for (int mpc = 0; mpc < this.store.getSize(); ++mpc) {
+      if (isUsed(mpc)) {
+        final MicroInstruction instruction = this.store.getInstruction(mpc);
+        final boolean executed = this.coverage.isMicroInstructionCovered(mpc);
+        String cssClass = cssClass(executed);
+        String branchText = "";
+        if (isBranch(instruction)) {
+          final int coveredBranches = countBranches(mpc);
+          if (coveredBranches == 1) {
+            cssClass = "partial";
+          }
+          branchText = coveredBranches + "/2";
+        }
+        String dispatchText = "";
+        if (this.coverage.isDispatchTarget(mpc)) {
+          dispatchText = "JMPC";
+        }
+        writer.write("<tr class=\"" + cssClass + "\"><td>" + Utils.toHexString(mpc) + "</td><td>"
+                     + escape(MicroInstructionDecoder.decode(instruction)) + "</td><td>" + branchText + "</td><td>"
+                     + dispatchText + "</td></tr>" + NL);
+      }
+    }
+    writer.write("</table>" + NL);
+
+    writer.write("<h1>" + MACRO_SOURCE + "</h1>" + NL);
+    writer.write("<table>" + NL);
+    final MacroCodeIndex index = this.memory.getIndex();
+    for (int i = 0; i < index.getSize(); ++i) {
+      final int addr = index.getAddress(i);
+      writer.write("<tr class=\"" + cssClass(this.coverage.isMacroInstructionCovered(addr)) + "\"><td>"
+                   + escape(String.valueOf(this.memory.getFormattedLine(addr))) + "</td></tr>" + NL);
+    }
+    writer.write("</table>" + NL);
+    writer.write("</body></html>" + NL);
+  }
+
+  /**
+   * Writes the LCOV record of a single line.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param writer the writer to write the record to
+   * @param addr the address of the instruction
+   * @param covered whether the instruction has been executed
+   * @return one, if the instruction has been executed, zero otherwise
+   * @throws IOException if the record couldn't be written
+   */
+  private static int writeLine(final Writer writer, final int addr, final boolean covered) throws IOException {
+    int hits = 0;
+    if (covered) {
+      hits = 1;
+    }
+    writer.write("DA:" + (addr + 1) + "," + hits + NL);
+    return hits;
+  }
+
+  /**
+   * Returns the LCOV representation of how often a branch has been taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param executed whether the instruction containing the branch has been executed
+   * @param taken whether the branch has been taken
+   * @return <code>-</code> if the instruction hasn't been executed, the number of times the branch was taken otherwise
+   */
+  @NotNull
+  private static String branchHits(final boolean executed, final boolean taken) {
+    if (!executed) {
+      return "-";
+    }
+    if (taken) {
+      return "1";
+    }
+    return "0";
+  }
+
+  /**
+   * Returns the number of directions of the conditional jump of the micro instruction at the given address that have
+   * been taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction
+   * @return the number of covered branch directions, between zero and two
+   */
+  private int countBranches(final int mpc) {
+    int count = 0;
+    if (this.coverage.isBranchTaken(mpc)) {
+      ++count;
+    }
+    if (this.coverage.isBranchNotTaken(mpc)) {
+      ++count;
+    }
+    return count;
+  }
+
+  /**
+   * Returns whether the micro instruction at the given address is the entry point of an IJVM instruction, so is
+   * expected to be reached by a JMPC dispatch.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the IJVM instruction, that is also the address of the micro instruction
+   * @return <code>true</code>, if there is an IJVM instruction with the given opcode and a micro instruction at the
+   *         given address
+   */
+  private boolean isDispatchTarget(final int opcode) {
+    final IJVMCommand cmd = IJVMOpcodeTable.getDefault().getCommand(opcode);
+    return cmd != null && isUsed(opcode);
+  }
+
+  /**
+   * Returns whether the given address of the control store contains an instruction of the micro program, that can be
+   * reached from address <code>0x0</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address in the control store
+   * @return <code>true</code>, if the instruction at the given address should be covered
+   */
+  private boolean isUsed(final int mpc) {
+    return this.store.getInstruction(mpc) != null && this.store.getVerifier().isReachable(mpc);
+  }
+
+  /**
+   * Returns whether the given micro instruction contains a conditional jump.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the micro instruction
+   * @return <code>true</code>, if the instruction jumps on N or on Z
+   */
+  private static boolean isBranch(final MicroInstruction instruction) {
+    final JMPSignalSet jmp = instruction.getJmpSignals();
+    return jmp.isJmpN() || jmp.isJmpZ();
+  }
+
+  /**
+   * Returns the name of the CSS class of an instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param covered whether the instruction has been executed
+   * @return the name of the class that marks the instruction as covered or uncovered
+   */
+  @NotNull
+  private static String cssClass(final boolean covered) {
+    if (covered) {
+      return "covered";
+    }
+    return "uncovered";
+  }
+
+  /**
+   * Returns the given text with the characters that have a special meaning in HTML replaced by their entities.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param text the text to escape
+   * @return the text that can be inserted into a HTML page
+   */
+  @NotNull
+  private static String escape(final String text) {
+    return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+  }
+
+  /**
+   * Returns the percentage of the given part of the total.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param part the covered number of elements
+   * @param total the number of elements
+   * @return the rounded down percentage, 100 if there are no elements
+   */
+  private static int percentage(final int part, final int total) {
+    if (total == 0) {
+      return PERCENT;
+    }
+    return part * PERCENT / total;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroCycleTable;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Presents the {@link MicroCycleTable} of a micro program to the user, without executing any program.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class CycleReport {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(CycleReport.class.getName());
+
+  /** the analysed micro program */
+  @NotNull
+  private final MicroCycleTable table;
+
+  /**
+   * Constructs the report of the micro program in the given control store.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro program
+   */
+  CycleReport(final MicroControlStore store) {
+    this.table = new MicroCycleTable(store);
+  }
+
+  /**
+   * Prints the number of ticks of each IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    final IJVMOpcodeTable opcodes = IJVMOpcodeTable.getDefault();
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final IJVMCommand cmd = opcodes.getCommand(opcode);
+      if (cmd != null) {
+        Printer.println(Text.CYCLES.text(Utils.toHexString(opcode), cmd.getName(), ticks(this.table, opcode)));
+      }
+    }
+  }
+
+  /**
+   * Prints the number of ticks of each IJVM instruction next to the number of ticks of the other micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the report of the micro program to compare with
+   * @param name the name of the other micro program
+   */
+  void print(final CycleReport other, final String name) {
+    Printer.println(Text.CYCLES_COMPARISON_HEADER.text(name));
+    final IJVMOpcodeTable opcodes = IJVMOpcodeTable.getDefault();
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final IJVMCommand cmd = opcodes.getCommand(opcode);
+      if (cmd != null) {
+        Printer.println(Text.CYCLES_COMPARISON.text(Utils.toHexString(opcode), cmd.getName(),
+                                                    ticks(this.table, opcode), ticks(other.table, opcode)));
+      }
+    }
+  }
+
+  /**
+   * Writes the control flow graph of the micro program to the given file in the DOT language of Graphviz. Prints an
+   * error if the file can't be written.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  void writeGraph(final String file) {
+    Writer writer = null;
+    try {
+      writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+      writer.write(this.table.toDot());
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't write " + file, e);
+      Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+    } finally {
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (final IOException e) {
+          Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the description of the number of ticks of the given IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param table the table to fetch the number of ticks from
+   * @param opcode the opcode of the IJVM instruction
+   * @return the description of the minimum and maximum number of ticks
+   */
+  @NotNull
+  private static String ticks(final MicroCycleTable table, final int opcode) {
+    final int min = table.getMinimumTicks(opcode);
+    final int max = table.getMaximumTicks(opcode);
+    if (min == MicroCycleTable.NEVER) {
+      return Text.CYCLES_NEVER.text();
+    }
+    if (max == MicroCycleTable.UNBOUNDED) {
+      return Text.CYCLES_UNBOUNDED.text(min);
+    }
+    if (min == max) {
+      return Text.CYCLES_EXACT.text(min);
+    }
+    return Text.CYCLES_RANGE.text(min, max);
+  }
+}
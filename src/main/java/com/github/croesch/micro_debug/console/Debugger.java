@@ -60,7 +60,10 @@ public final class Debugger implements Runnable {
       final String[] usersInstruction = askUserWhatToDo().split(SEPARATING_STRING);
       // check if this was a valid instruction
       final UserInstruction in = UserInstruction.of(usersInstruction[0]);
-      if (in != null) {
+      if (in != null && !in.isAllowedWhileRunning() && this.interpreter.isRunningInBackground()) {
+        // the processor mustn't be touched while the simulation thread executes it
+        Printer.printErrorln(Text.PROCESSOR_RUNNING);
+      } else if (in != null) {
         // valid instruction -> copy parameters
         final String[] params = new String[usersInstruction.length - 1];
         System.arraycopy(usersInstruction, 1, params, 0, params.length);
@@ -71,6 +74,9 @@ public final class Debugger implements Runnable {
         Printer.printErrorln(Text.UNKNOWN_INSTRUCTION.text(usersInstruction[0]));
       }
     }
+    if (this.interpreter.isRunningInBackground()) {
+      this.interpreter.pauseRunning();
+    }
   }
 
   /**
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.debug.DivergenceBisector;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionDecoder;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Prints the result of the search for the first difference of two processors: the tick and the micro instructions
+ * that made them diverge and the registers of both processors.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class DivergenceReport {
+
+  /** the executed search for the first difference */
+  @NotNull
+  private final DivergenceBisector bisector;
+
+  /**
+   * Constructs the report of the given search.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param b the search for the first difference, that has already been executed
+   */
+  DivergenceReport(final DivergenceBisector b) {
+    this.bisector = b;
+  }
+
+  /**
+   * Prints the report.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    final DivergenceBisector b = this.bisector;
+    if (!b.hasDiverged()) {
+      Printer.println(Text.BISECT_EQUAL.text(b.getNumberOfEqualInstructions(), b.getFirstTicks(), b.getSecondTicks()));
+      if (b.isLimitReached()) {
+        Printer.println(Text.COMPARISON_LIMIT.text(Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+      }
+      return;
+    }
+
+    Printer.println(Text.BISECT_DIVERGENCE.text(b.getNumberOfEqualInstructions(),
+                                                Utils.toHexString(b.getDivergingAddress()), b.getFirstTicks(),
+                                                b.getSecondTicks()));
+    Printer.println(Text.BISECT_INSTRUCTION.text(Utils.toHexString(b.getFirstMpc()),
+                                                 MicroInstructionDecoder.decode(b.getFirstInstruction()),
+                                                 Utils.toHexString(b.getSecondMpc()),
+                                                 MicroInstructionDecoder.decode(b.getSecondInstruction())));
+    final RegisterFile firstRegisters = b.getFirstRegisters();
+    final RegisterFile secondRegisters = b.getSecondRegisters();
+    for (final Register r : Register.values()) {
+      final String first = Utils.toHexString(firstRegisters.get(r));
+      final String second = Utils.toHexString(secondRegisters.get(r));
+      if (firstRegisters.get(r) == secondRegisters.get(r)) {
+        Printer.println(Text.BISECT_REGISTER.text(r, first, second));
+      } else {
+        Printer.println(Text.BISECT_REGISTER_DIFFERENCE.text(r, first, second));
+      }
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.debug.BreakpointManager;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.api.IProcessorInterpreter;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Executes a fork of a processor on its own thread, to explore what happens if the processor continues with modified
+ * registers. The original processor isn't touched by the execution. The fork runs until it halts or a breakpoint is
+ * reached, it doesn't read any input from the user and its output is collected for the report.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class ForkedExecution implements Runnable, IProcessorInterpreter {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(ForkedExecution.class.getName());
+
+  /** the number of forks that have been started, to name the threads */
+  private static int numberOfForks = 0;
+
+  /** the processor this fork has been created from */
+  @NotNull
+  private final Mic1 original;
+
+  /** the processor being executed */
+  @NotNull
+  private final Mic1 fork;
+
+  /** the copy of the breakpoints that are checked for the fork */
+  @NotNull
+  private final BreakpointManager breakpoints;
+
+  /** the io the fork is connected to */
+  @NotNull
+  private final BufferedIO io = new BufferedIO();
+
+  /** whether the ticks of the fork are limited by the maximum number of ticks of forks */
+  private final boolean limitedAsFork;
+
+  /** the thread executing the fork */
+  @Nullable
+  private Thread thread = null;
+
+  /** the number of ticks the fork has executed */
+  private volatile long ticks = 0;
+
+  /** the error that terminated the execution of the fork or <code>null</code> if there was no error */
+  @Nullable
+  private volatile RuntimeException error = null;
+
+  /**
+   * Constructs the execution of a fork of the given processor. The fork is created immediately, so the original
+   * processor can continue after the constructor has returned.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to fork
+   * @param bpm the breakpoints of the processor, the fork will work on a copy of them
+   * @param assignments the values to set into the registers of the fork before executing it
+   */
+  ForkedExecution(final Mic1 processor, final BreakpointManager bpm, final Map<Register, Integer> assignments) {
+    this.original = processor;
+    this.fork = processor.fork();
+    this.breakpoints = new BreakpointManager(bpm);
+    this.fork.getMemory().setIO(this.io);
+    this.fork.setProcessorInterpreter(this);
+    // the console waits for the fork, so it mustn't run endlessly
+    final long maxTicks = Settings.MIC1_FORK_MAX_TICKS.getValue();
+    this.limitedAsFork = maxTicks > 0 && (this.fork.getTickLimit() <= 0 || this.fork.getTickLimit() > maxTicks);
+    if (this.limitedAsFork) {
+      this.fork.setTickLimit(maxTicks);
+    }
+    for (final Entry<Register, Integer> assignment : assignments.entrySet()) {
+      this.fork.getRegisters().set(assignment.getKey(), assignment.getValue().intValue());
+    }
+  }
+
+  /**
+   * Starts the execution of the fork on a new thread.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  synchronized void start() {
+    if (this.thread == null) {
+      ++numberOfForks;
+      this.thread = new Thread(this, "fork-" + numberOfForks);
+      this.thread.setDaemon(true);
+      this.thread.start();
+    }
+  }
+
+  /**
+   * Waits until the fork has stopped. If the waiting thread is interrupted, the fork is interrupted as well.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void join() {
+    final Thread t;
+    synchronized (this) {
+      t = this.thread;
+    }
+    if (t != null) {
+      try {
+        t.join();
+      } catch (final InterruptedException e) {
+        this.fork.interrupt();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    try {
+      this.ticks = this.fork.run();
+    } catch (final RuntimeException e) {
+      LOGGER.log(Level.WARNING, "execution of fork failed", e);
+      this.error = e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean canContinue(final int microLine,
+                             final int macroLine,
+                             final MicroInstruction currentInstruction,
+                             final MicroInstruction nextInstruction) {
+    return !this.breakpoints.isBreakpoint(this.fork, microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
+    // nothing is traced for a fork
+  }
+
+  /**
+   * Returns the processor being executed by this.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the fork of the original processor
+   */
+  @NotNull
+  Mic1 getFork() {
+    return this.fork;
+  }
+
+  /**
+   * Prints how the fork ended and all registers and memory words that differ between the fork and the original
+   * processor. Should only be invoked after {@link #join()}.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void printReport() {
+    if (this.error != null) {
+      Printer.printErrorln(this.error.getMessage());
+      return;
+    }
+    if (this.fork.getHaltReason() == HaltReason.BREAKPOINT) {
+      Printer.println(Text.FORK_STOPPED.text(this.ticks));
+    } else if (this.fork.getHaltReason() == HaltReason.HALT_INSTRUCTION) {
+      Printer.println(Text.FORK_HALTED.text(this.ticks));
+    } else if (this.fork.getHaltReason() == HaltReason.TICK_LIMIT && this.limitedAsFork) {
+      Printer.println(Text.FORK_TICK_LIMIT.text(this.ticks));
+    } else {
+      Printer.println(Text.FORK_INTERRUPTED.text(this.ticks));
+    }
+
+    boolean diverged = false;
+    final RegisterFile originalRegisters = this.original.getRegisters();
+    final RegisterFile forkRegisters = this.fork.getRegisters();
+    for (final Register r : Register.values()) {
+      if (originalRegisters.get(r) != forkRegisters.get(r)) {
+        Printer.println(Text.FORK_REGISTER_DIFFERENCE.text(r, Utils.toHexString(originalRegisters.get(r)),
+                                                           Utils.toHexString(forkRegisters.get(r))));
+        diverged = true;
+      }
+    }
+    for (final Integer addr : this.original.getMemory().getDifferentWords(this.fork.getMemory())) {
+      final int a = addr.intValue();
+      Printer.println(Text.FORK_MEMORY_DIFFERENCE.text(Utils.toHexString(a),
+                                                       Utils.toHexString(this.original.getMemoryValue(a)),
+                                                       Utils.toHexString(this.fork.getMemoryValue(a))));
+      diverged = true;
+    }
+    if (!diverged) {
+      Printer.println(Text.FORK_NO_DIFFERENCE);
+    }
+
+    if (this.io.getOutput().length > 0) {
+      Printer.println(Text.FORK_OUTPUT.text(this.io.getOutputAsString()));
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+
+/**
+ * Index of the instructions of the macro code in a memory. Stores the address where each instruction starts, the
+ * number of bytes of its arguments and the address of the last byte of code. The index is built once and afterwards
+ * only the parts of the code that have been modified are indexed again, so listing code doesn't need to walk through
+ * the whole memory.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class MacroCodeIndex {
+
+  /** the number of bytes in a word of the memory */
+  private static final int BYTES_PER_WORD = 4;
+
+  /** the memory containing the code */
+  @NotNull
+  private final Memory memory;
+
+  /** the table of the known instructions, unknown codes have no arguments */
+  @NotNull
+  private final IJVMOpcodeTable opcodes;
+
+  /** the address of the first byte that can contain code */
+  private final int firstAddress;
+
+  /** the address of the last byte that can contain code */
+  private final int lastAddress;
+
+  /** the address of the last byte of code that isn't zero */
+  private int end;
+
+  /** the addresses of the instructions, only the first elements given by {@link #size} are valid */
+  @NotNull
+  private int[] addresses = new int[0];
+
+  /** the number of argument bytes of the instructions, only the first elements given by {@link #size} are valid */
+  @NotNull
+  private int[] argumentBytes = new int[0];
+
+  /** the number of indexed instructions */
+  private int size = 0;
+
+  /** the number of modifications of the code in the memory, when the index has been updated */
+  private long modifications = -1;
+
+  /**
+   * Constructs the index for the code in the given memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory containing the code
+   * @param table the table of the known instructions
+   * @param first the address of the first byte that can contain code
+   * @param last the address of the last byte that can contain code
+   */
+  MacroCodeIndex(final Memory mem, final IJVMOpcodeTable table, final int first, final int last) {
+    this.memory = mem;
+    this.opcodes = table;
+    this.firstAddress = first;
+    this.lastAddress = last;
+  }
+
+  /**
+   * Returns the address of the last byte of code that isn't zero.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the last byte of code, or an address lower than the first possible code address, if there
+   *         is no code.
+   */
+  int getEnd() {
+    update();
+    return this.end;
+  }
+
+  /**
+   * Returns the number of instructions that start before the end of the code.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of indexed instructions
+   */
+  int getSize() {
+    update();
+    return this.size;
+  }
+
+  /**
+   * Returns the address of the instruction with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param i the number of the instruction, between zero and {@link #getSize()}
+   * @return the address of the first byte of the instruction
+   */
+  int getAddress(final int i) {
+    update();
+    return this.addresses[i];
+  }
+
+  /**
+   * Returns the number of bytes of the arguments of the instruction with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param i the number of the instruction, between zero and {@link #getSize()}
+   * @return the number of bytes following the operation code of the instruction
+   */
+  int getArgumentBytes(final int i) {
+    update();
+    return this.argumentBytes[i];
+  }
+
+  /**
+   * Returns the number of the instruction that starts at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the instruction
+   * @return the number of the instruction or a negative value, if no instruction starts at the given address.
+   */
+  int indexOf(final int addr) {
+    update();
+    return Arrays.binarySearch(this.addresses, 0, this.size, addr);
+  }
+
+  /**
+   * Brings the index up to date with the code in the memory. Only the modified part of the code is indexed again, the
+   * indexing stops as soon as an instruction starts at the same address as before.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void update() {
+    final long current = this.memory.getCodeModifications();
+    if (current == this.modifications) {
+      return;
+    }
+
+    if (this.modifications < 0) {
+      this.end = findEnd(this.lastAddress);
+      this.size = 0;
+      index(this.firstAddress, this.lastAddress, 0);
+    } else {
+      final int firstWord = this.memory.getFirstModifiedCodeWord(this.modifications);
+      final int lastWord = this.memory.getLastModifiedCodeWord(this.modifications);
+      final int from = Math.max(this.firstAddress, firstWord * BYTES_PER_WORD);
+      final int to = Math.min(this.lastAddress, lastWord * BYTES_PER_WORD + BYTES_PER_WORD - 1);
+      if (firstWord >= 0 && from <= to) {
+        if (to >= this.end) {
+          // bytes behind the modified ones are still zero
+          this.end = findEnd(to);
+        }
+        // instructions starting before the modified bytes keep their length
+        int kept = Arrays.binarySearch(this.addresses, 0, this.size, from);
+        if (kept < 0) {
+          kept = -kept - 1;
+        }
+        int restart = this.firstAddress;
+        if (kept > 0) {
+          restart = this.addresses[kept - 1] + 1 + this.argumentBytes[kept - 1];
+        }
+        index(restart, to, kept);
+      }
+    }
+    this.modifications = current;
+  }
+
+  /**
+   * Indexes the instructions from the given address until the end of the code. Indexing stops, if behind the given
+   * last modified address an instruction starts that is already indexed, the following instructions are kept.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param from the address of the first instruction to index
+   * @param modifiedTo the address of the last byte that might have been modified
+   * @param kept the number of instructions before the given address that are kept in the index
+   */
+  private void index(final int from, final int modifiedTo, final int kept) {
+    final int[] oldAddresses = this.addresses;
+    final int[] oldArgumentBytes = this.argumentBytes;
+    final int oldSize = this.size;
+    this.addresses = Arrays.copyOf(oldAddresses, Math.max(oldSize, 1));
+    this.argumentBytes = Arrays.copyOf(oldArgumentBytes, this.addresses.length);
+    this.size = kept;
+
+    int addr = from;
+    while (addr <= this.end) {
+      if (addr > modifiedTo) {
+        final int old = Arrays.binarySearch(oldAddresses, 0, oldSize, addr);
+        if (old >= 0) {
+          // the same instructions follow as before
+          for (int i = old; i < oldSize && oldAddresses[i] <= this.end; ++i) {
+            add(oldAddresses[i], oldArgumentBytes[i]);
+          }
+          return;
+        }
+      }
+      final int args = this.opcodes.getLength(this.memory.getByte(addr)) - 1;
+      add(addr, args);
+      addr += 1 + args;
+    }
+  }
+
+  /**
+   * Appends the given instruction to the index.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the instruction
+   * @param args the number of bytes of the arguments of the instruction
+   */
+  private void add(final int addr, final int args) {
+    if (this.size == this.addresses.length) {
+      this.addresses = Arrays.copyOf(this.addresses, this.size * 2);
+      this.argumentBytes = Arrays.copyOf(this.argumentBytes, this.size * 2);
+    }
+    this.addresses[this.size] = addr;
+    this.argumentBytes[this.size] = args;
+    ++this.size;
+  }
+
+  /**
+   * Returns the address of the last byte that isn't zero, searching backwards from the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param from the address to start searching at
+   * @return the address of the last byte of code
+   */
+  private int findEnd(final int from) {
+    int addr = from;
+    while (addr >= this.firstAddress && this.memory.getByte(addr) == 0) {
+      --addr;
+    }
+    return addr;
+  }
+}
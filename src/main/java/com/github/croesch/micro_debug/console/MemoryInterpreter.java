@@ -18,9 +18,7 @@
  */
 package com.github.croesch.micro_debug.console;
 
-import java.io.InputStream;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import com.github.croesch.micro_debug.annotation.NotNull;
@@ -30,8 +28,8 @@ import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
-import com.github.croesch.micro_debug.mic1.mem.IJVMCommandArgument;
-import com.github.croesch.micro_debug.mic1.mem.IJVMConfigReader;
+import com.github.croesch.micro_debug.mic1.mem.IJVMInstruction;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
 import com.github.croesch.micro_debug.mic1.mem.Memory;
 import com.github.croesch.micro_debug.mic1.register.Register;
 import com.github.croesch.micro_debug.settings.Settings;
@@ -44,14 +42,36 @@ import com.github.croesch.micro_debug.settings.Settings;
  */
 public final class MemoryInterpreter extends AbstractCodeContainer {
 
-  /** the map that contains the configuration with addresses in micro code and the belonging command */
-  @Nullable
-  private Map<Integer, IJVMCommand> commands = null;
+  /** the table that contains the configured commands, indexed by their operation code */
+  @NotNull
+  private final IJVMOpcodeTable opcodes = IJVMOpcodeTable.getDefault();
+
+  /** the instruction that is reused to decode the instructions in the memory */
+  @NotNull
+  private final IJVMInstruction instruction = this.opcodes.createInstruction();
 
   /** the memory to interprete */
   @NotNull
   private final Memory memory;
 
+  /** the index of the instructions in the memory, created when it's needed the first time */
+  @Nullable
+  private MacroCodeIndex index = null;
+
+  /** the already formatted lines of code, mapped by their address */
+  @NotNull
+  private final Map<Integer, String> lineCache = new HashMap<Integer, String>();
+
+  /** the number of argument bytes of the already formatted lines of code, mapped by their address */
+  @NotNull
+  private final Map<Integer, Integer> lineLengthCache = new HashMap<Integer, Integer>();
+
+  /** the number of modifications of the code in the memory, when the cached lines have been formatted */
+  private long cachedCodeModifications = -1;
+
+  /** the value of the constant pool pointer, when the cached lines have been formatted */
+  private int cachedConstantPool = -1;
+
   /**
    * Constructs an interpreter of a memory, can print code and stack read from the memory.
    * 
@@ -134,9 +154,7 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
       return null;
     }
 
-    final StringBuilder sb = new StringBuilder();
-    getLineString(line, sb);
-    return sb.toString();
+    return getCachedLine(line);
   }
 
   /**
@@ -148,13 +166,56 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
    * @return the number of bytes read as arguments to the command byte
    */
   private int getLineString(final int addr, final StringBuilder sb) {
-    final StringBuilder formattedArgs = new StringBuilder();
+    sb.append(getCachedLine(addr));
+    return this.lineLengthCache.get(Integer.valueOf(addr)).intValue();
+  }
+
+  /**
+   * Returns the formatted code instruction at the given address. Each line is only formatted once, until the code or
+   * the constants in the memory are modified.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the absolute address of the code instruction to fetch
+   * @return the formatted line
+   */
+  @NotNull
+  private String getCachedLine(final int addr) {
+    if (this.cachedCodeModifications != this.memory.getCodeModifications()
+        || this.cachedConstantPool != Register.CPP.getValue()) {
+      // the code or the constants may have changed, so the lines may have changed
+      this.lineCache.clear();
+      this.lineLengthCache.clear();
+      this.cachedCodeModifications = this.memory.getCodeModifications();
+      this.cachedConstantPool = Register.CPP.getValue();
+    }
+
+    final Integer key = Integer.valueOf(addr);
+    String line = this.lineCache.get(key);
+    if (line == null) {
+      final StringBuilder sb = new StringBuilder();
+      this.lineLengthCache.put(key, Integer.valueOf(formatLine(addr, sb)));
+      line = sb.toString();
+      this.lineCache.put(key, line);
+    }
+    return line;
+  }
 
-    final int cmdCode = this.memory.getByte(addr);
-    final IJVMCommand cmd = lookupCommand(cmdCode);
+  /**
+   * Formats the code instruction at the given address and returns the number of bytes read as arguments additional to
+   * the command byte.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the absolute address of the code instruction to format
+   * @param sb {@link StringBuilder} to append the formatted line to
+   * @return the number of bytes read as arguments to the command byte
+   */
+  private int formatLine(final int addr, final StringBuilder sb) {
+    final StringBuilder formattedArgs = new StringBuilder();
 
-    final String name = buildNameForCommand(cmd);
-    final int bytesRead = readArgumentsIfAny(addr, cmd, formattedArgs);
+    final IJVMInstruction instr = this.opcodes.decode(this.memory, addr, this.instruction);
+    final int cmdCode = instr.getOpcode();
+    final String name = buildNameForCommand(instr.getCommand());
+    final int bytesRead = appendArguments(instr, formattedArgs);
 
     final String formattedAddr = formatIntToHex(addr, Settings.MIC1_MEM_MACRO_ADDR_WIDTH.getValue());
     final String formattedCmdCode = formatIntToHex(cmdCode, Settings.MIC1_MEM_MICRO_ADDR_WIDTH.getValue());
@@ -164,21 +225,17 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
   }
 
   /**
-   * Returns the {@link IJVMCommand} that belongs to the given address.
+   * Returns the index of the instructions in the memory.
    * 
-   * @since Date: Jan 22, 2012
-   * @param addr the address where the command is placed in the micro code
-   * @return the {@link IJVMCommand} describing the command at the given address<br>
-   *         or <code>null</code> if no command is configured for this address
+   * @since Date: Oct 19, 2026
+   * @return the {@link MacroCodeIndex} of the code in the memory
    */
-  @Nullable
-  private IJVMCommand lookupCommand(final int addr) {
-    if (this.commands == null) {
-      // read configuration file the first time
-      final InputStream in = getClass().getClassLoader().getResourceAsStream("ijvm.conf");
-      this.commands = new IJVMConfigReader().readConfig(in);
+  @NotNull
+  MacroCodeIndex getIndex() {
+    if (this.index == null) {
+      this.index = new MacroCodeIndex(this.memory, this.opcodes, getFirstPossibleCodeAddress(), getEndOfCodeArea());
     }
-    return this.commands.get(Integer.valueOf(addr));
+    return this.index;
   }
 
   /**
@@ -199,41 +256,20 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
   }
 
   /**
-   * If the command is valid, this will read all argument bytes and build a formatted string with them.
-   * 
-   * @since Date: Jan 23, 2012
-   * @param addr the address of the command byte
-   * @param cmd the fetched {@link IJVMCommand} the command byte stands for
-   * @param sb the {@link StringBuilder} that stores the formatted arguments
-   * @return the number of bytes read as arguments
-   */
-  private int readArgumentsIfAny(final int addr, final IJVMCommand cmd, final StringBuilder sb) {
-    if (cmd != null) {
-      return createArgumentList(cmd.getArgs(), addr, sb);
-    }
-    return 0;
-  }
-
-  /**
-   * Builds the formatted {@link String} based on the arguments to read.
+   * Builds the formatted {@link String} of the arguments of the given decoded instruction.
    * 
-   * @since Date: Jan 23, 2012
-   * @param args the argument list that define the number of bytes to read, may not be <code>null</code>
-   * @param addr the address of the command byte
+   * @since Date: Oct 19, 2026
+   * @param instr the decoded instruction, unknown commands have no arguments
    * @param sb the {@link StringBuilder} that stores the formatted arguments
    * @return the number of bytes read as arguments
    */
-  private int createArgumentList(final List<IJVMCommandArgument> args, final int addr, final StringBuilder sb) {
-    int bytesRead = 0;
-    for (final IJVMCommandArgument arg : args) {
-      int value = 0;
-      for (int i = 1; i <= arg.getNumberOfBytes(); ++i) {
-        value |= this.memory.getByte(addr + bytesRead + 1) << (Byte.SIZE * (arg.getNumberOfBytes() - i));
-        ++bytesRead;
-      }
-      sb.append(" ").append(arg.getRepresentationOfArgument(addr, value, this.memory));
+  private int appendArguments(final IJVMInstruction instr, final StringBuilder sb) {
+    for (int i = 0; i < instr.getNumberOfArguments(); ++i) {
+      sb.append(" ").append(instr.getArgumentType(i).getRepresentationOfArgument(instr.getAddress(),
+                                                                                  instr.getArgumentValue(i),
+                                                                                  this.memory));
     }
-    return bytesRead;
+    return instr.getLength() - 1;
   }
 
   @Override
@@ -241,29 +277,24 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
     return 4 * (Settings.MIC1_REGISTER_PC_DEFVAL.getValue() + 1);
   }
 
+  /**
+   * {@inheritDoc} This is the address of the last assembler instruction that is only followed by <code>NOP</code>s.
+   */
   @Override
   protected int getLastPossibleCodeAddress() {
-    return refineEndOfCode(4 * (Utils.getNextHigherValue(getFirstPossibleCodeAddress(),
-                                                         Settings.MIC1_REGISTER_CPP_DEFVAL.getValue(),
-                                                         Settings.MIC1_REGISTER_SP_DEFVAL.getValue(),
-                                                         this.memory.getSize(),
-                                                         Settings.MIC1_REGISTER_LV_DEFVAL.getValue()) - 1));
+    return getIndex().getEnd();
   }
 
   /**
-   * Returns the address of the last assembler instruction that is only followed by <code>NOP</code>s
+   * Returns the address of the last byte of the area in the memory that can contain code.
    * 
    * @since Date: Jan 26, 2012
-   * @param end the end of the code area in the memory
-   * @return the address of last assembler instruction
+   * @return the end of the code area in the memory
    */
-  private int refineEndOfCode(final int end) {
-    final int start = getFirstPossibleCodeAddress();
-    int refEnd = end;
-    while (refEnd >= start && this.memory.getByte(refEnd) == 0) {
-      --refEnd;
-    }
-    return refEnd;
+  private int getEndOfCodeArea() {
+    return 4 * (Utils.getNextHigherValue(getFirstPossibleCodeAddress(), Settings.MIC1_REGISTER_CPP_DEFVAL.getValue(),
+                                         Settings.MIC1_REGISTER_SP_DEFVAL.getValue(), this.memory.getSize(),
+                                         Settings.MIC1_REGISTER_LV_DEFVAL.getValue()) - 1);
   }
 
   /**
@@ -277,8 +308,9 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
   public Map<Integer, String> getCodeMap() {
     final Map<Integer, String> map = new HashMap<Integer, String>();
 
-    for (int line = getFirstPossibleCodeAddress(); line <= getLastPossibleCodeAddress(); ++line) {
-      line += addLineToMap(map, line);
+    final MacroCodeIndex codeIndex = getIndex();
+    for (int i = 0; i < codeIndex.getSize(); ++i) {
+      addLineToMap(map, codeIndex.getAddress(i));
     }
 
     return map;
@@ -295,11 +327,10 @@ public final class MemoryInterpreter extends AbstractCodeContainer {
   private int addLineToMap(final Map<Integer, String> codeMap, final int line) {
     final StringBuilder formattedArgs = new StringBuilder();
 
-    final int cmdCode = this.memory.getByte(line);
-    final IJVMCommand cmd = lookupCommand(cmdCode);
-
-    final String name = buildNameForCommand(cmd);
-    final int bytesRead = readArgumentsIfAny(line, cmd, formattedArgs);
+    final IJVMInstruction instr = this.opcodes.decode(this.memory, line, this.instruction);
+    final int cmdCode = instr.getOpcode();
+    final String name = buildNameForCommand(instr.getCommand());
+    final int bytesRead = appendArguments(instr, formattedArgs);
 
     final String formattedCmdCode = formatIntToHex(cmdCode, Settings.MIC1_MEM_MICRO_ADDR_WIDTH.getValue());
 
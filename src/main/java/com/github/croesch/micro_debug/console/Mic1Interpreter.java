@@ -18,14 +18,38 @@
  */
 package com.github.croesch.micro_debug.console;
 
+import java.util.Map;
+
 import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
 import com.github.croesch.micro_debug.debug.BreakpointManager;
+import com.github.croesch.micro_debug.debug.Condition;
+import com.github.croesch.micro_debug.debug.ConditionSearch;
+import com.github.croesch.micro_debug.debug.DivergenceBisector;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.CallStack;
+import com.github.croesch.micro_debug.mic1.Coverage;
 import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.Profile;
 import com.github.croesch.micro_debug.mic1.api.IProcessorInterpreter;
+import com.github.croesch.micro_debug.mic1.branch.BranchModel;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.mem.Cache;
+import com.github.croesch.micro_debug.mic1.mem.CacheModel;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.smp.MultiProcessor;
+import com.github.croesch.micro_debug.mic1.smp.SchedulingMode;
+import com.github.croesch.micro_debug.mic3.PipelineModel;
+import com.github.croesch.micro_debug.settings.Settings;
 
 /**
  * Interpreter of a processor, can access and manipulate the processor.
@@ -55,6 +79,18 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
   @NotNull
   private final MicroControlStore controlStore;
 
+  /** the execution of the processor on the simulation thread */
+  @NotNull
+  private final BackgroundExecution background;
+
+  /** the coverage that is recorded or <code>null</code> if no coverage has been recorded */
+  @Nullable
+  private Coverage coverage = null;
+
+  /** the profile that has been recorded last or <code>null</code> if the execution hasn't been profiled */
+  @Nullable
+  private Profile profile = null;
+
   /**
    * Constructs an interpreter for the given processor.
    * 
@@ -70,6 +106,7 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
     this.view = new TraceManager(this.mic1.getMemory());
     this.memInterpreter = new MemoryInterpreter(this.mic1.getMemory());
     this.controlStore = this.mic1.getControlStore();
+    this.background = new BackgroundExecution(this.mic1);
   }
 
   /**
@@ -115,6 +152,40 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
     this.bpm.addMacroBreakpoint(line);
   }
 
+  /**
+   * Adds a breakpoint for the given line number in the micro code, that only makes the debugger break if the given
+   * condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the line number in micro code the debugger should break at
+   * @param condition the condition that has to hold, so that the debugger breaks
+   */
+  public void addMicroBreakpoint(final Integer line, final Condition condition) {
+    this.bpm.addMicroBreakpoint(line, condition);
+  }
+
+  /**
+   * Adds a breakpoint for the given line number in the macro code, that only makes the debugger break if the given
+   * condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the line number in macro code the debugger should break at
+   * @param condition the condition that has to hold, so that the debugger breaks
+   */
+  public void addMacroBreakpoint(final Integer line, final Condition condition) {
+    this.bpm.addMacroBreakpoint(line, condition);
+  }
+
+  /**
+   * Adds a breakpoint that makes the debugger break as soon as the given condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param condition the condition that has to hold, so that the debugger breaks
+   */
+  public void addConditionBreakpoint(final Condition condition) {
+    this.bpm.addConditionBreakpoint(condition);
+  }
+
   /**
    * Removes the breakpoint with the given unique id.
    * 
@@ -300,6 +371,43 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
     this.memInterpreter.printContent(pos1, pos2);
   }
 
+  /**
+   * Executes the current method until it has returned to the method that invoked it. Prints an error if the main
+   * program is being executed.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stepOut() {
+    if (this.mic1.getCallStack().getDepth() == 0) {
+      Printer.printErrorln(Text.NOT_IN_METHOD);
+    } else {
+      this.mic1.stepOut();
+    }
+  }
+
+  /**
+   * Prints the methods that have been invoked and haven't returned yet, beginning with the current method. For each
+   * method the line that is executed in it is printed: the current line for the current method and the line invoking
+   * the next method for the others.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printBacktrace() {
+    final CallStack stack = this.mic1.getCallStack();
+    int line = this.mic1.getLastMacroAddress();
+    if (this.mic1.getNextMpc() == Settings.MIC1_MICRO_ADDRESS_IJVM.getValue()) {
+      // between two instructions the current line is the one that is executed next
+      line = this.mic1.getNextMacroAddress();
+    }
+    line = Math.max(0, line);
+    for (int frame = 0; frame < stack.getDepth(); ++frame) {
+      Printer.println(Text.BACKTRACE_FRAME.text(frame, Utils.toHexString(stack.getMethod(frame)),
+                                                this.memInterpreter.getFormattedLine(line)));
+      line = stack.getCallSite(frame);
+    }
+    Printer.println(Text.BACKTRACE_MAIN.text(stack.getDepth(), this.memInterpreter.getFormattedLine(line)));
+  }
+
   /**
    * Prints the content of the stack. Technical speaking it prints the content of the memory between the initial stack
    * pointer value and the current value of the stack (inclusive edges).
@@ -319,14 +427,14 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
                              final int macroLine,
                              final MicroInstruction currentInstruction,
                              final MicroInstruction nextInstruction) {
-    return !this.bpm.isBreakpoint(microLine, macroLine, currentInstruction, nextInstruction);
+    return !this.bpm.isBreakpoint(this.mic1, microLine, macroLine, currentInstruction, nextInstruction);
   }
 
   /**
    * {@inheritDoc}
    */
   public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
-    if (macroCodeFetching) {
+    if (macroCodeFetching && this.view.isTracingMacro()) {
       this.view.update(instruction, this.memInterpreter.getFormattedLine(this.mic1.getLastMacroAddress()));
     } else {
       this.view.update(instruction, null);
@@ -374,6 +482,356 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
     this.controlStore.printCode(from, to);
   }
 
+  /**
+   * Assembles the given statement and replaces the micro instruction at the given address of the control store with
+   * it. Prints an error, if the address or the statement is invalid.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address in the control store
+   * @param statement the MAL statement, with addresses instead of labels
+   */
+  public void setMicroInstruction(final int addr, final String statement) {
+    if (addr < 0 || addr >= this.controlStore.getSize()) {
+      Printer.printErrorln(Text.INVALID_MICRO_ADDR.text(Utils.toHexString(addr)));
+      return;
+    }
+    try {
+      this.mic1.setMicroInstruction(addr, new MicroAssembler().assembleInstruction(statement));
+    } catch (final MicroFileFormatException e) {
+      Printer.printErrorln(Text.INVALID_MICRO_INSTRUCTION.text(e.getMessage()));
+    }
+  }
+
+  /**
+   * Prints the minimum and maximum number of ticks of each IJVM instruction, computed from the micro program without
+   * executing it.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printCycles() {
+    new CycleReport(this.controlStore).print();
+  }
+
+  /**
+   * Prints the number of ticks of each IJVM instruction, computed from the micro program of the processor and computed
+   * from the micro program in the given file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .mic1-file or the .mal-file to compare with
+   */
+  public void printCycles(final String file) {
+    final MicroControlStore other = ProgramFiles.readControlStore(file);
+    if (other != null) {
+      new CycleReport(this.controlStore).print(new CycleReport(other), file);
+    }
+  }
+
+  /**
+   * Executes the given IJVM program with the micro program of the processor and with the micro program in the given
+   * file in lockstep and prints the first tick after which both executions differ. The processor isn't modified.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .mic1-file or the .mal-file to compare with
+   * @param program the path to the .ijvm-file or .jas-file to execute
+   */
+  public void bisect(final String file, final String program) {
+    final MicroControlStore other = ProgramFiles.readControlStore(file);
+    if (other == null) {
+      return;
+    }
+    final byte[] binary = ProgramFiles.readProgram(program);
+    if (binary != null) {
+      try {
+        final DivergenceBisector bisector = new DivergenceBisector(this.controlStore, other, binary,
+                                                                   ProgramFiles.readInput(program),
+                                                                   Settings.MIC1_COMPARE_MAX_TICKS.getValue());
+        bisector.run();
+        new DivergenceReport(bisector).print();
+      } catch (final MacroFileFormatException e) {
+        Printer.printErrorln(Text.COMPARISON_ERROR.text(program, e.getMessage()));
+      }
+    }
+  }
+
+  /**
+   * Executes the given IJVM programs with the micro program of the processor and with the micro program in the given
+   * file and prints the differences of their results and number of ticks. The processor isn't modified.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .mic1-file or the .mal-file to compare with
+   * @param programs the paths to the .ijvm-files or .jas-files to execute
+   */
+  public void compare(final String file, final String ... programs) {
+    final MicroControlStore other = ProgramFiles.readControlStore(file);
+    if (other != null) {
+      final MicroProgramComparison comparison = new MicroProgramComparison(this.controlStore, other);
+      for (final String program : programs) {
+        comparison.addProgram(program);
+      }
+      comparison.run();
+    }
+  }
+
+  /**
+   * Executes the given IJVM programs with the current micro program and on the Mic-2 and prints how many ticks both
+   * processors need.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param programs the paths to the .ijvm-files or .jas-files to execute
+   */
+  public void compareMic2(final String ... programs) {
+    final SpeedupComparison comparison = new SpeedupComparison(this.controlStore);
+    for (final String program : programs) {
+      comparison.addProgram(program);
+    }
+    comparison.run();
+  }
+
+  /**
+   * Executes the given IJVM program with the current micro program and on the given pipelined processor and prints
+   * the cycles per instruction, the stalls of the pipeline and its utilization for each IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param program the path to the .ijvm-file or .jas-file to execute
+   * @param model the pipeline to model
+   */
+  public void reportPipeline(final String program, final PipelineModel model) {
+    final byte[] bytes = ProgramFiles.readProgram(program);
+    if (bytes != null) {
+      new PipelineReport(this.controlStore, model, bytes, ProgramFiles.readInput(program)).run(program);
+    }
+  }
+
+  /**
+   * Executes the given IJVM program with the current micro program on the given number of cores sharing one memory and
+   * prints the ticks and memory operations of each core. Prints an error, if the number of cores is invalid.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param program the path to the .ijvm-file or .jas-file to execute
+   * @param cores the number of cores
+   * @param mode the way the cores are scheduled
+   * @param model the consistency model of the shared memory
+   */
+  public void runOnCores(final String program, final int cores, final SchedulingMode mode,
+                         final ConsistencyModel model) {
+    if (cores < 1 || cores > MultiProcessor.getMaxCores()) {
+      Printer.printErrorln(Text.INVALID_CORES.text(cores, MultiProcessor.getMaxCores()));
+      return;
+    }
+    final byte[] bytes = ProgramFiles.readProgram(program);
+    if (bytes != null) {
+      new MultiProcessorReport(this.controlStore, bytes, ProgramFiles.readInput(program), cores, mode, model)
+        .run(program);
+    }
+  }
+
+  /**
+   * Writes the control flow graph of the micro program in the DOT language of Graphviz to the given file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  public void writeMicroCodeGraph(final String file) {
+    new CycleReport(this.controlStore).writeGraph(file);
+  }
+
+  /**
+   * Adds an instruction cache and a data cache in front of the memory, that count the hits and misses of the memory
+   * operations. Caches that have been modelled before are replaced. Prints an error, if the configuration is invalid.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param iSize the size of the instruction cache in bytes
+   * @param dSize the size of the data cache in bytes
+   * @param ways the number of lines of each set
+   * @param line the size of a line in bytes
+   * @param policy the policy selecting the line to replace
+   */
+  public void startCacheModel(final int iSize, final int dSize, final int ways, final int line,
+                              final ReplacementPolicy policy) {
+    if (!Cache.isValidConfiguration(iSize, ways, line)) {
+      Printer.printErrorln(Text.INVALID_CACHE.text(iSize, ways, line));
+    } else if (!Cache.isValidConfiguration(dSize, ways, line)) {
+      Printer.printErrorln(Text.INVALID_CACHE.text(dSize, ways, line));
+    } else {
+      this.mic1.setCacheModel(new CacheModel(new Cache(iSize, ways, line, policy), new Cache(dSize, ways, line, policy),
+                                             Settings.MIC1_CACHE_MISS_PENALTY.getValue()));
+    }
+  }
+
+  /**
+   * Removes the caches in front of the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stopCacheModel() {
+    this.mic1.setCacheModel(null);
+  }
+
+  /**
+   * Prints the hits, misses and evictions of the modelled caches, for the whole program and for each IJVM instruction.
+   * Prints an error, if no caches are modelled.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printCacheModel() {
+    final CacheModel model = this.mic1.getCacheModel();
+    if (model == null) {
+      Printer.printErrorln(Text.NO_CACHE);
+    } else {
+      new CacheReport(model).print();
+    }
+  }
+
+  /**
+   * Starts evaluating the static predictor, the one and two bit predictors, gshare and a branch target buffer on the
+   * branches of the executed macro code. Predictors that have been evaluated before are replaced. Prints an error, if
+   * the number of entries isn't a power of two.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of entries of the tables of the predictors
+   * @param historyBits the number of outcomes in the global history of gshare
+   */
+  public void startBranchPrediction(final int entries, final int historyBits) {
+    if (!BranchModel.isValidSize(entries)) {
+      Printer.printErrorln(Text.INVALID_BRANCH_PREDICTORS.text(entries));
+    } else {
+      this.mic1.setBranchModel(BranchModel.createDefault(entries, historyBits));
+    }
+  }
+
+  /**
+   * Stops evaluating the branch predictors.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stopBranchPrediction() {
+    this.mic1.setBranchModel(null);
+  }
+
+  /**
+   * Prints the accuracy of the evaluated branch predictors, for the whole program and for each branch site. Prints an
+   * error, if no branch predictors are evaluated.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printBranchPrediction() {
+    final BranchModel model = this.mic1.getBranchModel();
+    if (model == null) {
+      Printer.printErrorln(Text.NO_BRANCH_PREDICTORS);
+    } else {
+      new BranchReport(model, this.mic1.getMemory()).print();
+    }
+  }
+
+  /**
+   * Starts recording a new coverage of the micro program and the macro code executed by the processor. A coverage
+   * that has been recorded before is discarded.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void startCoverage() {
+    this.coverage = new Coverage();
+    this.mic1.setCoverage(this.coverage);
+  }
+
+  /**
+   * Executes the given IJVM programs with the micro program of the processor and adds the coverage of the micro
+   * program to the recorded coverage. Starts recording the coverage of the processor, if it isn't recorded yet. The
+   * processor isn't modified.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param programs the paths to the .ijvm-files or .jas-files to execute
+   */
+  public void coverage(final String ... programs) {
+    if (this.coverage == null) {
+      startCoverage();
+    }
+    final CoverageBatch batch = new CoverageBatch(this.controlStore, this.coverage);
+    for (final String program : programs) {
+      batch.addProgram(program);
+    }
+    batch.run();
+  }
+
+  /**
+   * Prints how many micro instructions, branches, IJVM instructions and macro instructions have been covered. Prints
+   * an error, if no coverage has been recorded.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printCoverage() {
+    if (this.coverage == null) {
+      Printer.printErrorln(Text.NO_COVERAGE);
+    } else {
+      new CoverageReport(this.coverage, this.controlStore, this.memInterpreter).print();
+    }
+  }
+
+  /**
+   * Writes the recorded coverage to the given file, as HTML page if the file name ends with <code>.html</code>,
+   * otherwise as LCOV tracefile. Prints an error, if no coverage has been recorded.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  public void writeCoverageReport(final String file) {
+    if (this.coverage == null) {
+      Printer.printErrorln(Text.NO_COVERAGE);
+    } else {
+      new CoverageReport(this.coverage, this.controlStore, this.memInterpreter).write(file);
+    }
+  }
+
+  /**
+   * Starts recording a new profile of the execution, that samples the processor about every <code>interval</code>
+   * ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param interval the average number of ticks between two samples, one records every tick
+   */
+  public void startProfiling(final int interval) {
+    this.profile = new Profile(this.controlStore.getSize(), interval);
+    this.mic1.setProfile(this.profile);
+  }
+
+  /**
+   * Stops recording the profile of the execution. The recorded profile can still be printed.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stopProfiling() {
+    this.mic1.setProfile(null);
+  }
+
+  /**
+   * Prints the number of samples of each IJVM instruction, method and the most sampled micro instructions of the
+   * profile that has been recorded last. Prints an error, if the execution hasn't been profiled.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printProfile() {
+    if (this.profile == null) {
+      Printer.printErrorln(Text.NO_PROFILE);
+    } else {
+      new ProfileReport(this.profile).print();
+    }
+  }
+
+  /**
+   * Writes the folded call stacks of the profile that has been recorded last to the given file, to draw a flame graph
+   * from them. Prints an error, if the execution hasn't been profiled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  public void writeFlameGraph(final String file) {
+    if (this.profile == null) {
+      Printer.printErrorln(Text.NO_PROFILE);
+    } else {
+      new ProfileReport(this.profile).writeFoldedStacks(file);
+    }
+  }
+
   /**
    * Sets the new {@link DebugMode}.
    * 
@@ -392,4 +850,121 @@ public final class Mic1Interpreter implements IProcessorInterpreter {
   public void removeAllBreakpoints() {
     this.bpm.removeAllBreakpoints();
   }
+
+  /**
+   * Runs a fork of the processor on its own thread and waits until it has stopped. Before the fork is started the given
+   * values are set into its registers. The fork stops at the same breakpoints as the processor, the state of the
+   * processor isn't changed. Afterwards the differences between the fork and the processor are printed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param assignments the values to set into the registers of the fork
+   */
+  public void fork(final Map<Register, Integer> assignments) {
+    final ForkedExecution execution = new ForkedExecution(this.mic1, this.bpm, assignments);
+    execution.start();
+    execution.join();
+    execution.printReport();
+  }
+
+  /**
+   * Searches the first tick after which the given condition holds and sets the processor to the state after that tick.
+   * Breakpoints are ignored, the search ends before the program reads input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param condition the condition to search
+   */
+  public void search(final Condition condition) {
+    final ConditionSearch search = new ConditionSearch(this.mic1, condition,
+                                                       Settings.MIC1_SEARCH_CHECKPOINT_INTERVAL.getValue(),
+                                                       Settings.MIC1_SEARCH_MAX_TICKS.getValue(),
+                                                       Runtime.getRuntime().availableProcessors());
+    if (search.run()) {
+      Printer.println(Text.SEARCH_HIT.text(condition, search.getHit()));
+      return;
+    }
+    Printer.println(Text.SEARCH_NO_HIT.text(condition, search.getSearchedTicks()));
+    if (search.isInputReached()) {
+      Printer.println(Text.SEARCH_INPUT);
+    } else if (search.isHaltReached()) {
+      Printer.println(Text.SEARCH_HALT);
+    }
+  }
+
+  /**
+   * Starts running the program on the simulation thread and returns immediately. Until the execution has ended or has
+   * been paused, the processor mustn't be accessed by any other method of this interpreter.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void runInBackground() {
+    if (this.background.isRunning()) {
+      Printer.printErrorln(Text.PROCESSOR_RUNNING);
+    } else {
+      this.background.start();
+    }
+  }
+
+  /**
+   * Returns whether the program is currently being executed on the simulation thread.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the processor is running in the background
+   */
+  public boolean isRunningInBackground() {
+    return this.background.isRunning();
+  }
+
+  /**
+   * Prints the progress of the program running in the background.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void printRunningStatus() {
+    if (this.background.isRunning()) {
+      this.background.printStatus();
+    } else {
+      Printer.printErrorln(Text.PROCESSOR_NOT_RUNNING);
+    }
+  }
+
+  /**
+   * Gives the program running in the background the given line as input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the text the program reads, followed by a line feed
+   */
+  public void supplyInput(final String line) {
+    if (!this.background.isRunning() || !this.background.supply(line)) {
+      Printer.printErrorln(Text.PROCESSOR_NOT_RUNNING);
+    }
+  }
+
+  /**
+   * Pauses the program running in the background. It can be continued afterwards.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void pauseRunning() {
+    if (this.background.isRunning()) {
+      this.background.stop();
+      Printer.println(Text.RUNNING_PAUSED.text(Utils.toHexString(this.mic1.getLastMacroAddress())));
+    } else {
+      Printer.printErrorln(Text.PROCESSOR_NOT_RUNNING);
+    }
+  }
+
+  /**
+   * Stops the program running in the background and resets the processor to its initial state.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stopRunning() {
+    if (this.background.isRunning()) {
+      this.background.stop();
+      this.mic1.reset();
+      Printer.println(Text.RUNNING_STOPPED);
+    } else {
+      Printer.printErrorln(Text.PROCESSOR_NOT_RUNNING);
+    }
+  }
 }
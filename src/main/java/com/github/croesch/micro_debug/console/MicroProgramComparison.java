@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.debug.ProgramComparison;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Compares two micro programs by executing a set of IJVM programs with both of them. The programs are compared in
+ * parallel and the results are printed in the order the programs have been added.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class MicroProgramComparison {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(MicroProgramComparison.class.getName());
+
+  /** the micro program of the debugged processor */
+  @NotNull
+  private final MicroControlStore current;
+
+  /** the micro program to compare with */
+  @NotNull
+  private final MicroControlStore other;
+
+  /** the comparisons of the programs */
+  @NotNull
+  private final List<ProgramComparison> comparisons = new ArrayList<ProgramComparison>();
+
+  /**
+   * Constructs the comparison of the given micro programs.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param currentStore the micro program of the debugged processor
+   * @param otherStore the micro program to compare with
+   */
+  MicroProgramComparison(final MicroControlStore currentStore, final MicroControlStore otherStore) {
+    this.current = currentStore;
+    this.other = otherStore;
+  }
+
+  /**
+   * Adds the given IJVM program to the programs to compare. Prints an error if the program can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .ijvm-file or .jas-file
+   */
+  void addProgram(final String file) {
+    final byte[] program = ProgramFiles.readProgram(file);
+    if (program != null) {
+      this.comparisons.add(new ProgramComparison(file, this.current, this.other, program,
+                                                 ProgramFiles.readInput(file),
+                                                 Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+    }
+  }
+
+  /**
+   * Executes the comparisons in parallel and prints the results.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void run() {
+    if (this.comparisons.isEmpty()) {
+      return;
+    }
+    final int threads = Math.min(this.comparisons.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<Future<?>>();
+      for (final ProgramComparison comparison : this.comparisons) {
+        futures.add(pool.submit(comparison));
+      }
+      for (int i = 0; i < futures.size(); ++i) {
+        futures.get(i).get();
+        print(this.comparisons.get(i));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      LOGGER.log(Level.WARNING, "comparison failed", e);
+      Printer.printErrorln(String.valueOf(e.getCause()));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Prints the result of the given comparison.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param c the executed comparison
+   */
+  private static void print(final ProgramComparison c) {
+    if (c.getError() != null) {
+      Printer.printErrorln(Text.COMPARISON_ERROR.text(c.getName(), c.getError()));
+      return;
+    }
+    final long delta = c.getSecondTicks() - c.getFirstTicks();
+    String deltaText = String.valueOf(delta);
+    if (delta > 0) {
+      deltaText = "+" + deltaText;
+    }
+    Printer.println(Text.COMPARISON_TICKS.text(c.getName(), c.getFirstTicks(), c.getSecondTicks(), deltaText));
+
+    final boolean memoryEqual = c.getNumberOfDifferentWords() == 0;
+    if (c.isOutputEqual() && c.isStackEqual() && memoryEqual && !c.hasDiverged()) {
+      Printer.println(Text.COMPARISON_EQUAL);
+    }
+    if (!c.isOutputEqual()) {
+      Printer.println(Text.COMPARISON_OUTPUT.text(c.getFirstOutput(), c.getSecondOutput()));
+    }
+    if (!c.isStackEqual()) {
+      Printer.println(Text.COMPARISON_STACK);
+    }
+    if (!memoryEqual) {
+      Printer.println(Text.COMPARISON_MEMORY.text(c.getNumberOfDifferentWords()));
+    }
+    if (c.hasDiverged()) {
+      Printer.println(Text.COMPARISON_DIVERGENCE.text(c.getDivergingInstruction(),
+                                                      Utils.toHexString(c.getDivergingAddress()),
+                                                      c.getDivergingTick()));
+    }
+    if (c.isLimitReached()) {
+      Printer.println(Text.COMPARISON_LIMIT.text(Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
+import com.github.croesch.micro_debug.mic1.smp.MultiProcessor;
+import com.github.croesch.micro_debug.mic1.smp.SchedulingMode;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Executes an IJVM program on several cores sharing one memory and presents the ticks of all cores, the throughput
+ * and for each core its ticks and memory operations.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class MultiProcessorReport {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(MultiProcessorReport.class.getName());
+
+  /** the number of nanoseconds per millisecond */
+  private static final long NANOS_PER_MILLI = 1000000;
+
+  /** the number of nanoseconds per second */
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  /** the io shared by the cores */
+  @NotNull
+  private final BufferedIO io;
+
+  /** the cores executing the program, or <code>null</code> if the program couldn't be loaded */
+  @Nullable
+  private MultiProcessor processor = null;
+
+  /** the error that prevented the execution, or <code>null</code> if there was no error */
+  @Nullable
+  private String error = null;
+
+  /**
+   * Prepares the execution of the given program on the given number of cores.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the micro program executed by each core
+   * @param program the binary IJVM program
+   * @param input the bytes the cores read as input, may be <code>null</code>
+   * @param cores the number of cores, between one and {@link MultiProcessor#getMaxCores()}
+   * @param mode the way the cores are scheduled
+   * @param model the consistency model of the shared memory
+   */
+  MultiProcessorReport(final MicroControlStore store,
+                       final byte[] program,
+                       final byte[] input,
+                       final int cores,
+                       final SchedulingMode mode,
+                       final ConsistencyModel model) {
+    this.io = new BufferedIO(input);
+    try {
+      this.processor = new MultiProcessor(store, program, cores, mode, model,
+                                          Settings.MIC1_SMP_ATOMIC_OPCODE.getValue(), this.io);
+    } catch (final MacroFileFormatException e) {
+      LOGGER.log(Level.WARNING, "couldn't load the program", e);
+      this.error = e.getMessage();
+    }
+  }
+
+  /**
+   * Executes the program and prints the report.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the program
+   */
+  void run(final String name) {
+    if (this.processor != null) {
+      this.processor.run();
+      if (this.processor.getError() != null) {
+        this.error = String.valueOf(this.processor.getError().getMessage());
+      }
+    }
+    if (this.error != null) {
+      Printer.printErrorln(Text.COMPARISON_ERROR.text(name, this.error));
+      return;
+    }
+
+    final MultiProcessor mp = this.processor;
+    final long nanos = Math.max(1, mp.getNanos());
+    Printer.println(Text.SMP_SUMMARY.text(mp.getNumberOfCores(), mp.getScheduling().name().toLowerCase(Locale.ENGLISH),
+                                          mp.getBus().getModel().name().toLowerCase(Locale.ENGLISH), mp.getTicks(),
+                                          nanos / NANOS_PER_MILLI, (long) (mp.getTicks() * NANOS_PER_SECOND / nanos)));
+    for (int i = 0; i < mp.getNumberOfCores(); ++i) {
+      final Mic1 core = mp.getCore(i);
+      Printer.println(Text.SMP_CORE.text(i, core.getExecutedTicks(), core.getMacroInstructions(),
+                                         core.getMemory().getReads(), core.getMemory().getWrites()));
+    }
+    if (!mp.isHalted()) {
+      Printer.println(Text.COMPARISON_LIMIT.text(mp.getTickLimit()));
+    }
+    if (this.io.getOutput().length > 0) {
+      Printer.println(Text.SMP_OUTPUT.text(this.io.getOutputAsString()));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.Locale;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.debug.PipelineRun;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Profile;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+import com.github.croesch.micro_debug.mic3.Mic3;
+import com.github.croesch.micro_debug.mic3.PipelineModel;
+import com.github.croesch.micro_debug.mic3.StallCause;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Executes an IJVM program on a pipelined processor and on the Mic-1 and presents the cycles per instruction, the
+ * stalls of the pipeline and its utilization while executing each IJVM instruction.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class PipelineReport {
+
+  /** the percentage of all cycles */
+  private static final int PERCENT = 100;
+
+  /** the execution of the program */
+  @NotNull
+  private final PipelineRun execution;
+
+  /**
+   * Prepares the execution of the given program on the Mic-1 with the given micro program and on the given pipeline.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the micro program of the Mic-1
+   * @param model the pipeline to model
+   * @param program the binary IJVM program
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   */
+  PipelineReport(final MicroControlStore store, final PipelineModel model, final byte[] program, final byte[] input) {
+    this.execution = new PipelineRun(store, Mic2ControlStore.getDefault(), model, program, input,
+                                     Settings.MIC1_COMPARE_MAX_TICKS.getValue());
+  }
+
+  /**
+   * Executes the program and prints the report.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the program
+   */
+  void run(final String name) {
+    this.execution.run();
+    final Mic3 pipeline = this.execution.getPipeline();
+    if (this.execution.getError() != null) {
+      Printer.printErrorln(Text.COMPARISON_ERROR.text(name, this.execution.getError()));
+      return;
+    }
+
+    Printer.println(Text.PIPELINE_CYCLES.text(pipeline.getModel().getName(), pipeline.getCycles(),
+                                              pipeline.getMacroInstructions(),
+                                              ratio(pipeline.getCycles(), pipeline.getMacroInstructions()),
+                                              this.execution.getMic1Ticks(),
+                                              ratio(this.execution.getMic1Ticks(),
+                                                    this.execution.getMic1Instructions())));
+    Printer.println(Text.PIPELINE_STALLS.text(pipeline.getStallCycles(StallCause.REGISTER),
+                                              pipeline.getStallCycles(StallCause.MEMORY),
+                                              pipeline.getStallCycles(StallCause.FETCH),
+                                              pipeline.getStallCycles(StallCause.BRANCH),
+                                              pipeline.getStallCycles(StallCause.FLUSH)));
+    if (!this.execution.isOutputEqual()) {
+      Printer.println(Text.COMPARISON_OUTPUT.text(this.execution.getMic1Output(), this.execution.getPipelineOutput()));
+    }
+    if (!this.execution.isHalted()) {
+      Printer.println(Text.COMPARISON_LIMIT.text(Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+    }
+
+    Printer.println(Text.PIPELINE_INSTRUCTIONS);
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final long instructions = pipeline.getOpcodeInstructions(opcode);
+      final long cycles = pipeline.getOpcodeCycles(opcode);
+      if (instructions > 0 && cycles > 0) {
+        Printer.println(Text.PIPELINE_INSTRUCTION.text(Utils.toHexString(opcode) + " " + Profile.getOpcodeName(opcode),
+                                                       instructions, cycles, ratio(cycles, instructions),
+                                                       pipeline.getOpcodeMicroInstructions(opcode) * PERCENT / cycles));
+      }
+    }
+  }
+
+  /**
+   * Formats the ratio of the given numbers with two decimal places.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param dividend the number of cycles or ticks
+   * @param divisor the number of instructions
+   * @return the formatted ratio, <code>0.00</code> if the divisor is zero
+   */
+  @NotNull
+  static String ratio(final long dividend, final long divisor) {
+    if (divisor == 0) {
+      return ratio(0, 1);
+    }
+    return String.format(Locale.ENGLISH, "%.2f", Double.valueOf((double) dividend / divisor));
+  }
+}
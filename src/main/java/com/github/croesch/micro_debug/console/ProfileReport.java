@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Profile;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Presents a {@link Profile} of the execution to the user, either as the number of samples of each IJVM instruction,
+ * method and micro instruction or as the folded call stacks to draw a flame graph from.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class ProfileReport {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(ProfileReport.class.getName());
+
+  /** the maximum number of micro instructions to print */
+  private static final int MAX_MICRO_INSTRUCTIONS = 10;
+
+  /** the presented profile */
+  @NotNull
+  private final Profile profile;
+
+  /**
+   * Constructs the report of the given profile.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the profile to present
+   */
+  ProfileReport(final Profile p) {
+    this.profile = p;
+  }
+
+  /**
+   * Prints the number of samples of each IJVM instruction, of each method and of the most sampled micro instructions,
+   * each ordered by the number of samples.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void print() {
+    Printer.println(Text.PROFILE_HEADER.text(this.profile.getSamples(), this.profile.getInterval()));
+
+    final List<Element> instructions = new ArrayList<Element>();
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final long samples = this.profile.getOpcodeSamples(opcode);
+      if (samples > 0) {
+        instructions.add(new Element(Utils.toHexString(opcode) + " " + Profile.getOpcodeName(opcode), samples));
+      }
+    }
+    Printer.println(Text.PROFILE_INSTRUCTIONS);
+    print(instructions, instructions.size());
+
+    final List<Element> methods = new ArrayList<Element>();
+    for (final Map.Entry<Integer, Long> entry : this.profile.getMethodSamples().entrySet()) {
+      final int method = entry.getKey().intValue();
+      if (method == Profile.MAIN_PROGRAM) {
+        methods.add(new Element(Text.PROFILE_MAIN.text(), entry.getValue().longValue()));
+      } else {
+        methods.add(new Element(Text.PROFILE_METHOD.text(Utils.toHexString(method)), entry.getValue().longValue()));
+      }
+    }
+    Printer.println(Text.PROFILE_METHODS);
+    print(methods, methods.size());
+
+    final List<Element> microInstructions = new ArrayList<Element>();
+    for (int mpc = 0; mpc < this.profile.getNumberOfMicroInstructions(); ++mpc) {
+      final long samples = this.profile.getMicroSamples(mpc);
+      if (samples > 0) {
+        microInstructions.add(new Element(Utils.toHexString(mpc), samples));
+      }
+    }
+    Printer.println(Text.PROFILE_MICRO_INSTRUCTIONS);
+    print(microInstructions, MAX_MICRO_INSTRUCTIONS);
+  }
+
+  /**
+   * Prints the given elements ordered by the number of samples.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param elements the elements to print
+   * @param max the maximum number of elements to print
+   */
+  private void print(final List<Element> elements, final int max) {
+    Collections.sort(elements);
+    for (int i = 0; i < elements.size() && i < max; ++i) {
+      final Element e = elements.get(i);
+      Printer.println(Text.PROFILE_SAMPLES.text(e.name, e.samples, e.samples * 100 / this.profile.getSamples()));
+    }
+  }
+
+  /**
+   * Writes the folded call stacks of the profile to the given file, one line per call stack followed by the number of
+   * samples. This is the input format of the common flame graph tools. Prints an error if the file can't be written.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file to write
+   */
+  void writeFoldedStacks(final String file) {
+    Writer writer = null;
+    try {
+      writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+      for (final Map.Entry<String, Long> entry : new TreeMap<String, Long>(this.profile.getStackSamples()).entrySet()) {
+        writer.write(entry.getKey() + " " + entry.getValue() + "\n");
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't write " + file, e);
+      Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+    } finally {
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (final IOException e) {
+          Printer.printErrorln(Text.FILE_NOT_WRITTEN.text(file));
+        }
+      }
+    }
+  }
+
+  /**
+   * An element of the profile, that is printed with its number of samples.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class Element implements Comparable<Element> {
+
+    /** the description of the element */
+    @NotNull
+    private final String name;
+
+    /** the number of samples of the element */
+    private final long samples;
+
+    /**
+     * Constructs an element of the profile.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param n the description of the element
+     * @param s the number of samples of the element
+     */
+    Element(final String n, final long s) {
+      this.name = n;
+      this.samples = s;
+    }
+
+    /**
+     * Orders the elements by the number of samples, the element with the most samples first, and elements with the
+     * same number of samples by their description.
+     */
+    public int compareTo(final Element other) {
+      if (this.samples != other.samples) {
+        return this.samples > other.samples ? -1 : 1;
+      }
+      return this.name.compareTo(other.name);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+
+/**
+ * Reads the files of micro programs and IJVM programs, that are passed to instructions of the debugger. Source files
+ * are assembled. Problems are printed to the user.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class ProgramFiles {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(ProgramFiles.class.getName());
+
+  /** the extension of the file containing the input of an IJVM program */
+  private static final String INPUT_EXTENSION = ".in";
+
+  /** the size of the buffer to read files */
+  private static final int BUFFER_SIZE = 4096;
+
+  /**
+   * Hides constructor from being invoked. This is a utility class and objects of it don't make sense.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private ProgramFiles() {
+    throw new AssertionError("called constructor of utility class");
+  }
+
+  /**
+   * Reads the micro program from the given file. The file is assembled, if it's the source of a micro program. Prints
+   * an error if the file can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .mic1-file or the .mal-file
+   * @return the control store containing the micro program, or <code>null</code> if the file couldn't be read
+   */
+  @Nullable
+  static MicroControlStore readControlStore(final String file) {
+    final InputStream in = open(file);
+    if (in == null) {
+      return null;
+    }
+    final boolean source = file.toLowerCase(Locale.ENGLISH).endsWith(MicroAssembler.FILE_EXTENSION);
+    try {
+      if (source) {
+        return new MicroAssembler().assemble(new InputStreamReader(in));
+      }
+      return new MicroControlStore(in);
+    } catch (final MicroFileFormatException e) {
+      LOGGER.log(Level.WARNING, "couldn't read " + file, e);
+      if (source) {
+        Printer.printErrorln(Text.ASSEMBLER_ERROR.text(file, e.getMessage()));
+      } else {
+        Printer.printErrorln(Text.WRONG_FORMAT_MIC1);
+      }
+      return null;
+    } finally {
+      close(in);
+    }
+  }
+
+  /**
+   * Reads the binary IJVM program from the given file. The file is assembled, if it's the source of an IJVM program.
+   * Prints an error if the file can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .ijvm-file or the .jas-file
+   * @return the bytes of the binary program, or <code>null</code> if the file couldn't be read
+   */
+  @Nullable
+  static byte[] readProgram(final String file) {
+    if (!file.toLowerCase(Locale.ENGLISH).endsWith(IJVMAssembler.FILE_EXTENSION)) {
+      return readBytes(file);
+    }
+    final InputStream in = open(file);
+    if (in == null) {
+      return null;
+    }
+    try {
+      return new IJVMAssembler().assemble(new InputStreamReader(in)).getImage();
+    } catch (final MacroFileFormatException e) {
+      LOGGER.log(Level.WARNING, "couldn't assemble " + file, e);
+      Printer.printErrorln(Text.ASSEMBLER_ERROR.text(file, e.getMessage()));
+      return null;
+    } finally {
+      close(in);
+    }
+  }
+
+  /**
+   * Reads the input of the given IJVM program. The input is stored in a file with the name of the program followed by
+   * <code>.in</code>, for example <code>prog.ijvm.in</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param program the path to the file of the IJVM program
+   * @return the bytes of the input, or <code>null</code> if there is no input for the program
+   */
+  @Nullable
+  static byte[] readInput(final String program) {
+    final String file = program + INPUT_EXTENSION;
+    if (!new File(file).isFile()) {
+      return null;
+    }
+    return readBytes(file);
+  }
+
+  /**
+   * Reads all bytes of the given file. Prints an error if the file can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file
+   * @return the content of the file, or <code>null</code> if the file couldn't be read
+   */
+  @Nullable
+  private static byte[] readBytes(final String file) {
+    final InputStream in = open(file);
+    if (in == null) {
+      return null;
+    }
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read = in.read(buffer);
+      while (read >= 0) {
+        out.write(buffer, 0, read);
+        read = in.read(buffer);
+      }
+      return out.toByteArray();
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't read " + file, e);
+      Printer.printErrorln(Text.FILE_NOT_FOUND.text(file));
+      return null;
+    } finally {
+      close(in);
+    }
+  }
+
+  /**
+   * Opens the given file. Prints an error if the file can't be found.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the file
+   * @return the stream reading the file, or <code>null</code> if the file couldn't be found
+   */
+  @Nullable
+  private static InputStream open(final String file) {
+    try {
+      return new FileInputStream(file);
+    } catch (final FileNotFoundException e) {
+      Printer.printErrorln(Text.FILE_NOT_FOUND.text(file));
+      return null;
+    }
+  }
+
+  /**
+   * Closes the given stream, ignoring errors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to close
+   */
+  private static void close(final InputStream in) {
+    try {
+      in.close();
+    } catch (final IOException e) {
+      LOGGER.log(Level.FINE, "couldn't close stream", e);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.debug.EngineComparison;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Executes a set of IJVM programs on the Mic-1 and on the Mic-2 and prints how many ticks the Mic-2 saves. The
+ * programs are executed in parallel and the results are printed in the order the programs have been added.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class SpeedupComparison {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(SpeedupComparison.class.getName());
+
+  /** the micro program of the Mic-1 */
+  @NotNull
+  private final MicroControlStore mic1Store;
+
+  /** the micro program of the Mic-2 */
+  @NotNull
+  private final Mic2ControlStore mic2Store;
+
+  /** the comparisons of the programs */
+  @NotNull
+  private final List<EngineComparison> comparisons = new ArrayList<EngineComparison>();
+
+  /**
+   * Constructs the comparison of the Mic-1 running the given micro program with the Mic-2 running its default micro
+   * program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the micro program of the Mic-1
+   */
+  SpeedupComparison(final MicroControlStore store) {
+    this.mic1Store = store;
+    this.mic2Store = Mic2ControlStore.getDefault();
+  }
+
+  /**
+   * Adds the given IJVM program to the programs to compare. Prints an error if the program can't be read.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .ijvm-file or .jas-file
+   */
+  void addProgram(final String file) {
+    final byte[] program = ProgramFiles.readProgram(file);
+    if (program != null) {
+      this.comparisons.add(new EngineComparison(file, this.mic1Store, this.mic2Store, program,
+                                                ProgramFiles.readInput(file),
+                                                Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+    }
+  }
+
+  /**
+   * Executes the comparisons in parallel and prints the results, followed by the sum of all programs.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void run() {
+    if (this.comparisons.isEmpty()) {
+      return;
+    }
+    final int threads = Math.min(this.comparisons.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    long mic1Ticks = 0;
+    long mic2Ticks = 0;
+    long stalls = 0;
+    try {
+      final List<Future<?>> futures = new ArrayList<Future<?>>();
+      for (final EngineComparison comparison : this.comparisons) {
+        futures.add(pool.submit(comparison));
+      }
+      for (int i = 0; i < futures.size(); ++i) {
+        futures.get(i).get();
+        final EngineComparison c = this.comparisons.get(i);
+        if (print(c)) {
+          mic1Ticks += c.getMic1Ticks();
+          mic2Ticks += c.getMic2Ticks();
+          stalls += c.getStallTicks();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      LOGGER.log(Level.WARNING, "comparison failed", e);
+      Printer.printErrorln(String.valueOf(e.getCause()));
+    } finally {
+      pool.shutdownNow();
+    }
+    Printer.println(Text.MIC2_TOTAL.text(mic1Ticks, mic2Ticks, percentage(mic1Ticks, mic2Ticks), stalls));
+  }
+
+  /**
+   * Calculates how many percent of the ticks of the Mic-1 the Mic-2 needs.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mic1Ticks the number of ticks of the Mic-1
+   * @param mic2Ticks the number of ticks of the Mic-2
+   * @return the ticks of the Mic-2 in percent of the ticks of the Mic-1, or <code>0</code> if the Mic-1 hasn't
+   *         executed any tick
+   */
+  static long percentage(final long mic1Ticks, final long mic2Ticks) {
+    if (mic1Ticks == 0) {
+      return 0;
+    }
+    return Math.round(mic2Ticks * 100d / mic1Ticks);
+  }
+
+  /**
+   * Prints the result of the given comparison.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param c the executed comparison
+   * @return <code>true</code>, if the comparison was executed without error
+   */
+  private static boolean print(final EngineComparison c) {
+    if (c.getError() != null) {
+      Printer.printErrorln(Text.COMPARISON_ERROR.text(c.getName(), c.getError()));
+      return false;
+    }
+    Printer.println(Text.MIC2_TICKS.text(c.getName(), c.getMic1Ticks(), c.getMic2Ticks(),
+                                         percentage(c.getMic1Ticks(), c.getMic2Ticks()), c.getStallTicks()));
+    if (!c.isOutputEqual()) {
+      Printer.println(Text.COMPARISON_OUTPUT.text(c.getMic1Output(), c.getMic2Output()));
+    }
+    if (c.getNumberOfDifferentWords() > 0) {
+      Printer.println(Text.COMPARISON_MEMORY.text(c.getNumberOfDifferentWords()));
+    }
+    if (!c.isHalted()) {
+      Printer.println(Text.COMPARISON_LIMIT.text(Settings.MIC1_COMPARE_MAX_TICKS.getValue()));
+    }
+    return true;
+  }
+}
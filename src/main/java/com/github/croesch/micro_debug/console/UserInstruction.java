@@ -20,7 +20,9 @@ package com.github.croesch.micro_debug.console;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 
 import com.github.croesch.micro_debug.annotation.NotNull;
 import com.github.croesch.micro_debug.annotation.Nullable;
@@ -28,8 +30,14 @@ import com.github.croesch.micro_debug.commons.Parameter;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
+import com.github.croesch.micro_debug.debug.Condition;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Profile;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.smp.SchedulingMode;
+import com.github.croesch.micro_debug.mic3.PipelineModel;
 import com.github.croesch.micro_debug.settings.Settings;
 
 /**
@@ -40,10 +48,39 @@ import com.github.croesch.micro_debug.settings.Settings;
  */
 enum UserInstruction {
 
+  /** instruction to print the methods that have been invoked and haven't returned yet */
+  BACKTRACE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printBacktrace();
+      return true;
+    }
+  },
+
+  /** instruction to search the first tick after which an IJVM program differs with another micro program */
+  BISECT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) != 2) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(2, getSize(params)));
+      } else {
+        interpreter.bisect(params[0], params[1]);
+      }
+      return true;
+    }
+  },
+
   /** creates a break point - debugger will stop if the given register has the given value */
   BREAK {
     @Override
     public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (isConditional(params, 0)) {
+        final Condition condition = parseCondition(params, 1);
+        if (condition != null) {
+          interpreter.addConditionBreakpoint(condition);
+        }
+        return true;
+      }
       switch (getSize(params)) {
         case 1:
           interpreter.addRegisterBreakpoint((Register) Parameter.REGISTER.getValue(params[0]));
@@ -61,6 +98,114 @@ enum UserInstruction {
     }
   },
 
+  /** instruction to add caches in front of the memory */
+  CACHE {
+    /** the number of parameters describing the configuration of the caches */
+    private static final int CONFIGURATION_PARAMETERS = 3;
+
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      final int size = getSize(params);
+      if (size == 0) {
+        interpreter.startCacheModel(Settings.MIC1_CACHE_INSTRUCTION_SIZE.getValue(),
+                                    Settings.MIC1_CACHE_DATA_SIZE.getValue(),
+                                    Settings.MIC1_CACHE_ASSOCIATIVITY.getValue(),
+                                    Settings.MIC1_CACHE_LINE_SIZE.getValue(), ReplacementPolicy.LRU);
+      } else if (size == CONFIGURATION_PARAMETERS || size == CONFIGURATION_PARAMETERS + 1) {
+        final Integer cacheSize = (Integer) Parameter.NUMBER.getValue(params[0]);
+        final Integer ways = (Integer) Parameter.NUMBER.getValue(params[1]);
+        final Integer line = (Integer) Parameter.NUMBER.getValue(params[2]);
+        ReplacementPolicy policy = ReplacementPolicy.LRU;
+        if (size > CONFIGURATION_PARAMETERS) {
+          policy = (ReplacementPolicy) Parameter.REPLACEMENT_POLICY.getValue(params[CONFIGURATION_PARAMETERS]);
+        }
+        if (cacheSize != null && ways != null && line != null && policy != null) {
+          interpreter.startCacheModel(cacheSize.intValue(), cacheSize.intValue(), ways.intValue(), line.intValue(),
+                                      policy);
+        }
+      } else {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(CONFIGURATION_PARAMETERS, size));
+      }
+      return true;
+    }
+  },
+
+  /** instruction to compare the results of IJVM programs executed with another micro program */
+  COMPARE {
+    /** the minimum number of expected parameters for this instruction */
+    private static final int MIN_PARAMETERS = 2;
+
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) < MIN_PARAMETERS) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(MIN_PARAMETERS, getSize(params)));
+      } else {
+        final String[] programs = new String[params.length - 1];
+        System.arraycopy(params, 1, programs, 0, programs.length);
+        interpreter.compare(params[0], programs);
+      }
+      return true;
+    }
+  },
+
+  /** instruction to start recording the coverage, optionally merging the coverage of other IJVM programs */
+  COVERAGE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) == 0) {
+        interpreter.startCoverage();
+      } else {
+        interpreter.coverage(params);
+      }
+      return true;
+    }
+  },
+
+  /** instruction to write the recorded coverage to a file */
+  COVERAGE_REPORT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) != 1) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+      } else {
+        interpreter.writeCoverageReport(params[0]);
+      }
+      return true;
+    }
+  },
+
+  /** instruction to print the number of ticks of each IJVM instruction, optionally compared with another program */
+  CYCLES {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      switch (getSize(params)) {
+        case 0:
+          interpreter.printCycles();
+          break;
+        case 1:
+          interpreter.printCycles(params[0]);
+          break;
+        default:
+          Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+          break;
+      }
+      return true;
+    }
+  },
+
+  /** instruction to write the control flow graph of the micro program to a file */
+  CYCLES_DOT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) != 1) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+      } else {
+        interpreter.writeMicroCodeGraph(params[0]);
+      }
+      return true;
+    }
+  },
+
   /** switches the debugging mode - to skip breakpoints not belonging to the current mode */
   DEBUG {
     @Override
@@ -84,6 +229,46 @@ enum UserInstruction {
       // simply return to end the program
       return false;
     }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
+  },
+
+  /** instruction to write the folded call stacks of the profile to a file, to draw a flame graph */
+  FLAMEGRAPH {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) != 1) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+      } else {
+        interpreter.writeFlameGraph(params[0]);
+      }
+      return true;
+    }
+  },
+
+  /** runs a fork of the processor with modified registers and prints the differences */
+  FORK {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) % 2 != 0) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(getSize(params) + 1, getSize(params)));
+        return true;
+      }
+      final Map<Register, Integer> assignments = new EnumMap<Register, Integer>(Register.class);
+      for (int i = 0; i < getSize(params); i += 2) {
+        final Register r = (Register) Parameter.REGISTER.getValue(params[i]);
+        final Integer value = (Integer) Parameter.NUMBER.getValue(params[i + 1]);
+        if (r == null || value == null) {
+          return true;
+        }
+        assignments.put(r, value);
+      }
+      interpreter.fork(assignments);
+      return true;
+    }
   },
 
   /** instruction to view a help about the usage of the debugger */
@@ -97,6 +282,32 @@ enum UserInstruction {
       Printer.printReader(new InputStreamReader(fileStream));
       return true;
     }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
+  },
+
+  /** gives the program running in the background a line of input */
+  INPUT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      final StringBuilder line = new StringBuilder();
+      for (int i = 0; i < getSize(params); ++i) {
+        if (i > 0) {
+          line.append(' ');
+        }
+        line.append(params[i]);
+      }
+      interpreter.supplyInput(line.toString());
+      return true;
+    }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
   },
 
   /** lists all breakpoints */
@@ -183,6 +394,42 @@ enum UserInstruction {
     }
   },
 
+  /** prints the hits, misses and evictions of the modelled caches */
+  LS_CACHE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printCacheModel();
+      return true;
+    }
+  },
+
+  /** prints the accuracy of the evaluated branch predictors */
+  LS_PREDICT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printBranchPrediction();
+      return true;
+    }
+  },
+
+  /** prints how many micro and macro instructions have been covered */
+  LS_COVERAGE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printCoverage();
+      return true;
+    }
+  },
+
+  /** prints the number of samples of each IJVM instruction, method and micro instruction of the profile */
+  LS_PROFILE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printProfile();
+      return true;
+    }
+  },
+
   /** list the values of all or a single register */
   LS_REG {
     @Override
@@ -219,6 +466,12 @@ enum UserInstruction {
       if (getSize(params) == 1) {
         final Integer l = (Integer) Parameter.NUMBER.getValue(params[0]);
         interpreter.addMacroBreakpoint(l);
+      } else if (isConditional(params, 1)) {
+        final Integer l = (Integer) Parameter.NUMBER.getValue(params[0]);
+        final Condition condition = parseCondition(params, 2);
+        if (l != null && condition != null) {
+          interpreter.addMacroBreakpoint(l, condition);
+        }
       } else {
         Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
       }
@@ -233,6 +486,12 @@ enum UserInstruction {
       if (getSize(params) == 1) {
         final Integer l = (Integer) Parameter.NUMBER.getValue(params[0]);
         interpreter.addMicroBreakpoint(l);
+      } else if (isConditional(params, 1)) {
+        final Integer l = (Integer) Parameter.NUMBER.getValue(params[0]);
+        final Condition condition = parseCondition(params, 2);
+        if (l != null && condition != null) {
+          interpreter.addMicroBreakpoint(l, condition);
+        }
       } else {
         Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
       }
@@ -263,6 +522,112 @@ enum UserInstruction {
     }
   },
 
+  /** instruction to compare the number of ticks IJVM programs need on the Mic-1 and on the Mic-2 */
+  MIC2 {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) == 0) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+      } else {
+        interpreter.compareMic2(params);
+      }
+      return true;
+    }
+  },
+
+  /** pauses the program running in the background */
+  PAUSE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.pauseRunning();
+      return true;
+    }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
+  },
+
+  /** instruction to report how an IJVM program is executed by a pipelined processor */
+  PIPELINE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      switch (getSize(params)) {
+        case 1:
+          interpreter.reportPipeline(params[0], PipelineModel.MIC3);
+          break;
+        case 2:
+          final PipelineModel model = (PipelineModel) Parameter.PIPELINE_MODEL.getValue(params[1]);
+          if (model != null) {
+            interpreter.reportPipeline(params[0], model);
+          }
+          break;
+        default:
+          Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+          break;
+      }
+      return true;
+    }
+  },
+
+  /** instruction to start evaluating branch predictors on the branches of the executed macro code */
+  PREDICT {
+    /** the maximum number of parameters */
+    private static final int MAX_PARAMETERS = 2;
+
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      final int size = getSize(params);
+      if (size > MAX_PARAMETERS) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(MAX_PARAMETERS, size));
+        return true;
+      }
+      Integer entries = Integer.valueOf(Settings.MIC1_PREDICTOR_ENTRIES.getValue());
+      Integer history = Integer.valueOf(Settings.MIC1_PREDICTOR_HISTORY.getValue());
+      if (size > 0) {
+        entries = (Integer) Parameter.NUMBER.getValue(params[0]);
+      }
+      if (size > 1) {
+        history = (Integer) Parameter.NUMBER.getValue(params[1]);
+        if (history != null && (history.intValue() < 0 || history.intValue() >= Integer.SIZE)) {
+          Printer.printErrorln(Text.INVALID_NUMBER.text(params[1]));
+          history = null;
+        }
+      }
+      if (entries != null && history != null) {
+        interpreter.startBranchPrediction(entries.intValue(), history.intValue());
+      }
+      return true;
+    }
+  },
+
+  /** instruction to start profiling the execution */
+  PROFILE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      switch (getSize(params)) {
+        case 0:
+          interpreter.startProfiling(Settings.MIC1_PROFILE_INTERVAL.getValue());
+          break;
+        case 1:
+          final Integer i = (Integer) Parameter.NUMBER.getValue(params[0]);
+          if (i != null) {
+            if (i.intValue() < 1 || i.intValue() > Profile.MAX_INTERVAL) {
+              Printer.printErrorln(Text.INVALID_NUMBER.text(params[0]));
+            } else {
+              interpreter.startProfiling(i.intValue());
+            }
+          }
+          break;
+        default:
+          Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, getSize(params)));
+          break;
+      }
+      return true;
+    }
+  },
+
   /** resets the processor to its initial state */
   RESET {
     @Override
@@ -306,6 +671,22 @@ enum UserInstruction {
     }
   },
 
+  /** instruction to continue the program until the first tick after which a condition holds */
+  SEARCH {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) == 0) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(1, 0));
+      } else {
+        final Condition condition = parseCondition(params, 0);
+        if (condition != null) {
+          interpreter.search(condition);
+        }
+      }
+      return true;
+    }
+  },
+
   /** instruction to set the value of a register */
   SET {
     /** the number of expected parameters for this instruction */
@@ -346,6 +727,86 @@ enum UserInstruction {
     }
   },
 
+  /** instruction to replace the micro instruction at a specific address of the control store */
+  SET_MICRO {
+    /** the minimum number of expected parameters for this instruction */
+    private static final int MIN_PARAMETERS = 2;
+
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      if (getSize(params) < MIN_PARAMETERS) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(MIN_PARAMETERS, getSize(params)));
+      } else {
+        final Integer a = (Integer) Parameter.NUMBER.getValue(params[0]);
+        if (a != null) {
+          // the statement has been split at the spaces
+          final StringBuilder statement = new StringBuilder();
+          for (int i = 1; i < params.length; ++i) {
+            statement.append(params[i]).append(' ');
+          }
+          interpreter.setMicroInstruction(a.intValue(), statement.toString());
+        }
+      }
+      return true;
+    }
+  },
+
+  /** instruction to execute a program on several cores sharing the memory */
+  SMP {
+    /** the minimum number of expected parameters for this instruction */
+    private static final int MIN_PARAMETERS = 2;
+
+    /** the maximum number of expected parameters for this instruction */
+    private static final int MAX_PARAMETERS = 4;
+
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      final int size = getSize(params);
+      if (size < MIN_PARAMETERS) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(MIN_PARAMETERS, size));
+      } else if (size > MAX_PARAMETERS) {
+        Printer.printErrorln(Text.WRONG_PARAM_NUMBER.text(MAX_PARAMETERS, size));
+      } else {
+        final Integer cores = (Integer) Parameter.NUMBER.getValue(params[1]);
+        SchedulingMode mode = SchedulingMode.LOCKSTEP;
+        ConsistencyModel model = ConsistencyModel.SEQUENTIAL;
+        if (size > MIN_PARAMETERS) {
+          mode = (SchedulingMode) Parameter.SCHEDULING_MODE.getValue(params[MIN_PARAMETERS]);
+        }
+        if (size > MIN_PARAMETERS + 1) {
+          model = (ConsistencyModel) Parameter.CONSISTENCY_MODEL.getValue(params[MIN_PARAMETERS + 1]);
+        }
+        if (cores != null && mode != null && model != null) {
+          interpreter.runOnCores(params[0], cores.intValue(), mode, model);
+        }
+      }
+      return true;
+    }
+  },
+
+  /** runs the program in the background, the debugger can still read instructions */
+  START {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.runInBackground();
+      return true;
+    }
+  },
+
+  /** prints the progress of the program running in the background */
+  STATUS {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.printRunningStatus();
+      return true;
+    }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
+  },
+
   /** executes the given number of macro instructions - or by default one, if no number is given */
   STEP {
     @Override
@@ -369,6 +830,38 @@ enum UserInstruction {
     }
   },
 
+  /** executes the current method until it has returned */
+  STEP_OUT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.stepOut();
+      return true;
+    }
+  },
+
+  /** executes one macro instruction, methods invoked by it are executed completely */
+  STEP_OVER {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.getProcessor().stepOver();
+      return true;
+    }
+  },
+
+  /** stops the program running in the background and resets the processor */
+  STOP {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.stopRunning();
+      return true;
+    }
+
+    @Override
+    public boolean isAllowedWhileRunning() {
+      return true;
+    }
+  },
+
   /** instruction to trace the micro code */
   TRACE_MAC {
     @Override
@@ -423,6 +916,33 @@ enum UserInstruction {
     }
   },
 
+  /** instruction to remove the caches in front of the memory */
+  UNCACHE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.stopCacheModel();
+      return true;
+    }
+  },
+
+  /** instruction to stop evaluating branch predictors */
+  UNPREDICT {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.stopBranchPrediction();
+      return true;
+    }
+  },
+
+  /** instruction to stop profiling the execution */
+  UNPROFILE {
+    @Override
+    public boolean execute(final Mic1Interpreter interpreter, final String ... params) {
+      interpreter.stopProfiling();
+      return true;
+    }
+  },
+
   /** instruction to not trace the macro code anymore */
   UNTRACE_MAC {
     @Override
@@ -539,6 +1059,18 @@ enum UserInstruction {
    */
   public abstract boolean execute(Mic1Interpreter interpreter, String ... params);
 
+  /**
+   * Returns whether the instruction can be executed while the processor is running in the background. Instructions
+   * that access the state of the processor must wait until the execution has ended or has been paused.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the {@link UserInstruction} doesn't access the processor while it's running,<br>
+   *         <code>false</code> otherwise.
+   */
+  public boolean isAllowedWhileRunning() {
+    return false;
+  }
+
   /**
    * Returns the size of the given array or <code>0</code>, if the array is <code>null</code>.
    * 
@@ -552,4 +1084,38 @@ enum UserInstruction {
     }
     return array.length;
   }
+
+  /**
+   * Returns whether the parameter at the given index is the keyword <code>if</code>, that starts a condition.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param params the parameters of the instruction
+   * @param index the index of the parameter that might start the condition
+   * @return <code>true</code> if the parameter at the given index is <code>if</code>
+   */
+  protected static boolean isConditional(final String[] params, final int index) {
+    return getSize(params) > index && "if".equalsIgnoreCase(params[index]);
+  }
+
+  /**
+   * Parses the condition consisting of the parameters from the given index on. The condition has been split at the
+   * spaces, so the parameters are joined again. Prints an error, if the condition is invalid.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param params the parameters of the instruction
+   * @param from the index of the first parameter of the condition
+   * @return the parsed condition or <code>null</code> if the condition is invalid
+   */
+  @Nullable
+  protected static Condition parseCondition(final String[] params, final int from) {
+    final StringBuilder text = new StringBuilder();
+    for (int i = from; i < getSize(params); ++i) {
+      text.append(params[i]).append(' ');
+    }
+    final Condition condition = Condition.parse(text.toString());
+    if (condition == null) {
+      Printer.printErrorln(Text.INVALID_CONDITION.text(text.toString().trim()));
+    }
+    return condition;
+  }
 }
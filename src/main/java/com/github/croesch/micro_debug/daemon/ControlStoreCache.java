@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+
+/**
+ * Caches the micro programs read from files, so that a micro program used by many requests is read, assembled and
+ * verified only once. A cached micro program is read again, if its file has been modified. If the cache is full, the
+ * micro program that hasn't been used for the longest time is removed.<br>
+ * The cached control stores are shared by all processors executing them, so they mustn't be modified.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class ControlStoreCache {
+
+  /** the cached micro programs, mapped by the canonical path of their file, in the order of their last use */
+  @NotNull
+  private final Map<String, CachedStore> stores;
+
+  /** the number of requests that have been answered from the cache */
+  private long hits = 0;
+
+  /** the number of requests that had to read the file */
+  private long misses = 0;
+
+  /**
+   * Constructs an empty cache for the given number of micro programs.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param capacity the maximum number of micro programs in the cache, at least one
+   */
+  public ControlStoreCache(final int capacity) {
+    final int max = Math.max(1, capacity);
+    this.stores = new LinkedHashMap<String, CachedStore>(max, 1, true) {
+      /** generated serial version UID */
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, CachedStore> eldest) {
+        return size() > max;
+      }
+    };
+  }
+
+  /**
+   * Returns the micro program stored in the given file. If the file is the source of a micro program, it's assembled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .mic1-file or .mal-file
+   * @return the control store containing the micro program
+   * @throws IOException if the file can't be read or doesn't contain a valid micro program
+   */
+  @NotNull
+  public synchronized MicroControlStore get(final String file) throws IOException {
+    final File f = new File(file).getCanonicalFile();
+    final String key = f.getPath();
+    final CachedStore cached = this.stores.get(key);
+    if (cached != null && cached.lastModified == f.lastModified() && cached.length == f.length()) {
+      ++this.hits;
+      return cached.store;
+    }
+
+    ++this.misses;
+    final long lastModified = f.lastModified();
+    final long length = f.length();
+    final MicroControlStore store = read(f);
+    // verify now, so the processors sharing the store don't build the verifier concurrently
+    store.getVerifier();
+    this.stores.put(key, new CachedStore(store, lastModified, length));
+    return store;
+  }
+
+  /**
+   * Reads the micro program stored in the given file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the .mic1-file or .mal-file
+   * @return the control store containing the micro program
+   * @throws IOException if the file can't be read or doesn't contain a valid micro program
+   */
+  @NotNull
+  private static MicroControlStore read(final File file) throws IOException {
+    final InputStream in = new FileInputStream(file);
+    try {
+      if (file.getName().toLowerCase(Locale.ENGLISH).endsWith(MicroAssembler.FILE_EXTENSION)) {
+        return new MicroAssembler().assemble(new InputStreamReader(in));
+      }
+      return new MicroControlStore(in);
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Returns the number of micro programs in the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of cached micro programs
+   */
+  public synchronized int size() {
+    return this.stores.size();
+  }
+
+  /**
+   * Returns the number of requests that have been answered from the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of cache hits
+   */
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * Returns the number of requests that had to read the file of the micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of cache misses
+   */
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  /**
+   * A micro program in the cache together with the state of its file when it has been read.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class CachedStore {
+
+    /** the control store containing the micro program */
+    @NotNull
+    private final MicroControlStore store;
+
+    /** the time the file has been modified last */
+    private final long lastModified;
+
+    /** the length of the file in bytes */
+    private final long length;
+
+    /**
+     * Constructs a cached micro program.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param s the control store containing the micro program
+     * @param modified the time the file has been modified last
+     * @param len the length of the file in bytes
+     */
+    private CachedStore(final MicroControlStore s, final long modified, final long len) {
+      this.store = s;
+      this.lastModified = modified;
+      this.length = len;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Parameter;
+import com.github.croesch.micro_debug.commons.Printer;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * A daemon that keeps the JVM warm to execute IJVM programs without starting a new JVM for each run. It listens on the
+ * loopback interface for {@link RunRequest}s, executes each of them on a fresh processor with the micro program taken
+ * from a {@link ControlStoreCache} and answers with a {@link RunResponse}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Daemon implements Runnable {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(Daemon.class.getName());
+
+  /** the socket accepting the connections of the clients */
+  @NotNull
+  private final ServerSocket server;
+
+  /** the threads executing the requests */
+  @NotNull
+  private final ExecutorService executor;
+
+  /** the cache of the micro programs */
+  @NotNull
+  private final ControlStoreCache cache;
+
+  /**
+   * Constructs the daemon and binds it to the given port of the loopback interface.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param port the port to listen on, zero to choose any free port
+   * @param threads the number of requests executed at the same time, zero for the number of available processors
+   * @param stores the cache of the micro programs
+   * @throws IOException if the port can't be bound
+   */
+  public Daemon(final int port, final int threads, final ControlStoreCache stores) throws IOException {
+    this.server = new ServerSocket(port, 0, InetAddress.getByName(null));
+    if (threads > 0) {
+      this.executor = Executors.newFixedThreadPool(threads);
+    } else {
+      this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+    this.cache = stores;
+  }
+
+  /**
+   * Returns the port this daemon listens on.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the port of the loopback interface this daemon is bound to
+   */
+  public int getPort() {
+    return this.server.getLocalPort();
+  }
+
+  /**
+   * Returns the cache of the micro programs used by this daemon.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the cache of the micro programs
+   */
+  @NotNull
+  public ControlStoreCache getCache() {
+    return this.cache;
+  }
+
+  /**
+   * Accepts connections and executes their requests until {@link #stop()} is invoked.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void run() {
+    try {
+      while (!this.server.isClosed()) {
+        try {
+          final Socket connection = this.server.accept();
+          this.executor.execute(new RequestHandler(connection, this.cache));
+        } catch (final IOException e) {
+          if (!this.server.isClosed()) {
+            LOGGER.log(Level.WARNING, "couldn't accept connection", e);
+          }
+        }
+      }
+    } finally {
+      this.executor.shutdown();
+    }
+  }
+
+  /**
+   * Stops this daemon: no more connections are accepted, the requests being executed are finished.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stop() {
+    try {
+      this.server.close();
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't close server socket", e);
+    }
+  }
+
+  /**
+   * Starts the daemon and executes requests until the JVM is terminated.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param args optionally the port to listen on, otherwise the port from the settings is used
+   */
+  public static void main(final String[] args) {
+    int port = Settings.DAEMON_PORT.getValue();
+    if (args != null && args.length > 0) {
+      final Integer number = (Integer) Parameter.NUMBER.getValue(args[0]);
+      if (number == null) {
+        return;
+      }
+      port = number.intValue();
+    }
+
+    final Daemon daemon;
+    try {
+      daemon = new Daemon(port, Settings.DAEMON_THREADS.getValue(),
+                          new ControlStoreCache(Settings.DAEMON_CACHE_SIZE.getValue()));
+    } catch (final IOException e) {
+      Printer.printErrorln(Text.DAEMON_ERROR.text(e.getMessage()));
+      return;
+    }
+    Printer.println(Text.DAEMON_STARTED.text(daemon.getPort()));
+    daemon.run();
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * The format of the messages exchanged with the daemon. A message starts with a header of lines <code>key=value</code>
+ * encoded in UTF-8 and terminated by an empty line, followed by a number of bytes given in the header. The format can
+ * be written and read by a shell script, so a client doesn't need a JVM.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class Protocol {
+
+  /** the encoding of the lines of the header */
+  private static final String ENCODING = "UTF-8";
+
+  /** the maximum number of bytes of a line of the header */
+  private static final int MAX_LINE_LENGTH = 4096;
+
+  /** the maximum number of lines of the header */
+  private static final int MAX_LINES = 64;
+
+  /** the character separating the key from the value */
+  private static final char SEPARATOR = '=';
+
+  /** the character terminating a line */
+  private static final int END_OF_LINE = '\n';
+
+  /** the character that may precede the end of a line */
+  private static final int CARRIAGE_RETURN = '\r';
+
+  /**
+   * Hides constructor from being invoked. This class is a utility class and no one should be able to produce objects of
+   * it.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private Protocol() {
+    // do nothing
+  }
+
+  /**
+   * Reads the header of a message.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to read the header from
+   * @return the values of the header, mapped by their keys in the order of the lines
+   * @throws IOException if the stream ends before the header or the header is invalid
+   */
+  @NotNull
+  static Map<String, String> readHeader(final InputStream in) throws IOException {
+    final Map<String, String> header = new LinkedHashMap<String, String>();
+    String line = readLine(in);
+    while (line.length() > 0) {
+      final int separator = line.indexOf(SEPARATOR);
+      if (separator <= 0 || header.size() >= MAX_LINES) {
+        throw new IOException("invalid header line: " + line);
+      }
+      header.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+      line = readLine(in);
+    }
+    return header;
+  }
+
+  /**
+   * Reads a line of the header, without its terminating characters.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to read the line from
+   * @return the line read from the stream
+   * @throws IOException if the stream ends before the line or the line is too long
+   */
+  @NotNull
+  private static String readLine(final InputStream in) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b = in.read();
+    while (b != END_OF_LINE) {
+      if (b < 0) {
+        throw new EOFException("message ends within the header");
+      }
+      if (line.size() >= MAX_LINE_LENGTH) {
+        throw new IOException("header line too long");
+      }
+      if (b != CARRIAGE_RETURN) {
+        line.write(b);
+      }
+      b = in.read();
+    }
+    return line.toString(ENCODING);
+  }
+
+  /**
+   * Writes the given header.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param out the stream to write the header to
+   * @param header the values of the header, mapped by their keys, mustn't contain line breaks
+   * @throws IOException if the header can't be written
+   */
+  static void writeHeader(final OutputStream out, final Map<String, String> header) throws IOException {
+    final StringBuilder sb = new StringBuilder();
+    for (final Entry<String, String> entry : header.entrySet()) {
+      sb.append(entry.getKey()).append(SEPARATOR).append(entry.getValue()).append((char) END_OF_LINE);
+    }
+    sb.append((char) END_OF_LINE);
+    out.write(sb.toString().getBytes(ENCODING));
+  }
+
+  /**
+   * Returns the value of the given key as number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param header the values of the header, mapped by their keys
+   * @param key the key of the number
+   * @param defaultValue the value to return, if the header doesn't contain the key
+   * @return the number stored in the header or the default value
+   * @throws IOException if the value isn't a number that isn't negative
+   */
+  static long getNumber(final Map<String, String> header,
+                        final String key,
+                        final long defaultValue) throws IOException {
+    final String value = header.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      final long number = Long.parseLong(value);
+      if (number >= 0) {
+        return number;
+      }
+    } catch (final NumberFormatException e) {
+      // handled below
+    }
+    throw new IOException("invalid value of " + key + ": " + value);
+  }
+
+  /**
+   * Reads the given number of bytes following the header.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to read the bytes from
+   * @param length the number of bytes to read
+   * @param maxLength the maximum number of bytes that may be read
+   * @return the bytes read from the stream
+   * @throws IOException if the stream ends before all bytes have been read or the length is too big
+   */
+  @NotNull
+  static byte[] readBytes(final InputStream in, final long length, final int maxLength) throws IOException {
+    if (length > maxLength) {
+      throw new IOException("message too long: " + length + " bytes");
+    }
+    final byte[] bytes = new byte[(int) length];
+    int offset = 0;
+    while (offset < bytes.length) {
+      final int read = in.read(bytes, offset, bytes.length - offset);
+      if (read < 0) {
+        throw new EOFException("message ends after " + offset + " of " + length + " bytes");
+      }
+      offset += read;
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Answers a single connection to the daemon: reads the {@link RunRequest}, executes the program with the micro program
+ * from the cache and writes the {@link RunResponse}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class RequestHandler implements Runnable {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(RequestHandler.class.getName());
+
+  /** the time in milliseconds to wait for the client, before the connection is closed */
+  private static final int TIMEOUT = 60000;
+
+  /** the number of bytes read at once from a program file */
+  private static final int BUFFER_SIZE = 4096;
+
+  /** the number of nanoseconds per millisecond */
+  private static final long NANOS_PER_MILLI = 1000000;
+
+  /** the connection to the client */
+  @NotNull
+  private final Socket socket;
+
+  /** the cache of the micro programs */
+  @NotNull
+  private final ControlStoreCache cache;
+
+  /**
+   * Constructs the handler of the given connection.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param connection the connection to the client
+   * @param stores the cache of the micro programs
+   */
+  RequestHandler(final Socket connection, final ControlStoreCache stores) {
+    this.socket = connection;
+    this.cache = stores;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    try {
+      this.socket.setSoTimeout(TIMEOUT);
+      final InputStream in = new BufferedInputStream(this.socket.getInputStream());
+      final OutputStream out = new BufferedOutputStream(this.socket.getOutputStream());
+      RunResponse response;
+      try {
+        response = execute(RunRequest.read(in));
+      } catch (final IOException e) {
+        LOGGER.log(Level.INFO, "couldn't execute request", e);
+        response = new RunResponse(String.valueOf(e.getMessage()));
+      } catch (final RuntimeException e) {
+        LOGGER.log(Level.WARNING, "execution of request failed", e);
+        response = new RunResponse(String.valueOf(e.getMessage()));
+      }
+      response.write(out);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "couldn't answer request", e);
+    } finally {
+      try {
+        this.socket.close();
+      } catch (final IOException e) {
+        LOGGER.log(Level.FINE, "couldn't close connection", e);
+      }
+    }
+  }
+
+  /**
+   * Executes the given request.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param request the programs to execute, their limits and the input
+   * @return the response describing the execution
+   * @throws IOException if one of the programs can't be read
+   */
+  @NotNull
+  private RunResponse execute(final RunRequest request) throws IOException {
+    final Mic1 processor = new Mic1(this.cache.get(request.getMicroProgram()),
+                                    new ByteArrayInputStream(readProgram(request.getProgram())), new RegisterFile());
+    final BufferedIO io = new BufferedIO(request.getInput());
+    processor.getMemory().setIO(io);
+    processor.setPrintingTicks(false);
+    if (request.getTickLimit() > 0) {
+      processor.setTickLimit(request.getTickLimit());
+    } else {
+      processor.setTickLimit(Settings.DAEMON_MAX_TICKS.getValue());
+    }
+    if (request.getTimeLimit() > 0) {
+      processor.setTimeLimit(request.getTimeLimit());
+    }
+
+    final long start = System.nanoTime();
+    processor.run();
+    final long millis = (System.nanoTime() - start) / NANOS_PER_MILLI;
+    return new RunResponse(processor.getHaltReason(), processor.getExecutedTicks(), processor.getMacroInstructions(),
+                           millis, io.getOutput());
+  }
+
+  /**
+   * Reads the binary IJVM program from the given file. If the file is the source of a program, it's assembled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the path to the .ijvm-file or .jas-file
+   * @return the binary IJVM program
+   * @throws IOException if the file can't be read or the source can't be assembled
+   */
+  @NotNull
+  private static byte[] readProgram(final String file) throws IOException {
+    final InputStream in = new FileInputStream(file);
+    try {
+      if (file.toLowerCase(Locale.ENGLISH).endsWith(IJVMAssembler.FILE_EXTENSION)) {
+        return new IJVMAssembler().assemble(new InputStreamReader(in)).getImage();
+      }
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read = in.read(buffer);
+      while (read >= 0) {
+        out.write(buffer, 0, read);
+        read = in.read(buffer);
+      }
+      return out.toByteArray();
+    } finally {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * A request to the daemon, to execute an IJVM program with a micro program. The request names the files of both
+ * programs, limits the execution and contains the input of the program. In the format of the {@link Protocol} the
+ * header has the keys <code>micro</code>, <code>program</code>, <code>ticks</code>, <code>millis</code> and
+ * <code>input</code> and the bytes following the header are the input.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class RunRequest {
+
+  /** the maximum number of bytes of the input */
+  private static final int MAX_INPUT_LENGTH = 1 << 24;
+
+  /** the key of the path to the micro program */
+  private static final String MICRO = "micro";
+
+  /** the key of the path to the IJVM program */
+  private static final String PROGRAM = "program";
+
+  /** the key of the maximum number of ticks */
+  private static final String TICKS = "ticks";
+
+  /** the key of the maximum time in milliseconds */
+  private static final String MILLIS = "millis";
+
+  /** the key of the number of bytes of the input */
+  private static final String INPUT = "input";
+
+  /** the path to the .mic1-file or .mal-file */
+  @NotNull
+  private final String microProgram;
+
+  /** the path to the .ijvm-file or .jas-file */
+  @NotNull
+  private final String program;
+
+  /** the maximum number of ticks, zero for the default limit of the daemon */
+  private final long tickLimit;
+
+  /** the maximum time in milliseconds, zero for an unlimited time */
+  private final long timeLimit;
+
+  /** the bytes the program reads as input */
+  @NotNull
+  private final byte[] input;
+
+  /**
+   * Constructs a request to execute the given programs.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param micro the path to the .mic1-file or .mal-file
+   * @param ijvm the path to the .ijvm-file or .jas-file
+   * @param ticks the maximum number of ticks, zero for the default limit of the daemon
+   * @param millis the maximum time in milliseconds, zero for an unlimited time
+   * @param in the bytes the program reads as input, may be <code>null</code>
+   */
+  public RunRequest(final String micro, final String ijvm, final long ticks, final long millis, final byte[] in) {
+    this.microProgram = micro;
+    this.program = ijvm;
+    this.tickLimit = ticks;
+    this.timeLimit = millis;
+    if (in == null) {
+      this.input = new byte[0];
+    } else {
+      this.input = in.clone();
+    }
+  }
+
+  /**
+   * Reads a request in the format of the {@link Protocol}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to read the request from
+   * @return the request read from the stream
+   * @throws IOException if the stream doesn't contain a valid request
+   */
+  @NotNull
+  public static RunRequest read(final InputStream in) throws IOException {
+    final Map<String, String> header = Protocol.readHeader(in);
+    final String micro = header.get(MICRO);
+    final String ijvm = header.get(PROGRAM);
+    if (micro == null || ijvm == null) {
+      throw new IOException("request has to contain " + MICRO + " and " + PROGRAM);
+    }
+    final long ticks = Protocol.getNumber(header, TICKS, 0);
+    final long millis = Protocol.getNumber(header, MILLIS, 0);
+    final byte[] bytes = Protocol.readBytes(in, Protocol.getNumber(header, INPUT, 0), MAX_INPUT_LENGTH);
+    return new RunRequest(micro, ijvm, ticks, millis, bytes);
+  }
+
+  /**
+   * Writes this request in the format of the {@link Protocol}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param out the stream to write the request to
+   * @throws IOException if the request can't be written
+   */
+  public void write(final OutputStream out) throws IOException {
+    final Map<String, String> header = new LinkedHashMap<String, String>();
+    header.put(MICRO, this.microProgram);
+    header.put(PROGRAM, this.program);
+    header.put(TICKS, String.valueOf(this.tickLimit));
+    header.put(MILLIS, String.valueOf(this.timeLimit));
+    header.put(INPUT, String.valueOf(this.input.length));
+    Protocol.writeHeader(out, header);
+    out.write(this.input);
+    out.flush();
+  }
+
+  /**
+   * Returns the path to the micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the path to the .mic1-file or .mal-file
+   */
+  @NotNull
+  public String getMicroProgram() {
+    return this.microProgram;
+  }
+
+  /**
+   * Returns the path to the IJVM program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the path to the .ijvm-file or .jas-file
+   */
+  @NotNull
+  public String getProgram() {
+    return this.program;
+  }
+
+  /**
+   * Returns the maximum number of ticks the program is executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum number of ticks, zero for the default limit of the daemon
+   */
+  public long getTickLimit() {
+    return this.tickLimit;
+  }
+
+  /**
+   * Returns the maximum time the program is executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum time in milliseconds, zero for an unlimited time
+   */
+  public long getTimeLimit() {
+    return this.timeLimit;
+  }
+
+  /**
+   * Returns the input of the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the bytes the program reads as input
+   */
+  @NotNull
+  public byte[] getInput() {
+    return this.input.clone();
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+
+/**
+ * The answer of the daemon to a {@link RunRequest}: why the program stopped, the number of executed ticks and
+ * instructions, the time the execution took and the output of the program. In the format of the {@link Protocol} the
+ * header has the keys <code>status</code>, <code>message</code> (only for errors), <code>ticks</code>,
+ * <code>instructions</code>, <code>millis</code> and <code>output</code> and the bytes following the header are the
+ * output.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class RunResponse {
+
+  /** the status of a request that couldn't be executed */
+  public static final String ERROR = "error";
+
+  /** the maximum number of bytes of the output */
+  private static final int MAX_OUTPUT_LENGTH = 1 << 26;
+
+  /** the key of the status */
+  private static final String STATUS = "status";
+
+  /** the key of the description of the error */
+  private static final String MESSAGE = "message";
+
+  /** the key of the number of ticks */
+  private static final String TICKS = "ticks";
+
+  /** the key of the number of IJVM instructions */
+  private static final String INSTRUCTIONS = "instructions";
+
+  /** the key of the time in milliseconds */
+  private static final String MILLIS = "millis";
+
+  /** the key of the number of bytes of the output */
+  private static final String OUTPUT = "output";
+
+  /** why the program stopped in lower case, e.g. <code>halt_instruction</code>, or {@link #ERROR} */
+  @NotNull
+  private final String status;
+
+  /** the description of the error, <code>null</code> if the program has been executed */
+  @Nullable
+  private final String message;
+
+  /** the number of executed ticks */
+  private final long ticks;
+
+  /** the number of executed IJVM instructions */
+  private final long instructions;
+
+  /** the time the execution took in milliseconds */
+  private final long millis;
+
+  /** the bytes the program has written */
+  @NotNull
+  private final byte[] output;
+
+  /**
+   * Constructs the response for an executed program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param reason why the program stopped
+   * @param executedTicks the number of executed ticks
+   * @param executedInstructions the number of executed IJVM instructions
+   * @param time the time the execution took in milliseconds
+   * @param out the bytes the program has written
+   */
+  public RunResponse(final HaltReason reason,
+                     final long executedTicks,
+                     final long executedInstructions,
+                     final long time,
+                     final byte[] out) {
+    this(reason.name().toLowerCase(Locale.ENGLISH), null, executedTicks, executedInstructions, time, out);
+  }
+
+  /**
+   * Constructs the response for a request that couldn't be executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param error the description of the error
+   */
+  public RunResponse(final String error) {
+    this(ERROR, error.replace('\n', ' ').replace('\r', ' '), 0, 0, 0, new byte[0]);
+  }
+
+  /**
+   * Constructs a response.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param stat why the program stopped or {@link #ERROR}
+   * @param error the description of the error, <code>null</code> if the program has been executed
+   * @param executedTicks the number of executed ticks
+   * @param executedInstructions the number of executed IJVM instructions
+   * @param time the time the execution took in milliseconds
+   * @param out the bytes the program has written
+   */
+  private RunResponse(final String stat,
+                      final String error,
+                      final long executedTicks,
+                      final long executedInstructions,
+                      final long time,
+                      final byte[] out) {
+    this.status = stat;
+    this.message = error;
+    this.ticks = executedTicks;
+    this.instructions = executedInstructions;
+    this.millis = time;
+    this.output = out.clone();
+  }
+
+  /**
+   * Reads a response in the format of the {@link Protocol}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the stream to read the response from
+   * @return the response read from the stream
+   * @throws IOException if the stream doesn't contain a valid response
+   */
+  @NotNull
+  public static RunResponse read(final InputStream in) throws IOException {
+    final Map<String, String> header = Protocol.readHeader(in);
+    final String status = header.get(STATUS);
+    if (status == null) {
+      throw new IOException("response has to contain " + STATUS);
+    }
+    final long ticks = Protocol.getNumber(header, TICKS, 0);
+    final long instructions = Protocol.getNumber(header, INSTRUCTIONS, 0);
+    final long millis = Protocol.getNumber(header, MILLIS, 0);
+    final byte[] bytes = Protocol.readBytes(in, Protocol.getNumber(header, OUTPUT, 0), MAX_OUTPUT_LENGTH);
+    return new RunResponse(status, header.get(MESSAGE), ticks, instructions, millis, bytes);
+  }
+
+  /**
+   * Writes this response in the format of the {@link Protocol}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param out the stream to write the response to
+   * @throws IOException if the response can't be written
+   */
+  public void write(final OutputStream out) throws IOException {
+    final Map<String, String> header = new LinkedHashMap<String, String>();
+    header.put(STATUS, this.status);
+    if (this.message != null) {
+      header.put(MESSAGE, this.message);
+    }
+    header.put(TICKS, String.valueOf(this.ticks));
+    header.put(INSTRUCTIONS, String.valueOf(this.instructions));
+    header.put(MILLIS, String.valueOf(this.millis));
+    header.put(OUTPUT, String.valueOf(this.output.length));
+    Protocol.writeHeader(out, header);
+    out.write(this.output);
+    out.flush();
+  }
+
+  /**
+   * Returns why the program stopped.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the {@link HaltReason} in lower case or {@link #ERROR}
+   */
+  @NotNull
+  public String getStatus() {
+    return this.status;
+  }
+
+  /**
+   * Returns the description of the error, that prevented the execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the description of the error or <code>null</code> if the program has been executed
+   */
+  @Nullable
+  public String getMessage() {
+    return this.message;
+  }
+
+  /**
+   * Returns the number of executed ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks
+   */
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Returns the number of executed IJVM instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of IJVM instructions
+   */
+  public long getInstructions() {
+    return this.instructions;
+  }
+
+  /**
+   * Returns the time the execution took.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the time in milliseconds
+   */
+  public long getMillis() {
+    return this.millis;
+  }
+
+  /**
+   * Returns the output of the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the bytes the program has written
+   */
+  @NotNull
+  public byte[] getOutput() {
+    return this.output.clone();
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.datatypes;
+
+/**
+ * Type to describe why the processor stopped executing ticks.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum HaltReason {
+  /** the processor reached the halt instruction */
+  HALT_INSTRUCTION,
+  /** the condition of a breakpoint has been met */
+  BREAKPOINT,
+  /** the requested number of steps has been executed */
+  STEPS_DONE,
+  /** the processor has been interrupted */
+  INTERRUPTED,
+  /** the maximum number of ticks per execution has been reached */
+  TICK_LIMIT,
+  /** the maximum time per execution has elapsed */
+  TIME_LIMIT,
+  /** the state of the processor repeats, so it's caught in an endless loop */
+  LOOP;
+}
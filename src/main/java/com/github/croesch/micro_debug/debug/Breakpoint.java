@@ -19,7 +19,9 @@
 package com.github.croesch.micro_debug.debug;
 
 import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.mic1.Mic1;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 
 /**
  * Represents a breakpoint in the debugger.
@@ -45,6 +47,17 @@ abstract class Breakpoint {
     this.id = highestId;
   }
 
+  /**
+   * Constructs a {@link Breakpoint} with the same id as the given breakpoint, for a copy or a breakpoint replacing the
+   * given one.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the breakpoint to take the id from
+   */
+  Breakpoint(final Breakpoint original) {
+    this.id = original.id;
+  }
+
   /**
    * Increments the highest id of the breakpoint by one.
    * 
@@ -81,7 +94,84 @@ abstract class Breakpoint {
                       final int macroLine,
                       final MicroInstruction currentInstruction,
                       final MicroInstruction nextInstruction) {
-    return isBreakpointForMode(mode) && isConditionMet(microLine, macroLine, currentInstruction, nextInstruction);
+    return shouldBreak(RegisterFile.getDefault(), mode, microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  /**
+   * Returns whether the condition of this breakpoint is met and the debugger should stop now. Conditions on register
+   * values are checked against the given register file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param registers the register file of the processor being debugged
+   * @param mode the current mode of debugging
+   * @param microLine the number of the line in micro code being executed next
+   * @param macroLine the number of the line in macro code being executed next
+   * @param currentInstruction the current (last executed) {@link MicroInstruction}
+   * @param nextInstruction the next (to be executed) {@link MicroInstruction}
+   * @return <code>true</code>, if the condition of this breakpoint is met and the debugger should stop.
+   */
+  boolean shouldBreak(final RegisterFile registers,
+                      final DebugMode mode,
+                      final int microLine,
+                      final int macroLine,
+                      final MicroInstruction currentInstruction,
+                      final MicroInstruction nextInstruction) {
+    return isBreakpointForMode(mode)
+           && isConditionMet(registers, microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  /**
+   * Returns whether the condition of this breakpoint is met and the debugger should stop now. Conditions are checked
+   * against the state of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor being debugged
+   * @param mode the current mode of debugging
+   * @param microLine the number of the line in micro code being executed next
+   * @param macroLine the number of the line in macro code being executed next
+   * @param currentInstruction the current (last executed) {@link MicroInstruction}
+   * @param nextInstruction the next (to be executed) {@link MicroInstruction}
+   * @return <code>true</code>, if the condition of this breakpoint is met and the debugger should stop.
+   */
+  boolean shouldBreak(final Mic1 processor,
+                      final DebugMode mode,
+                      final int microLine,
+                      final int macroLine,
+                      final MicroInstruction currentInstruction,
+                      final MicroInstruction nextInstruction) {
+    return shouldBreak(processor.getRegisters(), mode, microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  /**
+   * Returns a breakpoint with the same id and condition as this breakpoint, for another processor. Breakpoints that
+   * don't have any state simply return themselves.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the copy of this breakpoint
+   */
+  Breakpoint copy() {
+    return this;
+  }
+
+  /**
+   * Returns whether the condition of this breakpoint is met, checking conditions on register values against the given
+   * register file. Breakpoints that don't depend on register values simply return the result of
+   * {@link #isConditionMet(int, int, MicroInstruction, MicroInstruction)}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param registers the register file of the processor being debugged
+   * @param microLine the number of the line in micro code being executed next
+   * @param macroLine the number of the line in macro code being executed next
+   * @param currentInstruction the current (last executed) {@link MicroInstruction}
+   * @param nextInstruction the next (to be executed) {@link MicroInstruction}
+   * @return <code>true</code>, if the condition of this breakpoint is met.
+   */
+  boolean isConditionMet(final RegisterFile registers,
+                         final int microLine,
+                         final int macroLine,
+                         final MicroInstruction currentInstruction,
+                         final MicroInstruction nextInstruction) {
+    return isConditionMet(microLine, macroLine, currentInstruction, nextInstruction);
   }
 
   /**
@@ -26,8 +26,10 @@ import com.github.croesch.micro_debug.annotation.NotNull;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.datatypes.DebugMode;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 
 /**
  * A manager for break points in the debugger.
@@ -48,6 +50,29 @@ public final class BreakpointManager {
   @NotNull
   private DebugMode debugMode = DebugMode.BOTH;
 
+  /**
+   * Constructs a manager without any breakpoints.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public BreakpointManager() {
+    // nothing to initialize
+  }
+
+  /**
+   * Constructs a manager that contains the same breakpoints and debugging mode as the given manager. Later changes of
+   * one of the managers won't affect the other one.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the manager to copy
+   */
+  public BreakpointManager(final BreakpointManager original) {
+    for (final Breakpoint bp : original.breakPoints) {
+      this.breakPoints.add(bp.copy());
+    }
+    this.debugMode = original.debugMode;
+  }
+
   /**
    * Returns whether any break point condition is met.
    * 
@@ -63,14 +88,63 @@ public final class BreakpointManager {
                               final int macroLine,
                               final MicroInstruction currentInstruction,
                               final MicroInstruction nextInstruction) {
+    return isBreakpoint(RegisterFile.getDefault(), microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  /**
+   * Returns whether any break point condition is met, checking conditions on register values against the given
+   * register file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param registers the register file of the processor being debugged
+   * @param microLine the number of the line in micro code being executed next
+   * @param macroLine the number of the line in macro code being executed next
+   * @param currentInstruction the current (last executed) {@link MicroInstruction}
+   * @param nextInstruction the next (to be executed) {@link MicroInstruction}
+   * @return <code>true</code> if a break point is met,<br>
+   *         <code>false</code> otherwise
+   */
+  public boolean isBreakpoint(final RegisterFile registers,
+                              final int microLine,
+                              final int macroLine,
+                              final MicroInstruction currentInstruction,
+                              final MicroInstruction nextInstruction) {
     for (final Breakpoint bp : this.breakPoints) {
-      if (bp.shouldBreak(this.debugMode, microLine, macroLine, currentInstruction, nextInstruction)) {
+      if (bp.shouldBreak(registers, this.debugMode, microLine, macroLine, currentInstruction, nextInstruction)) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Returns whether any break point condition is met, checking the conditions against the state of the given
+   * processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor being debugged
+   * @param microLine the number of the line in micro code being executed next
+   * @param macroLine the number of the line in macro code being executed next
+   * @param currentInstruction the current (last executed) {@link MicroInstruction}
+   * @param nextInstruction the next (to be executed) {@link MicroInstruction}
+   * @return <code>true</code> if a break point is met,<br>
+   *         <code>false</code> otherwise
+   */
+  public boolean isBreakpoint(final Mic1 processor,
+                              final int microLine,
+                              final int macroLine,
+                              final MicroInstruction currentInstruction,
+                              final MicroInstruction nextInstruction) {
+    boolean result = false;
+    // conditional breakpoints count their hits, so all breakpoints have to be checked
+    for (final Breakpoint bp : this.breakPoints) {
+      if (bp.shouldBreak(processor, this.debugMode, microLine, macroLine, currentInstruction, nextInstruction)) {
+        result = true;
+      }
+    }
+    return result;
+  }
+
   /**
    * Adds a breakpoint for the given {@link Register} and the given value.
    * 
@@ -242,6 +316,47 @@ public final class BreakpointManager {
     }
   }
 
+  /**
+   * Adds a breakpoint for the given line number in the micro code, that only makes the debugger stop if the given
+   * condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the line number in micro code the debugger should break at
+   * @param condition the condition that has to hold, so that the debugger stops
+   */
+  public void addMicroBreakpoint(final Integer line, final Condition condition) {
+    if (line != null && condition != null) {
+      this.breakPoints.add(new ConditionalBreakpoint(new MicroBreakpoint(line.intValue()), condition));
+    }
+  }
+
+  /**
+   * Adds a breakpoint for the given line number in the macro code, that only makes the debugger stop if the given
+   * condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the line number in macro code the debugger should break at
+   * @param condition the condition that has to hold, so that the debugger stops
+   */
+  public void addMacroBreakpoint(final Integer line, final Condition condition) {
+    if (line != null && condition != null) {
+      this.breakPoints.add(new ConditionalBreakpoint(new MacroBreakpoint(line.intValue()), condition));
+    }
+  }
+
+  /**
+   * Adds a breakpoint that makes the debugger stop as soon as the given condition holds. The condition is checked each
+   * tick.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param condition the condition that has to hold, so that the debugger stops
+   */
+  public void addConditionBreakpoint(final Condition condition) {
+    if (condition != null) {
+      this.breakPoints.add(new ConditionalBreakpoint(condition));
+    }
+  }
+
   /**
    * Logs that a breakpoint is being added that already existed. The duplicate breakpoint is described by the given
    * {@link String}.
@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.parser.IntegerParser;
+import com.github.croesch.micro_debug.parser.RegisterParser;
+
+/**
+ * A condition on the state of a processor, for example <code>SP &gt; 0xC100 &amp;&amp; local[3] &lt; 0</code>. The
+ * condition is parsed once into a tree of {@link Expression}s, that is evaluated without creating objects.<br>
+ * A condition consists of numbers, registers, <code>ticks</code> (the number of ticks since the start of the program),
+ * <code>hits</code> (the number of times the breakpoint of the condition has been reached), <code>depth</code> (the
+ * number of words on the stack), words of the memory (<code>mem[ADDR]</code>), local variables (<code>local[N]</code>,
+ * the word at LV + N) and words on the stack (<code>stack[N]</code>, the word at SP - N). They can be combined with
+ * <code>+ - &lt; &lt;= &gt; &gt;= == != ! &amp;&amp; ||</code> and parentheses, with the precedence known from Java.
+ * Constant parts of the condition are calculated when it's parsed.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Condition {
+
+  /** the root of the tree of the parsed condition */
+  @NotNull
+  private final Expression root;
+
+  /** the text of the condition */
+  @NotNull
+  private final String text;
+
+  /**
+   * Constructs the condition with the given tree.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the root of the tree of the parsed condition
+   * @param t the text of the condition
+   */
+  private Condition(final Expression r, final String t) {
+    this.root = r;
+    this.text = t;
+  }
+
+  /**
+   * Parses the given text to a condition.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param text the text of the condition
+   * @return the parsed condition or <code>null</code> if the text isn't a valid condition
+   */
+  @Nullable
+  public static Condition parse(final String text) {
+    if (text == null) {
+      return null;
+    }
+    final List<String> tokens = tokenize(text);
+    if (tokens == null || tokens.isEmpty()) {
+      return null;
+    }
+    final Parser parser = new Parser(tokens);
+    final Expression root = parser.parseOr();
+    if (root == null || !parser.isAtEnd()) {
+      return null;
+    }
+    final StringBuilder sb = new StringBuilder();
+    for (final String token : tokens) {
+      if (sb.length() > 0) {
+        sb.append(' ');
+      }
+      sb.append(token);
+    }
+    return new Condition(root, sb.toString());
+  }
+
+  /**
+   * Splits the given text into tokens: words, numbers and operators.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param text the text of the condition
+   * @return the tokens or <code>null</code> if the text contains an invalid character
+   */
+  @Nullable
+  private static List<String> tokenize(final String text) {
+    final List<String> tokens = new ArrayList<String>();
+    int i = 0;
+    while (i < text.length()) {
+      final char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        ++i;
+      } else if (Character.isLetterOrDigit(c) || c == '_') {
+        final int start = i;
+        while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+          ++i;
+        }
+        tokens.add(text.substring(start, i));
+      } else if (i + 1 < text.length() && isDoubleOperator(text.substring(i, i + 2))) {
+        tokens.add(text.substring(i, i + 2));
+        i += 2;
+      } else if ("<>+-!()[]".indexOf(c) >= 0) {
+        tokens.add(String.valueOf(c));
+        ++i;
+      } else {
+        return null;
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Returns whether the given text is an operator consisting of two characters.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param s the two characters to check
+   * @return <code>true</code> if the characters form an operator
+   */
+  private static boolean isDoubleOperator(final String s) {
+    return "<=".equals(s) || ">=".equals(s) || "==".equals(s) || "!=".equals(s) || "&&".equals(s) || "||".equals(s);
+  }
+
+  /**
+   * Returns whether this condition holds for the current state of the given processor. The condition isn't checked for
+   * a breakpoint, so <code>hits</code> is zero.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to check
+   * @param ticks the number of ticks the processor has executed since the start of the program
+   * @return <code>true</code> if the condition holds
+   */
+  public boolean isMet(final Mic1 processor, final long ticks) {
+    return isMet(processor, ticks, 0);
+  }
+
+  /**
+   * Returns whether this condition holds for the current state of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to check
+   * @param ticks the number of ticks the processor has executed since the start of the program
+   * @param hits the number of times the breakpoint of this condition has been reached, including the current time
+   * @return <code>true</code> if the condition holds
+   */
+  public boolean isMet(final Mic1 processor, final long ticks, final long hits) {
+    return this.root.evaluate(processor, ticks, hits) != 0;
+  }
+
+  @Override
+  @NotNull
+  public String toString() {
+    return this.text;
+  }
+
+  /**
+   * Recursive descent parser building the tree of a condition from its tokens.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class Parser {
+
+    /** the tokens of the condition */
+    @NotNull
+    private final List<String> tokens;
+
+    /** the index of the next token to parse */
+    private int position = 0;
+
+    /**
+     * Constructs the parser of the given tokens.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param t the tokens of the condition
+     */
+    Parser(final List<String> t) {
+      this.tokens = t;
+    }
+
+    /**
+     * Returns whether all tokens have been parsed.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return <code>true</code> if there are no more tokens
+     */
+    boolean isAtEnd() {
+      return this.position >= this.tokens.size();
+    }
+
+    /**
+     * Returns the next token without consuming it.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the next token or an empty string if there are no more tokens
+     */
+    @NotNull
+    private String peek() {
+      if (isAtEnd()) {
+        return "";
+      }
+      return this.tokens.get(this.position);
+    }
+
+    /**
+     * Consumes the next token, if it's the given token.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param token the expected token
+     * @return <code>true</code> if the next token was the given token and has been consumed
+     */
+    private boolean accept(final String token) {
+      if (token.equals(peek())) {
+        ++this.position;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Parses expressions combined with <code>||</code>.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    Expression parseOr() {
+      Expression left = parseAnd();
+      while (left != null && accept("||")) {
+        final Expression right = parseAnd();
+        if (right == null) {
+          return null;
+        }
+        left = Expression.fold(new Expression.Logical(false, left, right));
+      }
+      return left;
+    }
+
+    /**
+     * Parses expressions combined with <code>&amp;&amp;</code>.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parseAnd() {
+      Expression left = parseComparison();
+      while (left != null && accept("&&")) {
+        final Expression right = parseComparison();
+        if (right == null) {
+          return null;
+        }
+        left = Expression.fold(new Expression.Logical(true, left, right));
+      }
+      return left;
+    }
+
+    /**
+     * Parses a comparison of two sums, or a single sum.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parseComparison() {
+      Expression left = parseSum();
+      final Expression.Operator op = Expression.Operator.forSymbol(peek());
+      if (left != null && op != null && op != Expression.Operator.ADD && op != Expression.Operator.SUBTRACT) {
+        ++this.position;
+        final Expression right = parseSum();
+        if (right == null) {
+          return null;
+        }
+        left = Expression.fold(new Expression.Binary(op, left, right));
+      }
+      return left;
+    }
+
+    /**
+     * Parses operands combined with <code>+</code> and <code>-</code>.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parseSum() {
+      Expression left = parseUnary();
+      while (left != null && ("+".equals(peek()) || "-".equals(peek()))) {
+        final Expression.Operator op = Expression.Operator.forSymbol(this.tokens.get(this.position++));
+        final Expression right = parseUnary();
+        if (right == null) {
+          return null;
+        }
+        left = Expression.fold(new Expression.Binary(op, left, right));
+      }
+      return left;
+    }
+
+    /**
+     * Parses an operand, that might be negated.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parseUnary() {
+      if (accept("-")) {
+        final Expression operand = parseUnary();
+        if (operand == null) {
+          return null;
+        }
+        return Expression.fold(new Expression.Unary(false, operand));
+      }
+      if (accept("!")) {
+        final Expression operand = parseUnary();
+        if (operand == null) {
+          return null;
+        }
+        return Expression.fold(new Expression.Unary(true, operand));
+      }
+      return parsePrimary();
+    }
+
+    /**
+     * Parses a number, a register, a word of the memory or an expression in parentheses.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parsePrimary() {
+      if (accept("(")) {
+        final Expression inner = parseOr();
+        if (inner == null || !accept(")")) {
+          return null;
+        }
+        return inner;
+      }
+      if (isAtEnd()) {
+        return null;
+      }
+      final String token = this.tokens.get(this.position++);
+      final String word = token.toLowerCase(Locale.ENGLISH);
+      if ("ticks".equals(word)) {
+        return new Expression.Ticks();
+      }
+      if ("hits".equals(word)) {
+        return new Expression.Hits();
+      }
+      if ("depth".equals(word)) {
+        return new Expression.Depth();
+      }
+      if ("mem".equals(word)) {
+        return parseMemoryWord(null, false);
+      }
+      if ("local".equals(word)) {
+        return parseMemoryWord(Register.LV, false);
+      }
+      if ("stack".equals(word)) {
+        return parseMemoryWord(Register.SP, true);
+      }
+      final Integer number = new IntegerParser().parse(token);
+      if (number != null) {
+        return new Expression.Constant(number.intValue());
+      }
+      final Register register = new RegisterParser().parse(token);
+      if (register != null) {
+        return new Expression.RegisterValue(register);
+      }
+      return null;
+    }
+
+    /**
+     * Parses the index in brackets following <code>mem</code>, <code>local</code> or <code>stack</code>.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param base the register the index is relative to, or <code>null</code> if the index is an absolute address
+     * @param downwards <code>true</code> if the index is subtracted from the register
+     * @return the parsed expression or <code>null</code> if the tokens are invalid
+     */
+    @Nullable
+    private Expression parseMemoryWord(final Register base, final boolean downwards) {
+      if (!accept("[")) {
+        return null;
+      }
+      Expression index = parseOr();
+      if (index == null || !accept("]")) {
+        return null;
+      }
+      if (downwards) {
+        index = Expression.fold(new Expression.Unary(false, index));
+      }
+      return new Expression.MemoryWord(base, index);
+    }
+  }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+import com.github.croesch.micro_debug.mic1.api.IProcessorInterpreter;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+
+/**
+ * Searches the first tick after which a {@link Condition} holds, starting from the current state of a processor.<br>
+ * First a fork of the processor is executed without checking the condition, saving a checkpoint (a fork) every few
+ * ticks. Afterwards the segments between the checkpoints are executed again concurrently, checking the condition after
+ * each tick. The earliest tick found is the result and the processor is set to the state after that tick. Ticks are
+ * counted like {@link Mic1#getTotalTicks()}, since the start of the program, so conditions on <code>ticks</code> mean
+ * the same as in conditional breakpoints.<br>
+ * The forks don't read any input from the user, so the search ends before the first tick that reads input. Output
+ * written until the found tick is passed to the io of the processor.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class ConditionSearch {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(ConditionSearch.class.getName());
+
+  /** the processor to search from */
+  @NotNull
+  private final Mic1 processor;
+
+  /** the condition to search */
+  @NotNull
+  private final Condition condition;
+
+  /** the number of ticks between two checkpoints */
+  private final int interval;
+
+  /** the maximum number of ticks to search */
+  private final long maxTicks;
+
+  /** the number of threads executing the segments */
+  private final int threads;
+
+  /** the number of ticks that have been searched */
+  private long searchedTicks = 0;
+
+  /** the number of ticks since the start of the program, when the search started */
+  private final long startTick;
+
+  /** the first tick after which the condition holds, counted since the start of the program, or <code>-1</code> */
+  private long hit = -1;
+
+  /** the reason why the execution of the processor ended before the maximum number of ticks */
+  @Nullable
+  private HaltReason end = null;
+
+  /** whether the search ended, because the program reads input */
+  private boolean inputReached = false;
+
+  /**
+   * Prepares the search for the first tick after which the given condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the processor to search from, mustn't be executing ticks
+   * @param c the condition to search
+   * @param checkpointInterval the number of ticks between two checkpoints
+   * @param limit the maximum number of ticks to search
+   * @param threadCount the number of threads to execute the segments between the checkpoints
+   */
+  public ConditionSearch(final Mic1 p,
+                         final Condition c,
+                         final int checkpointInterval,
+                         final long limit,
+                         final int threadCount) {
+    this.processor = p;
+    this.condition = c;
+    this.interval = Math.max(1, checkpointInterval);
+    this.maxTicks = limit;
+    this.threads = Math.max(1, threadCount);
+    this.startTick = p.getTotalTicks();
+  }
+
+  /**
+   * Executes the search. If the condition holds after one of the ticks, the processor is set to the state after the
+   * earliest of these ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if a tick has been found, after which the condition holds
+   */
+  public boolean run() {
+    final List<Segment> segments = record();
+    if (segments.isEmpty()) {
+      return false;
+    }
+
+    final List<Replay> replays = new ArrayList<Replay>();
+    for (final Segment segment : segments) {
+      replays.add(new Replay(segment));
+    }
+    final ExecutorService pool = Executors.newFixedThreadPool(Math.min(this.threads, replays.size()));
+    Replay found = null;
+    try {
+      final List<Future<Long>> results = new ArrayList<Future<Long>>();
+      for (final Replay replay : replays) {
+        results.add(pool.submit(replay));
+      }
+      // the segments are checked in order, so the first hit is the earliest one
+      for (int i = 0; i < results.size() && found == null; ++i) {
+        final long tick = results.get(i).get().longValue();
+        if (tick >= 0) {
+          found = replays.get(i);
+          this.hit = tick;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      LOGGER.log(Level.WARNING, "replay of a segment failed", e);
+    } finally {
+      for (final Replay replay : replays) {
+        replay.cancel();
+      }
+      pool.shutdownNow();
+    }
+
+    if (found == null) {
+      return false;
+    }
+    this.processor.restore(found.fork);
+    final IProcessorIO io = this.processor.getMemory().getIO();
+    for (final byte b : found.io.getOutput()) {
+      io.write(b);
+    }
+    return true;
+  }
+
+  /**
+   * Executes a fork of the processor without checking the condition and saves a checkpoint every few ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the segments between the checkpoints, in the order of their execution
+   */
+  @NotNull
+  private List<Segment> record() {
+    final Mic1 fork = this.processor.fork();
+    final BufferedIO io = new BufferedIO();
+    fork.getMemory().setIO(io);
+    fork.setTickLimit(0);
+    fork.setTimeLimit(0);
+    final long reads = fork.getMemory().getInputReads();
+    fork.setProcessorInterpreter(new InputGuard(fork, reads));
+
+    final List<Segment> segments = new ArrayList<Segment>();
+    while (this.searchedTicks < this.maxTicks && !Thread.currentThread().isInterrupted()) {
+      final Segment segment = new Segment(fork.fork(), io.copy(), this.startTick + this.searchedTicks);
+      fork.microStep((int) Math.min(this.interval, this.maxTicks - this.searchedTicks));
+      long ticks = fork.getPublishedTicks();
+      if (fork.getMemory().getInputReads() != reads) {
+        // the last tick has read input, that isn't available for the search
+        --ticks;
+        this.inputReached = true;
+      }
+      segment.length = ticks;
+      this.searchedTicks += ticks;
+      if (ticks > 0) {
+        segments.add(segment);
+      }
+      if (this.inputReached || fork.getHaltReason() != HaltReason.STEPS_DONE) {
+        this.end = fork.getHaltReason();
+        break;
+      }
+    }
+    return segments;
+  }
+
+  /**
+   * Returns the first tick after which the condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed from the start of the program until the condition held, or <code>-1</code>
+   *         if the condition didn't hold
+   */
+  public long getHit() {
+    return this.hit;
+  }
+
+  /**
+   * Returns the number of ticks that have been searched.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed from the start of the search without checking the condition
+   */
+  public long getSearchedTicks() {
+    return this.searchedTicks;
+  }
+
+  /**
+   * Returns whether the search ended before the maximum number of ticks, because the program reads input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the search ended before the first tick reading input
+   */
+  public boolean isInputReached() {
+    return this.inputReached;
+  }
+
+  /**
+   * Returns whether the search ended before the maximum number of ticks, because the program has halted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the program reached its end within the searched ticks
+   */
+  public boolean isHaltReached() {
+    return this.end == HaltReason.HALT_INSTRUCTION || this.end == HaltReason.LOOP;
+  }
+
+  /**
+   * Stops the fork that records the checkpoints as soon as it has read input.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class InputGuard implements IProcessorInterpreter {
+
+    /** the fork recording the checkpoints */
+    @NotNull
+    private final Mic1 fork;
+
+    /** the number of input reads of the fork, when the recording started */
+    private final long reads;
+
+    /**
+     * Constructs the guard of the given fork.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param f the fork recording the checkpoints
+     * @param r the number of input reads of the fork
+     */
+    InputGuard(final Mic1 f, final long r) {
+      this.fork = f;
+      this.reads = r;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean canContinue(final int microLine,
+                               final int macroLine,
+                               final MicroInstruction currentInstruction,
+                               final MicroInstruction nextInstruction) {
+      return this.fork.getMemory().getInputReads() == this.reads;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
+      // nothing to trace
+    }
+  }
+
+  /**
+   * The ticks between two checkpoints.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static final class Segment {
+
+    /** the state of the processor at the start of the segment */
+    @NotNull
+    private final Mic1 start;
+
+    /** the io of the processor at the start of the segment */
+    @NotNull
+    private final BufferedIO io;
+
+    /** the number of ticks executed from the start of the program until the start of the segment */
+    private final long firstTick;
+
+    /** the number of ticks of the segment */
+    private long length = 0;
+
+    /**
+     * Constructs the segment starting with the given state.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param state the state of the processor at the start of the segment
+     * @param stateIO the io of the processor at the start of the segment
+     * @param tick the number of ticks executed from the start of the program until the start of the segment
+     */
+    Segment(final Mic1 state, final BufferedIO stateIO, final long tick) {
+      this.start = state;
+      this.io = stateIO;
+      this.firstTick = tick;
+    }
+  }
+
+  /**
+   * Executes a segment again and checks the condition after each tick.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private final class Replay implements Callable<Long>, IProcessorInterpreter {
+
+    /** the executed segment */
+    @NotNull
+    private final Segment segment;
+
+    /** the fork executing the segment */
+    @NotNull
+    private final Mic1 fork;
+
+    /** the io of the fork */
+    @NotNull
+    private final BufferedIO io;
+
+    /** the number of ticks of the segment, that the fork has executed */
+    private long ticks = 0;
+
+    /**
+     * Prepares the execution of the given segment. Must be invoked by the thread that owns the checkpoints.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param s the segment to execute
+     */
+    Replay(final Segment s) {
+      this.segment = s;
+      this.fork = s.start.fork();
+      this.io = s.io.copy();
+      this.fork.getMemory().setIO(this.io);
+      this.fork.setProcessorInterpreter(this);
+    }
+
+    /**
+     * Executes the segment.
+     * 
+     * @return the tick after which the condition holds first, or <code>-1</code> if it doesn't hold in this segment
+     */
+    public Long call() {
+      this.fork.microStep((int) this.segment.length);
+      final HaltReason reason = this.fork.getHaltReason();
+      if (reason == HaltReason.BREAKPOINT) {
+        return Long.valueOf(this.segment.firstTick + this.ticks);
+      }
+      // the state after the last tick of the segment isn't checked by the processor
+      final long last = this.segment.firstTick + this.fork.getPublishedTicks();
+      if (reason != HaltReason.INTERRUPTED && ConditionSearch.this.condition.isMet(this.fork, last)) {
+        return Long.valueOf(last);
+      }
+      return Long.valueOf(-1);
+    }
+
+    /**
+     * Stops the execution of the segment, if it's still executed.
+     * 
+     * @since Date: Oct 19, 2026
+     */
+    void cancel() {
+      this.fork.interrupt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean canContinue(final int microLine,
+                               final int macroLine,
+                               final MicroInstruction currentInstruction,
+                               final MicroInstruction nextInstruction) {
+      ++this.ticks;
+      return !ConditionSearch.this.condition.isMet(this.fork, this.segment.firstTick + this.ticks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
+      // nothing to trace
+    }
+  }
+}
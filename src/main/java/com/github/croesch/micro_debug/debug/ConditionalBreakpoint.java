@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+
+/**
+ * A breakpoint that only makes the debugger stop if a {@link Condition} holds when the breakpoint is reached. The
+ * breakpoint is reached, when the line of its location is executed, or each tick if it has no location. The condition
+ * can refer to the number of times the breakpoint has been reached with <code>hits</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class ConditionalBreakpoint extends Breakpoint {
+
+  /** the breakpoint that defines where this breakpoint is, or <code>null</code> if it's reached each tick */
+  @Nullable
+  private final Breakpoint location;
+
+  /** the condition that has to hold so that the debugger stops */
+  @NotNull
+  private final Condition condition;
+
+  /** the number of times this breakpoint has been reached */
+  private long hits = 0;
+
+  /**
+   * Constructs a breakpoint at the location of the given breakpoint, that only makes the debugger stop if the given
+   * condition holds. This breakpoint takes the id of the given breakpoint.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param loc the breakpoint that defines where this breakpoint is
+   * @param c the condition that has to hold so that the debugger stops
+   */
+  ConditionalBreakpoint(final Breakpoint loc, final Condition c) {
+    super(loc);
+    this.location = loc;
+    this.condition = c;
+  }
+
+  /**
+   * Constructs a breakpoint that is reached each tick and makes the debugger stop if the given condition holds.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param c the condition that has to hold so that the debugger stops
+   */
+  ConditionalBreakpoint(final Condition c) {
+    this.location = null;
+    this.condition = c;
+  }
+
+  /**
+   * Constructs a copy of the given breakpoint, that counts its hits independently from the given breakpoint.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the breakpoint to copy
+   */
+  private ConditionalBreakpoint(final ConditionalBreakpoint original) {
+    super(original);
+    this.location = original.location;
+    this.condition = original.condition;
+    this.hits = original.hits;
+  }
+
+  @Override
+  boolean shouldBreak(final Mic1 processor,
+                      final DebugMode mode,
+                      final int microLine,
+                      final int macroLine,
+                      final MicroInstruction currentInstruction,
+                      final MicroInstruction nextInstruction) {
+    if (!isBreakpointForMode(mode)) {
+      return false;
+    }
+    if (this.location != null
+        && !this.location.isConditionMet(processor.getRegisters(), microLine, macroLine, currentInstruction,
+                                         nextInstruction)) {
+      return false;
+    }
+    ++this.hits;
+    return this.condition.isMet(processor, processor.getTotalTicks(), this.hits);
+  }
+
+  @Override
+  boolean isConditionMet(final int microLine,
+                         final int macroLine,
+                         final MicroInstruction currentInstruction,
+                         final MicroInstruction nextInstruction) {
+    // the condition can only be checked with the state of the processor
+    return false;
+  }
+
+  @Override
+  boolean isBreakpointForMode(final DebugMode mode) {
+    if (this.location == null) {
+      return mode != DebugMode.MACRO;
+    }
+    return this.location.isBreakpointForMode(mode);
+  }
+
+  @Override
+  @NotNull
+  Breakpoint copy() {
+    return new ConditionalBreakpoint(this);
+  }
+
+  /**
+   * Returns the number of times this breakpoint has been reached.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of times this breakpoint has been reached
+   */
+  long getHits() {
+    return this.hits;
+  }
+
+  @Override
+  @NotNull
+  public String toString() {
+    if (this.location == null) {
+      return Text.BREAKPOINT_CONDITION.text(getId(), this.condition);
+    }
+    return Text.BREAKPOINT_CONDITIONAL.text(this.location, this.condition);
+  }
+}
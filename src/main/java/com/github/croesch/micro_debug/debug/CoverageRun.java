@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Coverage;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+
+/**
+ * Runs an IJVM program with a micro program and adds the coverage of the micro program to a shared {@link Coverage}.
+ * Several runs can be executed on different threads at the same time, each processor records into its own coverage
+ * that is merged after the program has ended.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class CoverageRun implements Runnable {
+
+  /** the name of the program */
+  @NotNull
+  private final String name;
+
+  /** the coverage to add the coverage of this run to */
+  @NotNull
+  private final Coverage target;
+
+  /** the coverage recorded by the processor */
+  @NotNull
+  private final Coverage coverage = new Coverage();
+
+  /** the processor executing the program or <code>null</code> if it couldn't be created or isn't needed anymore */
+  @Nullable
+  private Mic1 processor;
+
+  /** the number of ticks the program has been executed */
+  private long ticks = 0;
+
+  /** whether the program has reached the halt instruction */
+  private boolean halted = false;
+
+  /** the error that has occurred or <code>null</code> if there was no error */
+  @Nullable
+  private String error = null;
+
+  /**
+   * Prepares the run of the given program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param programName the name of the program
+   * @param store the control store containing the micro program to execute the program with
+   * @param program the binary IJVM program
+   * @param input the input the program reads
+   * @param limit the maximum number of ticks to execute
+   * @param coverage the coverage to add the coverage of the micro program to
+   */
+  public CoverageRun(final String programName,
+                     final MicroControlStore store,
+                     final byte[] program,
+                     final byte[] input,
+                     final long limit,
+                     final Coverage coverage) {
+    this.name = programName;
+    this.target = coverage;
+    try {
+      this.processor = ProgramComparison.createProcessor(store, program);
+      this.processor.getMemory().setIO(new BufferedIO(input));
+      this.processor.setTickLimit(limit);
+      this.processor.setCoverage(this.coverage);
+    } catch (final MacroFileFormatException e) {
+      this.error = e.getMessage();
+    }
+  }
+
+  /**
+   * {@inheritDoc} Executes the program until it halts or the limit is reached and merges the coverage of the micro
+   * program.
+   */
+  public void run() {
+    if (this.processor == null) {
+      return;
+    }
+    try {
+      this.ticks = this.processor.run();
+      this.halted = this.processor.getHaltReason() == HaltReason.HALT_INSTRUCTION;
+      this.target.mergeMicroCoverage(this.coverage);
+    } catch (final RuntimeException e) {
+      this.error = String.valueOf(e.getMessage());
+    }
+    // the processor isn't needed anymore, release its memory
+    this.processor = null;
+  }
+
+  /**
+   * Returns the name of the executed program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the program
+   */
+  @NotNull
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the number of ticks the program has been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed ticks
+   */
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Returns whether the program has reached the halt instruction. Otherwise it has been stopped by the limit of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the program has halted
+   */
+  public boolean isHalted() {
+    return this.halted;
+  }
+
+  /**
+   * Returns the error that has occurred while loading or executing the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the message of the error or <code>null</code> if there was no error
+   */
+  @Nullable
+  public String getError() {
+    return this.error;
+  }
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Finds the first micro instruction after which two processors executing the same IJVM program differ. The processors
+ * may execute different micro programs or be configured differently.<br>
+ * Both processors are executed in lockstep, one macro instruction at a time, and after each macro instruction a
+ * fingerprint of the state that is visible to the IJVM program is compared: the registers PC, SP, LV, CPP and TOS, the
+ * content of the memory and the number of bytes read and written. The hash of the memory is updated with each write,
+ * so building the fingerprint doesn't depend on the size of the memory.<br>
+ * Every few macro instructions both processors are forked to save a checkpoint. When the fingerprints differ, the
+ * processors are rewound to the last checkpoint and the diverging macro instruction is executed again tick by tick,
+ * comparing the fingerprint after each tick.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class DivergenceBisector {
+
+  /** the registers that are part of the fingerprint */
+  private static final Register[] FINGERPRINT_REGISTERS = { Register.PC, Register.SP, Register.LV, Register.CPP,
+                                                           Register.TOS };
+
+  /** the prime to combine the parts of the fingerprint */
+  private static final int PRIME = 31;
+
+  /** the processor executing the first configuration */
+  @NotNull
+  private Mic1 first;
+
+  /** the processor executing the second configuration */
+  @NotNull
+  private Mic1 second;
+
+  /** the io of the first processor */
+  @NotNull
+  private BufferedIO firstIO;
+
+  /** the io of the second processor */
+  @NotNull
+  private BufferedIO secondIO;
+
+  /** the number of macro instructions between two checkpoints */
+  private final int interval;
+
+  /** the maximum number of ticks each processor executes */
+  private final long maxTicks;
+
+  /** the number of steps executed by both processors */
+  private long steps = 0;
+
+  /** the number of ticks executed by the first processor */
+  private long firstTicks = 0;
+
+  /** the number of ticks executed by the second processor */
+  private long secondTicks = 0;
+
+  /** whether the processors have diverged */
+  private boolean diverged = false;
+
+  /** the number of macro instructions both processors executed equally, before they diverged */
+  private long divergingInstruction = -1;
+
+  /** the address of the macro instruction during which the processors diverged */
+  private int divergingAddress = -1;
+
+  /** the micro program counter of the first processor, when the processors diverged */
+  private int firstMpc = -1;
+
+  /** the micro program counter of the second processor, when the processors diverged */
+  private int secondMpc = -1;
+
+  /** the micro instruction executed by the first processor, when the processors diverged */
+  @Nullable
+  private MicroInstruction firstInstruction = null;
+
+  /** the micro instruction executed by the second processor, when the processors diverged */
+  @Nullable
+  private MicroInstruction secondInstruction = null;
+
+  /** the registers of the first processor, after the processors diverged */
+  @NotNull
+  private final RegisterFile firstRegisters = new RegisterFile();
+
+  /** the registers of the second processor, after the processors diverged */
+  @NotNull
+  private final RegisterFile secondRegisters = new RegisterFile();
+
+  /**
+   * Prepares the search for the first difference of the given processors. The processors should be in the same state
+   * concerning the IJVM program, they are connected to new io providing the given input. Each step of the processors
+   * is limited to the ticks that are left of the given maximum number of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param firstProcessor the processor executing the first configuration
+   * @param secondProcessor the processor executing the second configuration
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   * @param checkpointInterval the number of macro instructions between two checkpoints
+   * @param limit the maximum number of ticks each processor executes
+   */
+  public DivergenceBisector(final Mic1 firstProcessor,
+                            final Mic1 secondProcessor,
+                            final byte[] input,
+                            final int checkpointInterval,
+                            final long limit) {
+    this.first = firstProcessor;
+    this.second = secondProcessor;
+    this.firstIO = new BufferedIO(input);
+    this.secondIO = new BufferedIO(input);
+    this.interval = Math.max(1, checkpointInterval);
+    this.maxTicks = limit;
+    prepare(this.first, this.firstIO, limit);
+    prepare(this.second, this.secondIO, limit);
+  }
+
+  /**
+   * Prepares the search for the first difference of the given program executed by the given micro programs. The
+   * number of macro instructions between two checkpoints is read from
+   * {@link Settings#MIC1_BISECT_CHECKPOINT_INTERVAL}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param firstStore the first micro program
+   * @param secondStore the second micro program
+   * @param program the binary IJVM program
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   * @param limit the maximum number of ticks each processor executes
+   * @throws MacroFileFormatException if the IJVM program has an invalid format
+   */
+  public DivergenceBisector(final MicroControlStore firstStore,
+                            final MicroControlStore secondStore,
+                            final byte[] program,
+                            final byte[] input,
+                            final long limit) throws MacroFileFormatException {
+    this(ProgramComparison.createProcessor(firstStore, program),
+         ProgramComparison.createProcessor(secondStore, program),
+         input,
+         Settings.MIC1_BISECT_CHECKPOINT_INTERVAL.getValue(),
+         limit);
+  }
+
+  /**
+   * Connects the given processor to the given io, limits its ticks and enables the hashing of its memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to prepare
+   * @param io the io of the processor
+   * @param limit the maximum number of ticks the processor executes
+   */
+  private static void prepare(final Mic1 processor, final BufferedIO io, final long limit) {
+    processor.setPrintingTicks(false);
+    processor.setTickLimit(Math.max(1, limit));
+    processor.getMemory().setIO(io);
+    processor.getMemory().setContentHashing(true);
+  }
+
+  /**
+   * Executes both processors until they differ or both have halted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the processors have diverged
+   */
+  public boolean run() {
+    Checkpoint checkpoint = new Checkpoint();
+    boolean running = true;
+    while (running && !Thread.currentThread().isInterrupted()) {
+      if (this.steps - checkpoint.steps >= this.interval) {
+        checkpoint = new Checkpoint();
+      }
+      step();
+      if (isLimitReached()) {
+        return false;
+      }
+
+      final boolean firstHalted = this.first.getHaltReason() != HaltReason.STEPS_DONE;
+      if (firstHalted != (this.second.getHaltReason() != HaltReason.STEPS_DONE) || !hasSameFingerprint()) {
+        bisect(checkpoint);
+        return true;
+      }
+      running = !firstHalted;
+    }
+    return false;
+  }
+
+  /**
+   * Rewinds both processors to the given checkpoint and executes them again until the diverging macro instruction.
+   * That instruction is executed tick by tick, until the fingerprints differ.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param checkpoint the last checkpoint before the processors diverged
+   */
+  private void bisect(final Checkpoint checkpoint) {
+    final long divergingStep = this.steps - 1;
+    checkpoint.restore();
+    while (this.steps < divergingStep) {
+      step();
+    }
+
+    // the first step only fetches the first macro instruction
+    this.divergingInstruction = Math.max(0, this.steps - 1);
+    this.divergingAddress = this.first.getNextMacroAddress();
+    this.diverged = true;
+
+    boolean firstDone = false;
+    boolean secondDone = false;
+    do {
+      if (!firstDone) {
+        firstDone = microStep(this.first);
+        this.firstTicks += this.first.getPublishedTicks();
+      }
+      if (!secondDone) {
+        secondDone = microStep(this.second);
+        this.secondTicks += this.second.getPublishedTicks();
+      }
+    } while (!(firstDone && secondDone) && hasSameFingerprint() && !isLimitReached());
+    record();
+  }
+
+  /**
+   * Executes a single macro instruction with both processors. Each processor executes at most the ticks that are left
+   * of the maximum number of ticks, so that a micro program looping within a macro instruction is stopped.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void step() {
+    this.first.setTickLimit(Math.max(1, this.maxTicks - this.firstTicks));
+    this.first.step();
+    this.firstTicks += this.first.getPublishedTicks();
+    this.second.setTickLimit(Math.max(1, this.maxTicks - this.secondTicks));
+    this.second.step();
+    this.secondTicks += this.second.getPublishedTicks();
+    ++this.steps;
+  }
+
+  /**
+   * Executes a single tick of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to execute
+   * @return <code>true</code> if the processor has finished the current macro instruction or can't continue
+   */
+  private static boolean microStep(final Mic1 processor) {
+    processor.microStep();
+    return processor.getHaltReason() != HaltReason.STEPS_DONE
+           || processor.getNextMpc() == Settings.MIC1_MICRO_ADDRESS_IJVM.getValue()
+           && processor.getNextMacroAddress() != Settings.MIC1_REGISTER_PC_DEFVAL.getValue();
+  }
+
+  /**
+   * Saves the micro instructions and registers of both processors.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void record() {
+    this.firstMpc = this.first.getOldMpc();
+    this.secondMpc = this.second.getOldMpc();
+    this.firstInstruction = this.first.getControlStore().getInstruction(this.firstMpc);
+    this.secondInstruction = this.second.getControlStore().getInstruction(this.secondMpc);
+    this.firstRegisters.copyOf(this.first.getRegisters());
+    this.secondRegisters.copyOf(this.second.getRegisters());
+  }
+
+  /**
+   * Returns whether both processors have the same fingerprint.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the fingerprints of the processors are equal
+   */
+  private boolean hasSameFingerprint() {
+    return fingerprint(this.first, this.firstIO) == fingerprint(this.second, this.secondIO);
+  }
+
+  /**
+   * Calculates the fingerprint of the state of the given processor, that is visible to the IJVM program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor
+   * @param io the io of the processor
+   * @return the fingerprint of the processor
+   */
+  private static long fingerprint(final Mic1 processor, final BufferedIO io) {
+    final RegisterFile registers = processor.getRegisters();
+    long result = processor.getMemory().getContentHash();
+    for (final Register r : FINGERPRINT_REGISTERS) {
+      result = PRIME * result + registers.get(r);
+    }
+    result = PRIME * result + io.getBytesRead();
+    return PRIME * result + io.getBytesWritten();
+  }
+
+  /**
+   * Returns whether the processors have diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the state of the processors differed after a tick
+   */
+  public boolean hasDiverged() {
+    return this.diverged;
+  }
+
+  /**
+   * Returns whether one of the processors has been stopped, because it reached the maximum number of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if at least one processor didn't halt within the maximum number of ticks
+   */
+  public boolean isLimitReached() {
+    return this.firstTicks >= this.maxTicks || this.secondTicks >= this.maxTicks;
+  }
+
+  /**
+   * Returns the number of macro instructions both processors have executed equally before they diverged, or all
+   * executed macro instructions, if they didn't diverge.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of equally executed macro instructions
+   */
+  public long getNumberOfEqualInstructions() {
+    if (this.diverged) {
+      return this.divergingInstruction;
+    }
+    return Math.max(0, this.steps - 1);
+  }
+
+  /**
+   * Returns the address of the macro instruction, during which the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the diverging macro instruction, or <code>-1</code> if the processors didn't diverge
+   */
+  public int getDivergingAddress() {
+    return this.divergingAddress;
+  }
+
+  /**
+   * Returns the number of ticks the first processor executed, until the processors diverged or halted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks, including the tick that made the processors diverge
+   */
+  public long getFirstTicks() {
+    return this.firstTicks;
+  }
+
+  /**
+   * Returns the number of ticks the second processor executed, until the processors diverged or halted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks, including the tick that made the processors diverge
+   */
+  public long getSecondTicks() {
+    return this.secondTicks;
+  }
+
+  /**
+   * Returns the address of the micro instruction the first processor executed last, when the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the micro instruction or <code>-1</code> if the processors didn't diverge
+   */
+  public int getFirstMpc() {
+    return this.firstMpc;
+  }
+
+  /**
+   * Returns the address of the micro instruction the second processor executed last, when the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the micro instruction or <code>-1</code> if the processors didn't diverge
+   */
+  public int getSecondMpc() {
+    return this.secondMpc;
+  }
+
+  /**
+   * Returns the micro instruction the first processor executed last, when the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the micro instruction or <code>null</code> if the processors didn't diverge
+   */
+  @Nullable
+  public MicroInstruction getFirstInstruction() {
+    return this.firstInstruction;
+  }
+
+  /**
+   * Returns the micro instruction the second processor executed last, when the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the micro instruction or <code>null</code> if the processors didn't diverge
+   */
+  @Nullable
+  public MicroInstruction getSecondInstruction() {
+    return this.secondInstruction;
+  }
+
+  /**
+   * Returns the registers of the first processor, right after the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the registers of the first processor
+   */
+  @NotNull
+  public RegisterFile getFirstRegisters() {
+    return this.firstRegisters;
+  }
+
+  /**
+   * Returns the registers of the second processor, right after the processors diverged.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the registers of the second processor
+   */
+  @NotNull
+  public RegisterFile getSecondRegisters() {
+    return this.secondRegisters;
+  }
+
+  /**
+   * Returns the output written by the first processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the first processor
+   */
+  @NotNull
+  public String getFirstOutput() {
+    return this.firstIO.getOutputAsString();
+  }
+
+  /**
+   * Returns the output written by the second processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the second processor
+   */
+  @NotNull
+  public String getSecondOutput() {
+    return this.secondIO.getOutputAsString();
+  }
+
+  /**
+   * The saved state of both processors, to rewind them when they diverge.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private final class Checkpoint {
+
+    /** the fork of the first processor */
+    @NotNull
+    private final Mic1 firstFork;
+
+    /** the fork of the second processor */
+    @NotNull
+    private final Mic1 secondFork;
+
+    /** the copy of the io of the first processor */
+    @NotNull
+    private final BufferedIO firstIOCopy;
+
+    /** the copy of the io of the second processor */
+    @NotNull
+    private final BufferedIO secondIOCopy;
+
+    /** the number of steps executed, when the checkpoint has been saved */
+    private final long steps;
+
+    /** the number of ticks executed by the first processor, when the checkpoint has been saved */
+    private final long firstTicks;
+
+    /** the number of ticks executed by the second processor, when the checkpoint has been saved */
+    private final long secondTicks;
+
+    /**
+     * Saves the current state of both processors.
+     * 
+     * @since Date: Oct 19, 2026
+     */
+    Checkpoint() {
+      this.firstFork = DivergenceBisector.this.first.fork();
+      this.secondFork = DivergenceBisector.this.second.fork();
+      this.firstIOCopy = DivergenceBisector.this.firstIO.copy();
+      this.secondIOCopy = DivergenceBisector.this.secondIO.copy();
+      this.steps = DivergenceBisector.this.steps;
+      this.firstTicks = DivergenceBisector.this.firstTicks;
+      this.secondTicks = DivergenceBisector.this.secondTicks;
+    }
+
+    /**
+     * Rewinds both processors to the saved state. The checkpoint can only be restored once.
+     * 
+     * @since Date: Oct 19, 2026
+     */
+    void restore() {
+      DivergenceBisector.this.first = this.firstFork;
+      DivergenceBisector.this.second = this.secondFork;
+      DivergenceBisector.this.firstIO = this.firstIOCopy;
+      DivergenceBisector.this.secondIO = this.secondIOCopy;
+      this.firstFork.getMemory().setIO(this.firstIOCopy);
+      this.secondFork.getMemory().setIO(this.secondIOCopy);
+      DivergenceBisector.this.steps = this.steps;
+      DivergenceBisector.this.firstTicks = this.firstTicks;
+      DivergenceBisector.this.secondTicks = this.secondTicks;
+    }
+  }
+}
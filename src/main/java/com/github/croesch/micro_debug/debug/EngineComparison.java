@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic2.Mic2;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+
+/**
+ * Runs an IJVM program on the Mic-1 and on the Mic-2, to compare the number of ticks both processors need. Other than
+ * {@link ProgramComparison} the processors aren't executed in lockstep, only their output and memory are compared
+ * after they have halted.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class EngineComparison implements Runnable {
+
+  /** the name of the compared program */
+  @NotNull
+  private final String name;
+
+  /** the Mic-1 executing the program */
+  @Nullable
+  private Mic1 mic1;
+
+  /** the Mic-2 executing the program */
+  @Nullable
+  private Mic2 mic2;
+
+  /** the io of the Mic-1 */
+  @NotNull
+  private final BufferedIO mic1IO;
+
+  /** the io of the Mic-2 */
+  @NotNull
+  private final BufferedIO mic2IO;
+
+  /** the number of ticks executed by the Mic-1 */
+  private long mic1Ticks = 0;
+
+  /** the number of ticks executed by the Mic-2 */
+  private long mic2Ticks = 0;
+
+  /** the number of ticks the Mic-2 has waited for its instruction fetch unit */
+  private long stallTicks = 0;
+
+  /** the number of macro instructions executed by the Mic-1 */
+  private long instructions = 0;
+
+  /** whether both processors have reached the halt instruction */
+  private boolean halted = false;
+
+  /** the number of words of the memory that differ after the execution */
+  private int differentWords = 0;
+
+  /** the error that prevented the comparison, or <code>null</code> if there was no error */
+  @Nullable
+  private String error = null;
+
+  /**
+   * Prepares the comparison of the given program executed by both processors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param programName the name of the IJVM program
+   * @param mic1Store the micro program of the Mic-1
+   * @param mic2Store the micro program of the Mic-2
+   * @param program the binary IJVM program
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   * @param limit the maximum number of ticks each processor executes
+   */
+  public EngineComparison(final String programName,
+                          final MicroControlStore mic1Store,
+                          final Mic2ControlStore mic2Store,
+                          final byte[] program,
+                          final byte[] input,
+                          final long limit) {
+    this.name = programName;
+    this.mic1IO = new BufferedIO(input);
+    this.mic2IO = new BufferedIO(input);
+    try {
+      this.mic1 = ProgramComparison.createProcessor(mic1Store, program);
+      this.mic1.getMemory().setIO(this.mic1IO);
+      this.mic1.setTickLimit(limit);
+      this.mic2 = new Mic2(mic2Store, new ByteArrayInputStream(program));
+      this.mic2.getMemory().setIO(this.mic2IO);
+      this.mic2.setTickLimit(limit);
+    } catch (final MacroFileFormatException e) {
+      this.error = e.getMessage();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    if (this.error != null) {
+      return;
+    }
+    try {
+      this.mic1Ticks = this.mic1.run();
+      this.instructions = this.mic1.getMacroInstructions();
+      this.mic2Ticks = this.mic2.run();
+      this.stallTicks = this.mic2.getStallTicks();
+      this.halted = this.mic1.getHaltReason() == HaltReason.HALT_INSTRUCTION
+                    && this.mic2.getHaltReason() == HaltReason.HALT_INSTRUCTION;
+      this.differentWords = this.mic1.getMemory().getDifferentWords(this.mic2.getMemory()).size();
+    } catch (final RuntimeException e) {
+      this.error = String.valueOf(e.getMessage());
+    }
+    // the processors aren't needed anymore, release their memory
+    this.mic1 = null;
+    this.mic2 = null;
+  }
+
+  /**
+   * Returns the name of the compared program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the program
+   */
+  @NotNull
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the number of ticks the Mic-1 has executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks of the Mic-1
+   */
+  public long getMic1Ticks() {
+    return this.mic1Ticks;
+  }
+
+  /**
+   * Returns the number of ticks the Mic-2 has executed, including the stalls.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks of the Mic-2
+   */
+  public long getMic2Ticks() {
+    return this.mic2Ticks;
+  }
+
+  /**
+   * Returns the number of ticks the Mic-2 has waited for its instruction fetch unit.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of stall ticks
+   */
+  public long getStallTicks() {
+    return this.stallTicks;
+  }
+
+  /**
+   * Returns the number of macro instructions the Mic-1 has executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed macro instructions
+   */
+  public long getInstructions() {
+    return this.instructions;
+  }
+
+  /**
+   * Returns whether both processors have reached the halt instruction. Otherwise at least one of them has been
+   * stopped by the limit of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if both processors have halted
+   */
+  public boolean isHalted() {
+    return this.halted;
+  }
+
+  /**
+   * Returns whether both processors have written the same output.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the outputs are equal
+   */
+  public boolean isOutputEqual() {
+    return Arrays.equals(this.mic1IO.getOutput(), this.mic2IO.getOutput());
+  }
+
+  /**
+   * Returns the output written by the Mic-1.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the Mic-1
+   */
+  @NotNull
+  public String getMic1Output() {
+    return this.mic1IO.getOutputAsString();
+  }
+
+  /**
+   * Returns the output written by the Mic-2.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the Mic-2
+   */
+  @NotNull
+  public String getMic2Output() {
+    return this.mic2IO.getOutputAsString();
+  }
+
+  /**
+   * Returns the number of words of the memory that differ after both processors have halted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of different words
+   */
+  public int getNumberOfDifferentWords() {
+    return this.differentWords;
+  }
+
+  /**
+   * Returns the error that prevented the comparison.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the message of the error or <code>null</code> if there was no error
+   */
+  @Nullable
+  public String getError() {
+    return this.error;
+  }
+}
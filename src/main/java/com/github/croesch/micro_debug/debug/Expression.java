@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * A node of the tree of a parsed {@link Condition}. The tree is built once when the condition is parsed, evaluating
+ * it doesn't create any objects, so that it can be evaluated every tick. Boolean results are represented as
+ * <code>1</code> and <code>0</code>, like in C.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+abstract class Expression {
+
+  /**
+   * Evaluates this expression for the current state of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to read the registers and the memory from
+   * @param ticks the number of ticks the processor has executed since the start of the program
+   * @param hits the number of times the breakpoint of the condition has been reached
+   * @return the value of this expression
+   */
+  abstract long evaluate(Mic1 processor, long ticks, long hits);
+
+  /**
+   * Returns whether this expression has the same value for each state of each processor, so that it can be evaluated
+   * once when the condition is parsed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the value of this expression never changes
+   */
+  boolean isConstant() {
+    return false;
+  }
+
+  /**
+   * A number, that has been given in the condition.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Constant extends Expression {
+
+    /** the value of the number */
+    private final long value;
+
+    /**
+     * Constructs the given number.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param v the value of the number
+     */
+    Constant(final long v) {
+      this.value = v;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return this.value;
+    }
+
+    @Override
+    boolean isConstant() {
+      return true;
+    }
+  }
+
+  /**
+   * The value of a register.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class RegisterValue extends Expression {
+
+    /** the register to read */
+    @NotNull
+    private final Register register;
+
+    /**
+     * Constructs the value of the given register.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param r the register to read
+     */
+    RegisterValue(final Register r) {
+      this.register = r;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return processor.getRegisters().get(this.register);
+    }
+  }
+
+  /**
+   * The number of ticks executed since the start of the program.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Ticks extends Expression {
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return ticks;
+    }
+  }
+
+  /**
+   * The number of times the breakpoint of the condition has been reached, including the current time.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Hits extends Expression {
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return hits;
+    }
+  }
+
+  /**
+   * The number of words on the stack, that is the distance of SP to its initial value.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Depth extends Expression {
+
+    /** the initial value of SP */
+    private final int bottom = Settings.MIC1_REGISTER_SP_DEFVAL.getValue();
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return (long) processor.getRegisters().get(Register.SP) - this.bottom;
+    }
+  }
+
+  /**
+   * A word of the memory. The address is given relative to the value of a register or absolute.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class MemoryWord extends Expression {
+
+    /** the register the address is relative to, or <code>null</code> if the address is absolute */
+    private final Register base;
+
+    /** the address of the word, relative to the base register */
+    @NotNull
+    private final Expression offset;
+
+    /**
+     * Constructs the word at the given address.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param b the register the address is relative to, or <code>null</code> if the address is absolute
+     * @param off the address of the word, relative to the given register
+     */
+    MemoryWord(final Register b, final Expression off) {
+      this.base = b;
+      this.offset = off;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      long addr = this.offset.evaluate(processor, ticks, hits);
+      if (this.base != null) {
+        addr += processor.getRegisters().get(this.base);
+      }
+      final Memory memory = processor.getMemory();
+      // invalid addresses are read as zero, the condition is checked too often to print an error each time
+      if (addr < 0 || addr >= memory.getSize()) {
+        return 0;
+      }
+      return memory.getWord((int) addr);
+    }
+  }
+
+  /**
+   * An operator with a single operand.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Unary extends Expression {
+
+    /** whether the operator is the logical not, otherwise it's the negation */
+    private final boolean not;
+
+    /** the operand */
+    @NotNull
+    private final Expression operand;
+
+    /**
+     * Constructs the negation or logical not of the given operand.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param logical <code>true</code> for the logical not, <code>false</code> for the negation
+     * @param op the operand
+     */
+    Unary(final boolean logical, final Expression op) {
+      this.not = logical;
+      this.operand = op;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      final long value = this.operand.evaluate(processor, ticks, hits);
+      if (this.not) {
+        return toLong(value == 0);
+      }
+      return -value;
+    }
+
+    @Override
+    boolean isConstant() {
+      return this.operand.isConstant();
+    }
+  }
+
+  /**
+   * An operator with two operands, that are both evaluated.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Binary extends Expression {
+
+    /** the operator */
+    @NotNull
+    private final Operator operator;
+
+    /** the left operand */
+    @NotNull
+    private final Expression left;
+
+    /** the right operand */
+    @NotNull
+    private final Expression right;
+
+    /**
+     * Constructs the given operator applied to the given operands.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param op the operator
+     * @param l the left operand
+     * @param r the right operand
+     */
+    Binary(final Operator op, final Expression l, final Expression r) {
+      this.operator = op;
+      this.left = l;
+      this.right = r;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      return this.operator.apply(this.left.evaluate(processor, ticks, hits),
+                                 this.right.evaluate(processor, ticks, hits));
+    }
+
+    @Override
+    boolean isConstant() {
+      return this.left.isConstant() && this.right.isConstant();
+    }
+  }
+
+  /**
+   * The logical and or the logical or, that only evaluates the right operand, if the result isn't known from the left
+   * operand.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Logical extends Expression {
+
+    /** whether the operator is the logical and, otherwise it's the logical or */
+    private final boolean and;
+
+    /** the left operand */
+    @NotNull
+    private final Expression left;
+
+    /** the right operand */
+    @NotNull
+    private final Expression right;
+
+    /**
+     * Constructs the logical and or the logical or of the given operands.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param isAnd <code>true</code> for the logical and, <code>false</code> for the logical or
+     * @param l the left operand
+     * @param r the right operand
+     */
+    Logical(final boolean isAnd, final Expression l, final Expression r) {
+      this.and = isAnd;
+      this.left = l;
+      this.right = r;
+    }
+
+    @Override
+    long evaluate(final Mic1 processor, final long ticks, final long hits) {
+      final boolean l = this.left.evaluate(processor, ticks, hits) != 0;
+      if (l != this.and) {
+        return toLong(l);
+      }
+      return toLong(this.right.evaluate(processor, ticks, hits) != 0);
+    }
+
+    @Override
+    boolean isConstant() {
+      return this.left.isConstant() && this.right.isConstant();
+    }
+  }
+
+  /**
+   * Replaces the given expression by its value, if it's constant, so that constant parts of a condition aren't
+   * calculated again each tick.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param e the expression to simplify
+   * @return the given expression or a {@link Constant} with its value
+   */
+  @NotNull
+  static Expression fold(final Expression e) {
+    if (e.isConstant() && !(e instanceof Constant)) {
+      return new Constant(e.evaluate(null, 0, 0));
+    }
+    return e;
+  }
+
+  /**
+   * Converts the given boolean to a number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param b the boolean to convert
+   * @return <code>1</code> for <code>true</code> and <code>0</code> for <code>false</code>
+   */
+  static long toLong(final boolean b) {
+    if (b) {
+      return 1;
+    }
+    return 0;
+  }
+
+  /**
+   * The operators with two operands, that are both evaluated.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  enum Operator {
+
+    /** the sum of both operands */
+    ADD ("+") {
+      @Override
+      long apply(final long l, final long r) {
+        return l + r;
+      }
+    },
+
+    /** the difference of both operands */
+    SUBTRACT ("-") {
+      @Override
+      long apply(final long l, final long r) {
+        return l - r;
+      }
+    },
+
+    /** whether the left operand is less than the right operand */
+    LESS ("<") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l < r);
+      }
+    },
+
+    /** whether the left operand is less than or equal to the right operand */
+    LESS_EQUAL ("<=") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l <= r);
+      }
+    },
+
+    /** whether the left operand is greater than the right operand */
+    GREATER (">") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l > r);
+      }
+    },
+
+    /** whether the left operand is greater than or equal to the right operand */
+    GREATER_EQUAL (">=") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l >= r);
+      }
+    },
+
+    /** whether both operands are equal */
+    EQUAL ("==") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l == r);
+      }
+    },
+
+    /** whether the operands differ */
+    NOT_EQUAL ("!=") {
+      @Override
+      long apply(final long l, final long r) {
+        return toLong(l != r);
+      }
+    };
+
+    /** the symbol of the operator in a condition */
+    @NotNull
+    private final String symbol;
+
+    /**
+     * Constructs the operator with the given symbol.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param s the symbol of the operator in a condition
+     */
+    private Operator(final String s) {
+      this.symbol = s;
+    }
+
+    /**
+     * Applies this operator to the given operands.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param l the value of the left operand
+     * @param r the value of the right operand
+     * @return the result of the operator
+     */
+    abstract long apply(long l, long r);
+
+    /**
+     * Returns the operator with the given symbol.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param s the symbol of the operator
+     * @return the operator or <code>null</code> if there is no operator with the given symbol
+     */
+    static Operator forSymbol(final String s) {
+      for (final Operator op : values()) {
+        if (op.symbol.equals(s)) {
+          return op;
+        }
+      }
+      return null;
+    }
+  }
+}
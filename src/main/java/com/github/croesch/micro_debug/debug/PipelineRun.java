@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import java.io.ByteArrayInputStream;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+import com.github.croesch.micro_debug.mic3.Mic3;
+import com.github.croesch.micro_debug.mic3.PipelineModel;
+
+/**
+ * Runs an IJVM program on the Mic-1 and on a pipelined processor, to compare the ticks of the Mic-1 with the cycles of
+ * the pipeline. After the execution the pipelined processor is kept to report its statistics.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class PipelineRun implements Runnable {
+
+  /** the Mic-1 executing the program */
+  @Nullable
+  private Mic1 mic1;
+
+  /** the pipelined processor executing the program */
+  @Nullable
+  private Mic3 pipeline;
+
+  /** the io of the Mic-1 */
+  @NotNull
+  private final BufferedIO mic1IO;
+
+  /** the io of the pipelined processor */
+  @NotNull
+  private final BufferedIO pipelineIO;
+
+  /** the number of ticks executed by the Mic-1 */
+  private long mic1Ticks = 0;
+
+  /** the number of macro instructions executed by the Mic-1 */
+  private long mic1Instructions = 0;
+
+  /** whether both processors have reached the halt instruction */
+  private boolean halted = false;
+
+  /** the error that prevented the execution, or <code>null</code> if there was no error */
+  @Nullable
+  private String error = null;
+
+  /**
+   * Prepares the execution of the given program on both processors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mic1Store the micro program of the Mic-1
+   * @param mic2Store the micro program of the pipelined processor
+   * @param model the pipeline to model
+   * @param program the binary IJVM program
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   * @param limit the maximum number of ticks each processor executes
+   */
+  public PipelineRun(final MicroControlStore mic1Store,
+                     final Mic2ControlStore mic2Store,
+                     final PipelineModel model,
+                     final byte[] program,
+                     final byte[] input,
+                     final long limit) {
+    this.mic1IO = new BufferedIO(input);
+    this.pipelineIO = new BufferedIO(input);
+    try {
+      this.mic1 = ProgramComparison.createProcessor(mic1Store, program);
+      this.mic1.getMemory().setIO(this.mic1IO);
+      this.mic1.setTickLimit(limit);
+      this.pipeline = new Mic3(mic2Store, model, new ByteArrayInputStream(program));
+      this.pipeline.getMemory().setIO(this.pipelineIO);
+      this.pipeline.setTickLimit(limit);
+    } catch (final MacroFileFormatException e) {
+      this.error = e.getMessage();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    if (this.error != null) {
+      return;
+    }
+    try {
+      this.mic1Ticks = this.mic1.run();
+      this.mic1Instructions = this.mic1.getMacroInstructions();
+      this.pipeline.run();
+      this.halted = this.mic1.getHaltReason() == HaltReason.HALT_INSTRUCTION
+                    && this.pipeline.getHaltReason() == HaltReason.HALT_INSTRUCTION;
+    } catch (final RuntimeException e) {
+      this.error = String.valueOf(e.getMessage());
+    }
+    // the Mic-1 isn't needed anymore, release its memory
+    this.mic1 = null;
+  }
+
+  /**
+   * Returns the pipelined processor that has executed the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the pipelined processor or <code>null</code> if the program couldn't be read
+   */
+  @Nullable
+  public Mic3 getPipeline() {
+    return this.pipeline;
+  }
+
+  /**
+   * Returns the number of ticks the Mic-1 has executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks of the Mic-1
+   */
+  public long getMic1Ticks() {
+    return this.mic1Ticks;
+  }
+
+  /**
+   * Returns the number of macro instructions the Mic-1 has executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed macro instructions
+   */
+  public long getMic1Instructions() {
+    return this.mic1Instructions;
+  }
+
+  /**
+   * Returns whether both processors have reached the halt instruction. Otherwise at least one of them has been
+   * stopped by the limit of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if both processors have halted
+   */
+  public boolean isHalted() {
+    return this.halted;
+  }
+
+  /**
+   * Returns whether both processors have written the same output.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the outputs are equal
+   */
+  public boolean isOutputEqual() {
+    return this.mic1IO.getOutputAsString().equals(this.pipelineIO.getOutputAsString());
+  }
+
+  /**
+   * Returns the output written by the Mic-1.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the Mic-1
+   */
+  @NotNull
+  public String getMic1Output() {
+    return this.mic1IO.getOutputAsString();
+  }
+
+  /**
+   * Returns the output written by the pipelined processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the pipelined processor
+   */
+  @NotNull
+  public String getPipelineOutput() {
+    return this.pipelineIO.getOutputAsString();
+  }
+
+  /**
+   * Returns the error that prevented the execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the message of the error or <code>null</code> if there was no error
+   */
+  @Nullable
+  public String getError() {
+    return this.error;
+  }
+}
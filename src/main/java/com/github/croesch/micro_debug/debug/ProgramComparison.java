@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Runs an IJVM program with two different micro programs and compares the results. Both processors are executed in
+ * lockstep, one macro instruction at a time, and after each macro instruction the state that is visible to the IJVM
+ * program is compared: the registers PC, SP, LV and CPP, the word on top of the stack and the number of bytes written
+ * to the output. After both processors have halted, their output, stack and memory are compared.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class ProgramComparison implements Runnable {
+
+  /** the registers that are visible to the IJVM program */
+  private static final Register[] MACRO_REGISTERS = { Register.PC, Register.SP, Register.LV, Register.CPP };
+
+  /** the name of the compared program */
+  @NotNull
+  private final String name;
+
+  /** the processor executing the first micro program */
+  @Nullable
+  private Mic1 first;
+
+  /** the processor executing the second micro program */
+  @Nullable
+  private Mic1 second;
+
+  /** the io of the first processor */
+  @NotNull
+  private final BufferedIO firstIO;
+
+  /** the io of the second processor */
+  @NotNull
+  private final BufferedIO secondIO;
+
+  /** the maximum number of ticks each processor executes */
+  private final long maxTicks;
+
+  /** the number of ticks executed by the first processor */
+  private long firstTicks = 0;
+
+  /** the number of ticks executed by the second processor */
+  private long secondTicks = 0;
+
+  /** the number of macro instructions that have been executed by both processors with the same visible state */
+  private long instructions = 0;
+
+  /** the number of the first macro instruction after which the visible state differs, or <code>-1</code> */
+  private long divergingInstruction = -1;
+
+  /** the address of the macro instruction after which the visible state differs first */
+  private int divergingAddress = -1;
+
+  /** the number of ticks executed by the first processor when the visible state differs first */
+  private long divergingTick = -1;
+
+  /** the number of words of the memory that differ after the execution */
+  private int differentWords = 0;
+
+  /** whether the stacks of both processors are equal after the execution */
+  private boolean stackEqual = false;
+
+  /** the error that prevented the comparison, or <code>null</code> if there was no error */
+  @Nullable
+  private String error = null;
+
+  /**
+   * Prepares the comparison of the given program executed by the given micro programs.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param programName the name of the IJVM program
+   * @param firstStore the first micro program
+   * @param secondStore the second micro program
+   * @param program the binary IJVM program
+   * @param input the bytes both processors read as input, may be <code>null</code>
+   * @param limit the maximum number of ticks each processor executes
+   */
+  public ProgramComparison(final String programName,
+                           final MicroControlStore firstStore,
+                           final MicroControlStore secondStore,
+                           final byte[] program,
+                           final byte[] input,
+                           final long limit) {
+    this.name = programName;
+    this.maxTicks = limit;
+    this.firstIO = new BufferedIO(input);
+    this.secondIO = new BufferedIO(input);
+    try {
+      this.first = createProcessor(firstStore, program);
+      this.first.getMemory().setIO(this.firstIO);
+      this.second = createProcessor(secondStore, program);
+      this.second.getMemory().setIO(this.secondIO);
+    } catch (final MacroFileFormatException e) {
+      this.error = e.getMessage();
+    }
+  }
+
+  /**
+   * Creates a silent processor with its own registers, that doesn't detect endless loops.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the micro program of the processor
+   * @param program the binary IJVM program
+   * @return the created processor
+   * @throws MacroFileFormatException if the IJVM program has an invalid format
+   */
+  @NotNull
+  static Mic1 createProcessor(final MicroControlStore store, final byte[] program) throws MacroFileFormatException {
+    final Mic1 mic1 = new Mic1(store, new ByteArrayInputStream(program), new RegisterFile());
+    mic1.setPrintingTicks(false);
+    mic1.setLoopDetection(false);
+    return mic1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    if (this.error != null) {
+      return;
+    }
+    try {
+      compare(this.first, this.second);
+    } catch (final RuntimeException e) {
+      this.error = String.valueOf(e.getMessage());
+    }
+    // the processors aren't needed anymore, release their memory
+    this.first = null;
+    this.second = null;
+  }
+
+  /**
+   * Executes both processors in lockstep and compares their state.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param a the processor executing the first micro program
+   * @param b the processor executing the second micro program
+   */
+  private void compare(final Mic1 a, final Mic1 b) {
+    boolean aRunning = true;
+    boolean bRunning = true;
+    while ((aRunning || bRunning) && !Thread.currentThread().isInterrupted()) {
+      final int address = a.getNextMacroAddress();
+      if (aRunning) {
+        // a micro program looping within a macro instruction is stopped by the limit of the step
+        a.setTickLimit(Math.max(1, this.maxTicks - this.firstTicks));
+        a.step();
+        this.firstTicks += a.getPublishedTicks();
+        aRunning = a.getHaltReason() == HaltReason.STEPS_DONE && this.firstTicks < this.maxTicks;
+      }
+      if (bRunning) {
+        b.setTickLimit(Math.max(1, this.maxTicks - this.secondTicks));
+        b.step();
+        this.secondTicks += b.getPublishedTicks();
+        bRunning = b.getHaltReason() == HaltReason.STEPS_DONE && this.secondTicks < this.maxTicks;
+      }
+      // a processor stopped by the limit hasn't finished the instruction, so it can't be compared
+      if (this.divergingInstruction < 0 && !isLimitReached()) {
+        if (aRunning == bRunning && hasSameVisibleState(a, b)) {
+          // the first step only fetches the first macro instruction
+          if (address != Settings.MIC1_REGISTER_PC_DEFVAL.getValue()) {
+            ++this.instructions;
+          }
+        } else {
+          this.divergingInstruction = this.instructions;
+          this.divergingAddress = address;
+          this.divergingTick = this.firstTicks;
+        }
+      }
+    }
+
+    this.differentWords = a.getMemory().getDifferentWords(b.getMemory()).size();
+    final int sp = a.getRegisters().get(Register.SP);
+    this.stackEqual = sp == b.getRegisters().get(Register.SP);
+    for (int addr = Settings.MIC1_REGISTER_SP_DEFVAL.getValue(); this.stackEqual && addr <= sp; ++addr) {
+      this.stackEqual = a.getMemoryValue(addr) == b.getMemoryValue(addr);
+    }
+  }
+
+  /**
+   * Returns whether both processors have the same state, that is visible to the IJVM program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param a the processor executing the first micro program
+   * @param b the processor executing the second micro program
+   * @return <code>true</code> if the visible state of both processors is equal
+   */
+  private boolean hasSameVisibleState(final Mic1 a, final Mic1 b) {
+    for (final Register r : MACRO_REGISTERS) {
+      if (a.getRegisters().get(r) != b.getRegisters().get(r)) {
+        return false;
+      }
+    }
+    return a.getMemoryValue(a.getRegisters().get(Register.SP)) == b.getMemoryValue(b.getRegisters().get(Register.SP))
+           && this.firstIO.getOutput().length == this.secondIO.getOutput().length;
+  }
+
+  /**
+   * Returns the name of the compared program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the IJVM program
+   */
+  @NotNull
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the error that prevented the comparison.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the description of the error or <code>null</code> if the program has been compared
+   */
+  @Nullable
+  public String getError() {
+    return this.error;
+  }
+
+  /**
+   * Returns the number of ticks the first micro program needed to execute the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed by the first processor
+   */
+  public long getFirstTicks() {
+    return this.firstTicks;
+  }
+
+  /**
+   * Returns the number of ticks the second micro program needed to execute the program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed by the second processor
+   */
+  public long getSecondTicks() {
+    return this.secondTicks;
+  }
+
+  /**
+   * Returns whether one of the processors has been stopped, because it reached the maximum number of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if at least one processor didn't halt within the maximum number of ticks
+   */
+  public boolean isLimitReached() {
+    return this.firstTicks >= this.maxTicks || this.secondTicks >= this.maxTicks;
+  }
+
+  /**
+   * Returns whether both processors have written the same output.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the output of both processors is equal
+   */
+  public boolean isOutputEqual() {
+    return Arrays.equals(this.firstIO.getOutput(), this.secondIO.getOutput());
+  }
+
+  /**
+   * Returns the output written by the first processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the first processor
+   */
+  @NotNull
+  public String getFirstOutput() {
+    return this.firstIO.getOutputAsString();
+  }
+
+  /**
+   * Returns the output written by the second processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the output of the second processor
+   */
+  @NotNull
+  public String getSecondOutput() {
+    return this.secondIO.getOutputAsString();
+  }
+
+  /**
+   * Returns the number of words of the memory that differ after the execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of different words, <code>0</code> if the memory of both processors is equal
+   */
+  public int getNumberOfDifferentWords() {
+    return this.differentWords;
+  }
+
+  /**
+   * Returns whether both processors have the same stack after the execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the stack pointers and the words on the stacks are equal
+   */
+  public boolean isStackEqual() {
+    return this.stackEqual;
+  }
+
+  /**
+   * Returns whether the state visible to the IJVM program has differed after a macro instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the processors diverged
+   */
+  public boolean hasDiverged() {
+    return this.divergingInstruction >= 0;
+  }
+
+  /**
+   * Returns the number of macro instructions executed before the visible state differed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of equally executed macro instructions, or <code>-1</code> if the processors didn't diverge
+   */
+  public long getDivergingInstruction() {
+    return this.divergingInstruction;
+  }
+
+  /**
+   * Returns the address of the macro instruction after which the visible state differed first.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the macro instruction, or <code>-1</code> if the processors didn't diverge
+   */
+  public int getDivergingAddress() {
+    return this.divergingAddress;
+  }
+
+  /**
+   * Returns the number of ticks executed by the first processor, when the visible state differed first.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks, or <code>-1</code> if the processors didn't diverge
+   */
+  public long getDivergingTick() {
+    return this.divergingTick;
+  }
+}
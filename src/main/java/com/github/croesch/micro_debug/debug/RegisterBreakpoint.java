@@ -23,6 +23,7 @@ import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 
 /**
  * A breakpoint for a specific value of a register.
@@ -52,7 +53,16 @@ final class RegisterBreakpoint extends AbstractRegisterBreakpoint {
                                 final int macroLine,
                                 final MicroInstruction currentInstruction,
                                 final MicroInstruction nextInstruction) {
-    return getRegister().getValue() == this.val;
+    return isConditionMet(RegisterFile.getDefault(), microLine, macroLine, currentInstruction, nextInstruction);
+  }
+
+  @Override
+  boolean isConditionMet(final RegisterFile registers,
+                         final int microLine,
+                         final int macroLine,
+                         final MicroInstruction currentInstruction,
+                         final MicroInstruction nextInstruction) {
+    return registers.get(getRegister()) == this.val;
   }
 
   @Override
@@ -47,6 +47,12 @@ public enum Text {
 
   /** the text to view how many ticks have been executed by the processor */
   TICKS,
+  /** the text to view that the processor stopped, because it reached the maximum number of ticks */
+  TICK_LIMIT_REACHED,
+  /** the text to view that the processor stopped, because it reached the maximum execution time */
+  TIME_LIMIT_REACHED,
+  /** the text to view that the processor stopped, because its state repeats */
+  LOOP_DETECTED,
 
   /** the text to print the value of a register */
   REGISTER_VALUE,
@@ -78,23 +84,227 @@ public enum Text {
   BREAKPOINT_MACRO,
   /** the text to print the breakpoint for a specific line in micro code */
   BREAKPOINT_MICRO,
+  /** the text to print a breakpoint that only stops if a condition holds */
+  BREAKPOINT_CONDITIONAL,
+  /** the text to print a breakpoint that stops as soon as a condition holds */
+  BREAKPOINT_CONDITION,
+
+  /** the text to print a frame of a method in the backtrace */
+  BACKTRACE_FRAME,
+  /** the text to print the frame of the main program in the backtrace */
+  BACKTRACE_MAIN,
+  /** the text that there is no method to step out of */
+  NOT_IN_METHOD,
 
   /** the text that describes an unknown ijvm instruction */
   UNKNOWN_IJVM_INSTRUCTION,
 
+  /** the text to print that a fork of the processor has reached the halt instruction */
+  FORK_HALTED,
+  /** the text to print that a fork of the processor has been stopped by a breakpoint */
+  FORK_STOPPED,
+  /** the text to print that a fork of the processor has been interrupted or reached a limit */
+  FORK_INTERRUPTED,
+  /** the text to print that a fork of the processor has reached the maximum number of ticks of forks */
+  FORK_TICK_LIMIT,
+  /** the text to print a register that has a different value in the fork than in the processor */
+  FORK_REGISTER_DIFFERENCE,
+  /** the text to print a memory word that has a different value in the fork than in the processor */
+  FORK_MEMORY_DIFFERENCE,
+  /** the text to print that the fork has the same state as the processor */
+  FORK_NO_DIFFERENCE,
+  /** the text to print the output of a fork of the processor */
+  FORK_OUTPUT,
+
+  /** the text to print the number of ticks of an IJVM instruction */
+  CYCLES,
+  /** the text to print before the comparison of the number of ticks of two micro programs */
+  CYCLES_COMPARISON_HEADER,
+  /** the text to print the number of ticks of an IJVM instruction in two micro programs */
+  CYCLES_COMPARISON,
+  /** the text to describe a fixed number of ticks */
+  CYCLES_EXACT,
+  /** the text to describe a range of the number of ticks */
+  CYCLES_RANGE,
+  /** the text to describe a number of ticks without upper limit */
+  CYCLES_UNBOUNDED,
+  /** the text to describe that an IJVM instruction never returns to Main1 */
+  CYCLES_NEVER,
+
+  /** the text to print before the profile of the execution */
+  PROFILE_HEADER,
+  /** the text to print before the samples of the IJVM instructions */
+  PROFILE_INSTRUCTIONS,
+  /** the text to print before the samples of the methods */
+  PROFILE_METHODS,
+  /** the text to print before the samples of the micro instructions */
+  PROFILE_MICRO_INSTRUCTIONS,
+  /** the text to print the number of samples of an element of the profile */
+  PROFILE_SAMPLES,
+  /** the text to describe a method in the profile */
+  PROFILE_METHOD,
+  /** the text to describe the main program in the profile */
+  PROFILE_MAIN,
+  /** the text that the execution hasn't been profiled */
+  NO_PROFILE,
+
+  /** the text to print how many micro instructions have been executed */
+  COVERAGE_MICRO,
+  /** the text to print how many directions of conditional jumps have been taken */
+  COVERAGE_BRANCHES,
+  /** the text to print how many IJVM instructions have been reached by JMPC */
+  COVERAGE_DISPATCH,
+  /** the text to print how many macro instructions have been executed */
+  COVERAGE_MACRO,
+  /** the text to print that a program has been executed to measure the coverage */
+  COVERAGE_RUN,
+  /** the text to print that a program didn't halt within the maximum number of ticks, when measuring the coverage */
+  COVERAGE_RUN_LIMIT,
+  /** the text to print that a program couldn't be executed to measure the coverage */
+  COVERAGE_ERROR,
+  /** the text that no coverage has been recorded */
+  NO_COVERAGE,
+
+  /** the text to print the configuration of a cache */
+  CACHE_CONFIGURATION,
+  /** the text to print the counters of a cache */
+  CACHE_COUNTERS,
+  /** the name of the cache accessed by fetch */
+  CACHE_INSTRUCTION_CACHE,
+  /** the name of the cache accessed by rd and wr */
+  CACHE_DATA_CACHE,
+  /** the text to print the number of ticks the processor would have been stalled by cache misses */
+  CACHE_STALLS,
+  /** the header of the cache accesses of each IJVM instruction */
+  CACHE_INSTRUCTIONS,
+  /** the text to print the cache accesses of an IJVM instruction */
+  CACHE_INSTRUCTION,
+  /** the text that no caches are modelled */
+  NO_CACHE,
+  /** the text that the configuration of a cache is invalid */
+  INVALID_CACHE,
+
+  /** the text to print the number of executed and taken branches */
+  BRANCH_COUNTERS,
+  /** the text to print the accuracy of a branch predictor */
+  BRANCH_PREDICTOR,
+  /** the text to print before the accuracy of the predictors for each branch site */
+  BRANCH_SITES,
+  /** the text to print the accuracy of the predictors for a branch site */
+  BRANCH_SITE,
+  /** the text to print the accuracy of a predictor for a branch site */
+  BRANCH_SITE_PREDICTOR,
+  /** the text that no branch predictors are evaluated */
+  NO_BRANCH_PREDICTORS,
+  /** the text that the number of entries of the tables of the branch predictors is invalid */
+  INVALID_BRANCH_PREDICTORS,
+
+  /** the text to print the number of ticks a program needs with two micro programs */
+  COMPARISON_TICKS,
+  /** the text to print that a program has the same result with two micro programs */
+  COMPARISON_EQUAL,
+  /** the text to print that a program writes different output with two micro programs */
+  COMPARISON_OUTPUT,
+  /** the text to print that a program leaves different stacks with two micro programs */
+  COMPARISON_STACK,
+  /** the text to print that a program leaves different memory with two micro programs */
+  COMPARISON_MEMORY,
+  /** the text to print where the visible state of a program differs first with two micro programs */
+  COMPARISON_DIVERGENCE,
+  /** the text to print that a program didn't halt within the maximum number of ticks */
+  COMPARISON_LIMIT,
+  /** the text to print that a program couldn't be compared */
+  COMPARISON_ERROR,
+
+  /** the text to print the number of ticks a program needs on the Mic-1 and on the Mic-2 */
+  MIC2_TICKS,
+  /** the text to print the number of ticks all compared programs need on the Mic-1 and on the Mic-2 */
+  MIC2_TOTAL,
+
+  /** the text to print the number of cycles a program needs on a pipelined processor */
+  PIPELINE_CYCLES,
+  /** the text to print the number of cycles the stalls of the pipeline took */
+  PIPELINE_STALLS,
+  /** the text to print before the cycles of each IJVM instruction on a pipelined processor */
+  PIPELINE_INSTRUCTIONS,
+  /** the text to print the number of cycles an IJVM instruction needs on a pipelined processor */
+  PIPELINE_INSTRUCTION,
+
+  /** the text to print the number of ticks all cores of a multi processor executed */
+  SMP_SUMMARY,
+  /** the text to print the number of ticks and memory operations of a core of a multi processor */
+  SMP_CORE,
+  /** the text to print the output of the cores of a multi processor */
+  SMP_OUTPUT,
+  /** the text that the number of cores of a multi processor is invalid */
+  INVALID_CORES,
+
+  /** the text to print that the daemon is waiting for programs to execute */
+  DAEMON_STARTED,
+  /** the text to print that the daemon couldn't be started */
+  DAEMON_ERROR,
+
+  /** the text to print that two processors didn't diverge */
+  BISECT_EQUAL,
+  /** the text to print in which macro instruction two processors diverged */
+  BISECT_DIVERGENCE,
+  /** the text to print the micro instructions that made two processors diverge */
+  BISECT_INSTRUCTION,
+  /** the text to print the values of a register of two diverged processors */
+  BISECT_REGISTER,
+  /** the text to print the values of a register, that differ between two diverged processors */
+  BISECT_REGISTER_DIFFERENCE,
+
+  /** the text to print after which tick a searched condition holds */
+  SEARCH_HIT,
+  /** the text to print that a searched condition doesn't hold */
+  SEARCH_NO_HIT,
+  /** the text to print that the search ended, because the program reads input */
+  SEARCH_INPUT,
+  /** the text to print that the search ended, because the program has halted */
+  SEARCH_HALT,
+
+  /** the text to print the progress of the execution in the background */
+  RUNNING_STATUS,
+  /** the text to print that the execution in the background has been paused */
+  RUNNING_PAUSED,
+  /** the text to print that the execution in the background has been stopped and the processor reset */
+  RUNNING_STOPPED,
+  /** the text to print that the program running in the background waits for input */
+  WAITING_FOR_INPUT,
+
   // descriptions of different problems
 
   /** the text to format an error line output */
   ERROR,
 
+  /** describes that an instruction can't be executed while the processor is running in the background */
+  PROCESSOR_RUNNING,
+  /** describes that the processor isn't running in the background */
+  PROCESSOR_NOT_RUNNING,
+
   /** describes an invalid memory address */
   INVALID_MEM_ADDR,
+  /** describes an invalid address in the control store */
+  INVALID_MICRO_ADDR,
+  /** describes an invalid micro instruction */
+  INVALID_MICRO_INSTRUCTION,
   /** describes an invalid number */
   INVALID_NUMBER,
   /** describes an invalid register */
   INVALID_REGISTER,
   /** describes an invalid debug mode */
   INVALID_DEBUG_MODE,
+  /** describes an invalid replacement policy of the cache model */
+  INVALID_REPLACEMENT_POLICY,
+  /** describes an invalid model of a pipeline */
+  INVALID_PIPELINE_MODEL,
+  /** describes an invalid way to schedule the cores of a multi processor */
+  INVALID_SCHEDULING_MODE,
+  /** describes an invalid memory-consistency model */
+  INVALID_CONSISTENCY_MODEL,
+  /** describes an invalid condition */
+  INVALID_CONDITION,
 
   /** describes an unknown instruction */
   UNKNOWN_INSTRUCTION,
@@ -115,9 +325,13 @@ public enum Text {
   WRONG_FORMAT_MIC1,
   /** describes that the ijvm-file has a wrong file format */
   WRONG_FORMAT_IJVM,
+  /** describes that the source of an ijvm-program couldn't be assembled */
+  ASSEMBLER_ERROR,
 
   /** describes that the specific file couldn't be found */
   FILE_NOT_FOUND,
+  /** describes that the specific file couldn't be written */
+  FILE_NOT_WRITTEN,
 
   /** the text to give a hint the user should try to read the help */
   TRY_HELP;
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * The shadow call stack of the processor. It contains a frame for each method that has been invoked by
+ * INVOKEVIRTUAL and hasn't returned yet, so that the call stack is known without walking the links between the frames
+ * in the memory. The main program has no frame, so the depth of the call stack is zero while executing it.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class CallStack {
+
+  /** the number of frames the arrays are created with */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** the addresses of the INVOKEVIRTUAL instructions that have invoked the methods, index is the depth - 1 */
+  @NotNull
+  private int[] callSites = new int[INITIAL_CAPACITY];
+
+  /** the addresses of the invoked methods, index is the depth - 1 */
+  @NotNull
+  private int[] methods = new int[INITIAL_CAPACITY];
+
+  /** the number of frames on the call stack */
+  private int depth = 0;
+
+  /**
+   * Adds the frame of a method that is being invoked.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param callSite the address of the INVOKEVIRTUAL instruction
+   * @param method the address of the invoked method
+   */
+  void push(final int callSite, final int method) {
+    if (this.depth == this.callSites.length) {
+      this.callSites = copyOf(this.callSites, this.depth * 2);
+      this.methods = copyOf(this.methods, this.depth * 2);
+    }
+    this.callSites[this.depth] = callSite;
+    this.methods[this.depth] = method;
+    ++this.depth;
+  }
+
+  /**
+   * Removes the frame of the method that is returning. Does nothing if the call stack is empty, because the main
+   * program can return as well.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void pop() {
+    if (this.depth > 0) {
+      --this.depth;
+    }
+  }
+
+  /**
+   * Removes all frames.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void clear() {
+    this.depth = 0;
+  }
+
+  /**
+   * Sets the frames of this call stack to the frames of the given call stack.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the call stack to copy
+   */
+  void copyOf(final CallStack other) {
+    this.callSites = copyOf(other.callSites, other.callSites.length);
+    this.methods = copyOf(other.methods, other.methods.length);
+    this.depth = other.depth;
+  }
+
+  /**
+   * Returns a copy of the given array with the given length.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param array the array to copy
+   * @param length the length of the copy, mustn't be less than the length of the given array
+   * @return the copy of the array
+   */
+  @NotNull
+  private static int[] copyOf(final int[] array, final int length) {
+    final int[] copy = new int[length];
+    System.arraycopy(array, 0, copy, 0, array.length);
+    return copy;
+  }
+
+  /**
+   * Returns the number of methods that have been invoked and haven't returned yet.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of frames on the call stack, zero while executing the main program
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * Returns the address of the INVOKEVIRTUAL instruction that has invoked the method of the given frame.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param frame the number of the frame, counted from the innermost frame (0) to the outermost frame (depth - 1)
+   * @return the address of the invoking instruction
+   */
+  public int getCallSite(final int frame) {
+    return this.callSites[this.depth - 1 - frame];
+  }
+
+  /**
+   * Returns the address of the method of the given frame.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param frame the number of the frame, counted from the innermost frame (0) to the outermost frame (depth - 1)
+   * @return the address of the invoked method
+   */
+  public int getMethod(final int frame) {
+    return this.methods[this.depth - 1 - frame];
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import java.util.BitSet;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+
+/**
+ * The coverage of the micro program and of the macro code by the executions of processors. Stores which micro
+ * instructions have been executed, which directions of the conditional jumps with JMPN and JMPZ have been taken, which
+ * micro instructions have been reached by a JMPC dispatch and at which addresses macro instructions have been fetched.
+ * The coverage of several executions, for example of a batch of programs executed on several threads, can be merged.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Coverage {
+
+  /** the addresses of the executed micro instructions */
+  @NotNull
+  private final BitSet microInstructions = new BitSet();
+
+  /** the addresses of the micro instructions with a conditional jump, that has jumped to the alternative address */
+  @NotNull
+  private final BitSet takenBranches = new BitSet();
+
+  /** the addresses of the micro instructions with a conditional jump, that hasn't jumped to the alternative address */
+  @NotNull
+  private final BitSet notTakenBranches = new BitSet();
+
+  /** the addresses of the micro instructions that have been reached by a JMPC dispatch */
+  @NotNull
+  private final BitSet dispatchTargets = new BitSet();
+
+  /** the addresses of the executed macro instructions */
+  @NotNull
+  private final BitSet macroInstructions = new BitSet();
+
+  /**
+   * Records the execution of a micro instruction. Is invoked by the executing processor, without synchronisation.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the executed micro instruction
+   * @param jmpSignals the jump signals of the executed micro instruction
+   * @param taken whether a JMPN or JMPZ of the instruction has jumped to the alternative address
+   * @param next the address of the micro instruction executed next
+   */
+  void coverMicroInstruction(final int mpc, final JMPSignalSet jmpSignals, final boolean taken, final int next) {
+    this.microInstructions.set(mpc);
+    if (jmpSignals.isJmpN() || jmpSignals.isJmpZ()) {
+      if (taken) {
+        this.takenBranches.set(mpc);
+      } else {
+        this.notTakenBranches.set(mpc);
+      }
+    }
+    if (jmpSignals.isJmpC()) {
+      this.dispatchTargets.set(next);
+    }
+  }
+
+  /**
+   * Records the execution of the macro instruction at the given address. Is invoked by the executing processor,
+   * without synchronisation.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the executed macro instruction
+   */
+  void coverMacroInstruction(final int addr) {
+    this.macroInstructions.set(addr);
+  }
+
+  /**
+   * Adds the coverage of the micro program and of the macro code stored in the given coverage to this coverage. Can be
+   * invoked by several threads at the same time, but the given coverage mustn't be recorded into meanwhile.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the coverage to add to this coverage
+   */
+  public synchronized void merge(final Coverage other) {
+    mergeMicroCoverage(other);
+    this.macroInstructions.or(other.macroInstructions);
+  }
+
+  /**
+   * Adds the coverage of the micro program stored in the given coverage to this coverage. Is used to merge the
+   * coverage of executions of other macro programs, whose addresses don't refer to the same instructions. Can be
+   * invoked by several threads at the same time, but the given coverage mustn't be recorded into meanwhile.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the coverage to add to this coverage
+   */
+  public synchronized void mergeMicroCoverage(final Coverage other) {
+    this.microInstructions.or(other.microInstructions);
+    this.takenBranches.or(other.takenBranches);
+    this.notTakenBranches.or(other.notTakenBranches);
+    this.dispatchTargets.or(other.dispatchTargets);
+  }
+
+  /**
+   * Returns whether the micro instruction at the given address has been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction
+   * @return <code>true</code>, if the micro instruction has been executed
+   */
+  public synchronized boolean isMicroInstructionCovered(final int mpc) {
+    return mpc >= 0 && this.microInstructions.get(mpc);
+  }
+
+  /**
+   * Returns whether the conditional jump of the micro instruction at the given address has jumped to the alternative
+   * address, the one with the highest bit set.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction
+   * @return <code>true</code>, if the branch has been taken
+   */
+  public synchronized boolean isBranchTaken(final int mpc) {
+    return mpc >= 0 && this.takenBranches.get(mpc);
+  }
+
+  /**
+   * Returns whether the conditional jump of the micro instruction at the given address has jumped to the address
+   * given in the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction
+   * @return <code>true</code>, if the branch has been not taken
+   */
+  public synchronized boolean isBranchNotTaken(final int mpc) {
+    return mpc >= 0 && this.notTakenBranches.get(mpc);
+  }
+
+  /**
+   * Returns whether the micro instruction at the given address has been reached by a JMPC dispatch.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction
+   * @return <code>true</code>, if the micro instruction has been a dispatch target
+   */
+  public synchronized boolean isDispatchTarget(final int mpc) {
+    return mpc >= 0 && this.dispatchTargets.get(mpc);
+  }
+
+  /**
+   * Returns whether the macro instruction at the given address has been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the macro instruction
+   * @return <code>true</code>, if the macro instruction has been executed
+   */
+  public synchronized boolean isMacroInstructionCovered(final int addr) {
+    return addr >= 0 && this.macroInstructions.get(addr);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import com.github.croesch.micro_debug.annotation.Nullable;
+
+/**
+ * Detects that a processor is caught in an endless loop, using Brent's cycle detection on the states of the processor.
+ * After each tick the hash of the current state is compared to the hash of a saved state, if the hashes are equal the
+ * states are compared exactly. The saved state is replaced each time the number of ticks since saving it reaches the
+ * next power of two. So the detected period is the exact number of ticks after which the state repeats.<br>
+ * If the processor reads input, the following states don't only depend on the state of the processor, so the
+ * detection starts again.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class LoopDetector {
+
+  /** the saved state (a fork of the processor) to compare the current state with */
+  @Nullable
+  private Mic1 savedState = null;
+
+  /** the hash of the saved state */
+  private int savedHash;
+
+  /** the number of ticks after which the saved state will be replaced */
+  private long power;
+
+  /** the number of ticks since the saved state has been saved */
+  private long distance;
+
+  /** the number of input reads of the processor, when the state has been saved */
+  private long inputReads;
+
+  /**
+   * Forgets the saved state, so that the detection starts again with the next state.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void reset() {
+    this.savedState = null;
+  }
+
+  /**
+   * Checks whether the current state of the given processor is equal to the saved state. Should be invoked once after
+   * each tick of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to check
+   * @return the number of ticks after which the state of the processor repeats, or <code>0</code> if no loop has been
+   *         detected yet.
+   */
+  long check(final Mic1 processor) {
+    final long reads = processor.getMemory().getInputReads();
+    final int hash = processor.getStateHash();
+    if (this.savedState == null || reads != this.inputReads) {
+      this.power = 1;
+      save(processor, hash, reads);
+      return 0;
+    }
+
+    ++this.distance;
+    if (hash == this.savedHash && processor.hasSameState(this.savedState)) {
+      return this.distance;
+    }
+    if (this.distance == this.power) {
+      this.power <<= 1;
+      save(processor, hash, reads);
+    }
+    return 0;
+  }
+
+  /**
+   * Saves the current state of the given processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to save the state of
+   * @param hash the hash of the current state
+   * @param reads the number of input reads of the processor
+   */
+  private void save(final Mic1 processor, final int hash, final long reads) {
+    this.savedState = processor.fork();
+    this.savedHash = hash;
+    this.inputReads = reads;
+    this.distance = 0;
+  }
+}
@@ -25,23 +25,27 @@ import com.github.croesch.micro_debug.annotation.NotNull;
 import com.github.croesch.micro_debug.annotation.Nullable;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
 import com.github.croesch.micro_debug.error.MacroFileFormatException;
 import com.github.croesch.micro_debug.error.MicroFileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.alu.Alu;
 import com.github.croesch.micro_debug.mic1.api.IProcessorInterpreter;
+import com.github.croesch.micro_debug.mic1.branch.BranchModel;
 import com.github.croesch.micro_debug.mic1.controlstore.ALUSignalSet;
 import com.github.croesch.micro_debug.mic1.controlstore.CBusSignalSet;
 import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
 import com.github.croesch.micro_debug.mic1.controlstore.MemorySignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroCodeVerifier;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionDecoder;
-import com.github.croesch.micro_debug.mic1.io.Input;
-import com.github.croesch.micro_debug.mic1.io.Output;
+import com.github.croesch.micro_debug.mic1.mem.CacheModel;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
 import com.github.croesch.micro_debug.mic1.mem.Memory;
 import com.github.croesch.micro_debug.mic1.mpc.NextMPCCalculator;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 import com.github.croesch.micro_debug.mic1.shifter.Shifter;
 import com.github.croesch.micro_debug.settings.Settings;
 
@@ -56,6 +60,12 @@ public final class Mic1 {
   /** the {@link Logger} for this class */
   private static final Logger LOGGER = Logger.getLogger(Mic1.class.getName());
 
+  /** the mask of the tick counter, that selects the ticks where the elapsed time is checked (every 4096 ticks) */
+  private static final long TIME_CHECK_MASK = 0xFFF;
+
+  /** the number of nanoseconds per second */
+  private static final double NANOS_PER_SECOND = 1e9;
+
   /** the ALU of the processor */
   @NotNull
   private final Alu alu = new Alu();
@@ -83,8 +93,51 @@ public final class Mic1 {
   @NotNull
   private final Memory memory;
 
-  /** counter for ticks that have been executed */
-  private int ticks;
+  /** the values of the registers of the processor */
+  @NotNull
+  private final RegisterFile registers;
+
+  /** whether the number of executed ticks is printed to the user */
+  private boolean printingTicks;
+
+  /** counter for ticks that have been executed by the current or last execution */
+  private long ticks;
+
+  /** the number of ticks executed since the processor has been constructed, before the current execution started */
+  private long ticksBeforeExecution = 0;
+
+  /** the number of ticks executed since the processor has been constructed, when it has been reset the last time */
+  private long ticksBeforeReset = 0;
+
+  /** the methods that have been invoked and haven't returned yet */
+  @NotNull
+  private final CallStack callStack = new CallStack();
+
+  /** the opcode of the ijvm instruction that invokes a method, <code>-1</code> if it isn't configured */
+  private final int invokeOpcode;
+
+  /** the opcode of the ijvm instruction that returns from a method, <code>-1</code> if it isn't configured */
+  private final int returnOpcode;
+
+  /** the maximum number of ticks to execute per run or step, zero or less means unlimited */
+  private long tickLimit = Settings.MIC1_MAX_TICKS.getValue();
+
+  /** the maximum time in milliseconds to execute ticks per run or step, zero or less means unlimited */
+  private long timeLimit = Settings.MIC1_MAX_MILLIS.getValue();
+
+  /** the time in milliseconds when the current run or step exceeds the time limit */
+  private long deadline = Long.MAX_VALUE;
+
+  /** the reason why the last run or step stopped executing ticks */
+  @Nullable
+  private HaltReason haltReason = null;
+
+  /** the detector of endless loops or <code>null</code> if loop detection is disabled */
+  @Nullable
+  private LoopDetector loopDetector = null;
+
+  /** the number of ticks after which the state repeats, if the last run or step has been stopped by a loop */
+  private long loopPeriod = 0;
 
   /** stores the current address of the ijvm-instruction being executed */
   private int lastMacroAddress;
@@ -93,8 +146,61 @@ public final class Mic1 {
   @Nullable
   private IProcessorInterpreter interpreter = null;
 
-  /** stores if the processor has been interrupted while executing ticks */
-  private boolean interrupted = false;
+  /** stores if the processor has been interrupted while executing ticks, may be set by any thread */
+  private volatile boolean interrupted = false;
+
+  /**
+   * whether the current execution started at a reachable instruction of a micro program, in which no reachable
+   * instruction jumps to an undefined address and no instruction sets both control lines of the shifter
+   */
+  private boolean verified = false;
+
+  /** the number of executed ticks, published for other threads every few ticks */
+  private volatile long publishedTicks = 0;
+
+  /** the address of the executed macro instruction, published for other threads every few ticks */
+  private volatile int publishedMacroAddress = 0;
+
+  /** the number of macro instructions that have been fetched for execution since the processor has been constructed */
+  private long macroInstructions = 0;
+
+  /** the number of JMPN and JMPZ branches that have been taken since the processor has been constructed */
+  private long takenBranches = 0;
+
+  /** the number of JMPC dispatches to the address in MBR since the processor has been constructed */
+  private long dispatches = 0;
+
+  /** the number of times the processor has been stopped by a breakpoint since it has been constructed */
+  private long breakpointHits = 0;
+
+  /** the time in nanoseconds, from which the throughput of the next published statistics is measured */
+  private long throughputTime = 0;
+
+  /** the number of executed ticks at the time, from which the throughput of the next statistics is measured */
+  private long throughputTicks = 0;
+
+  /** the profile the samples of the execution are recorded into or <code>null</code> if it isn't profiled */
+  @Nullable
+  private Profile profile = null;
+
+  /** the number of ticks until the next sample is recorded into the profile */
+  private long ticksUntilSample = Long.MAX_VALUE;
+
+  /** the coverage the executed instructions are recorded into or <code>null</code> if coverage isn't recorded */
+  @Nullable
+  private Coverage coverage = null;
+
+  /** the model of the caches in front of the memory or <code>null</code> if no caches are modelled */
+  @Nullable
+  private CacheModel cacheModel = null;
+
+  /** the model evaluating branch predictors or <code>null</code> if no branch predictors are evaluated */
+  @Nullable
+  private BranchModel branchModel = null;
+
+  /** the snapshot of the counters, published for other threads every few ticks */
+  @NotNull
+  private volatile ProcessorStatistics statistics;
 
   /**
    * Constructs a new Mic1-processor, reading the given inputstreams as micro-program and assembler-program.
@@ -107,11 +213,154 @@ public final class Mic1 {
    */
   public Mic1(final InputStream micAsm, final InputStream asm) throws MacroFileFormatException,
                                                               MicroFileFormatException {
+    this(new MicroControlStore(micAsm), asm);
+  }
+
+  /**
+   * Constructs a new Mic1-processor, executing the micro-program of the given control store and reading the given
+   * inputstream as assembler-program. The control store isn't copied, so changes of it affect this processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro-program
+   * @param asm the assembler-program
+   * @throws MacroFileFormatException if the macro assembler program has invalid format
+   */
+  public Mic1(final MicroControlStore store, final InputStream asm) throws MacroFileFormatException {
+    this(store, asm, RegisterFile.getDefault());
+  }
+
+  /**
+   * Constructs a new Mic1-processor, executing the micro-program of the given control store and reading the given
+   * inputstream as assembler-program. The processor stores its registers in the given register file, so several
+   * processors can be executed independently at the same time.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro-program
+   * @param asm the assembler-program
+   * @param registerFile the register file of the processor, it'll be reset to the default values
+   * @throws MacroFileFormatException if the macro assembler program has invalid format
+   */
+  public Mic1(final MicroControlStore store,
+              final InputStream asm,
+              final RegisterFile registerFile) throws MacroFileFormatException {
+    this(store, new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(), asm), registerFile);
+  }
 
-    this.controlStore = new MicroControlStore(micAsm);
-    this.memory = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(), asm);
+  /**
+   * Constructs a new Mic1-processor, executing the micro-program of the given control store and the assembler-program
+   * contained in the given memory. The memory isn't copied, so it can be a port of a memory that is shared with other
+   * processors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro-program
+   * @param mem the memory containing the assembler-program
+   * @param registerFile the register file of the processor, it'll be reset to the default values
+   */
+  public Mic1(final MicroControlStore store, final Memory mem, final RegisterFile registerFile) {
+    this.controlStore = store;
+    this.memory = mem;
+    this.registers = registerFile;
+    this.printingTicks = true;
+    this.invokeOpcode = IJVMOpcodeTable.getDefault().getOpcode("INVOKEVIRTUAL");
+    this.returnOpcode = IJVMOpcodeTable.getDefault().getOpcode("IRETURN");
 
     init();
+    setLoopDetection(Settings.MIC1_LOOP_DETECTION.getValue() != 0);
+    this.statistics = new ProcessorStatistics(this, System.nanoTime(), 0);
+  }
+
+  /**
+   * Constructs a fork of the given processor. The fork shares the micro program with the given processor and gets a
+   * copy-on-write fork of the memory and a copy of the registers. It has no interpreter and doesn't print the number
+   * of executed ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the processor to fork
+   */
+  private Mic1(final Mic1 original) {
+    this.controlStore = original.controlStore;
+    this.memory = original.memory.fork();
+    this.registers = new RegisterFile();
+    this.registers.copyOf(original.registers);
+    this.printingTicks = false;
+    this.invokeOpcode = original.invokeOpcode;
+    this.returnOpcode = original.returnOpcode;
+
+    this.mpcCalculator = new NextMPCCalculator();
+    this.mpcCalculator.copyOf(original.mpcCalculator);
+    this.instruction = original.instruction;
+    this.oldMpc = original.oldMpc;
+    this.lastMacroAddress = original.lastMacroAddress;
+    this.ticks = 0;
+    this.ticksBeforeExecution = original.getExecutedTicks();
+    this.ticksBeforeReset = original.ticksBeforeReset;
+    this.callStack.copyOf(original.callStack);
+    this.tickLimit = original.tickLimit;
+    this.timeLimit = original.timeLimit;
+    if (original.loopDetector != null) {
+      this.loopDetector = new LoopDetector();
+    }
+    this.macroInstructions = original.macroInstructions;
+    this.takenBranches = original.takenBranches;
+    this.dispatches = original.dispatches;
+    this.breakpointHits = original.breakpointHits;
+    this.statistics = new ProcessorStatistics(this, System.nanoTime(), 0);
+  }
+
+  /**
+   * Creates a fork of this processor, that continues independently from the current state of this processor. The
+   * memory of the fork is copied lazily, so forking is cheap even for large memories. The fork uses its own
+   * {@link RegisterFile} and has no interpreter attached.<br>
+   * <b>Note:</b> This method mustn't be invoked while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the fork of this processor
+   */
+  @NotNull
+  public Mic1 fork() {
+    return new Mic1(this);
+  }
+
+  /**
+   * Sets the state of this processor to the state of the given processor, for example to continue from the state a
+   * fork has reached. Registers, micro program counter and memory are taken from the given processor, the io,
+   * interpreter and limits of this processor are kept.<br>
+   * <b>Note:</b> This method mustn't be invoked while one of the processors is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param state the processor to take the state from, must execute the same micro program as this processor
+   */
+  public void restore(final Mic1 state) {
+    this.memory.restore(state.memory);
+    this.registers.copyOf(state.registers);
+    this.mpcCalculator.copyOf(state.mpcCalculator);
+    this.instruction = state.instruction;
+    this.oldMpc = state.oldMpc;
+    this.lastMacroAddress = state.lastMacroAddress;
+    this.ticks = 0;
+    this.ticksBeforeExecution = state.getExecutedTicks();
+    this.ticksBeforeReset = state.ticksBeforeReset;
+    this.callStack.copyOf(state.callStack);
+    if (this.loopDetector != null) {
+      this.loopDetector.reset();
+    }
+    this.macroInstructions = state.macroInstructions;
+    this.takenBranches = state.takenBranches;
+    this.dispatches = state.dispatches;
+    this.breakpointHits = state.breakpointHits;
+    this.statistics = new ProcessorStatistics(this, System.nanoTime(), this.statistics.getTicksPerSecond());
+  }
+
+  /**
+   * Returns the values of the registers of this processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link RegisterFile} of this processor, for the processor constructed from the program files this is
+   *         the {@link RegisterFile#getDefault() default register file}.
+   */
+  @NotNull
+  public RegisterFile getRegisters() {
+    return this.registers;
   }
 
   /**
@@ -133,7 +382,10 @@ public final class Mic1 {
     initRegisters();
 
     this.mpcCalculator = new NextMPCCalculator();
+    this.ticksBeforeExecution += this.ticks;
     this.ticks = 0;
+    this.ticksBeforeReset = this.ticksBeforeExecution;
+    this.callStack.clear();
     this.lastMacroAddress = -1;
     this.oldMpc = -1;
     this.instruction = null;
@@ -149,8 +401,7 @@ public final class Mic1 {
     init();
 
     this.memory.reset();
-    Input.reset();
-    Output.reset();
+    this.memory.getIO().reset();
   }
 
   /**
@@ -159,16 +410,16 @@ public final class Mic1 {
    * @since Date: Dec 1, 2011
    */
   private void initRegisters() {
-    Register.CPP.setValue(Settings.MIC1_REGISTER_CPP_DEFVAL.getValue());
-    Register.H.setValue(Settings.MIC1_REGISTER_H_DEFVAL.getValue());
-    Register.LV.setValue(Settings.MIC1_REGISTER_LV_DEFVAL.getValue());
-    Register.MAR.setValue(Settings.MIC1_REGISTER_MAR_DEFVAL.getValue());
-    Register.MBR.setValue(Settings.MIC1_REGISTER_MBR_DEFVAL.getValue());
-    Register.MDR.setValue(Settings.MIC1_REGISTER_MDR_DEFVAL.getValue());
-    Register.OPC.setValue(Settings.MIC1_REGISTER_OPC_DEFVAL.getValue());
-    Register.PC.setValue(Settings.MIC1_REGISTER_PC_DEFVAL.getValue());
-    Register.SP.setValue(Settings.MIC1_REGISTER_SP_DEFVAL.getValue());
-    Register.TOS.setValue(Settings.MIC1_REGISTER_TOS_DEFVAL.getValue());
+    this.registers.set(Register.CPP, Settings.MIC1_REGISTER_CPP_DEFVAL.getValue());
+    this.registers.set(Register.H, Settings.MIC1_REGISTER_H_DEFVAL.getValue());
+    this.registers.set(Register.LV, Settings.MIC1_REGISTER_LV_DEFVAL.getValue());
+    this.registers.set(Register.MAR, Settings.MIC1_REGISTER_MAR_DEFVAL.getValue());
+    this.registers.set(Register.MBR, Settings.MIC1_REGISTER_MBR_DEFVAL.getValue());
+    this.registers.set(Register.MDR, Settings.MIC1_REGISTER_MDR_DEFVAL.getValue());
+    this.registers.set(Register.OPC, Settings.MIC1_REGISTER_OPC_DEFVAL.getValue());
+    this.registers.set(Register.PC, Settings.MIC1_REGISTER_PC_DEFVAL.getValue());
+    this.registers.set(Register.SP, Settings.MIC1_REGISTER_SP_DEFVAL.getValue());
+    this.registers.set(Register.TOS, Settings.MIC1_REGISTER_TOS_DEFVAL.getValue());
   }
 
   /**
@@ -180,6 +431,24 @@ public final class Mic1 {
     final boolean assemblerCodeFetchingInstruction = isAssemblerCodeFetchingInstruction();
     if (assemblerCodeFetchingInstruction) {
       this.lastMacroAddress = getNextMacroAddress();
+      ++this.macroInstructions;
+      updateCallStack();
+      if (this.coverage != null) {
+        this.coverage.coverMacroInstruction(this.lastMacroAddress);
+      }
+      if (this.cacheModel != null) {
+        this.cacheModel.setOpcode(this.memory.getByte(this.lastMacroAddress));
+      }
+      if (this.branchModel != null) {
+        this.branchModel.instructionDispatched(this.memory, this.lastMacroAddress);
+      }
+      if (this.memory.getBus() != null) {
+        this.memory.getBus().instructionDispatched(this.memory.getByte(this.lastMacroAddress));
+      }
+    }
+    // without a profile the counter won't reach zero
+    if (--this.ticksUntilSample == 0) {
+      this.ticksUntilSample = this.profile.sample(this);
     }
 
     doClock1();
@@ -190,6 +459,23 @@ public final class Mic1 {
     ++this.ticks;
   }
 
+  /**
+   * Updates the call stack, if the macro instruction that is being dispatched invokes a method or returns from a
+   * method.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void updateCallStack() {
+    final int opcode = this.memory.getByte(this.lastMacroAddress);
+    if (opcode == this.invokeOpcode) {
+      final int index = this.memory.getByte(this.lastMacroAddress + 1) << Byte.SIZE
+                        | this.memory.getByte(this.lastMacroAddress + 2);
+      this.callStack.push(this.lastMacroAddress, this.memory.getWord(this.registers.get(Register.CPP) + index));
+    } else if (opcode == this.returnOpcode) {
+      this.callStack.pop();
+    }
+  }
+
   /**
    * Returns whether the current instruction is the assembler code fetching instruction that invokes a micro method.
    * 
@@ -223,10 +509,10 @@ public final class Mic1 {
    */
   public void microStep(final int number) {
     softReset();
-    while (this.ticks < number && canContinue()) {
+    while (canContinue(this.ticks < number)) {
       doTick();
     }
-    printTicks();
+    endExecution();
   }
 
   /**
@@ -251,13 +537,55 @@ public final class Mic1 {
     int step = 0;
 
     softReset();
-    while (step < steps && canContinue()) {
+    while (canContinue(step < steps)) {
       doTick();
       if (!isFirstTick() && isAssemblerCodeFetchingInstruction()) {
         ++step;
       }
     }
-    printTicks();
+    endExecution();
+  }
+
+  /**
+   * Executes macro instructions until the next macro instruction of the current method is reached. Methods invoked
+   * by the current instruction are executed completely, so for other instructions this is like {@link #step()}.<br>
+   * The number of effectively executed micro instructions is printed to the user.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stepOver() {
+    stepToDepth(this.callStack.getDepth());
+  }
+
+  /**
+   * Executes macro instructions until the current method has returned to the method that invoked it. If the main
+   * program is being executed, this runs until the end of the program.<br>
+   * The number of effectively executed micro instructions is printed to the user.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void stepOut() {
+    stepToDepth(this.callStack.getDepth() - 1);
+  }
+
+  /**
+   * Executes macro instructions until a macro instruction is fetched while the depth of the call stack is the given
+   * depth or less.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param depth the depth of the call stack to stop at
+   */
+  private void stepToDepth(final int depth) {
+    boolean reached = false;
+
+    softReset();
+    while (canContinue(!reached)) {
+      doTick();
+      if (!isFirstTick() && isAssemblerCodeFetchingInstruction()) {
+        reached = this.callStack.getDepth() <= depth;
+      }
+    }
+    endExecution();
   }
 
   /**
@@ -278,7 +606,62 @@ public final class Mic1 {
    *         <code>false</code> otherwise
    */
   private boolean canContinue() {
-    return !isInterrupted() && !isHaltInstruction() && doesInterpreterAllowToContinue();
+    this.haltReason = determineHaltReason();
+    return this.haltReason == null;
+  }
+
+  /**
+   * Returns whether the debugger can continue executing instructions or if it should stop, because the requested
+   * number of steps has been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param stepsLeft <code>true</code>, if the requested number of steps hasn't been executed yet
+   * @return <code>true</code>, if the debugger can continue executing instructions,<br>
+   *         <code>false</code> otherwise
+   */
+  private boolean canContinue(final boolean stepsLeft) {
+    if (!stepsLeft) {
+      this.haltReason = HaltReason.STEPS_DONE;
+      return false;
+    }
+    return canContinue();
+  }
+
+  /**
+   * Returns the reason why the processor should stop executing ticks now.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link HaltReason} or <code>null</code>, if the processor can continue executing ticks.
+   */
+  @Nullable
+  private HaltReason determineHaltReason() {
+    if ((this.ticks & TIME_CHECK_MASK) == 0) {
+      publishProgress();
+    }
+    if (isInterrupted()) {
+      return HaltReason.INTERRUPTED;
+    }
+    if (isHaltInstruction()) {
+      return HaltReason.HALT_INSTRUCTION;
+    }
+    if (!doesInterpreterAllowToContinue()) {
+      ++this.breakpointHits;
+      return HaltReason.BREAKPOINT;
+    }
+    if (this.tickLimit > 0 && this.ticks >= this.tickLimit) {
+      return HaltReason.TICK_LIMIT;
+    }
+    if (this.loopDetector != null) {
+      this.loopPeriod = this.loopDetector.check(this);
+      if (this.loopPeriod > 0) {
+        return HaltReason.LOOP;
+      }
+    }
+    // reading the clock is expensive, so do it only every few thousand ticks
+    if ((this.ticks & TIME_CHECK_MASK) == 0 && this.ticks > 0 && System.currentTimeMillis() >= this.deadline) {
+      return HaltReason.TIME_LIMIT;
+    }
+    return null;
   }
 
   /**
@@ -309,8 +692,8 @@ public final class Mic1 {
     this.alu.setF0(aluSignals.isF0()).setF1(aluSignals.isF1());
     this.alu.setInc(aluSignals.isInc()).setInvA(aluSignals.isInvA());
     // set A and B-Bus
-    this.alu.setA(Register.H.getValue());
-    this.alu.setB(this.instruction.getbBusSelect().getValue());
+    this.alu.setA(this.registers.get(Register.H));
+    this.alu.setB(this.registers.get(this.instruction.getbBusSelect()));
     // run ALU
     this.alu.calculate();
 
@@ -320,7 +703,11 @@ public final class Mic1 {
     // setting input from ALU
     this.shifter.setInput(this.alu.getOut());
     // run shifter
-    this.shifter.calculate();
+    if (this.verified) {
+      this.shifter.calculateVerified();
+    } else {
+      this.shifter.calculate();
+    }
   }
 
   /**
@@ -347,7 +734,7 @@ public final class Mic1 {
     this.mpcCalculator.setZ(this.alu.isZ());
 
     // fill MBR and MDR
-    this.memory.fillRegisters(Register.MDR, Register.MBR);
+    this.memory.fillRegisters(this.registers, Register.MDR, Register.MBR);
   }
 
   /**
@@ -358,7 +745,7 @@ public final class Mic1 {
   private void doClock3() {
     // fetch address and MBR for calculation of mpc
     this.mpcCalculator.setAddr(this.instruction.getNextAddress());
-    this.mpcCalculator.setMbr((byte) Register.MBR.getValue());
+    this.mpcCalculator.setMbr((byte) this.registers.get(Register.MBR));
 
     // fetch signals for calculation of mpc
     final JMPSignalSet jmpSignals = this.instruction.getJmpSignals();
@@ -368,15 +755,26 @@ public final class Mic1 {
     // calculate next mpc
     this.mpcCalculator.calculate();
 
+    final boolean branchTaken = (jmpSignals.isJmpN() && this.alu.isN()) || (jmpSignals.isJmpZ() && this.alu.isZ());
+    if (branchTaken) {
+      ++this.takenBranches;
+    }
+    if (jmpSignals.isJmpC()) {
+      ++this.dispatches;
+    }
+    if (this.coverage != null) {
+      this.coverage.coverMicroInstruction(this.oldMpc, jmpSignals, branchTaken, getNextMpc());
+    }
+
     // fetch signals for memory operations
     final MemorySignalSet memSignals = this.instruction.getMemorySignals();
     this.memory.setFetch(memSignals.isFetch());
     this.memory.setRead(memSignals.isRead());
     this.memory.setWrite(memSignals.isWrite());
     // fetch values of PC, MAR and MDR and set it to the memory
-    this.memory.setByteAddress(Register.PC.getValue());
-    this.memory.setWordAddress(Register.MAR.getValue());
-    this.memory.setWordValue(Register.MDR.getValue());
+    this.memory.setByteAddress(this.registers.get(Register.PC));
+    this.memory.setWordAddress(this.registers.get(Register.MAR));
+    this.memory.setWordValue(this.registers.get(Register.MDR));
     // let the memory do its work
     this.memory.doTick();
   }
@@ -388,33 +786,33 @@ public final class Mic1 {
    * @param value the value of the C-Bus.
    * @param cBusSignals the signals that determine, which registers are selected.
    */
-  private static void setValueIntoRegisters(final int value, final CBusSignalSet cBusSignals) {
+  private void setValueIntoRegisters(final int value, final CBusSignalSet cBusSignals) {
     if (cBusSignals.isCpp()) {
-      Register.CPP.setValue(value);
+      this.registers.set(Register.CPP, value);
     }
     if (cBusSignals.isH()) {
-      Register.H.setValue(value);
+      this.registers.set(Register.H, value);
     }
     if (cBusSignals.isLv()) {
-      Register.LV.setValue(value);
+      this.registers.set(Register.LV, value);
     }
     if (cBusSignals.isMar()) {
-      Register.MAR.setValue(value);
+      this.registers.set(Register.MAR, value);
     }
     if (cBusSignals.isMdr()) {
-      Register.MDR.setValue(value);
+      this.registers.set(Register.MDR, value);
     }
     if (cBusSignals.isOpc()) {
-      Register.OPC.setValue(value);
+      this.registers.set(Register.OPC, value);
     }
     if (cBusSignals.isPc()) {
-      Register.PC.setValue(value);
+      this.registers.set(Register.PC, value);
     }
     if (cBusSignals.isSp()) {
-      Register.SP.setValue(value);
+      this.registers.set(Register.SP, value);
     }
     if (cBusSignals.isTos()) {
-      Register.TOS.setValue(value);
+      this.registers.set(Register.TOS, value);
     }
   }
 
@@ -424,12 +822,12 @@ public final class Mic1 {
    * @since Date: Jan 14, 2012
    * @return the number of ticks that this method executed.
    */
-  public int run() {
+  public long run() {
     softReset();
     while (canContinue()) {
       doTick();
     }
-    printTicks();
+    endExecution();
 
     return this.ticks;
   }
@@ -440,19 +838,85 @@ public final class Mic1 {
    * @since Date: Jan 21, 2012
    */
   private void printTicks() {
-    if (this.ticks > 0) {
-      Printer.println(Text.TICKS.text(this.ticks));
+    if (this.printingTicks) {
+      if (this.ticks > 0) {
+        Printer.println(Text.TICKS.text(this.ticks));
+      }
+      if (this.haltReason == HaltReason.TICK_LIMIT) {
+        Printer.println(Text.TICK_LIMIT_REACHED.text(this.tickLimit));
+      } else if (this.haltReason == HaltReason.TIME_LIMIT) {
+        Printer.println(Text.TIME_LIMIT_REACHED.text(this.timeLimit));
+      } else if (this.haltReason == HaltReason.LOOP) {
+        Printer.println(Text.LOOP_DETECTED.text(this.loopPeriod));
+      }
     }
   }
 
   /**
-   * Resets the counter of executed ticks to zero and resets the interrupted flag.
+   * Finishes the current execution: consumes an interruption, publishes the progress and prints the executed ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void endExecution() {
+    this.interrupted = false;
+    // the store or the registers may be modified until the next execution
+    this.verified = false;
+    publishProgress();
+    printTicks();
+  }
+
+  /**
+   * Publishes the number of executed ticks, the address of the executed macro instruction and a snapshot of the
+   * counters for other threads. Isn't invoked each tick, to keep the execution free of memory barriers.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void publishProgress() {
+    this.publishedTicks = this.ticks;
+    this.publishedMacroAddress = this.lastMacroAddress;
+
+    final long now = System.nanoTime();
+    double ticksPerSecond = this.statistics.getTicksPerSecond();
+    final long executed = getExecutedTicks();
+    if (executed > this.throughputTicks && now > this.throughputTime) {
+      ticksPerSecond = (executed - this.throughputTicks) * NANOS_PER_SECOND / (now - this.throughputTime);
+    }
+    this.throughputTime = now;
+    this.throughputTicks = executed;
+    this.statistics = new ProcessorStatistics(this, now, ticksPerSecond);
+  }
+
+  /**
+   * Resets the counter of executed ticks to zero, starts the time limit, decides whether the execution can rely on the
+   * verification of the micro program and repeats a read of the input that has been cancelled. The interrupted flag
+   * isn't reset here, so that an interruption requested just before the execution started isn't lost.
    * 
    * @since Date: Jan 16, 2012
    */
   private void softReset() {
+    this.ticksBeforeExecution += this.ticks;
     this.ticks = 0;
-    this.interrupted = false;
+    // the time the processor has been waiting for the user doesn't count for the throughput
+    this.throughputTime = System.nanoTime();
+    this.throughputTicks = this.ticksBeforeExecution;
+    this.haltReason = null;
+    this.loopPeriod = 0;
+    if (this.loopDetector != null) {
+      this.loopDetector.reset();
+    }
+    // the store isn't modified while ticks are executed, so the instructions are verified once per execution
+    final MicroCodeVerifier verifier = this.controlStore.getVerifier();
+    this.verified = verifier.isClosed() && verifier.getIllegalShifts().isEmpty()
+                    && verifier.isReachable(getNextMpc());
+    if (!this.memory.repeatCancelledInput()) {
+      // the next tick would use the word that hasn't been read
+      this.interrupted = true;
+    }
+    if (this.timeLimit > 0) {
+      this.deadline = System.currentTimeMillis() + this.timeLimit;
+    } else {
+      this.deadline = Long.MAX_VALUE;
+    }
   }
 
   /**
@@ -471,7 +935,7 @@ public final class Mic1 {
     if (this.instruction != null && this.instruction.isNopOrHalt() && getNextMpc() == this.oldMpc) {
       // regular halt condition
       halt = true;
-    } else if (this.controlStore.getInstruction(getNextMpc()) == null) {
+    } else if (!this.verified && this.controlStore.getInstruction(getNextMpc()) == null) {
       // instruction points to an undefined position
       LOGGER.warning("instruction at " + Utils.toHexString(this.oldMpc) + " ["
                      + MicroInstructionDecoder.decode(this.instruction) + "] points to an undefined address: "
@@ -493,7 +957,9 @@ public final class Mic1 {
    *        <code>false</code> otherwise
    */
   private void update(final boolean macroCodeFetching) {
-    this.interpreter.tickDone(this.instruction, macroCodeFetching);
+    if (this.interpreter != null) {
+      this.interpreter.tickDone(this.instruction, macroCodeFetching);
+    }
   }
 
   /**
@@ -546,7 +1012,7 @@ public final class Mic1 {
    * @return the address of the code line that'll be executed next.
    */
   public int getNextMacroAddress() {
-    return Register.PC.getValue();
+    return this.registers.get(Register.PC);
   }
 
   /**
@@ -580,6 +1046,22 @@ public final class Mic1 {
     return this.controlStore;
   }
 
+  /**
+   * Replaces the micro instruction at the given address of the control store. The instruction that is currently
+   * executed isn't affected, the new instruction is used the next time the address is fetched. Previous observations
+   * of the loop detection are discarded, because they were made with the old micro-program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address in the control store
+   * @param instruction the new micro instruction, or <code>null</code> to remove the instruction
+   */
+  public void setMicroInstruction(final int addr, final MicroInstruction instruction) {
+    this.controlStore.setInstruction(addr, instruction);
+    if (this.loopDetector != null) {
+      this.loopDetector.reset();
+    }
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -619,7 +1101,11 @@ public final class Mic1 {
   }
 
   /**
-   * Interrupts the processor.
+   * Interrupts the processor. It will stop executing ticks before the next tick, with {@link HaltReason#INTERRUPTED}.
+   * If the processor isn't executing ticks, the next execution will stop before its first tick, like a thread that is
+   * interrupted before it waits. So an interruption that arrives after the execution has ended makes the next run or
+   * step execute no tick; use {@link #clearInterrupt()} to discard it. The interruption is consumed, when the execution
+   * ends. This method can be invoked by any thread.
    * 
    * @since Date: May 26, 2012
    */
@@ -627,14 +1113,374 @@ public final class Mic1 {
     this.interrupted = true;
   }
 
+  /**
+   * Discards an interruption that hasn't been consumed by an execution. Must only be invoked while the processor isn't
+   * executing ticks, for example by the thread that has interrupted the execution, after it has ended.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void clearInterrupt() {
+    this.interrupted = false;
+  }
+
   /**
    * Returns whether the processor is interrupted.
    * 
    * @since Date: May 26, 2012
-   * @return <code>true</code>, if the processor has been interrupted while executing ticks,<br>
-   *         or <code>false</code> if the processor hasn't been interrupted while executing the last ticks.
+   * @return <code>true</code>, if the processor has been interrupted and the interruption hasn't been consumed by an
+   *         execution yet,<br>
+   *         or <code>false</code> if the processor hasn't been interrupted since the last execution ended.
    */
   public boolean isInterrupted() {
     return this.interrupted;
   }
+
+  /**
+   * Returns why the processor stopped executing ticks in the last run or step.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link HaltReason} of the last run or step, or <code>null</code> if the processor hasn't been run yet.
+   */
+  @Nullable
+  public HaltReason getHaltReason() {
+    return this.haltReason;
+  }
+
+  /**
+   * Sets the maximum number of ticks that a single run or step may execute. The default value is read from
+   * {@link Settings#MIC1_MAX_TICKS}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param limit the maximum number of ticks, zero or a negative number to execute an unlimited number of ticks.
+   */
+  public void setTickLimit(final long limit) {
+    this.tickLimit = limit;
+  }
+
+  /**
+   * Returns the maximum number of ticks that a single run or step may execute.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum number of ticks, zero or a negative number if the number of ticks is unlimited.
+   */
+  public long getTickLimit() {
+    return this.tickLimit;
+  }
+
+  /**
+   * Sets the maximum time that a single run or step may execute ticks. The elapsed time is only checked every 4096
+   * ticks, so the processor may execute a bit longer. The default value is read from {@link Settings#MIC1_MAX_MILLIS}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param millis the maximum time in milliseconds, zero or a negative number to execute without time limit.
+   */
+  public void setTimeLimit(final long millis) {
+    this.timeLimit = millis;
+  }
+
+  /**
+   * Returns the maximum time that a single run or step may execute ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum time in milliseconds, zero or a negative number if the time is unlimited.
+   */
+  public long getTimeLimit() {
+    return this.timeLimit;
+  }
+
+  /**
+   * Enables or disables the detection of endless loops. If enabled, a run or step stops with {@link HaltReason#LOOP}
+   * as soon as the complete state of the processor (registers, micro program counter and memory) repeats. The default
+   * value is read from {@link Settings#MIC1_LOOP_DETECTION}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param enabled <code>true</code> to detect endless loops,<br>
+   *        <code>false</code> to execute endless loops until another reason stops the processor
+   */
+  public void setLoopDetection(final boolean enabled) {
+    this.memory.setContentHashing(enabled);
+    if (enabled) {
+      if (this.loopDetector == null) {
+        this.loopDetector = new LoopDetector();
+      }
+    } else {
+      this.loopDetector = null;
+    }
+  }
+
+  /**
+   * Returns whether endless loops are detected.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if endless loops are detected
+   */
+  public boolean isLoopDetection() {
+    return this.loopDetector != null;
+  }
+
+  /**
+   * Returns the number of ticks after which the state of the processor repeats, if the last run or step has been
+   * stopped by an endless loop.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the period of the endless loop in ticks or <code>0</code>, if the last run or step hasn't been stopped by
+   *         an endless loop.
+   */
+  public long getLoopPeriod() {
+    return this.loopPeriod;
+  }
+
+  /**
+   * Returns a hash of the state of this processor, built from the registers, the micro program counter and the
+   * memory. The memory part is only meaningful, if loop detection is enabled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the hash of the current state
+   */
+  int getStateHash() {
+    final int prime = 31;
+    int result = this.memory.getContentHash();
+    result = prime * result + this.registers.hashCode();
+    result = prime * result + this.mpcCalculator.getMpc();
+    result = prime * result + this.oldMpc;
+    return result;
+  }
+
+  /**
+   * Returns whether the given processor is in exactly the same state as this processor, so that both processors will
+   * execute the same ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the processor to compare with
+   * @return <code>true</code> if both processors have the same registers, micro program counter and memory
+   */
+  boolean hasSameState(final Mic1 other) {
+    return this.oldMpc == other.oldMpc && this.lastMacroAddress == other.lastMacroAddress
+           && this.mpcCalculator.equals(other.mpcCalculator) && this.registers.equals(other.registers)
+           && this.memory.hasSameState(other.memory);
+  }
+
+  /**
+   * Sets whether the number of executed ticks is printed to the user after each execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param print <code>true</code> if the number of ticks should be printed
+   */
+  public void setPrintingTicks(final boolean print) {
+    this.printingTicks = print;
+  }
+
+  /**
+   * Returns the number of ticks executed by the current execution or by the last one, if the processor isn't executing
+   * ticks. Can be invoked by any thread, while executing the value is only updated every 4096 ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed by the current or last execution
+   */
+  public long getPublishedTicks() {
+    return this.publishedTicks;
+  }
+
+  /**
+   * Returns the shadow call stack of this processor, that contains the methods that have been invoked and haven't
+   * returned yet.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the call stack of this processor
+   */
+  @NotNull
+  public CallStack getCallStack() {
+    return this.callStack;
+  }
+
+  /**
+   * Returns the number of ticks executed since the processor has been constructed or reset, by all executions
+   * together.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed since the start of the program
+   */
+  public long getTotalTicks() {
+    return getExecutedTicks() - this.ticksBeforeReset;
+  }
+
+  /**
+   * Returns the address of the macro instruction that is executed by the current execution or has been executed last.
+   * Can be invoked by any thread, while executing the value is only updated every 4096 ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the currently executed macro instruction
+   */
+  public int getPublishedMacroAddress() {
+    return this.publishedMacroAddress;
+  }
+
+  /**
+   * Sets the profile the samples of the execution are recorded into. The samples are recorded by the executing thread,
+   * so the profile mustn't be read while this processor is executing ticks. Forks of the processor aren't profiled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the profile to record the samples into or <code>null</code> to stop profiling
+   */
+  public void setProfile(final Profile p) {
+    this.profile = p;
+    if (p == null) {
+      this.ticksUntilSample = Long.MAX_VALUE;
+    } else {
+      this.ticksUntilSample = p.nextInterval();
+    }
+  }
+
+  /**
+   * Returns the profile the samples of the execution are recorded into.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the profile of this processor or <code>null</code> if the execution isn't profiled
+   */
+  @Nullable
+  public Profile getProfile() {
+    return this.profile;
+  }
+
+  /**
+   * Sets the coverage the executed micro and macro instructions are recorded into. The instructions are recorded by
+   * the executing thread, so the coverage mustn't be read while this processor is executing ticks. Forks of the
+   * processor don't record their coverage.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param c the coverage to record the executed instructions into or <code>null</code> to stop recording
+   */
+  public void setCoverage(final Coverage c) {
+    this.coverage = c;
+  }
+
+  /**
+   * Returns the coverage the executed instructions are recorded into.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the coverage of this processor or <code>null</code> if coverage isn't recorded
+   */
+  @Nullable
+  public Coverage getCoverage() {
+    return this.coverage;
+  }
+
+  /**
+   * Sets the model of the caches in front of the memory, that counts the hits and misses of the memory operations.
+   * Forks of the processor don't access the caches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param model the model of the caches or <code>null</code> to access the memory without caches
+   */
+  public void setCacheModel(final CacheModel model) {
+    this.cacheModel = model;
+    this.memory.setCacheModel(model);
+  }
+
+  /**
+   * Returns the model of the caches in front of the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the model of the caches or <code>null</code> if no caches are modelled
+   */
+  @Nullable
+  public CacheModel getCacheModel() {
+    return this.cacheModel;
+  }
+
+  /**
+   * Sets the model that evaluates branch predictors on the branches of the executed macro code. The branches are
+   * accounted by the executing thread, so the model mustn't be read while this processor is executing ticks. Forks of
+   * the processor don't account their branches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param model the model of the branch predictors or <code>null</code> to stop evaluating them
+   */
+  public void setBranchModel(final BranchModel model) {
+    this.branchModel = model;
+  }
+
+  /**
+   * Returns the model that evaluates branch predictors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the model of the branch predictors or <code>null</code> if no branch predictors are evaluated
+   */
+  @Nullable
+  public BranchModel getBranchModel() {
+    return this.branchModel;
+  }
+
+  /**
+   * Returns the latest snapshot of the counters of this processor. Can be invoked by any thread, while executing the
+   * snapshot is only updated every 4096 ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the statistics published at the end of the last execution or during the current one
+   */
+  @NotNull
+  public ProcessorStatistics getStatistics() {
+    return this.statistics;
+  }
+
+  /**
+   * Returns the number of ticks executed since the processor has been constructed. Other than
+   * {@link #getTotalTicks()} this isn't reset with the processor.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks executed since the processor has been constructed
+   */
+  public long getExecutedTicks() {
+    return this.ticksBeforeExecution + this.ticks;
+  }
+
+  /**
+   * Returns the number of macro instructions that have been fetched for execution since the processor has been
+   * constructed.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed macro instructions
+   */
+  public long getMacroInstructions() {
+    return this.macroInstructions;
+  }
+
+  /**
+   * Returns the number of micro instructions with JMPN or JMPZ that have jumped to the alternative address, since the
+   * processor has been constructed.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of taken branches
+   */
+  public long getTakenBranches() {
+    return this.takenBranches;
+  }
+
+  /**
+   * Returns the number of micro instructions with JMPC that have been executed since the processor has been
+   * constructed.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of dispatches to the address in MBR
+   */
+  public long getDispatches() {
+    return this.dispatches;
+  }
+
+  /**
+   * Returns the number of times the processor has been stopped by a breakpoint since it has been constructed.<br>
+   * <b>Note:</b> This method mustn't be invoked by another thread while this processor is executing ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of breakpoint hits
+   */
+  public long getBreakpointHits() {
+    return this.breakpointHits;
+  }
 }
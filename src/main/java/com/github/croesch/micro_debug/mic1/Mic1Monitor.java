@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.api.IMic1MXBean;
+
+/**
+ * Exposes the counters of a {@link Mic1} via JMX. The monitor only reads the {@link ProcessorStatistics} the processor
+ * publishes, so it can be queried at any time from any thread without slowing the processor down.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic1Monitor implements IMic1MXBean {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(Mic1Monitor.class.getName());
+
+  /** the domain of the names the monitors are registered with */
+  private static final String DOMAIN = "com.github.croesch.micro_debug";
+
+  /** the number of monitors that have been created, to name the monitors */
+  private static int numberOfMonitors = 0;
+
+  /** the processor being monitored */
+  @NotNull
+  private final Mic1 processor;
+
+  /** the name this monitor is registered with */
+  @NotNull
+  private final ObjectName name;
+
+  /**
+   * Constructs a monitor of the given processor. The monitor isn't registered yet.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to monitor
+   */
+  public Mic1Monitor(final Mic1 processor) {
+    this.processor = processor;
+    this.name = createName(nextNumber());
+  }
+
+  /**
+   * Returns the number of the next monitor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number that identifies the monitor in its name
+   */
+  private static synchronized int nextNumber() {
+    return ++numberOfMonitors;
+  }
+
+  /**
+   * Creates the name of the monitor with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param number the number of the monitor
+   * @return the name to register the monitor with
+   */
+  @NotNull
+  private static ObjectName createName(final int number) {
+    try {
+      return new ObjectName(DOMAIN + ":type=Mic1,name=mic1-" + number);
+    } catch (final JMException e) {
+      // the name is always valid
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * Returns the name this monitor is registered with.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link ObjectName} of this monitor
+   */
+  @NotNull
+  public ObjectName getObjectName() {
+    return this.name;
+  }
+
+  /**
+   * Registers this monitor at the platform MBean server.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the monitor has been registered,<br>
+   *         <code>false</code> otherwise
+   */
+  public boolean register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, this.name);
+      return true;
+    } catch (final JMException e) {
+      LOGGER.log(Level.WARNING, "registering the monitor failed", e);
+      return false;
+    }
+  }
+
+  /**
+   * Removes this monitor from the platform MBean server. Does nothing if it isn't registered.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void unregister() {
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    if (server.isRegistered(this.name)) {
+      try {
+        server.unregisterMBean(this.name);
+      } catch (final JMException e) {
+        LOGGER.log(Level.WARNING, "unregistering the monitor failed", e);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getTicks() {
+    return this.processor.getStatistics().getTicks();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public double getTicksPerSecond() {
+    return this.processor.getStatistics().getTicksPerSecond();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getMacroInstructions() {
+    return this.processor.getStatistics().getMacroInstructions();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getMemoryReads() {
+    return this.processor.getStatistics().getMemoryReads();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getMemoryWrites() {
+    return this.processor.getStatistics().getMemoryWrites();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getMemoryFetches() {
+    return this.processor.getStatistics().getMemoryFetches();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getTakenBranches() {
+    return this.processor.getStatistics().getTakenBranches();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getDispatches() {
+    return this.processor.getStatistics().getDispatches();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getInputBytes() {
+    return this.processor.getStatistics().getInputBytes();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getOutputBytes() {
+    return this.processor.getStatistics().getOutputBytes();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getBreakpointHits() {
+    return this.processor.getStatistics().getBreakpointHits();
+  }
+}
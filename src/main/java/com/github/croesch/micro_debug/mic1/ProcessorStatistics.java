@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+
+/**
+ * An immutable snapshot of the counters of a processor. The processor updates its counters each tick without any
+ * synchronisation and publishes a snapshot of them every few thousand ticks and at the end of each execution, so
+ * that other threads can monitor the processor without slowing it down.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class ProcessorStatistics {
+
+  /** the time in nanoseconds, when the snapshot has been taken */
+  private final long time;
+
+  /** the number of ticks the processor has executed */
+  private final long ticks;
+
+  /** the number of ticks the processor has executed per second, while it was executing */
+  private final double ticksPerSecond;
+
+  /** the number of macro instructions the processor has fetched for execution */
+  private final long macroInstructions;
+
+  /** the number of read operations of the memory */
+  private final long memoryReads;
+
+  /** the number of write operations of the memory */
+  private final long memoryWrites;
+
+  /** the number of fetch operations of the memory */
+  private final long memoryFetches;
+
+  /** the number of JMPN and JMPZ branches that have been taken */
+  private final long takenBranches;
+
+  /** the number of jumps to the address stored in MBR */
+  private final long dispatches;
+
+  /** the number of bytes that have been read from the input */
+  private final long inputBytes;
+
+  /** the number of bytes that have been written to the output */
+  private final long outputBytes;
+
+  /** the number of times the processor has been stopped by a breakpoint */
+  private final long breakpointHits;
+
+  /**
+   * Takes a snapshot of the counters of the given processor. Must be invoked by the thread executing the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the processor to take the counters from
+   * @param time the current time in nanoseconds
+   * @param ticksPerSecond the number of ticks the processor has executed per second
+   */
+  ProcessorStatistics(final Mic1 processor, final long time, final double ticksPerSecond) {
+    final Memory memory = processor.getMemory();
+    this.time = time;
+    this.ticks = processor.getExecutedTicks();
+    this.ticksPerSecond = ticksPerSecond;
+    this.macroInstructions = processor.getMacroInstructions();
+    this.memoryReads = memory.getReads();
+    this.memoryWrites = memory.getWrites();
+    this.memoryFetches = memory.getFetches();
+    this.takenBranches = processor.getTakenBranches();
+    this.dispatches = processor.getDispatches();
+    this.inputBytes = memory.getInputReads();
+    this.outputBytes = memory.getOutputWrites();
+    this.breakpointHits = processor.getBreakpointHits();
+  }
+
+  /**
+   * Returns the time when this snapshot has been taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the time in nanoseconds, as returned by {@link System#nanoTime()}
+   */
+  public long getTime() {
+    return this.time;
+  }
+
+  /**
+   * Returns the number of ticks the processor has executed since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed ticks
+   */
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Returns the number of ticks the processor has executed per second, measured while it was executing between the
+   * last two snapshots. Time the processor has spent waiting for the user isn't counted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the throughput of the processor in ticks per second
+   */
+  public double getTicksPerSecond() {
+    return this.ticksPerSecond;
+  }
+
+  /**
+   * Returns the number of macro instructions the processor has fetched for execution since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed macro instructions
+   */
+  public long getMacroInstructions() {
+    return this.macroInstructions;
+  }
+
+  /**
+   * Returns the number of read operations the memory has performed since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory reads
+   */
+  public long getMemoryReads() {
+    return this.memoryReads;
+  }
+
+  /**
+   * Returns the number of write operations the memory has performed since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory writes
+   */
+  public long getMemoryWrites() {
+    return this.memoryWrites;
+  }
+
+  /**
+   * Returns the number of fetch operations the memory has performed since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory fetches
+   */
+  public long getMemoryFetches() {
+    return this.memoryFetches;
+  }
+
+  /**
+   * Returns the number of micro instructions with JMPN or JMPZ that have jumped to the alternative address, since the
+   * processor has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of taken branches
+   */
+  public long getTakenBranches() {
+    return this.takenBranches;
+  }
+
+  /**
+   * Returns the number of micro instructions with JMPC, that have dispatched to the address stored in MBR, since the
+   * processor has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of MBR dispatches
+   */
+  public long getDispatches() {
+    return this.dispatches;
+  }
+
+  /**
+   * Returns the number of bytes that have been read from the input since the processor has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of input bytes
+   */
+  public long getInputBytes() {
+    return this.inputBytes;
+  }
+
+  /**
+   * Returns the number of bytes that have been written to the output since the processor has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of output bytes
+   */
+  public long getOutputBytes() {
+    return this.outputBytes;
+  }
+
+  /**
+   * Returns the number of times the processor has been stopped by a breakpoint since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of breakpoint hits
+   */
+  public long getBreakpointHits() {
+    return this.breakpointHits;
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * A profile of the execution of a processor. The processor records a sample every few ticks, containing the micro
+ * instruction, the macro instruction and the methods on the call stack. The distance between two samples is chosen
+ * randomly around the interval of the profile, so that the samples don't follow the period of a loop. With an interval
+ * of one tick every tick is recorded, which gives the exact profile.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Profile {
+
+  /** the address of the method the samples of the main program are counted for */
+  public static final int MAIN_PROGRAM = -1;
+
+  /** the largest possible interval, so that twice the interval is still a valid integer */
+  public static final int MAX_INTERVAL = Integer.MAX_VALUE / 2;
+
+  /** the name of the frame of the main program in the folded stacks */
+  private static final String MAIN_FRAME = "main";
+
+  /** the separator of the frames in the folded stacks */
+  private static final char FRAME_SEPARATOR = ';';
+
+  /** the average number of ticks between two samples */
+  private final int interval;
+
+  /** the generator of the distances between two samples */
+  @NotNull
+  private final Random random;
+
+  /** the number of recorded samples */
+  private long samples = 0;
+
+  /** the number of samples of each micro instruction, indexed by the address in the control store */
+  @NotNull
+  private final long[] microSamples;
+
+  /** the number of samples of each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] opcodeSamples = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of samples of each method, that has been on top of the call stack */
+  @NotNull
+  private final Map<Integer, Long> methodSamples = new HashMap<Integer, Long>();
+
+  /** the number of samples of each folded stack */
+  @NotNull
+  private final Map<String, Long> stackSamples = new HashMap<String, Long>();
+
+  /**
+   * Constructs an empty profile, that records a sample about every <code>interval</code> ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param microInstructions the number of micro instructions in the control store of the profiled processor
+   * @param interval the average number of ticks between two samples, one means that each tick is recorded
+   */
+  public Profile(final int microInstructions, final int interval) {
+    this(microInstructions, interval, new Random());
+  }
+
+  /**
+   * Constructs an empty profile, that records a sample about every <code>interval</code> ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param microInstructions the number of micro instructions in the control store of the profiled processor
+   * @param interval the average number of ticks between two samples, one means that each tick is recorded
+   * @param random the generator of the distances between two samples
+   */
+  Profile(final int microInstructions, final int interval, final Random random) {
+    if (interval < 1 || interval > MAX_INTERVAL) {
+      throw new IllegalArgumentException();
+    }
+    this.microSamples = new long[microInstructions];
+    this.interval = interval;
+    this.random = random;
+  }
+
+  /**
+   * Returns the number of ticks until the next sample should be recorded. The distances are distributed uniformly
+   * between one and twice the interval.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks to execute before the next sample, at least one
+   */
+  long nextInterval() {
+    if (this.interval == 1) {
+      return 1;
+    }
+    return 1 + this.random.nextInt(2 * this.interval - 1);
+  }
+
+  /**
+   * Records a sample of the tick the given processor is about to execute.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param processor the profiled processor
+   * @return the number of ticks until the next sample should be recorded
+   */
+  long sample(final Mic1 processor) {
+    ++this.samples;
+    ++this.microSamples[processor.getNextMpc()];
+
+    final CallStack stack = processor.getCallStack();
+    if (stack.getDepth() > 0) {
+      increment(this.methodSamples, Integer.valueOf(stack.getMethod(0)));
+    } else {
+      increment(this.methodSamples, Integer.valueOf(MAIN_PROGRAM));
+    }
+
+    final StringBuilder folded = new StringBuilder(MAIN_FRAME);
+    for (int frame = stack.getDepth() - 1; frame >= 0; --frame) {
+      folded.append(FRAME_SEPARATOR).append(Utils.toHexString(stack.getMethod(frame)));
+    }
+    final int macroAddress = processor.getLastMacroAddress();
+    if (macroAddress >= 0) {
+      // before the first instruction has been fetched there is no instruction to count the sample for
+      final int opcode = processor.getMemory().getByte(macroAddress);
+      ++this.opcodeSamples[opcode];
+      folded.append(FRAME_SEPARATOR).append(getOpcodeName(opcode));
+    }
+    increment(this.stackSamples, folded.toString());
+
+    return nextInterval();
+  }
+
+  /**
+   * Increments the number of samples stored for the given key.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param <T> the type of the keys
+   * @param map the map containing the number of samples
+   * @param key the key to increment the number of samples for
+   */
+  private static <T> void increment(final Map<T, Long> map, final T key) {
+    final Long old = map.get(key);
+    if (old == null) {
+      map.put(key, Long.valueOf(1));
+    } else {
+      map.put(key, Long.valueOf(old.longValue() + 1));
+    }
+  }
+
+  /**
+   * Returns the name of the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the instruction
+   * @return the name of the instruction or the opcode, if there is no instruction with the given opcode
+   */
+  @NotNull
+  public static String getOpcodeName(final int opcode) {
+    final IJVMCommand cmd = IJVMOpcodeTable.getDefault().getCommand(opcode);
+    if (cmd == null) {
+      return Utils.toHexString(opcode);
+    }
+    return cmd.getName();
+  }
+
+  /**
+   * Returns the average number of ticks between two samples.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the interval of this profile, one if every tick is recorded
+   */
+  public int getInterval() {
+    return this.interval;
+  }
+
+  /**
+   * Returns the number of samples that have been recorded.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of samples
+   */
+  public long getSamples() {
+    return this.samples;
+  }
+
+  /**
+   * Returns the number of micro instructions in the control store of the profiled processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of micro instructions samples are counted for
+   */
+  public int getNumberOfMicroInstructions() {
+    return this.microSamples.length;
+  }
+
+  /**
+   * Returns the number of samples of the micro instruction at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the micro instruction in the control store
+   * @return the number of samples of the micro instruction or zero, if the address is invalid
+   */
+  public long getMicroSamples(final int mpc) {
+    if (mpc < 0 || mpc >= this.microSamples.length) {
+      return 0;
+    }
+    return this.microSamples[mpc];
+  }
+
+  /**
+   * Returns the number of samples of the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the IJVM instruction
+   * @return the number of samples of the IJVM instruction or zero, if the opcode is invalid
+   */
+  public long getOpcodeSamples(final int opcode) {
+    if (opcode < 0 || opcode >= this.opcodeSamples.length) {
+      return 0;
+    }
+    return this.opcodeSamples[opcode];
+  }
+
+  /**
+   * Returns the number of samples of each method, that has been on top of the call stack when the sample has been
+   * recorded. The samples of the main program are counted for {@link #MAIN_PROGRAM}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return an unmodifiable {@link Map} from the address of the method to the number of samples
+   */
+  @NotNull
+  public Map<Integer, Long> getMethodSamples() {
+    return Collections.unmodifiableMap(this.methodSamples);
+  }
+
+  /**
+   * Returns the number of samples of each call stack in the folded format used to draw flame graphs: the frames are
+   * separated by semicolons, starting with <code>main</code>, followed by the addresses of the invoked methods and
+   * ending with the name of the executed IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return an unmodifiable {@link Map} from the folded call stack to the number of samples
+   */
+  @NotNull
+  public Map<String, Long> getStackSamples() {
+    return Collections.unmodifiableMap(this.stackSamples);
+  }
+}
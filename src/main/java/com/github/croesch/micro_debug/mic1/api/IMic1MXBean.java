@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.api;
+
+/**
+ * Management interface of a processor, that exposes the counters of the processor via JMX. The values are taken from
+ * the snapshot the processor publishes every few thousand ticks, so reading them never slows the processor down.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public interface IMic1MXBean {
+
+  /**
+   * Returns the number of ticks the processor has executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed ticks
+   */
+  long getTicks();
+
+  /**
+   * Returns the number of ticks the processor has executed per second while it was executing.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the throughput of the processor in ticks per second
+   */
+  double getTicksPerSecond();
+
+  /**
+   * Returns the number of macro instructions the processor has fetched for execution.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed macro instructions
+   */
+  long getMacroInstructions();
+
+  /**
+   * Returns the number of read operations the memory has performed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory reads
+   */
+  long getMemoryReads();
+
+  /**
+   * Returns the number of write operations the memory has performed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory writes
+   */
+  long getMemoryWrites();
+
+  /**
+   * Returns the number of fetch operations the memory has performed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of memory fetches
+   */
+  long getMemoryFetches();
+
+  /**
+   * Returns the number of JMPN and JMPZ branches that have been taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of taken branches
+   */
+  long getTakenBranches();
+
+  /**
+   * Returns the number of JMPC dispatches to the address stored in MBR.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of MBR dispatches
+   */
+  long getDispatches();
+
+  /**
+   * Returns the number of bytes that have been read from the input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of input bytes
+   */
+  long getInputBytes();
+
+  /**
+   * Returns the number of bytes that have been written to the output.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of output bytes
+   */
+  long getOutputBytes();
+
+  /**
+   * Returns the number of times the processor has been stopped by a breakpoint.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of breakpoint hits
+   */
+  long getBreakpointHits();
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.api;
+
+/**
+ * Represents the input and output the processor is connected to via memory mapped io.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public interface IProcessorIO {
+
+  /**
+   * Reads a single byte from the input of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the byte value of the read byte,<br>
+   *         or <code>-1</code> if there is nothing to read.
+   */
+  byte read();
+
+  /**
+   * Writes a single byte to the output of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param value the byte to write
+   */
+  void write(byte value);
+
+  /**
+   * Resets the buffers of input and output, so that the processor behaves as when started.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void reset();
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.api.IReadableMemory;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Evaluates several {@link IBranchPredictor}s on the branches of an IJVM program while it is executed. The processor
+ * reports each dispatched macro instruction; an instruction with a label is a branch and its outcome is known, when
+ * the next instruction is dispatched: the branch has been taken, if the next instruction isn't the one following the
+ * branch. The branches and the mispredictions of each predictor are counted for the whole program and for each branch
+ * site. All counters are stored in arrays, that only grow when a new branch site is found.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class BranchModel {
+
+  /** the value of the address of the pending branch, if the last instruction hasn't been a branch */
+  private static final int NO_BRANCH = -1;
+
+  /** the initial number of branch sites the arrays can store */
+  private static final int INITIAL_SITES = 16;
+
+  /** the table to decode the branches */
+  @NotNull
+  private final IJVMOpcodeTable table = IJVMOpcodeTable.getDefault();
+
+  /** the evaluated predictors */
+  @NotNull
+  private final IBranchPredictor[] predictors;
+
+  /** the address of the branch whose outcome isn't known yet or {@link #NO_BRANCH} */
+  private int pendingAddress = NO_BRANCH;
+
+  /** the address the pending branch jumps to, if it is taken */
+  private int pendingTarget;
+
+  /** the address of the instruction following the pending branch */
+  private int pendingFallThrough;
+
+  /** the index of the site of the pending branch */
+  private int pendingSite;
+
+  /** the predictions of each predictor for the pending branch */
+  @NotNull
+  private final boolean[] predictions;
+
+  /** the number of executed branches */
+  private long branches = 0;
+
+  /** the number of taken branches */
+  private long takenBranches = 0;
+
+  /** the number of mispredictions of each predictor */
+  @NotNull
+  private final long[] mispredictions;
+
+  /** the number of found branch sites */
+  private int sites = 0;
+
+  /** the addresses of the branch sites, in the order they have been found */
+  @NotNull
+  private int[] siteAddresses = new int[INITIAL_SITES];
+
+  /** the number of executions of each branch site */
+  @NotNull
+  private long[] siteExecutions = new long[INITIAL_SITES];
+
+  /** the number of times each branch site has been taken */
+  @NotNull
+  private long[] siteTaken = new long[INITIAL_SITES];
+
+  /** the number of mispredictions of each branch site, indexed by the predictor and the site */
+  @NotNull
+  private long[][] siteMispredictions;
+
+  /** the hash table mapping the address of a branch site to its index plus one, zero marks a free slot */
+  @NotNull
+  private int[] siteTable = new int[INITIAL_SITES * 2];
+
+  /**
+   * Constructs a model that evaluates the given predictors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the predictors to evaluate
+   */
+  public BranchModel(final IBranchPredictor ... p) {
+    this.predictors = p.clone();
+    this.predictions = new boolean[p.length];
+    this.mispredictions = new long[p.length];
+    this.siteMispredictions = new long[p.length][INITIAL_SITES];
+  }
+
+  /**
+   * Creates a model that evaluates the static predictor, the one and two bit predictors, gshare and a branch target
+   * buffer.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of entries of each table, has to be a power of two
+   * @param historyBits the number of outcomes stored in the history of gshare
+   * @return the created model
+   */
+  @NotNull
+  public static BranchModel createDefault(final int entries, final int historyBits) {
+    return new BranchModel(new StaticPredictor(), new OneBitPredictor(entries), new TwoBitPredictor(entries),
+                           new GsharePredictor(entries, historyBits), new BranchTargetBuffer(entries));
+  }
+
+  /**
+   * Returns whether the given number of entries is valid for the tables of the predictors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of entries
+   * @return <code>true</code>, if the number is a positive power of two
+   */
+  public static boolean isValidSize(final int entries) {
+    return entries > 0 && Integer.bitCount(entries) == 1;
+  }
+
+  /**
+   * Accounts the dispatch of the macro instruction at the given address. Resolves the pending branch and asks the
+   * predictors, if the instruction is a branch. Is invoked by the executing processor, without synchronisation.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory containing the code
+   * @param address the address of the dispatched instruction
+   */
+  public void instructionDispatched(final IReadableMemory mem, final int address) {
+    if (this.pendingAddress != NO_BRANCH) {
+      resolve(address != this.pendingFallThrough);
+    }
+    final int opcode = mem.getByte(address);
+    if (this.table.isBranch(opcode)) {
+      this.pendingAddress = address;
+      this.pendingTarget = this.table.getBranchTarget(mem, address);
+      this.pendingFallThrough = address + this.table.getLength(opcode);
+      this.pendingSite = site(address);
+      for (int p = 0; p < this.predictors.length; ++p) {
+        this.predictions[p] = this.predictors[p].predict(address, this.pendingTarget);
+      }
+    }
+  }
+
+  /**
+   * Counts the outcome of the pending branch and informs the predictors about it.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param taken whether the pending branch has been taken
+   */
+  private void resolve(final boolean taken) {
+    ++this.branches;
+    ++this.siteExecutions[this.pendingSite];
+    if (taken) {
+      ++this.takenBranches;
+      ++this.siteTaken[this.pendingSite];
+    }
+    for (int p = 0; p < this.predictors.length; ++p) {
+      if (this.predictions[p] != taken) {
+        ++this.mispredictions[p];
+        ++this.siteMispredictions[p][this.pendingSite];
+      }
+      this.predictors[p].update(this.pendingAddress, this.pendingTarget, taken);
+    }
+    this.pendingAddress = NO_BRANCH;
+  }
+
+  /**
+   * Returns the index of the branch site at the given address, adding the site if it hasn't been found before.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of the branch
+   * @return the index of the site
+   */
+  private int site(final int address) {
+    final int mask = this.siteTable.length - 1;
+    int slot = address & mask;
+    while (this.siteTable[slot] != 0) {
+      final int index = this.siteTable[slot] - 1;
+      if (this.siteAddresses[index] == address) {
+        return index;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    if (this.sites == this.siteAddresses.length) {
+      grow();
+      return site(address);
+    }
+    this.siteAddresses[this.sites] = address;
+    this.siteTable[slot] = this.sites + 1;
+    return this.sites++;
+  }
+
+  /**
+   * Doubles the number of branch sites the arrays can store and rebuilds the hash table.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void grow() {
+    final int capacity = this.siteAddresses.length * 2;
+    this.siteAddresses = Arrays.copyOf(this.siteAddresses, capacity);
+    this.siteExecutions = Arrays.copyOf(this.siteExecutions, capacity);
+    this.siteTaken = Arrays.copyOf(this.siteTaken, capacity);
+    for (int p = 0; p < this.predictors.length; ++p) {
+      this.siteMispredictions[p] = Arrays.copyOf(this.siteMispredictions[p], capacity);
+    }
+    this.siteTable = new int[capacity * 2];
+    final int mask = this.siteTable.length - 1;
+    for (int i = 0; i < this.sites; ++i) {
+      int slot = this.siteAddresses[i] & mask;
+      while (this.siteTable[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      this.siteTable[slot] = i + 1;
+    }
+  }
+
+  /**
+   * Returns the number of evaluated predictors.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of predictors
+   */
+  public int getNumberOfPredictors() {
+    return this.predictors.length;
+  }
+
+  /**
+   * Returns the predictor with the given index.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the index of the predictor
+   * @return the predictor
+   */
+  @NotNull
+  public IBranchPredictor getPredictor(final int p) {
+    return this.predictors[p];
+  }
+
+  /**
+   * Returns the number of executed branches, whose outcome is known.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of branches
+   */
+  public long getBranches() {
+    return this.branches;
+  }
+
+  /**
+   * Returns the number of taken branches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of taken branches
+   */
+  public long getTakenBranches() {
+    return this.takenBranches;
+  }
+
+  /**
+   * Returns the number of branches the given predictor has mispredicted.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the index of the predictor
+   * @return the number of mispredictions
+   */
+  public long getMispredictions(final int p) {
+    return this.mispredictions[p];
+  }
+
+  /**
+   * Returns the number of branch sites that have been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of branch sites
+   */
+  public int getNumberOfSites() {
+    return this.sites;
+  }
+
+  /**
+   * Returns the address of the branch site with the given index. The sites are indexed in the order they have been
+   * executed first.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param site the index of the site
+   * @return the address of the branch
+   */
+  public int getSiteAddress(final int site) {
+    return this.siteAddresses[site];
+  }
+
+  /**
+   * Returns how often the branch site with the given index has been executed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param site the index of the site
+   * @return the number of executions
+   */
+  public long getSiteExecutions(final int site) {
+    return this.siteExecutions[site];
+  }
+
+  /**
+   * Returns how often the branch site with the given index has been taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param site the index of the site
+   * @return the number of times the branch has been taken
+   */
+  public long getSiteTaken(final int site) {
+    return this.siteTaken[site];
+  }
+
+  /**
+   * Returns how often the given predictor has mispredicted the branch site with the given index.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param p the index of the predictor
+   * @param site the index of the site
+   * @return the number of mispredictions
+   */
+  public long getSiteMispredictions(final int p, final int site) {
+    return this.siteMispredictions[p][site];
+  }
+}
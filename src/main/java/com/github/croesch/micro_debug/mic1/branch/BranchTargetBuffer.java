@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * A direct mapped branch target buffer. Taken branches are entered with their target and a two bit counter, a branch
+ * is only predicted to be taken if it has an entry whose counter predicts taken and whose target is the target of the
+ * branch. Branches without an entry are predicted not to be taken, as the front end of a pipeline wouldn't know where
+ * to continue.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class BranchTargetBuffer implements IBranchPredictor {
+
+  /** the value of a tag of an empty entry */
+  private static final int EMPTY = -1;
+
+  /** the addresses of the branches stored in the entries */
+  @NotNull
+  private final int[] tags;
+
+  /** the targets of the branches stored in the entries */
+  @NotNull
+  private final int[] targets;
+
+  /** the counters of the branches stored in the entries */
+  @NotNull
+  private final byte[] counters;
+
+  /**
+   * Constructs an empty buffer with the given number of entries.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of entries, has to be a power of two
+   */
+  public BranchTargetBuffer(final int entries) {
+    this.tags = new int[entries];
+    Arrays.fill(this.tags, EMPTY);
+    this.targets = new int[entries];
+    this.counters = SaturatingCounters.create(entries);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getName() {
+    return "BTB";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean predict(final int address, final int target) {
+    final int i = address & (this.tags.length - 1);
+    return this.tags[i] == address && this.targets[i] == target && SaturatingCounters.isTaken(this.counters, i);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void update(final int address, final int target, final boolean taken) {
+    final int i = address & (this.tags.length - 1);
+    if (this.tags[i] == address) {
+      SaturatingCounters.update(this.counters, i, taken);
+      if (taken) {
+        this.targets[i] = target;
+      }
+    } else if (taken) {
+      this.tags[i] = address;
+      this.targets[i] = target;
+      this.counters[i] = SaturatingCounters.WEAKLY_TAKEN;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Predicts branches with two bit saturating counters, that are indexed by the address of the branch combined with the
+ * outcomes of the last branches by exclusive or. So a branch can be predicted differently depending on the path that
+ * led to it.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class GsharePredictor implements IBranchPredictor {
+
+  /** the counters, indexed by the address of the branch and the global history */
+  @NotNull
+  private final byte[] counters;
+
+  /** the mask selecting the bits of the history that are used */
+  private final int historyMask;
+
+  /** the outcomes of the last branches, the last outcome in the lowest bit */
+  private int history = 0;
+
+  /**
+   * Constructs a predictor with the given number of counters and the given length of the history.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of counters, has to be a power of two
+   * @param historyBits the number of outcomes stored in the history
+   */
+  public GsharePredictor(final int entries, final int historyBits) {
+    this.counters = SaturatingCounters.create(entries);
+    this.historyMask = (1 << historyBits) - 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getName() {
+    return "gshare";
+  }
+
+  /**
+   * Returns the index of the counter of the branch at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of the branch
+   * @return the index of the counter
+   */
+  private int index(final int address) {
+    return (address ^ this.history) & (this.counters.length - 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean predict(final int address, final int target) {
+    return SaturatingCounters.isTaken(this.counters, index(address));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void update(final int address, final int target, final boolean taken) {
+    SaturatingCounters.update(this.counters, index(address), taken);
+    this.history = (this.history << 1) & this.historyMask;
+    if (taken) {
+      this.history |= 1;
+    }
+  }
+}
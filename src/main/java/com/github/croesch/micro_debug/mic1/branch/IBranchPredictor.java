@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Predicts whether the branches of an IJVM program are taken. A predictor is asked for a prediction when a branch is
+ * dispatched and learns the outcome, when the next instruction is dispatched. Implementations mustn't allocate
+ * objects for each branch, because they are invoked by the executing processor.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public interface IBranchPredictor {
+
+  /**
+   * Returns the name of the predictor, that is printed in the reports.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the predictor
+   */
+  @NotNull
+  String getName();
+
+  /**
+   * Predicts whether the branch at the given address is taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of the branch
+   * @param target the address the branch jumps to, if it is taken
+   * @return <code>true</code>, if the branch is predicted to be taken
+   */
+  boolean predict(int address, int target);
+
+  /**
+   * Informs the predictor about the outcome of the branch at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of the branch
+   * @param target the address the branch jumps to, if it is taken
+   * @param taken whether the branch has been taken
+   */
+  void update(int address, int target, boolean taken);
+}
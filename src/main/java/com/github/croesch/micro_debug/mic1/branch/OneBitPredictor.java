@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Predicts that a branch has the same outcome as the last time it has been executed. The outcomes are stored in a
+ * table indexed by the lower bits of the address, so branches may share an entry.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class OneBitPredictor implements IBranchPredictor {
+
+  /** the last outcome of the branches, indexed by the lower bits of their address */
+  @NotNull
+  private final boolean[] taken;
+
+  /**
+   * Constructs a predictor with the given number of entries.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of entries of the table, has to be a power of two
+   */
+  public OneBitPredictor(final int entries) {
+    this.taken = new boolean[entries];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getName() {
+    return "1-bit";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean predict(final int address, final int target) {
+    return this.taken[address & (this.taken.length - 1)];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void update(final int address, final int target, final boolean t) {
+    this.taken[address & (this.taken.length - 1)] = t;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Utility methods for tables of two bit saturating counters. The values 0 and 1 predict not taken, 2 and 3 predict
+ * taken.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class SaturatingCounters {
+
+  /** the value of a counter that weakly predicts not taken */
+  static final byte WEAKLY_NOT_TAKEN = 1;
+
+  /** the value of a counter that weakly predicts taken */
+  static final byte WEAKLY_TAKEN = 2;
+
+  /** the highest value of a counter */
+  private static final byte STRONGLY_TAKEN = 3;
+
+  /**
+   * Hides constructor from being invoked, because this is a utility class.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private SaturatingCounters() {
+    // utility class
+  }
+
+  /**
+   * Creates a table of counters, each one predicting weakly not taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of counters
+   * @return the created table
+   */
+  @NotNull
+  static byte[] create(final int entries) {
+    final byte[] counters = new byte[entries];
+    Arrays.fill(counters, WEAKLY_NOT_TAKEN);
+    return counters;
+  }
+
+  /**
+   * Returns whether the counter at the given index predicts taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param counters the table of counters
+   * @param index the index of the counter
+   * @return <code>true</code>, if the counter predicts taken
+   */
+  static boolean isTaken(final byte[] counters, final int index) {
+    return counters[index] >= WEAKLY_TAKEN;
+  }
+
+  /**
+   * Counts the counter at the given index up, if the branch has been taken, otherwise down.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param counters the table of counters
+   * @param index the index of the counter
+   * @param taken whether the branch has been taken
+   */
+  static void update(final byte[] counters, final int index, final boolean taken) {
+    if (taken) {
+      if (counters[index] < STRONGLY_TAKEN) {
+        ++counters[index];
+      }
+    } else if (counters[index] > 0) {
+      --counters[index];
+    }
+  }
+}
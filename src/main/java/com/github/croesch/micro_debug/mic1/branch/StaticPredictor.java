@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+/**
+ * Predicts branches without remembering their outcomes: backward branches, that close loops, are predicted to be
+ * taken and forward branches are predicted not to be taken.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class StaticPredictor implements IBranchPredictor {
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getName() {
+    return "static";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean predict(final int address, final int target) {
+    return target <= address;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void update(final int address, final int target, final boolean taken) {
+    // a static predictor doesn't learn
+  }
+}
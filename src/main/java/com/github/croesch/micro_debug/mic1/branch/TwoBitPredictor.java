@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Predicts branches with two bit saturating counters, so a single different outcome doesn't change the prediction.
+ * The counters are stored in a table indexed by the lower bits of the address of the branch.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class TwoBitPredictor implements IBranchPredictor {
+
+  /** the counters of the branches, indexed by the lower bits of their address */
+  @NotNull
+  private final byte[] counters;
+
+  /**
+   * Constructs a predictor with the given number of counters, each one predicting weakly not taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param entries the number of counters, has to be a power of two
+   */
+  public TwoBitPredictor(final int entries) {
+    this.counters = SaturatingCounters.create(entries);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getName() {
+    return "2-bit";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean predict(final int address, final int target) {
+    return SaturatingCounters.isTaken(this.counters, address & (this.counters.length - 1));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void update(final int address, final int target, final boolean taken) {
+    SaturatingCounters.update(this.counters, address & (this.counters.length - 1), taken);
+  }
+}
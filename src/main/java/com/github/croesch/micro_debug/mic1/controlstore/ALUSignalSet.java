@@ -64,7 +64,7 @@ public final class ALUSignalSet extends SignalSet {
    * 
    * @since Date: Nov 12, 2011
    */
-  ALUSignalSet() {
+  public ALUSignalSet() {
     super(SIZE_OF_SET);
   }
 
@@ -0,0 +1,919 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.parser.IntegerParser;
+
+/**
+ * Base of the assemblers for micro programs written in MAL (micro assembly language). It reads the source line by line,
+ * removes the comments, handles the labels and the directives <code>.label</code> and <code>.default</code> and parses
+ * the memory operations and jumps of the statements. The statements are placed in the control store by the
+ * {@link Assembly}. The subclasses parse the expressions computed by their processor and create the control store.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ * @param <S> the type of the statements of the assembler
+ * @param <C> the type of the control store created by the assembler
+ */
+public abstract class AbstractMalAssembler<S extends AbstractMalAssembler.AbstractStatement, C> {
+
+  /** the start of a comment in the source */
+  private static final String COMMENT = "//";
+
+  /** the pattern of a name of a label */
+  private static final Pattern NAME = Pattern.compile("[A-Za-z_][\\w.]*");
+
+  /** the pattern of a conditional jump */
+  private static final Pattern IF = Pattern.compile("if\\s*\\(\\s*([NZ])\\s*\\)\\s*goto\\s+(\\S+)",
+                                                    Pattern.CASE_INSENSITIVE);
+
+  /** the pattern of the alternative of a conditional jump */
+  private static final Pattern ELSE = Pattern.compile("else\\s+goto\\s+(\\S+)", Pattern.CASE_INSENSITIVE);
+
+  /** the pattern of an unconditional jump */
+  private static final Pattern GOTO = Pattern.compile("goto\\s+(\\S+)", Pattern.CASE_INSENSITIVE);
+
+  /** the pattern of a shift operation at the end of an expression */
+  private static final Pattern SHIFT = Pattern.compile("(.*?)\\s*(<<\\s*8|>>\\s*1)");
+
+  /** the pattern of a single token of an expression */
+  private static final Pattern TOKEN = Pattern.compile("\\s*([A-Za-z]+|\\d+|[-+()])");
+
+  /** the words that can't be used as label at the start of a line */
+  private static final String[] KEYWORDS = { "goto", "if", "else", "rd", "wr", "fetch", "nop", "N", "Z" };
+
+  /** the registers of the Mic-1 that can be put on the B-bus */
+  private static final Register[] B_BUS_REGISTERS = { Register.MDR, Register.PC, Register.MBR, Register.MBRU,
+                                                     Register.SP, Register.LV, Register.CPP, Register.TOS,
+                                                     Register.OPC };
+
+  /**
+   * The operations of the ALU, as expressions with <code>B</code> for the register on the B-bus, followed by the
+   * signals F0, F1, ENA, ENB, INVA and INC.
+   */
+  private static final String[][] OPERATIONS = { { "H", "011000" }, { "B", "010100" }, { "NOT H", "011010" },
+                                                { "NOT B", "101100" }, { "H + B", "111100" }, { "B + H", "111100" },
+                                                { "H + B + 1", "111101" }, { "B + H + 1", "111101" },
+                                                { "H + 1", "111001" }, { "B + 1", "110101" },
+                                                { "B - H", "111111" }, { "B - 1", "110110" }, { "- H", "111011" },
+                                                { "H AND B", "001100" }, { "B AND H", "001100" },
+                                                { "H OR B", "011100" }, { "B OR H", "011100" }, { "0", "010000" },
+                                                { "1", "110001" }, { "- 1", "110010" },
+                                                { "( NOT H ) AND B", "001110" }, { "( NOT H ) OR B", "011110" },
+                                                { "B - H - 1", "111110" }, { "- H - 1", "111010" } };
+
+  /** the ALU signals of the operations, mapped by their normalised expression */
+  @NotNull
+  private static final Map<String, ALUSignalSet> ALU_OPERATIONS = new HashMap<String, ALUSignalSet>();
+
+  /** the register on the B-bus of the operations, mapped by their normalised expression */
+  @NotNull
+  private static final Map<String, Register> B_BUS_OPERANDS = new HashMap<String, Register>();
+
+  static {
+    for (final String[] operation : OPERATIONS) {
+      final String bits = operation[1];
+      final ALUSignalSet signals = new ALUSignalSet();
+      signals.setF0(bits.charAt(0) == '1').setF1(bits.charAt(1) == '1');
+      signals.setEnA(bits.charAt(2) == '1').setEnB(bits.charAt(3) == '1');
+      signals.setInvA(bits.charAt(4) == '1').setInc(bits.charAt(5) == '1');
+      if (operation[0].matches(".*\\bB\\b.*")) {
+        for (final Register b : B_BUS_REGISTERS) {
+          final String expression = operation[0].replaceAll("\\bB\\b", b.name());
+          ALU_OPERATIONS.put(expression, signals);
+          B_BUS_OPERANDS.put(expression, b);
+        }
+      } else {
+        ALU_OPERATIONS.put(operation[0], signals);
+      }
+    }
+  }
+
+  /** the number of addresses in the control store */
+  private final int storeSize;
+
+  /** the pattern of the jump to the address stored in a register, the dispatch */
+  @NotNull
+  private final Pattern dispatch;
+
+  /**
+   * Constructs an assembler for a control store of the given size.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param size the number of addresses in the control store
+   * @param dispatchPattern the pattern of the dispatch, with the optional address to combine with the value of the
+   *        register in the first group
+   */
+  protected AbstractMalAssembler(final int size, final Pattern dispatchPattern) {
+    this.storeSize = size;
+    this.dispatch = dispatchPattern;
+  }
+
+  /**
+   * Assembles the given source of a micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param source the source of the micro program
+   * @return the control store containing the assembled program
+   * @throws MicroFileFormatException if the source isn't a valid program, the message contains the number of the line
+   *         containing the error.
+   */
+  @NotNull
+  public final C assemble(final String source) throws MicroFileFormatException {
+    return assemble(new StringReader(source));
+  }
+
+  /**
+   * Assembles the source of a micro program read from the given reader.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param source the reader providing the source of the program, will be read until its end but not closed
+   * @return the control store containing the assembled program
+   * @throws MicroFileFormatException if the source isn't a valid program or couldn't be read, the message contains
+   *         the number of the line containing the error.
+   */
+  @NotNull
+  public final C assemble(final Reader source) throws MicroFileFormatException {
+    final Assembly assembly = new Assembly();
+    final BufferedReader reader = new BufferedReader(source);
+    try {
+      String line = reader.readLine();
+      int number = 1;
+      while (line != null) {
+        assembly.parseLine(number, line);
+        line = reader.readLine();
+        ++number;
+      }
+    } catch (final IOException e) {
+      throw new MicroFileFormatException(e.getMessage(), e);
+    }
+    return link(assembly);
+  }
+
+  /**
+   * Creates an empty statement.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line in the source
+   * @return the created statement
+   */
+  @NotNull
+  protected abstract S createStatement(int line);
+
+  /**
+   * Returns whether the given word is the name of a register of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param word the word, case is ignored
+   * @return <code>true</code> if the word is the name of a register
+   */
+  protected abstract boolean isRegister(String word);
+
+  /**
+   * Parses the operation <code>fetch</code> of a statement.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param s the statement containing the operation
+   * @throws MicroFileFormatException if the processor can't fetch the macro code
+   */
+  protected abstract void parseFetch(S s) throws MicroFileFormatException;
+
+  /**
+   * Places the parsed statements in the control store and creates the instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param assembly the assembly containing the parsed statements
+   * @return the control store containing the assembled instructions
+   * @throws MicroFileFormatException if a label is unknown or the statements can't be placed
+   */
+  @NotNull
+  protected abstract C link(Assembly assembly) throws MicroFileFormatException;
+
+  /**
+   * Creates the exception to signal an error in the given line of the source.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line containing the error
+   * @param message the description of the error
+   * @return the exception to throw
+   */
+  @NotNull
+  protected static MicroFileFormatException error(final int line, final String message) {
+    return new MicroFileFormatException("line " + line + ": " + message);
+  }
+
+  /**
+   * Returns the signals of the ALU and the shifter of the Mic-1, that compute the given expression.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param expression the expression, for example <code>SP + 1</code> or <code>MBR &lt;&lt; 8</code>
+   * @return the signals or <code>null</code> if the Mic-1 can't compute the expression
+   */
+  @Nullable
+  protected static ALUSignalSet operation(final String expression) {
+    final Matcher shift = SHIFT.matcher(expression);
+    final boolean shifting = shift.matches();
+    final ALUSignalSet signals = ALU_OPERATIONS.get(normalise(expression));
+    if (signals == null) {
+      return null;
+    }
+    final ALUSignalSet result = new ALUSignalSet();
+    result.copyOf(signals);
+    result.setSLL8(shifting && shift.group(2).startsWith("<"));
+    result.setSRA1(shifting && shift.group(2).startsWith(">"));
+    return result;
+  }
+
+  /**
+   * Returns the register that the Mic-1 puts on the B-bus to compute the given expression.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param expression the expression, for example <code>SP + 1</code>
+   * @return the register or <code>null</code> if the expression doesn't use the B-bus or is no operation of the ALU
+   */
+  @Nullable
+  protected static Register bBusOperand(final String expression) {
+    return B_BUS_OPERANDS.get(normalise(expression));
+  }
+
+  /**
+   * Returns the tokens of the given expression without shift operation in upper case, separated by single spaces.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param expression the expression to normalise
+   * @return the normalised expression or <code>null</code> if the expression contains invalid characters
+   */
+  @Nullable
+  private static String normalise(final String expression) {
+    String operation = expression;
+    final Matcher shift = SHIFT.matcher(expression);
+    if (shift.matches()) {
+      operation = shift.group(1);
+    }
+    operation = operation.trim();
+
+    final StringBuilder sb = new StringBuilder();
+    final Matcher m = TOKEN.matcher(operation);
+    int end = 0;
+    while (m.lookingAt()) {
+      if (sb.length() > 0) {
+        sb.append(' ');
+      }
+      sb.append(m.group(1).toUpperCase(Locale.ENGLISH));
+      end = m.end();
+      m.region(end, m.regionEnd());
+    }
+    if (end != operation.length()) {
+      return null;
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Parses the given address in the control store.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line
+   * @param text the text to parse
+   * @return the parsed address
+   * @throws MicroFileFormatException if the text isn't a valid address
+   */
+  protected final int address(final int line, final String text) throws MicroFileFormatException {
+    final Integer addr = new IntegerParser().parse(text);
+    if (addr == null) {
+      throw error(line, "unknown label: " + text);
+    }
+    if (addr.intValue() < 0 || addr.intValue() >= this.storeSize) {
+      throw error(line, "address out of range: " + text);
+    }
+    return addr.intValue();
+  }
+
+  /**
+   * Returns whether the given word can be the label at the start of a line.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param word the first word of a line
+   * @return <code>true</code> if the word is a name and no keyword or register
+   */
+  private boolean isLabel(final String word) {
+    if (!NAME.matcher(word).matches() || isRegister(word)) {
+      return false;
+    }
+    for (final String keyword : KEYWORDS) {
+      if (keyword.equalsIgnoreCase(word)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses a single statement.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line
+   * @param text the statement without label and comment
+   * @return the parsed statement
+   * @throws MicroFileFormatException if the statement isn't valid
+   */
+  @NotNull
+  protected final S parseStatement(final int line, final String text) throws MicroFileFormatException {
+    final S s = createStatement(line);
+    for (final String part : text.split(";")) {
+      parsePart(s, part.trim());
+    }
+    if (s.getCondition() != 0 && s.getElseTarget() == null) {
+      throw error(line, "if without else");
+    }
+    return s;
+  }
+
+  /**
+   * Parses a part of a statement, that is separated from the other parts by a semicolon.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param statement the statement to store the parsed part in
+   * @param part the part of the statement
+   * @throws MicroFileFormatException if the part isn't valid
+   */
+  private void parsePart(final S statement, final String part) throws MicroFileFormatException {
+    final AbstractStatement s = statement;
+    final String lower = part.toLowerCase(Locale.ENGLISH);
+    if (part.length() == 0 || lower.equals("nop")) {
+      return;
+    }
+    if (lower.equals("rd")) {
+      s.memory.setRead(true);
+      return;
+    }
+    if (lower.equals("wr")) {
+      s.memory.setWrite(true);
+      return;
+    }
+    if (lower.equals("fetch")) {
+      parseFetch(statement);
+      return;
+    }
+
+    Matcher m = IF.matcher(part);
+    if (m.matches()) {
+      s.condition = Character.toUpperCase(m.group(1).charAt(0));
+      s.setTarget(m.group(2));
+      return;
+    }
+    m = ELSE.matcher(part);
+    if (m.matches()) {
+      if (s.condition == 0 || s.elseTarget != null) {
+        throw error(s.line, "else without if");
+      }
+      s.elseTarget = m.group(1);
+      return;
+    }
+    m = this.dispatch.matcher(part);
+    if (m.matches()) {
+      s.dispatching = true;
+      if (m.group(1) == null) {
+        s.setTarget("0");
+      } else {
+        s.setTarget(m.group(1));
+      }
+      return;
+    }
+    m = GOTO.matcher(part);
+    if (m.matches()) {
+      s.setTarget(m.group(1));
+      return;
+    }
+    s.parseAssignment(part);
+  }
+
+  /**
+   * A single parsed statement of a micro program.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  protected abstract static class AbstractStatement {
+
+    /** the number of the line in the source */
+    private final int line;
+
+    /** the signals of the ALU and the shifter */
+    @NotNull
+    private final ALUSignalSet alu = new ALUSignalSet();
+
+    /** the registers written from the C-bus */
+    @NotNull
+    private final CBusSignalSet cBus = new CBusSignalSet();
+
+    /** the memory operations */
+    @NotNull
+    private final MemorySignalSet memory = new MemorySignalSet();
+
+    /** whether the statement contains an assignment or expression */
+    private boolean computing = false;
+
+    /** whether the statement jumps to the address stored in a register */
+    private boolean dispatching = false;
+
+    /** the flag of a conditional jump, <code>N</code> or <code>Z</code>, or zero for unconditional jumps */
+    private char condition = 0;
+
+    /** the target of the jump or the fulfilled condition, <code>null</code> to continue with the next statement */
+    @Nullable
+    private String target = null;
+
+    /** the target of a conditional jump, if the condition isn't fulfilled */
+    @Nullable
+    private String elseTarget = null;
+
+    /**
+     * Constructs an empty statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param l the number of the line in the source
+     */
+    protected AbstractStatement(final int l) {
+      this.line = l;
+    }
+
+    /**
+     * Parses the expression computed by the ALU and the shifter and stores its signals in this statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param expression the expression, without the registers the result is assigned to
+     * @throws MicroFileFormatException if the expression isn't a valid operation of the processor
+     */
+    protected abstract void parseExpression(String expression) throws MicroFileFormatException;
+
+    /**
+     * Returns the register of the Mic-1 with the given name, that is written from the C-bus.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param name the name of the register, case is ignored
+     * @return the {@link Register} or <code>null</code> if the processor has no such register of the Mic-1
+     */
+    @Nullable
+    protected abstract Register destination(String name);
+
+    /**
+     * Sets the target of the jump.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param t the label or address to jump to
+     * @throws MicroFileFormatException if the statement already contains a jump
+     */
+    private void setTarget(final String t) throws MicroFileFormatException {
+      if (this.target != null) {
+        throw error(this.line, "more than one goto");
+      }
+      this.target = t;
+    }
+
+    /**
+     * Parses the assignment of the result of the ALU to registers, for example <code>MAR = SP = SP + 1</code>.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param part the part of the statement containing the assignment
+     * @throws MicroFileFormatException if the assignment isn't valid
+     */
+    private void parseAssignment(final String part) throws MicroFileFormatException {
+      if (this.computing) {
+        throw error(this.line, "more than one assignment: " + part);
+      }
+      this.computing = true;
+      final String[] sides = part.split("=");
+      for (int i = 0; i < sides.length - 1; ++i) {
+        setDestination(sides[i].trim());
+      }
+      parseExpression(sides[sides.length - 1].trim());
+    }
+
+    /**
+     * Marks the given register to be written from the C-bus.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param name the name of the register, or <code>N</code> or <code>Z</code> to only compute the flags
+     * @throws MicroFileFormatException if the register can't be written from the C-bus
+     */
+    private void setDestination(final String name) throws MicroFileFormatException {
+      final Register r = destination(name);
+      if (r == null) {
+        if (!name.equalsIgnoreCase("N") && !name.equalsIgnoreCase("Z")) {
+          throw error(this.line, "register can't be written: " + name);
+        }
+        return;
+      }
+      switch (r) {
+        case H:
+          this.cBus.setH(true);
+          break;
+        case OPC:
+          this.cBus.setOpc(true);
+          break;
+        case TOS:
+          this.cBus.setTos(true);
+          break;
+        case CPP:
+          this.cBus.setCpp(true);
+          break;
+        case LV:
+          this.cBus.setLv(true);
+          break;
+        case SP:
+          this.cBus.setSp(true);
+          break;
+        case PC:
+          this.cBus.setPc(true);
+          break;
+        case MDR:
+          this.cBus.setMdr(true);
+          break;
+        case MAR:
+          this.cBus.setMar(true);
+          break;
+        default:
+          throw error(this.line, "register can't be written: " + name);
+      }
+    }
+
+    /**
+     * Returns the number of the line in the source.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the number of the line containing the statement
+     */
+    public final int getLine() {
+      return this.line;
+    }
+
+    /**
+     * Returns the signals of the ALU and the shifter, that are set while the statement is parsed.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the {@link ALUSignalSet} of this statement
+     */
+    @NotNull
+    public final ALUSignalSet getAlu() {
+      return this.alu;
+    }
+
+    /**
+     * Returns the registers written from the C-bus.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the {@link CBusSignalSet} of this statement
+     */
+    @NotNull
+    public final CBusSignalSet getCBus() {
+      return this.cBus;
+    }
+
+    /**
+     * Returns the memory operations, that are set while the statement is parsed.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the {@link MemorySignalSet} of this statement
+     */
+    @NotNull
+    public final MemorySignalSet getMemory() {
+      return this.memory;
+    }
+
+    /**
+     * Returns whether the statement jumps to the address stored in a register.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return <code>true</code> if the statement contains a dispatch
+     */
+    public final boolean isDispatching() {
+      return this.dispatching;
+    }
+
+    /**
+     * Returns the flag of a conditional jump.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return <code>N</code> or <code>Z</code>, or zero if the jump isn't conditional
+     */
+    public final char getCondition() {
+      return this.condition;
+    }
+
+    /**
+     * Returns the target of the jump or of the fulfilled condition.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the label or address, or <code>null</code> if the statement continues with the next statement
+     */
+    @Nullable
+    public final String getTarget() {
+      return this.target;
+    }
+
+    /**
+     * Returns the target of a conditional jump, if the condition isn't fulfilled.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the label or address, or <code>null</code> if the jump isn't conditional
+     */
+    @Nullable
+    public final String getElseTarget() {
+      return this.elseTarget;
+    }
+  }
+
+  /**
+   * The state of assembling a single micro program.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  protected final class Assembly {
+
+    /** the statements in the order of the source */
+    @NotNull
+    private final List<S> statements = new ArrayList<S>();
+
+    /** the indexes of the statements, mapped by their label */
+    @NotNull
+    private final Map<String, Integer> labels = new HashMap<String, Integer>();
+
+    /** the fixed addresses of labels, mapped by the label */
+    @NotNull
+    private final Map<String, Integer> anchors = new HashMap<String, Integer>();
+
+    /** the numbers of the lines defining the fixed addresses, mapped by the label */
+    @NotNull
+    private final Map<String, Integer> anchorLines = new HashMap<String, Integer>();
+
+    /** the statement stored at the addresses that aren't used otherwise, or <code>null</code> */
+    @Nullable
+    private S defaultStatement = null;
+
+    /** the addresses of the statements, <code>-1</code> for statements without address */
+    @NotNull
+    private int[] addresses = new int[0];
+
+    /** the statements placed at each address of the control store */
+    @NotNull
+    private final AbstractStatement[] placed = new AbstractStatement[AbstractMalAssembler.this.storeSize];
+
+    /**
+     * Parses a single line of the source.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param number the number of the line
+     * @param text the text of the line
+     * @throws MicroFileFormatException if the line contains an error
+     */
+    private void parseLine(final int number, final String text) throws MicroFileFormatException {
+      String line = text;
+      final int comment = line.indexOf(COMMENT);
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      line = line.trim();
+      if (line.length() == 0) {
+        return;
+      }
+
+      final String[] words = line.split("\\s+", 2);
+      if (words[0].equalsIgnoreCase(".label")) {
+        final String[] args = line.split("\\s+");
+        if (args.length != 3 || !NAME.matcher(args[1]).matches()) {
+          throw error(number, "invalid label directive: " + line);
+        }
+        if (this.anchors.containsKey(args[1])) {
+          throw error(number, "address of label defined twice: " + args[1]);
+        }
+        this.anchors.put(args[1], Integer.valueOf(address(number, args[2])));
+        this.anchorLines.put(args[1], Integer.valueOf(number));
+      } else if (words[0].equalsIgnoreCase(".default")) {
+        if (words.length < 2 || this.defaultStatement != null) {
+          throw error(number, "invalid default directive: " + line);
+        }
+        this.defaultStatement = parseStatement(number, words[1]);
+        if (this.defaultStatement.getTarget() == null) {
+          throw error(number, "missing goto");
+        }
+      } else if (words[0].startsWith(".")) {
+        throw error(number, "unknown directive: " + words[0]);
+      } else {
+        String label = null;
+        String statement = line;
+        if (words[0].endsWith(":") && isLabel(words[0].substring(0, words[0].length() - 1))) {
+          label = words[0].substring(0, words[0].length() - 1);
+        } else if (isLabel(words[0]) && (words.length == 1 || !words[1].startsWith("="))) {
+          label = words[0];
+        }
+        if (label != null) {
+          if (this.labels.containsKey(label)) {
+            throw error(number, "label defined twice: " + label);
+          }
+          this.labels.put(label, Integer.valueOf(this.statements.size()));
+          statement = "";
+          if (words.length > 1) {
+            statement = words[1];
+          }
+        }
+        this.statements.add(parseStatement(number, statement));
+      }
+    }
+
+    /**
+     * Places the statements with a label, whose address is given by a <code>.label</code> directive.
+     * 
+     * @since Date: Oct 19, 2026
+     * @throws MicroFileFormatException if a label is unknown or an address is already used
+     */
+    public void placeAnchors() throws MicroFileFormatException {
+      this.addresses = new int[this.statements.size()];
+      for (int i = 0; i < this.addresses.length; ++i) {
+        this.addresses[i] = -1;
+      }
+      for (final Map.Entry<String, Integer> anchor : this.anchors.entrySet()) {
+        final Integer index = this.labels.get(anchor.getKey());
+        final int line = this.anchorLines.get(anchor.getKey()).intValue();
+        if (index == null) {
+          throw error(line, "unknown label: " + anchor.getKey());
+        }
+        place(line, index.intValue(), anchor.getValue().intValue());
+      }
+    }
+
+    /**
+     * Places the statements without address at the lowest free address, that isn't lower than the given address.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param first the lowest address to use
+     * @throws MicroFileFormatException if the control store is full
+     */
+    public void placeRemaining(final int first) throws MicroFileFormatException {
+      int free = first;
+      for (int i = 0; i < this.addresses.length; ++i) {
+        if (this.addresses[i] < 0) {
+          while (free < this.placed.length && this.placed[free] != null) {
+            ++free;
+          }
+          if (free == this.placed.length) {
+            throw error(this.statements.get(i).getLine(), "control store is full");
+          }
+          place(this.statements.get(i).getLine(), i, free);
+        }
+      }
+    }
+
+    /**
+     * Places the statement with the given label at the given address.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param line the number of the line that requires the address
+     * @param label the label of the statement
+     * @param addr the address in the control store
+     * @throws MicroFileFormatException if the label is unknown or the statement or the address is already used
+     */
+    public void place(final int line, final String label, final int addr) throws MicroFileFormatException {
+      final Integer index = this.labels.get(label);
+      if (index == null) {
+        throw error(line, "unknown label: " + label);
+      }
+      place(line, index.intValue(), addr);
+    }
+
+    /**
+     * Places the statement with the given index at the given address.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param line the number of the line that requires the address
+     * @param index the index of the statement
+     * @param addr the address in the control store
+     * @throws MicroFileFormatException if the statement or the address is already used
+     */
+    private void place(final int line, final int index, final int addr) throws MicroFileFormatException {
+      final S s = this.statements.get(index);
+      if (this.addresses[index] >= 0 && this.addresses[index] != addr || this.placed[addr] != null
+          && this.placed[addr] != s) {
+        throw error(line, "address is already used: 0x" + Integer.toHexString(addr).toUpperCase(Locale.ENGLISH));
+      }
+      this.addresses[index] = addr;
+      this.placed[addr] = s;
+    }
+
+    /**
+     * Returns whether no statement has been placed at the given address.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param addr the address in the control store
+     * @return <code>true</code> if the address is free
+     */
+    public boolean isFree(final int addr) {
+      return this.placed[addr] == null;
+    }
+
+    /**
+     * Returns the address of the given target, if it's already known.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param line the number of the line containing the target
+     * @param target the label or address
+     * @return the address of the target or <code>-1</code> if the label isn't placed yet
+     * @throws MicroFileFormatException if the target is neither a label nor a valid address
+     */
+    public int targetAddress(final int line, final String target) throws MicroFileFormatException {
+      final Integer index = this.labels.get(target);
+      if (index == null) {
+        return address(line, target);
+      }
+      return this.addresses[index.intValue()];
+    }
+
+    /**
+     * Returns the address of the instruction following the given statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param index the index of the statement, or <code>-1</code> for the default statement
+     * @param s the statement
+     * @return the address of the next instruction, or the alternative of a conditional jump
+     * @throws MicroFileFormatException if a label is unknown or there is no following statement
+     */
+    public int nextAddress(final int index, final S s) throws MicroFileFormatException {
+      if (s.getCondition() != 0) {
+        return targetAddress(s.getLine(), s.getElseTarget());
+      }
+      if (s.getTarget() != null) {
+        return targetAddress(s.getLine(), s.getTarget());
+      }
+      if (index + 1 >= this.statements.size()) {
+        throw error(s.getLine(), "missing goto in last statement");
+      }
+      return this.addresses[index + 1];
+    }
+
+    /**
+     * Returns the address of the statement with the given index.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param index the index of the statement
+     * @return the address of the statement, or <code>-1</code> if it hasn't been placed yet
+     */
+    public int getAddress(final int index) {
+      return this.addresses[index];
+    }
+
+    /**
+     * Returns the parsed statements.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the statements in the order of the source
+     */
+    @NotNull
+    public List<S> getStatements() {
+      return this.statements;
+    }
+
+    /**
+     * Returns the statement to store at each address that isn't used otherwise.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the statement of the <code>.default</code> directive, or <code>null</code>
+     */
+    @Nullable
+    public S getDefaultStatement() {
+      return this.defaultStatement;
+    }
+  }
+}
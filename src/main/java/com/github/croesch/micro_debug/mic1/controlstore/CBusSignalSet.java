@@ -67,7 +67,7 @@ public final class CBusSignalSet extends SignalSet {
    * 
    * @since Date: Nov 12, 2011
    */
-  CBusSignalSet() {
+  public CBusSignalSet() {
     super(SIZE_OF_SET);
   }
 
@@ -47,7 +47,7 @@ public final class JMPSignalSet extends SignalSet {
    * 
    * @since Date: Nov 13, 2011
    */
-  JMPSignalSet() {
+  public JMPSignalSet() {
     super(SIZE_OF_SET);
   }
 
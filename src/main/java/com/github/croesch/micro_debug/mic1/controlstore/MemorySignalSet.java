@@ -43,7 +43,7 @@ public final class MemorySignalSet extends SignalSet {
    * 
    * @since Date: Nov 12, 2011
    */
-  MemorySignalSet() {
+  public MemorySignalSet() {
     super(SIZE_OF_SET);
   }
 
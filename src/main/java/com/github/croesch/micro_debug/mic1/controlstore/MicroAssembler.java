@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.mic1.register.Register;
+
+/**
+ * Assembler for micro programs written in MAL (micro assembly language), that creates a {@link MicroControlStore}
+ * without writing a .mic1-file. It understands the statements printed by the disassembler and the following source
+ * format:
+ * 
+ * <pre>
+ * // comments start with two slashes
+ * .label nop1 0x00          // places the statement with the label at the given address
+ * .label iadd1 0x60
+ * .default goto main1       // stored at each address that isn't used otherwise
+ * 
+ * main1 PC = PC + 1; fetch; goto (MBR)
+ * nop1  goto main1
+ * iadd1 MAR = SP = SP - 1; rd
+ * iadd2 H = TOS
+ *       MDR = TOS = MDR + H; wr; goto main1
+ * </pre>
+ * 
+ * A statement without <code>goto</code> continues with the next statement. For a conditional jump
+ * <code>if (Z) goto T; else goto F</code> the statement <code>T</code> is placed at the address of <code>F</code> plus
+ * <code>0x100</code>. Statements without a fixed address are placed at the lowest free address, so the targets of the
+ * dispatch <code>goto (MBR)</code> should be placed with <code>.label</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class MicroAssembler extends AbstractMalAssembler<MicroAssembler.Statement, MicroControlStore> {
+
+  /** the extension of files containing the source of a micro program */
+  public static final String FILE_EXTENSION = ".mal";
+
+  /** the number of addresses in the control store */
+  private static final int STORE_SIZE = 512;
+
+  /** the bit that is set in the address of the target of a successful conditional jump */
+  private static final int HIGHEST_BIT_OF_ADDRESS = 0x100;
+
+  /** the description of targets of a conditional jump that don't fulfil the constraint of the processor */
+  private static final String CONDITION_ERROR = "target of condition has to be 0x100 after the alternative";
+
+  /** the pattern of the jump to the address stored in MBR */
+  private static final Pattern GOTO_MBR = Pattern.compile("goto\\s*\\(\\s*MBR\\s*(?:OR\\s+(\\S+?)\\s*)?\\)",
+                                                          Pattern.CASE_INSENSITIVE);
+
+  /**
+   * Constructs an assembler for micro programs of the Mic-1.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public MicroAssembler() {
+    super(STORE_SIZE, GOTO_MBR);
+  }
+
+  /**
+   * Assembles a single statement, for example to replace an instruction in the control store. The addresses of jumps
+   * have to be given as numbers and the statement has to contain a <code>goto</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param statement the statement to assemble, for example <code>PC=PC+1;fetch;goto (MBR)</code>
+   * @return the assembled {@link MicroInstruction}
+   * @throws MicroFileFormatException if the statement isn't valid
+   */
+  @NotNull
+  public MicroInstruction assembleInstruction(final String statement) throws MicroFileFormatException {
+    final Statement s = parseStatement(1, statement);
+    if (s.getTarget() == null) {
+      throw error(1, "missing goto");
+    }
+    int next = address(s.getLine(), s.getTarget());
+    if (s.getCondition() != 0) {
+      next = address(s.getLine(), s.getElseTarget());
+      checkCondition(s.getLine(), next, address(s.getLine(), s.getTarget()));
+    }
+    return s.build(next);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @NotNull
+  protected Statement createStatement(final int line) {
+    return new Statement(line);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean isRegister(final String word) {
+    return register(word) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void parseFetch(final Statement s) {
+    s.getMemory().setFetch(true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @NotNull
+  protected MicroControlStore link(final Assembly assembly) throws MicroFileFormatException {
+    assembly.placeAnchors();
+    placeConditions(assembly);
+    assembly.placeRemaining(0);
+
+    final MicroControlStore store = new MicroControlStore();
+    final List<Statement> statements = assembly.getStatements();
+    for (int i = 0; i < statements.size(); ++i) {
+      store.setInstruction(assembly.getAddress(i), statements.get(i).build(assembly.nextAddress(i, statements.get(i))));
+    }
+    final Statement defaultStatement = assembly.getDefaultStatement();
+    if (defaultStatement != null) {
+      final MicroInstruction instruction = defaultStatement.build(assembly.nextAddress(-1, defaultStatement));
+      for (int addr = 0; addr < STORE_SIZE; ++addr) {
+        if (store.getInstruction(addr) == null) {
+          store.setInstruction(addr, instruction);
+        }
+      }
+    }
+    return store;
+  }
+
+  /**
+   * Returns the register of the Mic-1 with the given name.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the register, case is ignored
+   * @return the {@link Register} or <code>null</code> if there is no register with the given name
+   */
+  private static Register register(final String name) {
+    for (final Register r : Register.values()) {
+      if (r.name().equalsIgnoreCase(name)) {
+        return r;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether the targets of a conditional jump fulfil the constraint of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param line the number of the line
+   * @param elseAddress the address to continue, if the condition isn't fulfilled
+   * @param thenAddress the address to continue, if the condition is fulfilled
+   * @throws MicroFileFormatException if the address of the fulfilled condition isn't the other address plus 0x100
+   */
+  private static void checkCondition(final int line,
+                                     final int elseAddress,
+                                     final int thenAddress) throws MicroFileFormatException {
+    if (elseAddress >= HIGHEST_BIT_OF_ADDRESS || thenAddress != (elseAddress | HIGHEST_BIT_OF_ADDRESS)) {
+      throw error(line, CONDITION_ERROR);
+    }
+  }
+
+  /**
+   * Places the targets of the conditional jumps, so that the target of each fulfilled condition is 0x100 after the
+   * target of the alternative.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param assembly the assembly containing the statements
+   * @throws MicroFileFormatException if the targets can't be placed
+   */
+  private static void placeConditions(final Assembly assembly) throws MicroFileFormatException {
+    final List<Statement> pending = new ArrayList<Statement>();
+    for (final Statement s : assembly.getStatements()) {
+      if (s.getCondition() != 0) {
+        pending.add(s);
+      }
+    }
+    while (!pending.isEmpty()) {
+      boolean progress = false;
+      for (int i = 0; i < pending.size(); ++i) {
+        final Statement s = pending.get(i);
+        final int elseAddress = assembly.targetAddress(s.getLine(), s.getElseTarget());
+        final int thenAddress = assembly.targetAddress(s.getLine(), s.getTarget());
+        if (elseAddress >= 0 && thenAddress >= 0) {
+          checkCondition(s.getLine(), elseAddress, thenAddress);
+        } else if (elseAddress >= 0) {
+          assembly.place(s.getLine(), s.getTarget(), elseAddress | HIGHEST_BIT_OF_ADDRESS);
+        } else if (thenAddress >= 0) {
+          if (thenAddress < HIGHEST_BIT_OF_ADDRESS) {
+            throw error(s.getLine(), CONDITION_ERROR);
+          }
+          assembly.place(s.getLine(), s.getElseTarget(), thenAddress & ~HIGHEST_BIT_OF_ADDRESS);
+        } else {
+          continue;
+        }
+        pending.remove(i);
+        --i;
+        progress = true;
+      }
+      if (!progress) {
+        // neither target of the first condition is placed yet, so search a free pair of addresses
+        final Statement s = pending.get(0);
+        int addr = 0;
+        while (addr < HIGHEST_BIT_OF_ADDRESS
+               && (!assembly.isFree(addr) || !assembly.isFree(addr | HIGHEST_BIT_OF_ADDRESS))) {
+          ++addr;
+        }
+        if (addr == HIGHEST_BIT_OF_ADDRESS) {
+          throw error(s.getLine(), "no free addresses for the targets of the condition");
+        }
+        assembly.place(s.getLine(), s.getElseTarget(), addr);
+      }
+    }
+  }
+
+  /**
+   * A single parsed statement of a micro program of the Mic-1.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Statement extends AbstractMalAssembler.AbstractStatement {
+
+    /** the register on the B-bus */
+    @NotNull
+    private Register bBus = Register.MDR;
+
+    /**
+     * Constructs an empty statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param l the number of the line in the source
+     */
+    Statement(final int l) {
+      super(l);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void parseExpression(final String expression) throws MicroFileFormatException {
+      final ALUSignalSet signals = operation(expression);
+      if (signals == null) {
+        throw error(getLine(), "unknown operation: " + expression);
+      }
+      getAlu().copyOf(signals);
+      final Register b = bBusOperand(expression);
+      if (b != null) {
+        this.bBus = b;
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Register destination(final String name) {
+      return register(name);
+    }
+
+    /**
+     * Creates the micro instruction of this statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param next the address of the next instruction
+     * @return the {@link MicroInstruction} of this statement
+     */
+    @NotNull
+    MicroInstruction build(final int next) {
+      final JMPSignalSet jmp = new JMPSignalSet();
+      jmp.setJmpC(isDispatching());
+      jmp.setJmpN(getCondition() == 'N');
+      jmp.setJmpZ(getCondition() == 'Z');
+      return new MicroInstruction(next, jmp, getAlu(), getCBus(), getMemory(), this.bBus);
+    }
+  }
+}
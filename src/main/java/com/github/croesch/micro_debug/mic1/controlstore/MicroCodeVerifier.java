@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Analyses the micro program of a {@link MicroControlStore} before it is executed. Starting at address
+ * <code>0x0</code> it follows each possible jump, including the conditional jumps and the jumps to the address stored
+ * in MBR, and finds the instructions that can be reached, the instructions that jump to undefined addresses and the
+ * instructions that set both control lines of the shifter.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class MicroCodeVerifier {
+
+  /** the mask to fetch the lower eight bits of an address */
+  private static final int LOW_EIGHT_BITS = 0xFF;
+
+  /** the bit that is set by a successful conditional jump */
+  private static final int BIT_EIGHT = 0x100;
+
+  /** the number of values MBR can contain */
+  private static final int MBR_VALUES = 0x100;
+
+  /** whether the instruction at an address can be reached from address <code>0x0</code> */
+  @NotNull
+  private final boolean[] reachable;
+
+  /** the reachable addresses of instructions that jump to an undefined address */
+  @NotNull
+  private final List<Integer> undefinedTargets = new ArrayList<Integer>();
+
+  /** the addresses of instructions that set SLL8 and SRA1 at the same time */
+  @NotNull
+  private final List<Integer> illegalShifts = new ArrayList<Integer>();
+
+  /** the number of defined instructions that can't be reached */
+  private int unreachable = 0;
+
+  /**
+   * Verifies the micro program of the given control store.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store to analyse
+   */
+  public MicroCodeVerifier(final MicroControlStore store) {
+    this.reachable = new boolean[store.getSize()];
+    final int[] pending = new int[store.getSize()];
+    int size = 0;
+    if (store.getInstruction(0) != null) {
+      this.reachable[0] = true;
+      pending[size++] = 0;
+    }
+    while (size > 0) {
+      final int addr = pending[--size];
+      final MicroInstruction instruction = store.getInstruction(addr);
+      boolean undefined = false;
+      for (final int target : getSuccessors(instruction)) {
+        if (store.getInstruction(target) == null) {
+          undefined = true;
+        } else if (!this.reachable[target]) {
+          this.reachable[target] = true;
+          pending[size++] = target;
+        }
+      }
+      if (undefined) {
+        this.undefinedTargets.add(Integer.valueOf(addr));
+      }
+    }
+    Collections.sort(this.undefinedTargets);
+
+    for (int addr = 0; addr < store.getSize(); ++addr) {
+      final MicroInstruction instruction = store.getInstruction(addr);
+      if (instruction != null) {
+        if (!this.reachable[addr]) {
+          ++this.unreachable;
+        }
+        final ALUSignalSet alu = instruction.getAluSignals();
+        if (alu.isSLL8() && alu.isSRA1()) {
+          this.illegalShifts.add(Integer.valueOf(addr));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the addresses of all instructions that may follow the given instruction, depending on the flags N and Z
+   * and the value of MBR.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the instruction to fetch the possible successors of
+   * @return the addresses in ascending order, each address is contained only once
+   */
+  @NotNull
+  public static int[] getSuccessors(final MicroInstruction instruction) {
+    final int addr = instruction.getNextAddress();
+    final JMPSignalSet jmp = instruction.getJmpSignals();
+
+    final int lowValues;
+    if (jmp.isJmpC()) {
+      lowValues = MBR_VALUES;
+    } else {
+      lowValues = 1;
+    }
+    final boolean bothHighBits = (jmp.isJmpN() || jmp.isJmpZ()) && (addr & BIT_EIGHT) == 0;
+
+    final boolean[] targets = new boolean[2 * BIT_EIGHT];
+    int count = 0;
+    for (int mbr = 0; mbr < lowValues; ++mbr) {
+      final int low = (mbr | addr) & LOW_EIGHT_BITS;
+      final int target = low | (addr & BIT_EIGHT);
+      if (!targets[target]) {
+        targets[target] = true;
+        ++count;
+      }
+      if (bothHighBits && !targets[low | BIT_EIGHT]) {
+        targets[low | BIT_EIGHT] = true;
+        ++count;
+      }
+    }
+
+    final int[] result = new int[count];
+    int i = 0;
+    for (int target = 0; target < targets.length; ++target) {
+      if (targets[target]) {
+        result[i++] = target;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether the instruction at the given address can be executed, when the processor starts at address
+   * <code>0x0</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address in the control store
+   * @return <code>true</code> if there is an instruction that can be reached
+   */
+  public boolean isReachable(final int addr) {
+    return addr >= 0 && addr < this.reachable.length && this.reachable[addr];
+  }
+
+  /**
+   * Returns whether no reachable instruction can jump to an undefined address of the control store.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if each jump of the reachable instructions has a defined target
+   */
+  public boolean isClosed() {
+    return this.undefinedTargets.isEmpty();
+  }
+
+  /**
+   * Returns the addresses of the reachable instructions that may jump to an undefined address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the addresses in ascending order
+   */
+  @NotNull
+  public List<Integer> getUndefinedTargets() {
+    return Collections.unmodifiableList(this.undefinedTargets);
+  }
+
+  /**
+   * Returns the addresses of the instructions that set both control lines of the shifter, which isn't possible.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the addresses in ascending order
+   */
+  @NotNull
+  public List<Integer> getIllegalShifts() {
+    return Collections.unmodifiableList(this.illegalShifts);
+  }
+
+  /**
+   * Returns the number of defined instructions that can't be reached from address <code>0x0</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of instructions that are never executed
+   */
+  public int getNumberOfUnreachableInstructions() {
+    return this.unreachable;
+  }
+}
@@ -21,6 +21,7 @@ package com.github.croesch.micro_debug.mic1.controlstore;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.logging.Logger;
 
 import com.github.croesch.micro_debug.annotation.NotNull;
 import com.github.croesch.micro_debug.annotation.Nullable;
@@ -40,6 +41,9 @@ import com.github.croesch.micro_debug.settings.Settings;
  */
 public final class MicroControlStore extends AbstractCodeContainer {
 
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(MicroControlStore.class.getName());
+
   /** the number of micro code instructions that are stored in this store */
   private static final int INSTRUCTIONS_PER_STORE = 512;
 
@@ -47,6 +51,10 @@ public final class MicroControlStore extends AbstractCodeContainer {
   @NotNull
   private final MicroInstruction[] store = new MicroInstruction[INSTRUCTIONS_PER_STORE];
 
+  /** the analysis of the current micro program, or <code>null</code> if the store has been modified since */
+  @Nullable
+  private volatile MicroCodeVerifier verifier = null;
+
   /**
    * Constructs a {@link MicroControlStore} with the {@link MicroInstruction} fetched from the given stream. If the
    * magic number is incorrect, or if there are too few or too many bytes to read, a {@link MicroFileFormatException}
@@ -95,6 +103,57 @@ public final class MicroControlStore extends AbstractCodeContainer {
         this.store[i] = instr;
       }
     }
+    verify();
+  }
+
+  /**
+   * Verifies the micro program that has been read, before it is executed. Instructions that can't be executed are
+   * rejected, jumps to undefined addresses and unreachable instructions are reported as warning.
+   * 
+   * @since Date: Oct 19, 2026
+   * @throws MicroFileFormatException if an instruction sets both control lines of the shifter
+   */
+  private void verify() throws MicroFileFormatException {
+    final MicroCodeVerifier v = getVerifier();
+    if (!v.getIllegalShifts().isEmpty()) {
+      throw new MicroFileFormatException("instruction at " + Utils.toHexString(v.getIllegalShifts().get(0).intValue())
+                                         + " sets SLL8 and SRA1");
+    }
+    for (final Integer addr : v.getUndefinedTargets()) {
+      LOGGER.warning("instruction at " + Utils.toHexString(addr.intValue()) + " ["
+                     + MicroInstructionDecoder.decode(this.store[addr.intValue()])
+                     + "] may jump to an undefined address");
+    }
+    if (v.getNumberOfUnreachableInstructions() > 0) {
+      LOGGER.warning(v.getNumberOfUnreachableInstructions() + " instructions can't be reached");
+    }
+  }
+
+  /**
+   * Returns the analysis of the micro program currently stored. The analysis is repeated after the store has been
+   * modified.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link MicroCodeVerifier} that has analysed the instructions of this store
+   */
+  @NotNull
+  public MicroCodeVerifier getVerifier() {
+    MicroCodeVerifier v = this.verifier;
+    if (v == null) {
+      v = new MicroCodeVerifier(this);
+      this.verifier = v;
+    }
+    return v;
+  }
+
+  /**
+   * Constructs an empty {@link MicroControlStore}, the instructions are set via
+   * {@link #setInstruction(int, MicroInstruction)}.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  MicroControlStore() {
+    // nothing to read, the store stays empty
   }
 
   /**
@@ -111,6 +170,23 @@ public final class MicroControlStore extends AbstractCodeContainer {
     return this.store[mpc & nineBitMask];
   }
 
+  /**
+   * Replaces the instruction that is stored under the given mpc (address).
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mpc the address of the instruction to replace - only the least nine bits will be used.
+   * @param instruction the new {@link MicroInstruction}, or <code>null</code> to remove the instruction
+   * @throws IllegalArgumentException if the instruction sets both control lines of the shifter
+   */
+  public void setInstruction(final int mpc, final MicroInstruction instruction) {
+    if (instruction != null && instruction.getAluSignals().isSLL8() && instruction.getAluSignals().isSRA1()) {
+      throw new IllegalArgumentException("instruction sets SLL8 and SRA1");
+    }
+    final int nineBitMask = 0x1FF;
+    this.store[mpc & nineBitMask] = instruction;
+    this.verifier = null;
+  }
+
   /**
    * Returns the size of this store - the number of instructions that this store contains.
    * 
@@ -129,7 +205,7 @@ public final class MicroControlStore extends AbstractCodeContainer {
   @Override
   protected int getLastPossibleCodeAddress() {
     int addr = this.store.length - 1;
-    while (this.store[addr] == null) {
+    while (addr > 0 && this.store[addr] == null) {
       --addr;
     }
     return addr;
@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Static analysis of the number of ticks the micro program needs to execute each IJVM instruction. The control flow
+ * graph of the micro program is built from the jump signals and next addresses of the instructions. For each entry of
+ * the dispatch at Main1 the shortest and the longest path back to Main1 are calculated, including both targets of
+ * each conditional jump. The ticks of an IJVM instruction include the tick of Main1 that dispatches it.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class MicroCycleTable {
+
+  /** the number of ticks of an instruction that never returns to Main1 */
+  public static final int NEVER = -1;
+
+  /** the maximum number of ticks of an instruction that may loop for an arbitrary time before returning to Main1 */
+  public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+  /** the number of opcodes that can be dispatched */
+  private static final int NUMBER_OF_OPCODES = 0x100;
+
+  /** the bit that is set by a successful conditional jump */
+  private static final int BIT_EIGHT = 0x100;
+
+  /** marks an instruction, whose longest path is currently being calculated */
+  private static final int IN_PROGRESS = -2;
+
+  /** the analysed control store */
+  @NotNull
+  private final MicroControlStore store;
+
+  /** the address of Main1 */
+  private final int main;
+
+  /** the addresses that may follow the instruction at an address, <code>null</code> for undefined addresses */
+  @NotNull
+  private final int[][] successors;
+
+  /** the minimum number of ticks from an address until Main1 is reached */
+  @NotNull
+  private final int[] minimum;
+
+  /** the maximum number of ticks from an address until Main1 is reached */
+  @NotNull
+  private final int[] maximum;
+
+  /** the entry address of each opcode, or {@link #NEVER} if Main1 doesn't dispatch */
+  @NotNull
+  private final int[] entries = new int[NUMBER_OF_OPCODES];
+
+  /**
+   * Analyses the given control store, with Main1 at the address defined by
+   * {@link Settings#MIC1_MICRO_ADDRESS_IJVM}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro program
+   */
+  public MicroCycleTable(final MicroControlStore store) {
+    this(store, Settings.MIC1_MICRO_ADDRESS_IJVM.getValue());
+  }
+
+  /**
+   * Analyses the given control store.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro program
+   * @param main1 the address of the instruction that dispatches the IJVM instructions
+   */
+  public MicroCycleTable(final MicroControlStore store, final int main1) {
+    this.store = store;
+    this.main = main1;
+    final int size = store.getSize();
+    this.successors = new int[size][];
+    this.minimum = new int[size];
+    this.maximum = new int[size];
+    for (int addr = 0; addr < size; ++addr) {
+      final MicroInstruction instruction = store.getInstruction(addr);
+      if (instruction != null) {
+        this.successors[addr] = MicroCodeVerifier.getSuccessors(instruction);
+      }
+      this.minimum[addr] = NEVER;
+      this.maximum[addr] = NEVER;
+    }
+
+    calculateMinimum();
+    for (int addr = 0; addr < size; ++addr) {
+      calculateMaximum(addr);
+    }
+
+    final MicroInstruction dispatch = store.getInstruction(main1);
+    for (int opcode = 0; opcode < NUMBER_OF_OPCODES; ++opcode) {
+      if (dispatch != null && dispatch.getJmpSignals().isJmpC()) {
+        final int next = dispatch.getNextAddress();
+        this.entries[opcode] = ((opcode | next) & (NUMBER_OF_OPCODES - 1)) | (next & BIT_EIGHT);
+      } else {
+        this.entries[opcode] = NEVER;
+      }
+    }
+  }
+
+  /**
+   * Calculates the shortest paths to Main1 with a breadth first search on the reversed graph, starting at Main1.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void calculateMinimum() {
+    final int size = this.successors.length;
+    final int[] queue = new int[size];
+    int head = 0;
+    int tail = 0;
+    for (int addr = 0; addr < size; ++addr) {
+      if (addr != this.main && contains(this.successors[addr], this.main)) {
+        this.minimum[addr] = 1;
+        queue[tail++] = addr;
+      }
+    }
+    while (head < tail) {
+      final int target = queue[head++];
+      for (int addr = 0; addr < size; ++addr) {
+        if (addr != this.main && this.minimum[addr] == NEVER && contains(this.successors[addr], target)) {
+          this.minimum[addr] = this.minimum[target] + 1;
+          queue[tail++] = addr;
+        }
+      }
+    }
+  }
+
+  /**
+   * Calculates the longest path from the given address to Main1, only following instructions that are able to return
+   * to Main1.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address to calculate the longest path for
+   * @return the maximum number of ticks from the given address to Main1, {@link #UNBOUNDED} if there is a loop on the
+   *         way, or {@link #NEVER} if Main1 can't be reached
+   */
+  private int calculateMaximum(final int addr) {
+    if (this.minimum[addr] == NEVER) {
+      return NEVER;
+    }
+    if (this.maximum[addr] == IN_PROGRESS) {
+      return UNBOUNDED;
+    }
+    if (this.maximum[addr] != NEVER) {
+      return this.maximum[addr];
+    }
+    this.maximum[addr] = IN_PROGRESS;
+    int max = 0;
+    for (final int target : this.successors[addr]) {
+      final int ticks;
+      if (target == this.main) {
+        ticks = 0;
+      } else {
+        ticks = calculateMaximum(target);
+      }
+      if (ticks == UNBOUNDED) {
+        max = UNBOUNDED;
+      } else if (max != UNBOUNDED && ticks > max) {
+        max = ticks;
+      }
+    }
+    if (max != UNBOUNDED) {
+      ++max;
+    }
+    this.maximum[addr] = max;
+    return max;
+  }
+
+  /**
+   * Returns whether the given array contains the given value.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param values the array to search in, may be <code>null</code>
+   * @param value the value to search
+   * @return <code>true</code> if the value is an element of the array
+   */
+  private static boolean contains(final int[] values, final int value) {
+    if (values != null) {
+      for (final int v : values) {
+        if (v == value) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the address of the first micro instruction executed for the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the IJVM instruction
+   * @return the address in the control store or {@link #NEVER} if Main1 doesn't dispatch the instructions
+   */
+  public int getEntry(final int opcode) {
+    return this.entries[opcode & (NUMBER_OF_OPCODES - 1)];
+  }
+
+  /**
+   * Returns the minimum number of ticks to execute the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the IJVM instruction
+   * @return the number of ticks including the tick of Main1, or {@link #NEVER} if the instruction doesn't return to
+   *         Main1
+   */
+  public int getMinimumTicks(final int opcode) {
+    return ticks(this.minimum, getEntry(opcode));
+  }
+
+  /**
+   * Returns the maximum number of ticks to execute the IJVM instruction with the given opcode. Paths that never return
+   * to Main1 aren't considered.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the IJVM instruction
+   * @return the number of ticks including the tick of Main1, {@link #UNBOUNDED} if the instruction may loop, or
+   *         {@link #NEVER} if the instruction doesn't return to Main1
+   */
+  public int getMaximumTicks(final int opcode) {
+    return ticks(this.maximum, getEntry(opcode));
+  }
+
+  /**
+   * Returns the number of ticks of an IJVM instruction starting at the given entry.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param paths the length of the paths from each address to Main1
+   * @param entry the address of the first micro instruction of the IJVM instruction
+   * @return the number of ticks including the tick of Main1
+   */
+  private int ticks(final int[] paths, final int entry) {
+    if (entry == NEVER) {
+      return NEVER;
+    }
+    if (entry == this.main) {
+      return 1;
+    }
+    final int ticks = paths[entry];
+    if (ticks == NEVER || ticks == UNBOUNDED) {
+      return ticks;
+    }
+    return ticks + 1;
+  }
+
+  /**
+   * Returns the control flow graph of the micro program in the DOT language of Graphviz. The graph contains the
+   * instructions that can be reached from address <code>0x0</code>, edges to the target of a successful conditional
+   * jump are labelled with the condition.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the description of the graph
+   */
+  @NotNull
+  public String toDot() {
+    final String nl = System.getProperty("line.separator");
+    final MicroCodeVerifier verifier = this.store.getVerifier();
+    final StringBuilder sb = new StringBuilder("digraph micro_code {").append(nl);
+    sb.append("  node [shape=box, fontname=monospace];").append(nl);
+    for (int addr = 0; addr < this.successors.length; ++addr) {
+      if (verifier.isReachable(addr)) {
+        final MicroInstruction instruction = this.store.getInstruction(addr);
+        sb.append("  \"").append(Utils.toHexString(addr)).append("\" [label=\"").append(Utils.toHexString(addr));
+        sb.append(": ").append(MicroInstructionDecoder.decode(instruction).replace("\"", "\\\"")).append("\"];");
+        sb.append(nl);
+        final String condition = getCondition(instruction);
+        for (final int target : this.successors[addr]) {
+          if (this.store.getInstruction(target) != null) {
+            sb.append("  \"").append(Utils.toHexString(addr)).append("\" -> \"").append(Utils.toHexString(target));
+            sb.append('"');
+            if (condition != null && (target & BIT_EIGHT) != (instruction.getNextAddress() & BIT_EIGHT)) {
+              sb.append(" [label=\"").append(condition).append("\"]");
+            }
+            sb.append(';').append(nl);
+          }
+        }
+      }
+    }
+    return sb.append('}').append(nl).toString();
+  }
+
+  /**
+   * Returns the condition of a conditional jump of the given instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the instruction to fetch the condition from
+   * @return <code>N</code>, <code>Z</code> or <code>N|Z</code>, or <code>null</code> if the jump isn't conditional
+   */
+  private static String getCondition(final MicroInstruction instruction) {
+    final JMPSignalSet jmp = instruction.getJmpSignals();
+    if (jmp.isJmpN() && jmp.isJmpZ()) {
+      return "N|Z";
+    } else if (jmp.isJmpN()) {
+      return "N";
+    } else if (jmp.isJmpZ()) {
+      return "Z";
+    }
+    return null;
+  }
+}
@@ -58,6 +58,10 @@ public final class MicroInstruction {
   @Nullable
   private final Register bBusSelect;
 
+  /** the decoded representation of this instruction, built when it's requested the first time */
+  @Nullable
+  private String decoded = null;
+
   /**
    * Constructs a single mic1-instruction.
    * 
@@ -213,6 +217,29 @@ public final class MicroInstruction {
     return this.bBusSelect;
   }
 
+  /**
+   * Returns the decoded representation of this instruction, if it has already been decoded.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link String} built by {@link MicroInstructionDecoder#decode(MicroInstruction)} or <code>null</code>
+   *         if this instruction hasn't been decoded yet.
+   */
+  @Nullable
+  String getDecoded() {
+    return this.decoded;
+  }
+
+  /**
+   * Stores the decoded representation of this instruction. The instruction can't be modified, so the representation
+   * stays valid.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param text the {@link String} representing the function of this instruction
+   */
+  void setDecoded(final String text) {
+    this.decoded = text;
+  }
+
   /**
    * Returns whether this instruction simply points to another one without changing something.
    * 
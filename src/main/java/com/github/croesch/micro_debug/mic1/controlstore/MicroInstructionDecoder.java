@@ -54,7 +54,8 @@ public final class MicroInstructionDecoder {
   }
 
   /**
-   * Decodes the given instruction and returns the {@link String} representing that instruction.
+   * Decodes the given instruction and returns the {@link String} representing that instruction. Each instruction is
+   * only decoded once, further invocations return the stored representation.
    * 
    * @since Date: Nov 13, 2011
    * @param instruction the instruction to decode and represent as {@link String}
@@ -66,7 +67,24 @@ public final class MicroInstructionDecoder {
       return "nop";
     }
 
-    StringBuilder decodedInstruction = new StringBuilder();
+    String decoded = instruction.getDecoded();
+    if (decoded == null) {
+      decoded = decodeInstruction(instruction);
+      instruction.setDecoded(decoded);
+    }
+    return decoded;
+  }
+
+  /**
+   * Decodes the given instruction and returns the {@link String} representing that instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the instruction to decode and represent as {@link String}, not <code>null</code>
+   * @return the {@link String} representing the function of the given instruction
+   */
+  @NotNull
+  private static String decodeInstruction(final MicroInstruction instruction) {
+    final StringBuilder decodedInstruction = new StringBuilder();
     final String aBusValue = Register.H.name();
     final String bBusValue = decodeBBusBits(instruction.getbBusSelect());
 
@@ -76,8 +94,9 @@ public final class MicroInstructionDecoder {
     decodeMemoryBits(instruction.getMemorySignals(), decodedInstruction);
     decodeJMPAndAddress(instruction.getJmpSignals(), instruction.getNextAddress(), decodedInstruction);
 
-    if (decodedInstruction.toString().startsWith("0;")) {
-      decodedInstruction = new StringBuilder(decodedInstruction.toString().substring(2));
+    // an instruction that doesn't compute anything starts with the pure memory or jump part
+    if (decodedInstruction.length() > 1 && decodedInstruction.charAt(0) == '0' && decodedInstruction.charAt(1) == ';') {
+      decodedInstruction.delete(0, 2);
     }
 
     return decodedInstruction.toString();
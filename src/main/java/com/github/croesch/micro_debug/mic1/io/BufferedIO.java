@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.io;
+
+import java.io.ByteArrayOutputStream;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+
+/**
+ * Connection of the processor that isn't connected to the console. The input is given as an array of bytes and the
+ * output is collected in memory, so that it can be inspected after the processor has been executed.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class BufferedIO implements IProcessorIO {
+
+  /** the bytes the processor can read */
+  @NotNull
+  private final byte[] input;
+
+  /** the position of the next byte to read from the input */
+  private int position = 0;
+
+  /** the bytes written by the processor */
+  @NotNull
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  /**
+   * Constructs an io without any input.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public BufferedIO() {
+    this(new byte[0]);
+  }
+
+  /**
+   * Constructs an io that provides the given bytes as input.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param in the bytes the processor can read, <code>null</code> is handled like an empty input
+   */
+  public BufferedIO(final byte[] in) {
+    if (in == null) {
+      this.input = new byte[0];
+    } else {
+      this.input = in.clone();
+    }
+  }
+
+  /**
+   * Constructs a copy of the given io, that continues reading the input at the same position and already contains the
+   * output written so far.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the io to copy
+   */
+  private BufferedIO(final BufferedIO original) {
+    this.input = original.input;
+    this.position = original.position;
+    final byte[] written = original.output.toByteArray();
+    this.output.write(written, 0, written.length);
+  }
+
+  /**
+   * Creates an independent copy of this io, for example to save it together with a fork of the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the copy of this io, with the same position of the input and the same output
+   */
+  @NotNull
+  public BufferedIO copy() {
+    return new BufferedIO(this);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public byte read() {
+    if (this.position < this.input.length) {
+      return this.input[this.position++];
+    }
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void write(final byte value) {
+    this.output.write(value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void reset() {
+    this.position = 0;
+    this.output.reset();
+  }
+
+  /**
+   * Returns the bytes that have been written by the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the bytes written since construction or the last {@link #reset()}.
+   */
+  @NotNull
+  public byte[] getOutput() {
+    return this.output.toByteArray();
+  }
+
+  /**
+   * Returns the output of the processor as a {@link String}, where each byte is interpreted as a character.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the text written since construction or the last {@link #reset()}.
+   */
+  @NotNull
+  public String getOutputAsString() {
+    final StringBuilder sb = new StringBuilder();
+    for (final byte b : getOutput()) {
+      sb.append((char) b);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the number of bytes that have been read by the processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of bytes read from the input since construction or the last {@link #reset()}.
+   */
+  public int getBytesRead() {
+    return this.position;
+  }
+
+  /**
+   * Returns the number of bytes that have been written by the processor, without copying them.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of bytes written since construction or the last {@link #reset()}.
+   */
+  public int getBytesWritten() {
+    return this.output.size();
+  }
+}
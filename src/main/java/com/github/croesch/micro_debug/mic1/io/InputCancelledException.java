@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.io;
+
+/**
+ * Signals that reading the input of the processor has been cancelled before any input was available. The memory
+ * repeats the read, when the processor continues.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class InputCancelledException extends RuntimeException {
+
+  /** generated serial version UID */
+  private static final long serialVersionUID = -3262481925372140157L;
+
+  /**
+   * Constructs an {@code InputCancelledException} with {@code null} as its error detail message.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public InputCancelledException() {
+    super();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.io;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+
+/**
+ * The connection of the processor to the console, reads from {@link Input} and writes to {@link Output}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class StandardIO implements IProcessorIO {
+
+  /**
+   * Hide constructor from being invoked.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private StandardIO() {
+    // hidden constructor
+  }
+
+  /**
+   * Class that holds the singleton of this io.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static class LazyHolder {
+    /** the single instance of the io */
+    private static final StandardIO INSTANCE = new StandardIO();
+  }
+
+  /**
+   * The singleton instance of this io.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the single instance of this io.
+   */
+  @NotNull
+  public static StandardIO getInstance() {
+    return LazyHolder.INSTANCE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public byte read() {
+    return Input.read();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void write(final byte value) {
+    Output.print(value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void reset() {
+    Input.reset();
+    Output.reset();
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
+
+/**
+ * A set associative cache, that only models which lines are stored and counts hits, misses and evictions. The values
+ * are still read from and written to the {@link Memory}, so the cache doesn't need to keep them. Writes allocate a line
+ * like reads and are written through, so lines are never dirty.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Cache {
+
+  /** the tag of a line that isn't valid */
+  private static final int INVALID = -1;
+
+  /** the seed of the random replacement, so that executions can be repeated */
+  private static final long SEED = 0x1DEADFAD;
+
+  /** the size of the cache in bytes */
+  private final int size;
+
+  /** the number of lines of each set */
+  private final int associativity;
+
+  /** the size of a line in bytes */
+  private final int lineSize;
+
+  /** the number of bits of a byte address that select the byte inside of a line */
+  private final int lineBits;
+
+  /** the number of sets of the cache */
+  private final int sets;
+
+  /** the policy selecting the line to replace */
+  @NotNull
+  private final ReplacementPolicy policy;
+
+  /** the line numbers stored in each way of each set, {@link #INVALID} if the way is empty */
+  @NotNull
+  private final int[] tags;
+
+  /** for each way of each set the time it has been accessed (LRU) or stored (FIFO) last */
+  @NotNull
+  private final long[] stamps;
+
+  /** the generator of random numbers for random replacement */
+  @NotNull
+  private final Random random = new Random(SEED);
+
+  /** the number of accesses, used as time for the replacement */
+  private long time = 0;
+
+  /** the number of accesses that found their line in the cache */
+  private long hits = 0;
+
+  /** the number of accesses that didn't find their line in the cache */
+  private long misses = 0;
+
+  /** the number of misses that replaced a valid line */
+  private long evictions = 0;
+
+  /**
+   * Constructs an empty cache. The configuration has to be {@link #isValidConfiguration(int, int, int) valid}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param cacheSize the size of the cache in bytes
+   * @param ways the number of lines of each set
+   * @param line the size of a line in bytes
+   * @param replacement the policy selecting the line to replace
+   * @throws IllegalArgumentException if the configuration isn't valid
+   */
+  public Cache(final int cacheSize, final int ways, final int line, final ReplacementPolicy replacement) {
+    if (!isValidConfiguration(cacheSize, ways, line) || replacement == null) {
+      throw new IllegalArgumentException();
+    }
+    this.size = cacheSize;
+    this.associativity = ways;
+    this.lineSize = line;
+    this.lineBits = Integer.numberOfTrailingZeros(line);
+    this.sets = cacheSize / (ways * line);
+    this.policy = replacement;
+    this.tags = new int[this.sets * ways];
+    this.stamps = new long[this.tags.length];
+    Arrays.fill(this.tags, INVALID);
+  }
+
+  /**
+   * Returns whether a cache can be constructed with the given configuration. All values have to be powers of two, a
+   * line has to contain at least one word and the cache has to contain at least one set.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param cacheSize the size of the cache in bytes
+   * @param ways the number of lines of each set
+   * @param line the size of a line in bytes
+   * @return <code>true</code>, if the configuration is valid
+   */
+  public static boolean isValidConfiguration(final int cacheSize, final int ways, final int line) {
+    if (!isPowerOfTwo(cacheSize) || !isPowerOfTwo(ways) || !isPowerOfTwo(line)) {
+      return false;
+    }
+    return line >= Integer.SIZE / Byte.SIZE && (long) ways * line <= cacheSize;
+  }
+
+  /**
+   * Returns whether the given number is a positive power of two.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param n the number to check
+   * @return <code>true</code>, if exactly one bit of the number is set and the number is positive
+   */
+  private static boolean isPowerOfTwo(final int n) {
+    return n > 0 && (n & (n - 1)) == 0;
+  }
+
+  /**
+   * Accesses the byte at the given address. If the line containing the byte isn't stored in the cache, it's stored and
+   * replaces another line of its set, if the set is full.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param byteAddress the address of the accessed byte
+   * @return <code>true</code>, if the line has been found in the cache
+   */
+  boolean access(final int byteAddress) {
+    ++this.time;
+    final int lineNumber = byteAddress >>> this.lineBits;
+    final int first = (lineNumber & (this.sets - 1)) * this.associativity;
+    int empty = -1;
+    for (int i = first; i < first + this.associativity; ++i) {
+      if (this.tags[i] == lineNumber) {
+        ++this.hits;
+        if (this.policy == ReplacementPolicy.LRU) {
+          this.stamps[i] = this.time;
+        }
+        return true;
+      }
+      if (empty < 0 && this.tags[i] == INVALID) {
+        empty = i;
+      }
+    }
+
+    ++this.misses;
+    int way = empty;
+    if (way < 0) {
+      ++this.evictions;
+      way = selectVictim(first);
+    }
+    this.tags[way] = lineNumber;
+    this.stamps[way] = this.time;
+    return false;
+  }
+
+  /**
+   * Selects the line of the given full set that is replaced.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param first the index of the first way of the set
+   * @return the index of the way to replace
+   */
+  private int selectVictim(final int first) {
+    if (this.policy == ReplacementPolicy.RANDOM) {
+      return first + this.random.nextInt(this.associativity);
+    }
+    // LRU and FIFO only differ in when the stamp is updated
+    int victim = first;
+    for (int i = first + 1; i < first + this.associativity; ++i) {
+      if (this.stamps[i] < this.stamps[victim]) {
+        victim = i;
+      }
+    }
+    return victim;
+  }
+
+  /**
+   * Returns the size of the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the size of the cache in bytes
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+  /**
+   * Returns the associativity of the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of lines of each set
+   */
+  public int getAssociativity() {
+    return this.associativity;
+  }
+
+  /**
+   * Returns the size of the lines of the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the size of a line in bytes
+   */
+  public int getLineSize() {
+    return this.lineSize;
+  }
+
+  /**
+   * Returns the policy that selects the line to replace.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the replacement policy of the cache
+   */
+  @NotNull
+  public ReplacementPolicy getPolicy() {
+    return this.policy;
+  }
+
+  /**
+   * Returns the number of accesses that have found their line in the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of hits
+   */
+  public long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * Returns the number of accesses that haven't found their line in the cache.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return this.misses;
+  }
+
+  /**
+   * Returns the number of misses that have replaced a valid line.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return this.evictions;
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Models an instruction cache and a data cache in front of the {@link Memory}. The instruction cache is accessed by
+ * <code>fetch</code>, the data cache by <code>rd</code> and <code>wr</code>, words of the memory mapped io bypass the
+ * caches. The accesses are counted for the whole program and for the IJVM instruction being executed. The model
+ * doesn't delay the processor, instead each miss is counted as a number of stall ticks that a real memory would need.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class CacheModel {
+
+  /** the number of bytes of a word */
+  private static final int BYTES_PER_WORD = Integer.SIZE / Byte.SIZE;
+
+  /** the cache accessed by fetch */
+  @NotNull
+  private final Cache instructionCache;
+
+  /** the cache accessed by rd and wr */
+  @NotNull
+  private final Cache dataCache;
+
+  /** the number of stall ticks of each miss */
+  private final int missPenalty;
+
+  /** the opcode of the IJVM instruction being executed or <code>-1</code> before the first instruction */
+  private int opcode = -1;
+
+  /** the number of accesses to the instruction cache of each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] instructionAccesses = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of misses of the instruction cache of each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] instructionMisses = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of accesses to the data cache of each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] dataAccesses = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of misses of the data cache of each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] dataMisses = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of lines evicted from both caches by each IJVM instruction, indexed by the opcode */
+  @NotNull
+  private final long[] evictions = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /**
+   * Constructs the model of the given caches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param iCache the cache accessed by fetch
+   * @param dCache the cache accessed by rd and wr
+   * @param penalty the number of stall ticks of each miss
+   */
+  public CacheModel(final Cache iCache, final Cache dCache, final int penalty) {
+    this.instructionCache = iCache;
+    this.dataCache = dCache;
+    this.missPenalty = penalty;
+  }
+
+  /**
+   * Sets the IJVM instruction that is being executed, to account the following accesses to it.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   */
+  public void setOpcode(final int op) {
+    this.opcode = op & (IJVMOpcodeTable.NUMBER_OF_OPCODES - 1);
+  }
+
+  /**
+   * Accounts the memory operations of a tick. Is invoked by the memory before it performs the operations.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param read whether the memory reads a word
+   * @param write whether the memory writes a word
+   * @param fetch whether the memory fetches a byte
+   * @param wordAddress the address of the word to read or write
+   * @param byteAddress the address of the byte to fetch
+   */
+  void access(final boolean read, final boolean write, final boolean fetch, final int wordAddress,
+              final int byteAddress) {
+    if ((read || write) && wordAddress != Memory.MEMORY_MAPPED_IO_ADDRESS) {
+      final long evicted = this.dataCache.getEvictions();
+      final boolean hit = this.dataCache.access(wordAddress * BYTES_PER_WORD);
+      if (this.opcode >= 0) {
+        ++this.dataAccesses[this.opcode];
+        if (!hit) {
+          ++this.dataMisses[this.opcode];
+        }
+        this.evictions[this.opcode] += this.dataCache.getEvictions() - evicted;
+      }
+    }
+    if (fetch) {
+      final long evicted = this.instructionCache.getEvictions();
+      final boolean hit = this.instructionCache.access(byteAddress);
+      if (this.opcode >= 0) {
+        ++this.instructionAccesses[this.opcode];
+        if (!hit) {
+          ++this.instructionMisses[this.opcode];
+        }
+        this.evictions[this.opcode] += this.instructionCache.getEvictions() - evicted;
+      }
+    }
+  }
+
+  /**
+   * Returns the cache accessed by fetch.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the instruction cache
+   */
+  @NotNull
+  public Cache getInstructionCache() {
+    return this.instructionCache;
+  }
+
+  /**
+   * Returns the cache accessed by rd and wr.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the data cache
+   */
+  @NotNull
+  public Cache getDataCache() {
+    return this.dataCache;
+  }
+
+  /**
+   * Returns the number of stall ticks of each miss.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the miss penalty in ticks
+   */
+  public int getMissPenalty() {
+    return this.missPenalty;
+  }
+
+  /**
+   * Returns the number of ticks the processor would have been stalled by the misses of both caches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of stall ticks
+   */
+  public long getStallTicks() {
+    return (this.instructionCache.getMisses() + this.dataCache.getMisses()) * this.missPenalty;
+  }
+
+  /**
+   * Returns the number of accesses to the instruction cache by the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   * @return the number of fetches of the instruction
+   */
+  public long getInstructionAccesses(final int op) {
+    return this.instructionAccesses[op];
+  }
+
+  /**
+   * Returns the number of misses of the instruction cache by the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   * @return the number of fetches of the instruction, that missed
+   */
+  public long getInstructionMisses(final int op) {
+    return this.instructionMisses[op];
+  }
+
+  /**
+   * Returns the number of accesses to the data cache by the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   * @return the number of reads and writes of the instruction
+   */
+  public long getDataAccesses(final int op) {
+    return this.dataAccesses[op];
+  }
+
+  /**
+   * Returns the number of misses of the data cache by the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   * @return the number of reads and writes of the instruction, that missed
+   */
+  public long getDataMisses(final int op) {
+    return this.dataMisses[op];
+  }
+
+  /**
+   * Returns the number of lines evicted from both caches by the IJVM instruction with the given opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode of the IJVM instruction
+   * @return the number of evictions of the instruction
+   */
+  public long getEvictions(final int op) {
+    return this.evictions[op];
+  }
+}
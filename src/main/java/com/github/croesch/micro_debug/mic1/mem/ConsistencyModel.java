@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+/**
+ * The memory-consistency models that a {@link MemoryBus} can provide to the processors sharing a memory.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum ConsistencyModel {
+
+  /**
+   * Sequential consistency: each memory operation of a processor is performed exclusively on the bus, so all
+   * processors observe the operations in the same order, that respects the order of each processor's program.
+   */
+  SEQUENTIAL,
+
+  /**
+   * Explicitly fenced: memory operations aren't ordered between the processors. A word written by one processor is
+   * guaranteed to be visible to another processor only after the writing processor has executed the atomic instruction
+   * and the reading processor has executed it afterwards. Accesses of the memory mapped io are always exclusive.
+   */
+  FENCED;
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+
+/**
+ * A single decoded IJVM instruction. Objects of this class are reused for decoding many instructions, see
+ * {@link IJVMOpcodeTable#decode(com.github.croesch.micro_debug.mic1.api.IReadableMemory, int, IJVMInstruction)}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class IJVMInstruction {
+
+  /** the address of the operation code of the instruction */
+  private int address;
+
+  /** the operation code of the instruction */
+  private int opcode;
+
+  /** the command of the instruction or <code>null</code> if the operation code is unknown */
+  @Nullable
+  private IJVMCommand command;
+
+  /** the number of arguments of the instruction */
+  private int numberOfArguments;
+
+  /** the number of bytes of the instruction, including the operation code */
+  private int length;
+
+  /** the types of the arguments, only the first elements given by {@link #numberOfArguments} are valid */
+  @NotNull
+  private final IJVMCommandArgument[] argumentTypes;
+
+  /** the values of the arguments, only the first elements given by {@link #numberOfArguments} are valid */
+  @NotNull
+  private final int[] argumentValues;
+
+  /**
+   * Constructs an instruction that is able to hold the given number of arguments.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param maxArguments the maximum number of arguments of an instruction
+   */
+  IJVMInstruction(final int maxArguments) {
+    this.argumentTypes = new IJVMCommandArgument[maxArguments];
+    this.argumentValues = new int[maxArguments];
+  }
+
+  /**
+   * Sets the values of the decoded instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the operation code
+   * @param code the operation code
+   * @param cmd the command or <code>null</code> if the operation code is unknown
+   * @param args the number of arguments
+   * @param len the number of bytes of the instruction
+   */
+  void set(final int addr, final int code, final IJVMCommand cmd, final int args, final int len) {
+    this.address = addr;
+    this.opcode = code;
+    this.command = cmd;
+    this.numberOfArguments = args;
+    this.length = len;
+  }
+
+  /**
+   * Sets the argument with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param i the number of the argument
+   * @param type the type of the argument
+   * @param value the value of the argument as read from the memory
+   */
+  void setArgument(final int i, final IJVMCommandArgument type, final int value) {
+    this.argumentTypes[i] = type;
+    this.argumentValues[i] = value;
+  }
+
+  /**
+   * Returns the address of the operation code of the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the instruction
+   */
+  public int getAddress() {
+    return this.address;
+  }
+
+  /**
+   * Returns the operation code of the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the operation code, between <code>0</code> and <code>255</code>
+   */
+  public int getOpcode() {
+    return this.opcode;
+  }
+
+  /**
+   * Returns the command of the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link IJVMCommand} or <code>null</code> if the operation code is unknown
+   */
+  @Nullable
+  public IJVMCommand getCommand() {
+    return this.command;
+  }
+
+  /**
+   * Returns the number of bytes of the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of bytes of the instruction, including the operation code
+   */
+  public int getLength() {
+    return this.length;
+  }
+
+  /**
+   * Returns the number of arguments of the instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of arguments
+   */
+  public int getNumberOfArguments() {
+    return this.numberOfArguments;
+  }
+
+  /**
+   * Returns the type of the argument with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param i the number of the argument, lower than {@link #getNumberOfArguments()}
+   * @return the type of the argument
+   */
+  @NotNull
+  public IJVMCommandArgument getArgumentType(final int i) {
+    return this.argumentTypes[i];
+  }
+
+  /**
+   * Returns the value of the argument with the given number, as it's stored in the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param i the number of the argument, lower than {@link #getNumberOfArguments()}
+   * @return the unsigned value of the argument
+   */
+  public int getArgumentValue(final int i) {
+    return this.argumentValues[i];
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.mic1.api.IReadableMemory;
+
+/**
+ * Table of the IJVM instructions, indexed by their operation code. The layout of the operands of each instruction is
+ * computed once when the table is built, so decoding an instruction doesn't need any lookup in a map and doesn't
+ * allocate any objects.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class IJVMOpcodeTable {
+
+  /** the number of different operation codes */
+  public static final int NUMBER_OF_OPCODES = 256;
+
+  /** mask to select the operation code from a byte value */
+  private static final int OPCODE_MASK = 0xFF;
+
+  /** the commands, indexed by their operation code, <code>null</code> for unknown operation codes */
+  @NotNull
+  private final IJVMCommand[] commands = new IJVMCommand[NUMBER_OF_OPCODES];
+
+  /** the arguments of the commands, indexed by their operation code */
+  @NotNull
+  private final IJVMCommandArgument[][] arguments = new IJVMCommandArgument[NUMBER_OF_OPCODES][];
+
+  /** the number of bytes of each instruction including the operation code, indexed by the operation code */
+  @NotNull
+  private final int[] lengths = new int[NUMBER_OF_OPCODES];
+
+  /**
+   * the position of the label argument of each instruction relative to the operation code, indexed by the operation
+   * code, <code>0</code> for instructions without a label
+   */
+  @NotNull
+  private final int[] labelPositions = new int[NUMBER_OF_OPCODES];
+
+  /** the highest number of arguments of a single command */
+  private int maxArguments = 0;
+
+  /**
+   * Builds the table from the given commands.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param commandMap the commands, mapped by their operation code
+   */
+  public IJVMOpcodeTable(final Map<Integer, IJVMCommand> commandMap) {
+    for (int opcode = 0; opcode < NUMBER_OF_OPCODES; ++opcode) {
+      this.arguments[opcode] = new IJVMCommandArgument[0];
+      this.lengths[opcode] = 1;
+    }
+    for (final Entry<Integer, IJVMCommand> entry : commandMap.entrySet()) {
+      final int opcode = entry.getKey().intValue();
+      if (opcode >= 0 && opcode < NUMBER_OF_OPCODES && entry.getValue() != null) {
+        final List<IJVMCommandArgument> args = entry.getValue().getArgs();
+        this.commands[opcode] = entry.getValue();
+        this.arguments[opcode] = args.toArray(new IJVMCommandArgument[args.size()]);
+        for (final IJVMCommandArgument arg : args) {
+          if (arg == IJVMCommandArgument.LABEL && this.labelPositions[opcode] == 0) {
+            this.labelPositions[opcode] = this.lengths[opcode];
+          }
+          this.lengths[opcode] += arg.getNumberOfBytes();
+        }
+        this.maxArguments = Math.max(this.maxArguments, args.size());
+      }
+    }
+  }
+
+  /**
+   * Class that holds the table built from the configuration file of the IJVM.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static class LazyHolder {
+    /** the table of the commands configured in ijvm.conf */
+    private static final IJVMOpcodeTable INSTANCE = readDefault();
+
+    /**
+     * Reads the table from the configuration file ijvm.conf.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the table of the configured commands
+     */
+    @NotNull
+    private static IJVMOpcodeTable readDefault() {
+      final InputStream in = IJVMOpcodeTable.class.getClassLoader().getResourceAsStream("ijvm.conf");
+      return new IJVMOpcodeTable(new IJVMConfigReader().readConfig(in));
+    }
+  }
+
+  /**
+   * Returns the table of the commands configured in the file ijvm.conf. The table is shared by all components that
+   * decode IJVM instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the table of the configured commands
+   */
+  @NotNull
+  public static IJVMOpcodeTable getDefault() {
+    return LazyHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the command with the given operation code.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the operation code of the command
+   * @return the {@link IJVMCommand} with the given operation code or <code>null</code>, if the operation code is
+   *         unknown.
+   */
+  @Nullable
+  public IJVMCommand getCommand(final int opcode) {
+    return this.commands[opcode & OPCODE_MASK];
+  }
+
+  /**
+   * Returns the operation code of the command with the given name.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the command, for example <code>INVOKEVIRTUAL</code>
+   * @return the operation code of the command or <code>-1</code>, if there is no command with the given name.
+   */
+  public int getOpcode(final String name) {
+    for (int opcode = 0; opcode < NUMBER_OF_OPCODES; ++opcode) {
+      if (this.commands[opcode] != null && this.commands[opcode].getName().equals(name)) {
+        return opcode;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the number of bytes of the instruction with the given operation code, including the operation code.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the operation code of the instruction
+   * @return the number of bytes of the instruction, <code>1</code> for unknown operation codes
+   */
+  public int getLength(final int opcode) {
+    return this.lengths[opcode & OPCODE_MASK];
+  }
+
+  /**
+   * Returns whether the instruction with the given operation code is a branch, that is whether it has a label as
+   * argument.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the operation code of the instruction
+   * @return <code>true</code>, if the instruction may continue at the address given by its label
+   */
+  public boolean isBranch(final int opcode) {
+    return this.labelPositions[opcode & OPCODE_MASK] > 0;
+  }
+
+  /**
+   * Returns the address the branch at the given address of the given memory jumps to, if it is taken.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory containing the code
+   * @param addr the address of the operation code of the branch
+   * @return the address the label of the branch refers to or <code>-1</code> if the instruction isn't a branch
+   */
+  public int getBranchTarget(final IReadableMemory mem, final int addr) {
+    final int position = this.labelPositions[mem.getByte(addr) & OPCODE_MASK];
+    if (position == 0) {
+      return -1;
+    }
+    final short offset = (short) (mem.getByte(addr + position) << Byte.SIZE | mem.getByte(addr + position + 1));
+    return addr + offset;
+  }
+
+  /**
+   * Creates an instruction that is able to hold the result of decoding any instruction of this table. It can be reused
+   * for each invocation of {@link #decode(IReadableMemory, int, IJVMInstruction)}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return a new instruction to decode into
+   */
+  @NotNull
+  public IJVMInstruction createInstruction() {
+    return new IJVMInstruction(this.maxArguments);
+  }
+
+  /**
+   * Decodes the instruction at the given address of the given memory into the given instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory containing the code
+   * @param addr the address of the operation code of the instruction
+   * @param result the instruction to store the decoded values in, created by {@link #createInstruction()}
+   * @return the given instruction
+   */
+  @NotNull
+  public IJVMInstruction decode(final IReadableMemory mem, final int addr, final IJVMInstruction result) {
+    final int opcode = mem.getByte(addr) & OPCODE_MASK;
+    final IJVMCommandArgument[] args = this.arguments[opcode];
+    int pos = addr + 1;
+    for (int i = 0; i < args.length; ++i) {
+      int value = 0;
+      for (int b = 0; b < args[i].getNumberOfBytes(); ++b) {
+        value = (value << Byte.SIZE) | mem.getByte(pos);
+        ++pos;
+      }
+      result.setArgument(i, args[i], value);
+    }
+    result.set(addr, opcode, this.commands[opcode], args.length, this.lengths[opcode]);
+    return result;
+  }
+}
@@ -20,21 +20,29 @@ package com.github.croesch.micro_debug.mic1.mem;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.error.FileFormatException;
 import com.github.croesch.micro_debug.error.MacroFileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
 import com.github.croesch.micro_debug.mic1.api.IReadableMemory;
-import com.github.croesch.micro_debug.mic1.io.Input;
-import com.github.croesch.micro_debug.mic1.io.Output;
+import com.github.croesch.micro_debug.mic1.io.InputCancelledException;
+import com.github.croesch.micro_debug.mic1.io.StandardIO;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
 
 /**
- * Represents the main memory of the processor.
+ * Represents the main memory of the processor.<br>
+ * The words are stored in pages. Pages can be shared with {@link #fork() forks} of this memory and with the initial
+ * program image, a shared page is copied when it is written the first time (copy-on-write).
  * 
  * @author croesch
  * @since Date: Nov 21, 2011
@@ -50,13 +58,73 @@ public final class Memory implements IReadableMemory {
   /** address which isn't an address in the memory, but is connected to memory mapped io */
   public static final int MEMORY_MAPPED_IO_ADDRESS = 0xFFFFFFFD;
 
-  /** the representation of the memory */
+  /** the number of bits of a word address that select the word inside of a page */
+  private static final int PAGE_BITS = 10;
+
+  /** the number of words stored in one page */
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+  /** mask to select the address of a word inside of a page */
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  /** the number of words of the memory */
+  private final int size;
+
+  /** the representation of the memory, divided into pages */
+  @NotNull
+  private final int[][] pages;
+
+  /** stores for each page whether this memory owns it or whether it has to be copied before writing to it */
+  @NotNull
+  private final boolean[] ownedPages;
+
+  /** stores the initial state of the memory for reset purpose, is never written after construction */
   @NotNull
-  private final int[] memory;
+  private final int[][] initialPages;
 
-  /** stores the initial state of the memory for reset purpose */
+  /** the input and output connected to the memory mapped io */
   @NotNull
-  private final int[] initialMemory;
+  private IProcessorIO io = StandardIO.getInstance();
+
+  /** whether the content hash is updated when a word is written */
+  private boolean contentHashing = false;
+
+  /** the hash of the content of the memory, only up to date if content hashing is enabled */
+  private int contentHash = 0;
+
+  /** the number of words that have been read from the memory mapped io */
+  private long inputReads = 0;
+
+  /** the number of words that have been written to the memory mapped io */
+  private long outputWrites = 0;
+
+  /** the number of read operations the memory has performed */
+  private long reads = 0;
+
+  /** the number of write operations the memory has performed */
+  private long writes = 0;
+
+  /** the number of fetch operations the memory has performed */
+  private long fetches = 0;
+
+  /** the address of the first word above the code and the constants, writes below it modify the program */
+  private final int codeLimit = Math.min(Settings.MIC1_REGISTER_LV_DEFVAL.getValue(),
+                                         Settings.MIC1_REGISTER_SP_DEFVAL.getValue());
+
+  /** the number of times the code or the constants have been modified */
+  private long codeModifications = 0;
+
+  /** the value of the modification counter, when a page below the code limit has been modified the last time */
+  @NotNull
+  private final long[] codePageModifications;
+
+  /** the model of the caches in front of this memory or <code>null</code> if no caches are modelled */
+  @Nullable
+  private CacheModel cacheModel = null;
+
+  /** the bus connecting this port with the other ports of the shared memory, or <code>null</code> if not shared */
+  @Nullable
+  private final MemoryBus bus;
 
   /** the input signal that enforces the memory to read a word */
   private boolean read = false;
@@ -79,6 +147,9 @@ public final class Memory implements IReadableMemory {
   /** the byte read from the memory */
   private byte byteValue = -1;
 
+  /** whether reading the memory mapped io has been cancelled and has to be repeated before the word is used */
+  private boolean inputPending = false;
+
   /** the magic number that is needed at the begin of a binary ijvm-file */
   public static final int IJVM_MAGIC_NUMBER = 0x1DEADFAD;
 
@@ -92,10 +163,168 @@ public final class Memory implements IReadableMemory {
    * @throws MacroFileFormatException if the stream doesn't provide valid data.
    */
   public Memory(final int maxSize, final InputStream programStream) throws MacroFileFormatException {
-    this.memory = new int[maxSize];
-    this.initialMemory = new int[maxSize];
+    this.size = maxSize;
+    final int numberOfPages = (maxSize + PAGE_MASK) >> PAGE_BITS;
+    this.pages = new int[numberOfPages][];
+    this.ownedPages = new boolean[numberOfPages];
+    this.initialPages = new int[numberOfPages][];
+    for (int i = 0; i < numberOfPages; ++i) {
+      this.pages[i] = new int[Math.min(PAGE_SIZE, maxSize - (i << PAGE_BITS))];
+      this.ownedPages[i] = true;
+    }
+    this.codePageModifications = new long[(Math.min(this.codeLimit, maxSize) + PAGE_MASK) >> PAGE_BITS];
+    this.bus = null;
     initMemory(programStream);
-    System.arraycopy(this.memory, 0, this.initialMemory, 0, maxSize);
+    for (int i = 0; i < numberOfPages; ++i) {
+      this.initialPages[i] = this.pages[i].clone();
+    }
+  }
+
+  /**
+   * Constructs a fork of the given memory. The fork shares all pages with the given memory and the initial program
+   * image until one of them writes to a page.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param original the memory to fork
+   */
+  private Memory(final Memory original) {
+    this.size = original.size;
+    this.pages = original.pages.clone();
+    this.ownedPages = new boolean[this.pages.length];
+    this.initialPages = original.initialPages;
+    this.io = original.io;
+    this.contentHashing = original.contentHashing;
+    this.contentHash = original.contentHash;
+    this.inputReads = original.inputReads;
+    this.outputWrites = original.outputWrites;
+    this.reads = original.reads;
+    this.writes = original.writes;
+    this.fetches = original.fetches;
+    this.codeModifications = original.codeModifications;
+    this.codePageModifications = original.codePageModifications.clone();
+    this.bus = null;
+    this.read = original.read;
+    this.write = original.write;
+    this.fetch = original.fetch;
+    this.wordAddress = original.wordAddress;
+    this.wordValue = original.wordValue;
+    this.byteAddress = original.byteAddress;
+    this.byteValue = original.byteValue;
+    this.inputPending = original.inputPending;
+  }
+
+  /**
+   * Constructs a port of the given shared memory. The port reads and writes the same pages as the shared memory, but
+   * has its own signals, latches and counters.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param shared the memory containing the shared words, has to own all its pages
+   * @param memoryBus the bus that orders the memory operations of the ports
+   */
+  Memory(final Memory shared, final MemoryBus memoryBus) {
+    this.size = shared.size;
+    this.pages = shared.pages;
+    this.ownedPages = shared.ownedPages;
+    this.initialPages = shared.initialPages;
+    this.io = shared.io;
+    this.codePageModifications = new long[shared.codePageModifications.length];
+    this.bus = memoryBus;
+    this.read = shared.read;
+    this.write = shared.write;
+    this.fetch = shared.fetch;
+    this.wordAddress = shared.wordAddress;
+    this.wordValue = shared.wordValue;
+    this.byteAddress = shared.byteAddress;
+    this.byteValue = shared.byteValue;
+  }
+
+  /**
+   * Creates an independent copy of this memory. The pages are shared between this memory and the returned fork until
+   * one of them writes to a page, so forking is cheap and doesn't copy the content of the memory.<br>
+   * <b>Note:</b> This method mustn't be invoked while another thread is writing to this memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the fork of this memory, containing the same words and signals as this memory.
+   */
+  @NotNull
+  public Memory fork() {
+    final Memory fork = new Memory(this);
+    // from now on both memories have to copy a page before writing it
+    for (int i = 0; i < this.ownedPages.length; ++i) {
+      this.ownedPages[i] = false;
+    }
+    return fork;
+  }
+
+  /**
+   * Copies all pages that are shared with the initial program image or with forks, so that writing the memory never
+   * replaces a page.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void ownAllPages() {
+    for (int i = 0; i < this.pages.length; ++i) {
+      if (!this.ownedPages[i]) {
+        this.pages[i] = this.pages[i].clone();
+        this.ownedPages[i] = true;
+      }
+    }
+  }
+
+  /**
+   * Returns the bus connecting this memory with other processors sharing its words.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link MemoryBus} of this port or <code>null</code> if the memory isn't shared
+   */
+  @Nullable
+  public MemoryBus getBus() {
+    return this.bus;
+  }
+
+  /**
+   * Sets the input and output the memory mapped io of this memory is connected to.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param newIO the new io, mustn't be <code>null</code>
+   */
+  public void setIO(final IProcessorIO newIO) {
+    if (newIO != null) {
+      this.io = newIO;
+    }
+  }
+
+  /**
+   * Sets the model of the caches, that is informed about each memory operation. The cache model isn't copied to forks
+   * of this memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param model the model of the caches or <code>null</code> to disable the caches
+   */
+  public void setCacheModel(final CacheModel model) {
+    this.cacheModel = model;
+  }
+
+  /**
+   * Returns the model of the caches, that is informed about each memory operation.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the model of the caches or <code>null</code> if no caches are modelled
+   */
+  @Nullable
+  public CacheModel getCacheModel() {
+    return this.cacheModel;
+  }
+
+  /**
+   * Returns the input and output the memory mapped io of this memory is connected to.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the io of this memory.
+   */
+  @NotNull
+  public IProcessorIO getIO() {
+    return this.io;
   }
 
   /**
@@ -104,8 +333,16 @@ public final class Memory implements IReadableMemory {
    * @since Date: Jan 27, 2012
    */
   public void reset() {
-    // copy initial memory state
-    System.arraycopy(this.initialMemory, 0, this.memory, 0, getSize());
+    // share initial memory state, pages will be copied when written
+    for (int i = 0; i < this.pages.length; ++i) {
+      this.pages[i] = this.initialPages[i];
+      this.ownedPages[i] = false;
+    }
+    if (this.contentHashing) {
+      this.contentHash = calculateContentHash();
+    }
+    ++this.codeModifications;
+    Arrays.fill(this.codePageModifications, this.codeModifications);
     // set values
     this.read = false;
     this.fetch = false;
@@ -114,6 +351,43 @@ public final class Memory implements IReadableMemory {
     this.wordValue = -1;
     this.byteAddress = -1;
     this.byteValue = -1;
+    this.inputPending = false;
+  }
+
+  /**
+   * Sets the words and signals of this memory to those of the given memory, for example to continue from the state of
+   * a fork. The pages are shared between both memories until one of them writes to a page. The io of this memory isn't
+   * changed.<br>
+   * <b>Note:</b> This method mustn't be invoked while another thread is writing to one of the memories.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param state the memory to take the state from, must have the same size as this memory
+   */
+  public void restore(final Memory state) {
+    for (int i = 0; i < this.pages.length; ++i) {
+      this.pages[i] = state.pages[i];
+      this.ownedPages[i] = false;
+      state.ownedPages[i] = false;
+    }
+    if (this.contentHashing) {
+      this.contentHash = calculateContentHash();
+    }
+    this.inputReads = state.inputReads;
+    this.outputWrites = state.outputWrites;
+    this.reads = state.reads;
+    this.writes = state.writes;
+    this.fetches = state.fetches;
+    // the code might have been modified by the other memory
+    ++this.codeModifications;
+    Arrays.fill(this.codePageModifications, this.codeModifications);
+    this.read = state.read;
+    this.write = state.write;
+    this.fetch = state.fetch;
+    this.wordAddress = state.wordAddress;
+    this.wordValue = state.wordValue;
+    this.byteAddress = state.byteAddress;
+    this.byteValue = state.byteValue;
+    this.inputPending = state.inputPending;
   }
 
   /**
@@ -197,8 +471,232 @@ public final class Memory implements IReadableMemory {
     final int alignedValue = value << offs * Byte.SIZE;
 
     // read the current word value and override just the given byte
-    final int word = this.memory[addr / 4];
-    this.memory[addr / 4] = (word & MASK_BYTE[offs]) | alignedValue;
+    final int word = readWord(addr / 4);
+    writeWord(addr / 4, (word & MASK_BYTE[offs]) | alignedValue);
+  }
+
+  /**
+   * Returns the word stored at the given address, without any validation of the address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the word to read
+   * @return the word stored at the given address
+   */
+  private int readWord(final int addr) {
+    return this.pages[addr >> PAGE_BITS][addr & PAGE_MASK];
+  }
+
+  /**
+   * Stores the given word at the given address, without any validation of the address. If the page containing the
+   * address is shared, it will be copied before.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the word to write
+   * @param value the word to store
+   */
+  private void writeWord(final int addr, final int value) {
+    final int page = addr >> PAGE_BITS;
+    if (this.contentHashing) {
+      // XOR the old word out of the hash and the new one in
+      this.contentHash ^= hashWord(addr, this.pages[page][addr & PAGE_MASK]) ^ hashWord(addr, value);
+    }
+    if (addr < this.codeLimit) {
+      ++this.codeModifications;
+      this.codePageModifications[page] = this.codeModifications;
+    }
+    if (!this.ownedPages[page]) {
+      this.pages[page] = this.pages[page].clone();
+      this.ownedPages[page] = true;
+    }
+    this.pages[page][addr & PAGE_MASK] = value;
+  }
+
+  /**
+   * Returns the contribution of the given word at the given address to the content hash. The content hash is the XOR of
+   * the contributions of all words, so a single word can be replaced without visiting the other words.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the word
+   * @param value the value of the word
+   * @return the hash of the word at the given address
+   */
+  private static int hashWord(final int addr, final int value) {
+    int h = addr * 0x9E3779B1 ^ value;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Calculates the content hash by visiting all words of the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the XOR of the hashes of all words
+   */
+  private int calculateContentHash() {
+    int hash = 0;
+    for (int p = 0; p < this.pages.length; ++p) {
+      final int[] page = this.pages[p];
+      for (int i = 0; i < page.length; ++i) {
+        hash ^= hashWord((p << PAGE_BITS) + i, page[i]);
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Enables or disables updating the content hash on every write. When enabled the hash is calculated once from all
+   * words, afterwards each write updates it without visiting the other words.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param enabled <code>true</code> to keep the content hash up to date,<br>
+   *        <code>false</code> to stop updating it
+   * @see #getContentHash()
+   */
+  public void setContentHashing(final boolean enabled) {
+    if (enabled && !this.contentHashing) {
+      this.contentHash = calculateContentHash();
+    }
+    this.contentHashing = enabled;
+  }
+
+  /**
+   * Returns whether the content hash is updated when a word is written.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if the content hash is kept up to date
+   */
+  public boolean isContentHashing() {
+    return this.contentHashing;
+  }
+
+  /**
+   * Returns a hash of the content of the memory. Two memories with the same words have the same content hash. The value
+   * is only meaningful, if content hashing is enabled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the hash of all words of the memory
+   * @see #setContentHashing(boolean)
+   */
+  public int getContentHash() {
+    return this.contentHash;
+  }
+
+  /**
+   * Returns the number of words that have been read from the memory mapped io since the memory has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of reads from the input
+   */
+  public long getInputReads() {
+    return this.inputReads;
+  }
+
+  /**
+   * Returns the number of words that have been written to the memory mapped io since the memory has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of writes to the output
+   */
+  public long getOutputWrites() {
+    return this.outputWrites;
+  }
+
+  /**
+   * Returns the number of read operations the memory has performed since it has been constructed, including the reads
+   * from the memory mapped io.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of performed read operations
+   */
+  public long getReads() {
+    return this.reads;
+  }
+
+  /**
+   * Returns the number of write operations the memory has performed since it has been constructed, including the
+   * writes to the memory mapped io.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of performed write operations
+   */
+  public long getWrites() {
+    return this.writes;
+  }
+
+  /**
+   * Returns the number of fetch operations the memory has performed since it has been constructed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of performed fetch operations
+   */
+  public long getFetches() {
+    return this.fetches;
+  }
+
+  /**
+   * Returns the number of times the code or the constants of the program might have been modified, by writing a word
+   * below the stack or by resetting the memory. Can be used to detect that information derived from the code, like
+   * disassembled lines, is outdated.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of modifications of the program, increases with each modification.
+   */
+  public long getCodeModifications() {
+    return this.codeModifications;
+  }
+
+  /**
+   * Returns the address of the first word of the code or the constants that might have been modified after the given
+   * number of modifications. The modifications are tracked in blocks of words, so the returned word might not have
+   * been modified itself.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param since the number of modifications, returned by {@link #getCodeModifications()}
+   * @return the address of the first word that might have been modified or <code>-1</code>, if the code and the
+   *         constants haven't been modified since the given number of modifications.
+   */
+  public int getFirstModifiedCodeWord(final long since) {
+    for (int page = 0; page < this.codePageModifications.length; ++page) {
+      if (this.codePageModifications[page] > since) {
+        return page << PAGE_BITS;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the address of the last word of the code or the constants that might have been modified after the given
+   * number of modifications. The modifications are tracked in blocks of words, so the returned word might not have
+   * been modified itself.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param since the number of modifications, returned by {@link #getCodeModifications()}
+   * @return the address of the last word that might have been modified or <code>-1</code>, if the code and the
+   *         constants haven't been modified since the given number of modifications.
+   */
+  public int getLastModifiedCodeWord(final long since) {
+    for (int page = this.codePageModifications.length - 1; page >= 0; --page) {
+      if (this.codePageModifications[page] > since) {
+        return Math.min(((page + 1) << PAGE_BITS), Math.min(this.codeLimit, this.size)) - 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns whether the given memory has the same words and the same pending signals and values as this memory, so
+   * that both memories will behave the same way.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the memory to compare with
+   * @return <code>true</code> if both memories are in the same state
+   */
+  public boolean hasSameState(final Memory other) {
+    return this.read == other.read && this.write == other.write && this.fetch == other.fetch
+           && this.wordAddress == other.wordAddress && this.wordValue == other.wordValue
+           && this.byteAddress == other.byteAddress && this.byteValue == other.byteValue && equals(other);
   }
 
   /**
@@ -283,11 +781,28 @@ public final class Memory implements IReadableMemory {
    * @see #doTick()
    */
   public void fillRegisters(final Register wordRegister, final Register byteRegister) {
+    fillRegisters(RegisterFile.getDefault(), wordRegister, byteRegister);
+  }
+
+  /**
+   * If at least the signal <code>read</code> or <code>fetch</code> has been set in the memory. The values read will be
+   * stored in the given registers of the given register file.<br />
+   * <b>Note:</b> You have to call {@link #doTick()} before invoking this method.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param registers the register file that contains the registers to fill
+   * @param wordRegister if the signal <code>read</code> has been set, will be filled with the value read from the
+   *        memory
+   * @param byteRegister if the signal <code>fetch</code> has been set, will be filled with the value read from the
+   *        memory
+   * @see #doTick()
+   */
+  public void fillRegisters(final RegisterFile registers, final Register wordRegister, final Register byteRegister) {
     if (this.read) {
-      wordRegister.setValue(this.wordValue);
+      registers.set(wordRegister, this.wordValue);
     }
     if (this.fetch) {
-      byteRegister.setValue(this.byteValue & BYTE_MASK);
+      registers.set(byteRegister, this.byteValue & BYTE_MASK);
     }
   }
 
@@ -300,17 +815,47 @@ public final class Memory implements IReadableMemory {
    * @see #fillRegisters(Register, Register)
    */
   public void doTick() {
+    if (this.cacheModel != null) {
+      this.cacheModel.access(this.read, this.write, this.fetch, this.wordAddress, this.byteAddress);
+    }
+    if (this.bus == null) {
+      access();
+    } else {
+      this.bus.access(this);
+    }
+  }
+
+  /**
+   * Performs the memory operations selected by the signals <code>read</code>, <code>write</code> and
+   * <code>fetch</code>.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void access() {
     if (this.write) {
+      ++this.writes;
       write();
     }
     if (this.read) {
+      ++this.reads;
       read();
     }
     if (this.fetch) {
+      ++this.fetches;
       fetch();
     }
   }
 
+  /**
+   * Returns whether the signalled memory operations read or write the memory mapped io.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if a word is read from or written to the memory mapped io
+   */
+  boolean isAccessingIO() {
+    return (this.read || this.write) && this.wordAddress == MEMORY_MAPPED_IO_ADDRESS;
+  }
+
   /**
    * Performs the fetch operation of a byte on the memory.
    * 
@@ -324,7 +869,7 @@ public final class Memory implements IReadableMemory {
    * {@inheritDoc}
    */
   public int getByte(final int addr) {
-    int word = this.memory[addr / 4];
+    int word = readWord(addr / 4);
     switch (addr % 4) {
       case 0:
         word >>= Byte.SIZE * 3;
@@ -349,10 +894,41 @@ public final class Memory implements IReadableMemory {
    */
   private void read() {
     if (this.wordAddress == MEMORY_MAPPED_IO_ADDRESS) {
-      this.wordValue = Input.read() & BYTE_MASK;
+      readInput();
     } else {
-      this.wordValue = this.memory[this.wordAddress];
+      this.wordValue = readWord(this.wordAddress);
+    }
+  }
+
+  /**
+   * Reads a word from the memory mapped io. If the io cancels the read, the read is marked as pending, so that it's
+   * repeated by {@link #repeatCancelledInput()} before the processor continues.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  private void readInput() {
+    try {
+      this.wordValue = this.io.read() & BYTE_MASK;
+      this.inputPending = false;
+      ++this.inputReads;
+    } catch (final InputCancelledException e) {
+      this.inputPending = true;
+    }
+  }
+
+  /**
+   * Repeats reading the memory mapped io, if the last read has been cancelled. Has to be invoked before the processor
+   * executes the next tick, because that tick stores the read word in the register.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> if no read of the memory mapped io is pending anymore,<br>
+   *         <code>false</code> if the repeated read has been cancelled as well
+   */
+  public boolean repeatCancelledInput() {
+    if (this.inputPending) {
+      readInput();
     }
+    return !this.inputPending;
   }
 
   /**
@@ -362,9 +938,10 @@ public final class Memory implements IReadableMemory {
    */
   private void write() {
     if (this.wordAddress == MEMORY_MAPPED_IO_ADDRESS) {
-      Output.print((byte) this.wordValue);
+      ++this.outputWrites;
+      this.io.write((byte) this.wordValue);
     } else {
-      this.memory[this.wordAddress] = this.wordValue;
+      writeWord(this.wordAddress, this.wordValue);
     }
   }
 
@@ -373,7 +950,7 @@ public final class Memory implements IReadableMemory {
    */
   public int getWord(final int addr) {
     if (isAddressValid(addr)) {
-      return this.memory[addr];
+      return readWord(addr);
     }
     return -1;
   }
@@ -387,7 +964,7 @@ public final class Memory implements IReadableMemory {
    */
   public void setWord(final int addr, final int value) {
     if (isAddressValid(addr)) {
-      this.memory[addr] = value;
+      writeWord(addr, value);
     }
   }
 
@@ -411,14 +988,45 @@ public final class Memory implements IReadableMemory {
    * {@inheritDoc}
    */
   public int getSize() {
-    return this.memory.length;
+    return this.size;
+  }
+
+  /**
+   * Returns the addresses of all words that have a different value in the given memory than in this memory. Pages that
+   * are shared between both memories are skipped without comparing their words.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param other the memory to compare with, must have the same size as this memory
+   * @return the ascending addresses of the words that differ.
+   */
+  @NotNull
+  public List<Integer> getDifferentWords(final Memory other) {
+    final List<Integer> differences = new ArrayList<Integer>();
+    for (int p = 0; p < this.pages.length; ++p) {
+      final int[] page = this.pages[p];
+      final int[] otherPage = other.pages[p];
+      if (page != otherPage) {
+        for (int i = 0; i < page.length; ++i) {
+          if (page[i] != otherPage[i]) {
+            differences.add(Integer.valueOf((p << PAGE_BITS) + i));
+          }
+        }
+      }
+    }
+    return differences;
   }
 
   @Override
   public int hashCode() {
     final int prime = 31;
+    int content = 1;
+    for (final int[] page : this.pages) {
+      for (final int word : page) {
+        content = prime * content + word;
+      }
+    }
     int result = 1;
-    result = prime * result + Arrays.hashCode(this.memory);
+    result = prime * result + content;
     return result;
   }
 
@@ -434,9 +1042,14 @@ public final class Memory implements IReadableMemory {
       return false;
     }
     final Memory other = (Memory) obj;
-    if (!Arrays.equals(this.memory, other.memory)) {
+    if (this.size != other.size) {
       return false;
     }
+    for (int p = 0; p < this.pages.length; ++p) {
+      if (this.pages[p] != other.pages[p] && !Arrays.equals(this.pages[p], other.pages[p])) {
+        return false;
+      }
+    }
     return true;
   }
 }
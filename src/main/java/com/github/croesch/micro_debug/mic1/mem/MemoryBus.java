@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Connects several processors to the words of one {@link Memory}. Each processor accesses the memory through its own
+ * port, a {@link Memory} with its own signals, latches and counters that reads and writes the words of the shared
+ * memory. The bus orders the memory operations of the ports according to its {@link ConsistencyModel}.<br>
+ * Optionally one IJVM instruction is executed atomically: a processor dispatching it locks the bus until it dispatches
+ * its next instruction, so no other processor can execute the atomic instruction in the meantime and, with sequential
+ * consistency, no other processor can access the memory at all.<br>
+ * Each port has to be used by a single thread, because the lock of the bus is owned by the thread.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class MemoryBus {
+
+  /** the memory that contains the shared words */
+  @NotNull
+  private final Memory memory;
+
+  /** the consistency model of the memory operations */
+  @NotNull
+  private final ConsistencyModel model;
+
+  /** the opcode of the instruction that is executed atomically, a negative value if there is none */
+  private final int atomicOpcode;
+
+  /** the lock that gives a port exclusive access to the bus */
+  @NotNull
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Connects the given memory to a bus. From now on the memory mustn't be reset, restored or forked, while a processor
+   * is executing ticks with one of the ports.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory that contains the words to share
+   * @param consistency the consistency model of the memory operations
+   * @param opcode the opcode of the instruction that is executed atomically, a negative value for none
+   */
+  public MemoryBus(final Memory mem, final ConsistencyModel consistency, final int opcode) {
+    this.memory = mem;
+    this.model = consistency;
+    this.atomicOpcode = opcode;
+    // the ports share the pages, so none of them may copy a page when writing it
+    mem.ownAllPages();
+  }
+
+  /**
+   * Creates a new port of the shared memory for a processor. The port initially has the signals of the shared memory
+   * and the same io.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return a {@link Memory} that reads and writes the words of the shared memory
+   */
+  @NotNull
+  public Memory createPort() {
+    return new Memory(this.memory, this);
+  }
+
+  /**
+   * Returns the consistency model of the memory operations.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link ConsistencyModel} of this bus
+   */
+  @NotNull
+  public ConsistencyModel getModel() {
+    return this.model;
+  }
+
+  /**
+   * Returns the opcode of the instruction that is executed atomically.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the opcode of the atomic instruction, a negative value if there is none
+   */
+  public int getAtomicOpcode() {
+    return this.atomicOpcode;
+  }
+
+  /**
+   * Performs the memory operations signalled to the given port, exclusively if the consistency model requires it.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param port the port that performs its memory operations
+   */
+  void access(final Memory port) {
+    if (this.model == ConsistencyModel.SEQUENTIAL || port.isAccessingIO()) {
+      this.lock.lock();
+      try {
+        port.access();
+      } finally {
+        this.lock.unlock();
+      }
+    } else {
+      port.access();
+    }
+  }
+
+  /**
+   * Informs the bus that the current thread has dispatched the instruction with the given opcode. Releases the bus,
+   * if the thread has locked it for the previous instruction, and locks it, if the instruction is the atomic one.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param opcode the opcode of the dispatched instruction
+   */
+  public void instructionDispatched(final int opcode) {
+    if (this.lock.isHeldByCurrentThread()) {
+      this.lock.unlock();
+    }
+    if (opcode == this.atomicOpcode) {
+      this.lock.lock();
+    }
+  }
+
+  /**
+   * Returns whether the current thread has locked the bus, because it executes the atomic instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the current thread is executing the atomic instruction
+   */
+  public boolean isLockedByCurrentThread() {
+    return this.lock.isHeldByCurrentThread();
+  }
+
+  /**
+   * Releases the bus, if the current thread has locked it. Has to be invoked by a thread that stops executing ticks,
+   * so a processor that stops during the atomic instruction doesn't block the other processors.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void release() {
+    while (this.lock.isHeldByCurrentThread()) {
+      this.lock.unlock();
+    }
+  }
+}
@@ -168,6 +168,26 @@ public final class NextMPCCalculator {
     this.z = zValue;
   }
 
+  /**
+   * Copies all input and output signals of the given calculator to this calculator. If the given calculator is
+   * <code>null</code>, nothing is done.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param calculator the calculator to fetch the signals from
+   */
+  public void copyOf(final NextMPCCalculator calculator) {
+    if (calculator != null) {
+      this.mbr = calculator.mbr;
+      this.addr = calculator.addr;
+      this.jmpC = calculator.jmpC;
+      this.jmpN = calculator.jmpN;
+      this.jmpZ = calculator.jmpZ;
+      this.n = calculator.n;
+      this.z = calculator.z;
+      this.mpc = calculator.mpc;
+    }
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
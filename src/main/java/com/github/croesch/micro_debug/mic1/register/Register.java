@@ -55,34 +55,7 @@ public enum Register {
    * This register fills the content of {@link Register#MBRU}. In the script of Karl Stroetmann are these two registers
    * only one, but for simulation purpose we are using both registers to build the functionality of the MBR register.
    */
-  MBR {
-
-    /** the mask to build a byte of a integer */
-    private static final int BYTE_MASK = 0xff;
-
-    /** the mask to fetch the sign bit of a byte */
-    private static final int SIGN_BIT_OF_BYTE = 0x80;
-
-    /** the mask to sign-extend a byte to an integer */
-    private static final int NEGATIVE_SIGN_EXTENSION = 0xffffff00;
-
-    /**
-     * The given value is logically only an 8-bit-value. It will be set to the {@link Register#MBRU} and this registers
-     * value will be sign-extended, so the first 24 bits are defined by the highest bit of the given 8-bit-value.
-     * 
-     * @param val the 8-bit-value.
-     */
-    @Override
-    public void setValue(final int val) {
-      final int v = val & BYTE_MASK;
-      if ((v & SIGN_BIT_OF_BYTE) == SIGN_BIT_OF_BYTE) {
-        super.setValue(v | NEGATIVE_SIGN_EXTENSION);
-      } else {
-        super.setValue(v);
-      }
-      MBRU.setValue(v);
-    }
-  },
+  MBR,
 
   /**
    * this register is not a real register an exists only for simulation purpose.<br />
@@ -114,26 +87,23 @@ public enum Register {
   /** this register is a additional register to help storing values. */
   H;
 
-  /** the value stored by this register */
-  private int value = 0;
-
   /**
-   * Sets the value for that register.
+   * Sets the value for that register in the {@link RegisterFile#getDefault() default register file}.
    * 
    * @since Date: Nov 19, 2011
    * @param val the new value for the register
    */
   public void setValue(final int val) {
-    this.value = val;
+    RegisterFile.getDefault().set(this, val);
   }
 
   /**
-   * Gets the value currently stored in the register.
+   * Gets the value currently stored in the register in the {@link RegisterFile#getDefault() default register file}.
    * 
    * @since Date: Nov 19, 2011
    * @return the value of the register.
    */
   public final int getValue() {
-    return this.value;
+    return RegisterFile.getDefault().get(this);
   }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.register;
+
+import java.util.Arrays;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+
+/**
+ * Stores the values of all {@link Register}s of one processor. The values of the enumeration {@link Register} are
+ * backed by the {@link #getDefault() default register file}, other processors (for example forks of a processor) can
+ * use their own instance to be independent of each other.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class RegisterFile {
+
+  /** the register file that stores the values of the enumeration {@link Register} */
+  @NotNull
+  private static final RegisterFile DEFAULT = new RegisterFile();
+
+  /** the mask to build a byte of a integer */
+  private static final int BYTE_MASK = 0xff;
+
+  /** the mask to fetch the sign bit of a byte */
+  private static final int SIGN_BIT_OF_BYTE = 0x80;
+
+  /** the mask to sign-extend a byte to an integer */
+  private static final int NEGATIVE_SIGN_EXTENSION = 0xffffff00;
+
+  /** the values of the registers, indexed by the ordinal of the {@link Register} */
+  @NotNull
+  private final int[] values = new int[Register.values().length];
+
+  /**
+   * Returns the register file that stores the values of the enumeration {@link Register}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the register file that is read and written by {@link Register#getValue()} and
+   *         {@link Register#setValue(int)}.
+   */
+  @NotNull
+  public static RegisterFile getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Gets the value currently stored in the given register.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register to read
+   * @return the value of the register.
+   */
+  public int get(final Register r) {
+    return this.values[r.ordinal()];
+  }
+
+  /**
+   * Sets the value for the given register. If the register is {@link Register#MBR} the given value is logically only an
+   * 8-bit-value. It will be set to the {@link Register#MBRU} and the value of {@link Register#MBR} will be
+   * sign-extended, so the first 24 bits are defined by the highest bit of the given 8-bit-value.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register to write
+   * @param val the new value for the register
+   */
+  public void set(final Register r, final int val) {
+    if (r == Register.MBR) {
+      final int v = val & BYTE_MASK;
+      if ((v & SIGN_BIT_OF_BYTE) == SIGN_BIT_OF_BYTE) {
+        this.values[Register.MBR.ordinal()] = v | NEGATIVE_SIGN_EXTENSION;
+      } else {
+        this.values[Register.MBR.ordinal()] = v;
+      }
+      this.values[Register.MBRU.ordinal()] = v;
+    } else {
+      this.values[r.ordinal()] = val;
+    }
+  }
+
+  /**
+   * Copies the values of all registers of the given register file into this register file.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param file the register file to copy the values from
+   */
+  public void copyOf(final RegisterFile file) {
+    if (file != null) {
+      System.arraycopy(file.values, 0, this.values, 0, this.values.length);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.values);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final RegisterFile other = (RegisterFile) obj;
+    return Arrays.equals(this.values, other.values);
+  }
+}
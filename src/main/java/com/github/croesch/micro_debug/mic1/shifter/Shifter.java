@@ -81,6 +81,22 @@ public final class Shifter {
     return this.output;
   }
 
+  /**
+   * Performs calculation of the output signals based on the current values of input signals, without checking that
+   * not both control lines are set. May only be used for instructions of a verified micro program.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void calculateVerified() {
+    if (this.sll8) {
+      this.output = this.input << SLL8_NUMBER_OF_BITS_SHIFTED;
+    } else if (this.sra1) {
+      this.output = this.input >> SRA1_NUMBER_OF_BITS_SHIFTED;
+    } else {
+      this.output = this.input;
+    }
+  }
+
   /**
    * Performs calculation of the output signals based on the current values of input signals.
    * 
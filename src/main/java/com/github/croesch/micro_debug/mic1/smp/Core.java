@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.smp;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.mem.MemoryBus;
+
+/**
+ * Executes one core of a {@link MultiProcessor} on its own thread, either in lockstep with the other cores or running
+ * freely.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class Core implements Runnable {
+
+  /** the {@link Logger} for this class */
+  private static final Logger LOGGER = Logger.getLogger(Core.class.getName());
+
+  /** the processor this core belongs to */
+  @NotNull
+  private final MultiProcessor processor;
+
+  /** the number of the core */
+  private final int number;
+
+  /**
+   * Constructs the execution of the core with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mp the processor the core belongs to
+   * @param core the number of the core
+   */
+  Core(final MultiProcessor mp, final int core) {
+    this.processor = mp;
+    this.number = core;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void run() {
+    final Mic1 core = this.processor.getCore(this.number);
+    try {
+      if (this.processor.getScheduling() == SchedulingMode.LOCKSTEP) {
+        runInLockstep(core);
+      } else {
+        core.run();
+      }
+    } catch (final RuntimeException e) {
+      LOGGER.log(Level.WARNING, "execution of core " + this.number + " failed", e);
+      this.processor.setError(e);
+    } finally {
+      // a core stopped during the atomic instruction mustn't block the other cores
+      this.processor.getBus().release();
+      this.processor.endTurn(this.number, true);
+    }
+  }
+
+  /**
+   * Executes the given core in turns, until it halts or reaches the limit of ticks.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param core the core to execute
+   */
+  private void runInLockstep(final Mic1 core) {
+    final MemoryBus bus = this.processor.getBus();
+    final long limit = this.processor.getTickLimit();
+    boolean running = true;
+    while (running) {
+      this.processor.awaitTurn(this.number);
+      core.microStep(this.processor.getQuantum());
+      // the atomic instruction isn't interleaved with other cores
+      while (core.getHaltReason() == HaltReason.STEPS_DONE && bus.isLockedByCurrentThread()) {
+        core.microStep(1);
+      }
+      running = core.getHaltReason() == HaltReason.STEPS_DONE && (limit <= 0 || core.getExecutedTicks() < limit);
+      if (running) {
+        this.processor.endTurn(this.number, false);
+      }
+    }
+  }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.smp;
+
+import java.io.ByteArrayInputStream;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.mic1.mem.MemoryBus;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Several Mic-1 cores executing the same IJVM program in one shared {@link Memory}. Each core has its own registers
+ * and micro program counter and is executed on its own thread. The cores are connected to the memory by a
+ * {@link MemoryBus}, that provides the memory-consistency model and the optional atomic instruction.<br>
+ * All cores share the local variables of the main program, but each core has its own stack of
+ * {@link Settings#MIC1_SMP_STACK_SIZE} words above the default stack pointer, so methods are executed independently.
+ * When a core starts, its number is on top of its stack.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class MultiProcessor {
+
+  /** the memory containing the shared words */
+  @NotNull
+  private final Memory memory;
+
+  /** the bus connecting the cores with the memory */
+  @NotNull
+  private final MemoryBus bus;
+
+  /** the cores executing the program */
+  @NotNull
+  private final Mic1[] cores;
+
+  /** the way the cores are scheduled */
+  @NotNull
+  private final SchedulingMode scheduling;
+
+  /** the number of ticks a core executes in one turn, when executing the cores in lockstep */
+  private int quantum = Math.max(1, Settings.MIC1_SMP_QUANTUM.getValue());
+
+  /** the maximum number of ticks each core executes */
+  private long tickLimit = Settings.MIC1_SMP_MAX_TICKS.getValue();
+
+  /** the monitor to pass the turn from one core to the next, when executing the cores in lockstep */
+  @NotNull
+  private final Object turns = new Object();
+
+  /** the number of the core whose turn it is, a negative number if all cores have finished */
+  private int turn = 0;
+
+  /** whether each core has finished its execution */
+  @NotNull
+  private final boolean[] finished;
+
+  /** the time in nanoseconds the last execution took */
+  private long nanos = 0;
+
+  /** the error that terminated the execution of a core or <code>null</code> if there was no error */
+  @Nullable
+  private volatile RuntimeException error = null;
+
+  /**
+   * Constructs the given number of cores, sharing a memory that contains the given program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the micro program executed by each core
+   * @param program the binary IJVM program
+   * @param numberOfCores the number of cores, between one and {@link #getMaxCores()}
+   * @param mode the way the cores are scheduled
+   * @param model the consistency model of the memory operations
+   * @param atomicOpcode the opcode of the instruction that is executed atomically, a negative value for none
+   * @param io the input and output of the memory mapped io, shared by the cores
+   * @throws MacroFileFormatException if the IJVM program has an invalid format
+   */
+  public MultiProcessor(final MicroControlStore store,
+                        final byte[] program,
+                        final int numberOfCores,
+                        final SchedulingMode mode,
+                        final ConsistencyModel model,
+                        final int atomicOpcode,
+                        final IProcessorIO io) throws MacroFileFormatException {
+    if (numberOfCores < 1 || numberOfCores > getMaxCores()) {
+      throw new IllegalArgumentException("invalid number of cores: " + numberOfCores);
+    }
+    this.memory = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(), new ByteArrayInputStream(program));
+    this.memory.setIO(io);
+    this.bus = new MemoryBus(this.memory, model, atomicOpcode);
+    this.scheduling = mode;
+    this.cores = new Mic1[numberOfCores];
+    this.finished = new boolean[numberOfCores];
+    for (int i = 0; i < numberOfCores; ++i) {
+      this.cores[i] = new Mic1(store, this.bus.createPort(), new RegisterFile());
+      this.cores[i].setPrintingTicks(false);
+      this.cores[i].setLoopDetection(false);
+      this.cores[i].setTickLimit(this.tickLimit);
+
+      // push the number of the core onto its own stack
+      final int sp = Settings.MIC1_REGISTER_SP_DEFVAL.getValue() + i * getStackSize();
+      this.cores[i].getRegisters().set(Register.SP, sp);
+      this.cores[i].getRegisters().set(Register.TOS, i);
+      this.memory.setWord(sp, i);
+    }
+  }
+
+  /**
+   * Returns the number of words of the stack of each core.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the size of the stack of a core
+   */
+  private static int getStackSize() {
+    return Math.max(1, Settings.MIC1_SMP_STACK_SIZE.getValue());
+  }
+
+  /**
+   * Returns the maximum number of cores, so that the stack of each core fits into the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum number of cores
+   */
+  public static int getMaxCores() {
+    final int words = Settings.MIC1_MEM_MACRO_MAXSIZE.getValue() - Settings.MIC1_REGISTER_SP_DEFVAL.getValue();
+    return Math.max(1, words / getStackSize());
+  }
+
+  /**
+   * Sets the number of ticks a core executes in one turn, when executing the cores in lockstep. The default value is
+   * read from {@link Settings#MIC1_SMP_QUANTUM}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param ticks the number of ticks of a turn, at least one
+   */
+  public void setQuantum(final int ticks) {
+    this.quantum = Math.max(1, ticks);
+  }
+
+  /**
+   * Returns the number of ticks a core executes in one turn, when executing the cores in lockstep.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks of a turn
+   */
+  public int getQuantum() {
+    return this.quantum;
+  }
+
+  /**
+   * Sets the maximum number of ticks each core executes. The default value is read from
+   * {@link Settings#MIC1_SMP_MAX_TICKS}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param limit the maximum number of ticks of each core, zero or a negative number for an unlimited number
+   */
+  public void setTickLimit(final long limit) {
+    this.tickLimit = limit;
+    for (final Mic1 core : this.cores) {
+      core.setTickLimit(limit);
+    }
+  }
+
+  /**
+   * Returns the maximum number of ticks each core executes.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the maximum number of ticks of each core, zero or a negative number for an unlimited number
+   */
+  public long getTickLimit() {
+    return this.tickLimit;
+  }
+
+  /**
+   * Executes the program on all cores until each of them has halted or reached the limit of ticks. Waits until all
+   * threads executing the cores have finished. If the waiting thread is interrupted, the cores are interrupted.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void run() {
+    synchronized (this.turns) {
+      this.turn = 0;
+      for (int i = 0; i < this.finished.length; ++i) {
+        this.finished[i] = false;
+      }
+    }
+    final Thread[] threads = new Thread[this.cores.length];
+    final long start = System.nanoTime();
+    for (int i = 0; i < threads.length; ++i) {
+      threads[i] = new Thread(new Core(this, i), "core-" + i);
+      threads[i].setDaemon(true);
+      threads[i].start();
+    }
+
+    boolean interrupted = false;
+    for (int i = 0; i < threads.length; ++i) {
+      try {
+        threads[i].join();
+      } catch (final InterruptedException e) {
+        interrupted = true;
+        interrupt();
+        // wait for the same thread again
+        --i;
+      }
+    }
+    this.nanos = System.nanoTime() - start;
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Interrupts all cores. They will stop executing ticks before their next tick. This method can be invoked by any
+   * thread.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public void interrupt() {
+    for (final Mic1 core : this.cores) {
+      core.interrupt();
+    }
+  }
+
+  /**
+   * Waits until it's the turn of the given core, when executing the cores in lockstep.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param core the number of the core that wants to execute ticks
+   */
+  void awaitTurn(final int core) {
+    synchronized (this.turns) {
+      while (this.turn != core) {
+        try {
+          this.turns.wait();
+        } catch (final InterruptedException e) {
+          interrupt();
+        }
+      }
+    }
+  }
+
+  /**
+   * Ends the turn of the given core and passes the turn to the next core that hasn't finished yet.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param core the number of the core that ends its turn
+   * @param done <code>true</code>, if the core has finished its execution
+   */
+  void endTurn(final int core, final boolean done) {
+    synchronized (this.turns) {
+      this.finished[core] |= done;
+      if (this.turn == core) {
+        this.turn = -1;
+        for (int i = 1; i <= this.cores.length && this.turn < 0; ++i) {
+          final int next = (core + i) % this.cores.length;
+          if (!this.finished[next]) {
+            this.turn = next;
+          }
+        }
+        this.turns.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Stores the error that terminated the execution of a core.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param e the error thrown by the core
+   */
+  void setError(final RuntimeException e) {
+    this.error = e;
+  }
+
+  /**
+   * Returns the error that terminated the execution of a core.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the error or <code>null</code> if all cores have been executed without an error
+   */
+  @Nullable
+  public RuntimeException getError() {
+    return this.error;
+  }
+
+  /**
+   * Returns the way the cores are scheduled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link SchedulingMode} of the cores
+   */
+  @NotNull
+  public SchedulingMode getScheduling() {
+    return this.scheduling;
+  }
+
+  /**
+   * Returns the bus connecting the cores with the shared memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link MemoryBus} of the cores
+   */
+  @NotNull
+  public MemoryBus getBus() {
+    return this.bus;
+  }
+
+  /**
+   * Returns the memory containing the words shared by the cores.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the shared {@link Memory}
+   */
+  @NotNull
+  public Memory getMemory() {
+    return this.memory;
+  }
+
+  /**
+   * Returns the number of cores.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of cores executing the program
+   */
+  public int getNumberOfCores() {
+    return this.cores.length;
+  }
+
+  /**
+   * Returns the core with the given number.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param core the number of the core, between zero and the number of cores
+   * @return the core with the given number
+   */
+  @NotNull
+  public Mic1 getCore(final int core) {
+    return this.cores[core];
+  }
+
+  /**
+   * Returns the number of ticks all cores have executed together.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the sum of the ticks of all cores
+   */
+  public long getTicks() {
+    long ticks = 0;
+    for (final Mic1 core : this.cores) {
+      ticks += core.getExecutedTicks();
+    }
+    return ticks;
+  }
+
+  /**
+   * Returns the time the last execution took.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the elapsed time of the last execution in nanoseconds
+   */
+  public long getNanos() {
+    return this.nanos;
+  }
+
+  /**
+   * Returns whether all cores have reached the halt instruction. Otherwise at least one of them has been stopped by the
+   * limit of ticks, has been interrupted or has failed.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if all cores have halted
+   */
+  public boolean isHalted() {
+    for (final Mic1 core : this.cores) {
+      if (core.getHaltReason() != HaltReason.HALT_INSTRUCTION) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
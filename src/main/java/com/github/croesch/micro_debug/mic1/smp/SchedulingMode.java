@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.smp;
+
+/**
+ * The ways the cores of a {@link MultiProcessor} can be scheduled on the threads executing them.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum SchedulingMode {
+
+  /**
+   * The cores take turns in the order of their numbers, each one executing a fixed number of ticks. A core executing
+   * the atomic instruction keeps its turn until the instruction is completed. The interleaving of the cores only
+   * depends on the program, so each execution is reproducible.
+   */
+  LOCKSTEP,
+
+  /**
+   * The cores execute their ticks at the same time, without waiting for each other, so the execution scales with the
+   * cores of the host. The interleaving of the cores depends on the scheduling of the threads by the host.
+   */
+  FREE;
+}
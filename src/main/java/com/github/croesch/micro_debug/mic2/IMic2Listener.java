@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+/**
+ * Listener of a {@link Mic2}, that is informed about each tick the processor executes. Can be used to model the timing
+ * of another datapath that executes the same micro program.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public interface IMic2Listener {
+
+  /**
+   * Informs the listener that the processor has waited a tick for the instruction fetch unit.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void fetchStalled();
+
+  /**
+   * Informs the listener that the processor has executed a micro instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of the executed micro instruction
+   * @param instruction the executed micro instruction
+   * @param next the address of the micro instruction that is executed next
+   */
+  void instructionExecuted(int address, Mic2Instruction instruction, int next);
+}
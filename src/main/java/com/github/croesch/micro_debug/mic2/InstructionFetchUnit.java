@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+
+/**
+ * The instruction fetch unit of the Mic-2. It reads the macro code word by word from the memory into a shift
+ * register, so that the micro program can read the next byte via <code>MBR1</code> and the next two bytes via
+ * <code>MBR2</code>, without incrementing the program counter and waiting for the memory. At the end of each tick a
+ * word is requested from the memory, if the shift register has space for it. The word is shifted into the shift
+ * register at the end of the following tick, like the result of <code>rd</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+final class InstructionFetchUnit {
+
+  /** the number of bytes the shift register can hold */
+  static final int CAPACITY = 6;
+
+  /** the number of bytes of a word */
+  private static final int WORD_BYTES = 4;
+
+  /** the mask of the bits that select a byte of a word */
+  private static final int BYTE_OF_WORD_MASK = WORD_BYTES - 1;
+
+  /** the memory to read the macro code from */
+  @NotNull
+  private final Memory memory;
+
+  /** the bytes of the shift register, the next byte of the macro code at index zero */
+  @NotNull
+  private final int[] bytes = new int[CAPACITY];
+
+  /** the number of bytes in the shift register */
+  private int size = 0;
+
+  /** the bytes of the word that has been requested from the memory at the end of the last tick */
+  @NotNull
+  private final int[] requested = new int[WORD_BYTES];
+
+  /** the number of bytes of the requested word, that belong to the macro code behind the shift register */
+  private int requestedSize = 0;
+
+  /** the address of the next byte to request from the memory */
+  private int address = 0;
+
+  /** the number of words read from the memory */
+  private long words = 0;
+
+  /**
+   * Constructs the instruction fetch unit reading from the given memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param mem the memory containing the macro code
+   */
+  InstructionFetchUnit(final Memory mem) {
+    this.memory = mem;
+  }
+
+  /**
+   * Discards the content of the shift register and the requested word, to continue reading at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param pc the address of the next byte of the macro code
+   */
+  void flush(final int pc) {
+    this.size = 0;
+    this.requestedSize = 0;
+    this.address = pc;
+  }
+
+  /**
+   * Returns the number of bytes that can be read from the shift register in this tick.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of available bytes
+   */
+  int getAvailableBytes() {
+    return this.size;
+  }
+
+  /**
+   * Reads the given register and removes its bytes from the shift register. The caller has to make sure that enough
+   * bytes are available.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register to read, <code>MBR1</code> or <code>MBR2</code> with or without sign extension
+   * @return the value of the register
+   */
+  int read(final Mic2Register r) {
+    final int n = r.getConsumedBytes();
+    int value = 0;
+    for (int i = 0; i < n; ++i) {
+      value = value << Byte.SIZE | this.bytes[i];
+    }
+    System.arraycopy(this.bytes, n, this.bytes, 0, this.size - n);
+    this.size -= n;
+    if (r.isSigned()) {
+      final int unused = Integer.SIZE - n * Byte.SIZE;
+      value = value << unused >> unused;
+    }
+    return value;
+  }
+
+  /**
+   * Lets the unit do its work at the end of a tick: the word requested in the last tick is shifted into the shift
+   * register and the next word is requested, if the shift register has space for it.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void tick() {
+    System.arraycopy(this.requested, 0, this.bytes, this.size, this.requestedSize);
+    this.size += this.requestedSize;
+    this.requestedSize = 0;
+
+    final int n = WORD_BYTES - (this.address & BYTE_OF_WORD_MASK);
+    if (this.size + n <= CAPACITY) {
+      for (int i = 0; i < n; ++i) {
+        this.requested[i] = readByte(this.address + i);
+      }
+      this.requestedSize = n;
+      this.address += n;
+      ++this.words;
+    }
+  }
+
+  /**
+   * Reads the byte at the given address, addresses outside of the memory are read as zero.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address of the byte
+   * @return the unsigned value of the byte
+   */
+  private int readByte(final int addr) {
+    if (addr < 0 || addr / WORD_BYTES >= this.memory.getSize()) {
+      return 0;
+    }
+    return this.memory.getByte(addr);
+  }
+
+  /**
+   * Returns the number of words the unit has read from the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of read words
+   */
+  long getWords() {
+    return this.words;
+  }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import java.io.InputStream;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.alu.Alu;
+import com.github.croesch.micro_debug.mic1.controlstore.ALUSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.CBusSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.MemorySignalSet;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.mic1.shifter.Shifter;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * The Mic-2 processor. It executes IJVM programs like the {@link com.github.croesch.micro_debug.mic1.Mic1}, with the
+ * same {@link Memory}, {@link Alu} and {@link Shifter}, but has an {@link InstructionFetchUnit} that delivers the
+ * bytes of the macro code via <code>MBR1</code> and <code>MBR2</code> and each register can be put on the A-bus. A
+ * tick in which the instruction fetch unit can't deliver the bytes the current instruction reads is a stall: the
+ * instruction is executed in a later tick.<br>
+ * The program counter points to the next byte the instruction fetch unit delivers, writing it flushes the unit.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic2 {
+
+  /** the control store containing the micro program */
+  @NotNull
+  private final Mic2ControlStore controlStore;
+
+  /** the main memory */
+  @NotNull
+  private final Memory memory;
+
+  /** the registers of the processor */
+  @NotNull
+  private final RegisterFile registers = new RegisterFile();
+
+  /** the ALU */
+  @NotNull
+  private final Alu alu = new Alu();
+
+  /** the shifter */
+  @NotNull
+  private final Shifter shifter = new Shifter();
+
+  /** the unit delivering the bytes of the macro code */
+  @NotNull
+  private final InstructionFetchUnit fetchUnit;
+
+  /** the listener being informed about the executed ticks, or <code>null</code> */
+  @Nullable
+  private IMic2Listener listener = null;
+
+  /** the address of the next instruction to execute */
+  private int mpc = 0;
+
+  /** the reason why the last execution has stopped, or <code>null</code> while executing */
+  @Nullable
+  private HaltReason haltReason = null;
+
+  /** the maximum number of ticks to execute in {@link #run()}, zero means unlimited */
+  private long tickLimit = 0;
+
+  /** the number of ticks executed, including the stalls */
+  private long ticks = 0;
+
+  /** the number of ticks the processor has waited for the instruction fetch unit */
+  private long stallTicks = 0;
+
+  /** the number of executed micro instructions */
+  private long microInstructions = 0;
+
+  /** the number of macro instructions that have been dispatched */
+  private long macroInstructions = 0;
+
+  /** the number of times the program counter has been written, flushing the instruction fetch unit */
+  private long flushes = 0;
+
+  /**
+   * Constructs a new Mic-2 processor, executing the micro program of the given control store and reading the given
+   * stream as assembler program. The processor has its own registers.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro program
+   * @param asm the assembler program
+   * @throws MacroFileFormatException if the macro assembler program has invalid format
+   */
+  public Mic2(final Mic2ControlStore store, final InputStream asm) throws MacroFileFormatException {
+    this.controlStore = store;
+    this.memory = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(), asm);
+    this.fetchUnit = new InstructionFetchUnit(this.memory);
+
+    this.registers.set(Register.CPP, Settings.MIC1_REGISTER_CPP_DEFVAL.getValue());
+    this.registers.set(Register.H, Settings.MIC1_REGISTER_H_DEFVAL.getValue());
+    this.registers.set(Register.LV, Settings.MIC1_REGISTER_LV_DEFVAL.getValue());
+    this.registers.set(Register.MAR, Settings.MIC1_REGISTER_MAR_DEFVAL.getValue());
+    this.registers.set(Register.MDR, Settings.MIC1_REGISTER_MDR_DEFVAL.getValue());
+    this.registers.set(Register.OPC, Settings.MIC1_REGISTER_OPC_DEFVAL.getValue());
+    // the program counter of the Mic-1 points to the byte in MBR, the one of the Mic-2 to the next byte to deliver
+    this.registers.set(Register.PC, Settings.MIC1_REGISTER_PC_DEFVAL.getValue() + 1);
+    this.registers.set(Register.SP, Settings.MIC1_REGISTER_SP_DEFVAL.getValue());
+    this.registers.set(Register.TOS, Settings.MIC1_REGISTER_TOS_DEFVAL.getValue());
+    this.fetchUnit.flush(this.registers.get(Register.PC));
+  }
+
+  /**
+   * Executes instructions until the processor reaches the halt instruction or the tick limit.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks that this method executed, including the stalls
+   */
+  public long run() {
+    final long start = this.ticks;
+    this.haltReason = null;
+    while (this.haltReason == null) {
+      if (this.tickLimit > 0 && this.ticks - start >= this.tickLimit) {
+        this.haltReason = HaltReason.TICK_LIMIT;
+      } else {
+        doTick();
+      }
+    }
+    return this.ticks - start;
+  }
+
+  /**
+   * Performs a single tick: executes the current instruction or waits for the instruction fetch unit.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  void doTick() {
+    final Mic2Instruction instruction = this.controlStore.getInstruction(this.mpc);
+    if (instruction == null) {
+      this.haltReason = HaltReason.HALT_INSTRUCTION;
+      return;
+    }
+    ++this.ticks;
+    if (instruction.getRequiredBytes() > this.fetchUnit.getAvailableBytes()) {
+      ++this.stallTicks;
+      this.fetchUnit.tick();
+      if (this.listener != null) {
+        this.listener.fetchStalled();
+      }
+      return;
+    }
+    ++this.microInstructions;
+
+    final ALUSignalSet aluSignals = instruction.getAluSignals();
+    this.alu.setEnA(aluSignals.isEnA()).setEnB(aluSignals.isEnB());
+    this.alu.setF0(aluSignals.isF0()).setF1(aluSignals.isF1());
+    this.alu.setInc(aluSignals.isInc()).setInvA(aluSignals.isInvA());
+    this.alu.setA(read(instruction.getABus()));
+    this.alu.setB(read(instruction.getBBus()));
+    this.alu.calculate();
+    this.shifter.setSLL8(aluSignals.isSLL8());
+    this.shifter.setSRA1(aluSignals.isSRA1());
+    this.shifter.setInput(this.alu.getOut());
+    this.shifter.calculate();
+
+    final JMPSignalSet jmpSignals = instruction.getJmpSignals();
+    int next = instruction.getNextAddress();
+    if (jmpSignals.isJmpC()) {
+      if (next == 0) {
+        ++this.macroInstructions;
+      }
+      next |= read(Mic2Register.MBR1U);
+    } else if (jmpSignals.isJmpN() && this.alu.isN() || jmpSignals.isJmpZ() && this.alu.isZ()) {
+      next = instruction.getBranchAddress();
+    }
+
+    setValueIntoRegisters(this.shifter.getOutput(), instruction.getCBusSignals());
+    this.memory.fillRegisters(this.registers, Register.MDR, Register.MBR);
+
+    final MemorySignalSet memSignals = instruction.getMemorySignals();
+    this.memory.setFetch(false);
+    this.memory.setRead(memSignals.isRead());
+    this.memory.setWrite(memSignals.isWrite());
+    this.memory.setWordAddress(this.registers.get(Register.MAR));
+    this.memory.setWordValue(this.registers.get(Register.MDR));
+    this.memory.doTick();
+    this.fetchUnit.tick();
+
+    if (this.listener != null) {
+      this.listener.instructionExecuted(this.mpc, instruction, next);
+    }
+    if (instruction.isHalt(this.mpc)) {
+      this.haltReason = HaltReason.HALT_INSTRUCTION;
+    }
+    this.mpc = next;
+  }
+
+  /**
+   * Returns the value of the given register. Reading <code>MBR1</code> or <code>MBR2</code> removes the bytes from
+   * the instruction fetch unit and increments the program counter.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register to read or <code>null</code> if no register is put on the bus
+   * @return the value of the register
+   */
+  private int read(final Mic2Register r) {
+    if (r == null) {
+      return 0;
+    }
+    if (r.getRegister() != null) {
+      return this.registers.get(r.getRegister());
+    }
+    this.registers.set(Register.PC, this.registers.get(Register.PC) + r.getConsumedBytes());
+    return this.fetchUnit.read(r);
+  }
+
+  /**
+   * Sets the value of the C-Bus into the selected registers. Writing the program counter flushes the instruction fetch
+   * unit.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param value the value of the C-Bus.
+   * @param cBusSignals the signals that determine, which registers are selected.
+   */
+  private void setValueIntoRegisters(final int value, final CBusSignalSet cBusSignals) {
+    if (cBusSignals.isCpp()) {
+      this.registers.set(Register.CPP, value);
+    }
+    if (cBusSignals.isH()) {
+      this.registers.set(Register.H, value);
+    }
+    if (cBusSignals.isLv()) {
+      this.registers.set(Register.LV, value);
+    }
+    if (cBusSignals.isMar()) {
+      this.registers.set(Register.MAR, value);
+    }
+    if (cBusSignals.isMdr()) {
+      this.registers.set(Register.MDR, value);
+    }
+    if (cBusSignals.isOpc()) {
+      this.registers.set(Register.OPC, value);
+    }
+    if (cBusSignals.isPc()) {
+      this.registers.set(Register.PC, value);
+      this.fetchUnit.flush(value);
+      ++this.flushes;
+    }
+    if (cBusSignals.isSp()) {
+      this.registers.set(Register.SP, value);
+    }
+    if (cBusSignals.isTos()) {
+      this.registers.set(Register.TOS, value);
+    }
+  }
+
+  /**
+   * Sets the listener that is informed about each executed tick.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param l the listener or <code>null</code> to remove the current listener
+   */
+  public void setListener(final IMic2Listener l) {
+    this.listener = l;
+  }
+
+  /**
+   * Sets the maximum number of ticks to execute in {@link #run()}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param limit the maximum number of ticks, zero means unlimited
+   */
+  public void setTickLimit(final long limit) {
+    this.tickLimit = limit;
+  }
+
+  /**
+   * Returns why the last execution has stopped.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link HaltReason} or <code>null</code> if the processor hasn't been executed yet
+   */
+  @Nullable
+  public HaltReason getHaltReason() {
+    return this.haltReason;
+  }
+
+  /**
+   * Returns the main memory of this processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link Memory} of this processor
+   */
+  @NotNull
+  public Memory getMemory() {
+    return this.memory;
+  }
+
+  /**
+   * Returns the registers of this processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link RegisterFile} of this processor
+   */
+  @NotNull
+  public RegisterFile getRegisters() {
+    return this.registers;
+  }
+
+  /**
+   * Returns the number of ticks executed since the processor has been created, including the stalls.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed ticks
+   */
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Returns the number of ticks the processor has waited for the instruction fetch unit.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of stall ticks
+   */
+  public long getStallTicks() {
+    return this.stallTicks;
+  }
+
+  /**
+   * Returns the number of executed micro instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of ticks that haven't been stalls
+   */
+  public long getMicroInstructions() {
+    return this.microInstructions;
+  }
+
+  /**
+   * Returns the number of macro instructions that have been dispatched. The prefix <code>WIDE</code> and the
+   * instruction it modifies are counted as a single instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of dispatched macro instructions
+   */
+  public long getMacroInstructions() {
+    return this.macroInstructions;
+  }
+
+  /**
+   * Returns the number of words the instruction fetch unit has read from the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of words of macro code read
+   */
+  public long getFetchedWords() {
+    return this.fetchUnit.getWords();
+  }
+
+  /**
+   * Returns the number of times the program counter has been written, flushing the instruction fetch unit.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of flushes
+   */
+  public long getFlushes() {
+    return this.flushes;
+  }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.mic1.controlstore.AbstractMalAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.ALUSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.register.Register;
+
+/**
+ * Assembler for micro programs of the Mic-2, written in the MAL dialect of the Mic-2. The format of the source is the
+ * format understood by the {@link MicroAssembler}, with the following differences:
+ * 
+ * <pre>
+ * .label nop1 0x00             // the targets of the dispatch are placed with .label
+ * .default goto err1           // stored at each address that isn't used otherwise
+ * 
+ * nop1     goto (MBR1)         // dispatches on the next byte delivered by the instruction fetch unit
+ * bipush1  SP = MAR = SP + 1
+ * bipush2  TOS = MDR = MBR1; wr; goto (MBR1)
+ * iload1   MAR = LV + MBR1U; rd // each register can be put on the A-bus
+ * ifeq4    Z = OPC; if (Z) goto T; else goto F
+ * </pre>
+ * 
+ * The operations of the ALU are the operations of the Mic-1, but the register <code>H</code> of the Mic-1 can be
+ * replaced by any register except <code>MBR1</code> and <code>MBR2</code>, that can only be put on the B-bus. There is
+ * no <code>fetch</code>, the bytes of the macro code are read from <code>MBR1</code> and <code>MBR2</code>. The
+ * targets of a conditional jump can be placed at any address. Statements without a fixed address are placed at the
+ * lowest free address behind the targets of the dispatch, so that undefined opcodes reach the default statement.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic2Assembler extends AbstractMalAssembler<Mic2Assembler.Statement, Mic2ControlStore> {
+
+  /** the lowest address that isn't the target of a dispatch without <code>OR</code> */
+  private static final int FIRST_FREE_ADDRESS = 0x100;
+
+  /** the pattern of a dispatch on the value of MBR1 */
+  private static final Pattern GOTO_MBR1 = Pattern.compile("goto\\s*\\(\\s*MBR1\\s*(?:OR\\s+(\\S+?)\\s*)?\\)",
+                                                           Pattern.CASE_INSENSITIVE);
+
+  /** the pattern of a word in an expression, that might be a register */
+  private static final Pattern WORD = Pattern.compile("[A-Za-z]\\w*");
+
+  /** the register of the Mic-1 that replaces the register on the A-bus */
+  private static final String A_OPERAND = Register.H.name();
+
+  /** the register of the Mic-1 that replaces the register on the B-bus */
+  private static final String B_OPERAND = Register.MDR.name();
+
+  /**
+   * Constructs an assembler for micro programs of the Mic-2.
+   * 
+   * @since Date: Oct 19, 2026
+   */
+  public Mic2Assembler() {
+    super(Mic2ControlStore.INSTRUCTIONS_PER_STORE, GOTO_MBR1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @NotNull
+  protected Statement createStatement(final int line) {
+    return new Statement(line);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean isRegister(final String word) {
+    return register(word) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void parseFetch(final Statement s) throws MicroFileFormatException {
+    throw error(s.getLine(), "the Mic-2 reads the macro code from MBR1 and MBR2");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @NotNull
+  protected Mic2ControlStore link(final Assembly assembly) throws MicroFileFormatException {
+    assembly.placeAnchors();
+    assembly.placeRemaining(FIRST_FREE_ADDRESS);
+
+    final Mic2ControlStore store = new Mic2ControlStore();
+    final List<Statement> statements = assembly.getStatements();
+    for (int i = 0; i < statements.size(); ++i) {
+      store.setInstruction(assembly.getAddress(i), build(assembly, i, statements.get(i)));
+    }
+    final Statement defaultStatement = assembly.getDefaultStatement();
+    if (defaultStatement != null) {
+      final Mic2Instruction instruction = build(assembly, -1, defaultStatement);
+      for (int addr = 0; addr < Mic2ControlStore.INSTRUCTIONS_PER_STORE; ++addr) {
+        if (store.getInstruction(addr) == null) {
+          store.setInstruction(addr, instruction);
+        }
+      }
+    }
+    return store;
+  }
+
+  /**
+   * Creates the instruction of the given statement with its resolved targets.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param assembly the assembly containing the placed statements
+   * @param index the index of the statement, or <code>-1</code> for the default statement
+   * @param s the statement
+   * @return the instruction of the statement
+   * @throws MicroFileFormatException if a label is unknown or there is no following statement
+   */
+  @NotNull
+  private static Mic2Instruction build(final Assembly assembly,
+                                       final int index,
+                                       final Statement s) throws MicroFileFormatException {
+    final int next = assembly.nextAddress(index, s);
+    if (s.getCondition() != 0) {
+      return s.build(next, assembly.targetAddress(s.getLine(), s.getTarget()));
+    }
+    return s.build(next, next);
+  }
+
+  /**
+   * Returns the register of the Mic-2 with the given name.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param name the name of the register, case is ignored
+   * @return the {@link Mic2Register} or <code>null</code> if there is no register with the given name
+   */
+  @Nullable
+  private static Mic2Register register(final String name) {
+    for (final Mic2Register r : Mic2Register.values()) {
+      if (r.name().equalsIgnoreCase(name)) {
+        return r;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether the registers can be put on the buses they are replaced with.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param operands the registers of the expression
+   * @param replacement the registers of the Mic-1 that replace the registers of the expression
+   * @return <code>false</code> if <code>MBR1</code> or <code>MBR2</code> would be put on the A-bus
+   */
+  private static boolean canBeOnBuses(final List<Mic2Register> operands, final String[] replacement) {
+    for (int i = 0; i < operands.size(); ++i) {
+      if (replacement[i].equals(A_OPERAND) && operands.get(i).getRegister() == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the signals of the ALU and the shifter, that compute the given expression after its registers have been
+   * replaced by the given registers of the Mic-1.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param expression the expression
+   * @param positions the start and end index of each register in the expression
+   * @param replacement the registers of the Mic-1 replacing the registers of the expression
+   * @return the signals or <code>null</code> if the Mic-1 can't compute the replaced expression
+   */
+  @Nullable
+  private static ALUSignalSet aluSignals(final String expression,
+                                         final List<int[]> positions,
+                                         final String[] replacement) {
+    final StringBuilder sb = new StringBuilder();
+    int end = 0;
+    for (int i = 0; i < positions.size(); ++i) {
+      sb.append(expression.substring(end, positions.get(i)[0])).append(replacement[i]);
+      end = positions.get(i)[1];
+    }
+    sb.append(expression.substring(end));
+    return operation(sb.toString());
+  }
+
+  /**
+   * A single parsed statement of a micro program of the Mic-2.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  static final class Statement extends AbstractMalAssembler.AbstractStatement {
+
+    /** the register on the A-bus */
+    @Nullable
+    private Mic2Register aBus = null;
+
+    /** the register on the B-bus */
+    @Nullable
+    private Mic2Register bBus = null;
+
+    /**
+     * Constructs an empty statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param l the number of the line in the source
+     */
+    Statement(final int l) {
+      super(l);
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * The registers of the expression are replaced by the registers of the Mic-1, so that the operation can be found
+     * in the operations of the Mic-1. If the expression contains two registers, the first one is tried on the A-bus
+     * first, a single register is tried on the B-bus first.
+     */
+    @Override
+    protected void parseExpression(final String expression) throws MicroFileFormatException {
+      final List<Mic2Register> operands = new ArrayList<Mic2Register>();
+      final List<int[]> positions = new ArrayList<int[]>();
+      final Matcher m = WORD.matcher(expression);
+      while (m.find()) {
+        final Mic2Register r = register(m.group());
+        if (r != null) {
+          operands.add(r);
+          positions.add(new int[] { m.start(), m.end() });
+        }
+      }
+      if (operands.size() > 2) {
+        throw error(getLine(), "too many operands: " + expression);
+      }
+
+      final String[][] candidates;
+      if (operands.isEmpty()) {
+        candidates = new String[][] { {} };
+      } else if (operands.size() == 1) {
+        candidates = new String[][] { { B_OPERAND }, { A_OPERAND } };
+      } else {
+        candidates = new String[][] { { A_OPERAND, B_OPERAND }, { B_OPERAND, A_OPERAND } };
+      }
+      for (final String[] replacement : candidates) {
+        final ALUSignalSet signals = aluSignals(expression, positions, replacement);
+        if (signals != null && canBeOnBuses(operands, replacement)) {
+          getAlu().copyOf(signals);
+          for (int i = 0; i < operands.size(); ++i) {
+            if (replacement[i].equals(B_OPERAND)) {
+              this.bBus = operands.get(i);
+            } else {
+              this.aBus = operands.get(i);
+            }
+          }
+          return;
+        }
+      }
+      throw error(getLine(), "unknown operation: " + expression);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Register destination(final String name) {
+      final Mic2Register r = register(name);
+      if (r == null) {
+        return null;
+      }
+      return r.getRegister();
+    }
+
+    /**
+     * Creates the instruction of this statement.
+     * 
+     * @since Date: Oct 19, 2026
+     * @param next the address of the next instruction
+     * @param branch the address of the next instruction, if the condition is fulfilled
+     * @return the {@link Mic2Instruction} of this statement
+     */
+    @NotNull
+    Mic2Instruction build(final int next, final int branch) {
+      final JMPSignalSet jmp = new JMPSignalSet();
+      jmp.setJmpC(isDispatching());
+      jmp.setJmpN(getCondition() == 'N');
+      jmp.setJmpZ(getCondition() == 'Z');
+      return new Mic2Instruction(this.aBus, this.bBus, getAlu(), getCBus(), getMemory(), jmp, next, branch);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+
+/**
+ * The store for the {@link Mic2Instruction}s of a micro program of the Mic-2. The store can't be modified after it
+ * has been assembled, so it can be shared by processors running on different threads.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic2ControlStore {
+
+  /** the number of instructions that are stored in this store */
+  static final int INSTRUCTIONS_PER_STORE = 512;
+
+  /** the name of the resource containing the micro program of the Mic-2 for the IJVM */
+  private static final String DEFAULT_PROGRAM = "mic2ijvm.mal";
+
+  /** the store of the instructions */
+  @NotNull
+  private final Mic2Instruction[] store = new Mic2Instruction[INSTRUCTIONS_PER_STORE];
+
+  /**
+   * Holds the store containing the micro program for the IJVM, so that it's assembled when it's used the first time.
+   * 
+   * @author croesch
+   * @since Date: Oct 19, 2026
+   */
+  private static class LazyHolder {
+    /** the store containing the micro program for the IJVM */
+    private static final Mic2ControlStore INSTANCE = readDefault();
+
+    /**
+     * Assembles the micro program for the IJVM shipped with micro-debug.
+     * 
+     * @since Date: Oct 19, 2026
+     * @return the store containing the assembled program
+     */
+    @NotNull
+    private static Mic2ControlStore readDefault() {
+      try {
+        return new Mic2Assembler().assemble(new InputStreamReader(Mic2ControlStore.class.getClassLoader()
+          .getResourceAsStream(DEFAULT_PROGRAM), Charset.forName("UTF-8")));
+      } catch (final MicroFileFormatException e) {
+        throw new IllegalStateException(DEFAULT_PROGRAM + ": " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Returns the store containing the micro program of the Mic-2 for the IJVM, that is shipped with micro-debug. It
+   * executes the instructions configured in the file ijvm.conf.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the store containing the micro program for the IJVM
+   */
+  @NotNull
+  public static Mic2ControlStore getDefault() {
+    return LazyHolder.INSTANCE;
+  }
+
+  /**
+   * Stores the given instruction at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address in the store
+   * @param instruction the instruction to store
+   */
+  void setInstruction(final int addr, final Mic2Instruction instruction) {
+    this.store[addr] = instruction;
+  }
+
+  /**
+   * Returns the instruction stored at the given address.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param addr the address in the store
+   * @return the instruction or <code>null</code> if there is no instruction at the given address
+   */
+  @Nullable
+  public Mic2Instruction getInstruction(final int addr) {
+    if (addr < 0 || addr >= INSTRUCTIONS_PER_STORE) {
+      return null;
+    }
+    return this.store[addr];
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.mic1.controlstore.ALUSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.CBusSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.MemorySignalSet;
+
+/**
+ * Represents an instruction in the micro code of the Mic-2. Other than the Mic-1 each register can be put on the
+ * A-bus and on the B-bus and a conditional jump contains both of its targets.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic2Instruction {
+
+  /** the register on the A-bus or <code>null</code> if the ALU doesn't read the A-bus */
+  @Nullable
+  private final Mic2Register aBus;
+
+  /** the register on the B-bus or <code>null</code> if the ALU doesn't read the B-bus */
+  @Nullable
+  private final Mic2Register bBus;
+
+  /** the signals of the ALU and the shifter */
+  @NotNull
+  private final ALUSignalSet aluSignals = new ALUSignalSet();
+
+  /** the registers that are filled with the value of the C-bus */
+  @NotNull
+  private final CBusSignalSet cBusSignals = new CBusSignalSet();
+
+  /** the signals to read or write a word of the memory, the fetch signal isn't used */
+  @NotNull
+  private final MemorySignalSet memorySignals = new MemorySignalSet();
+
+  /** the signals of the jump, <code>JMPC</code> dispatches on the value of <code>MBR1</code> */
+  @NotNull
+  private final JMPSignalSet jmpSignals = new JMPSignalSet();
+
+  /** the address of the next instruction, if no condition is fulfilled */
+  private final int nextAddress;
+
+  /** the address of the next instruction, if the condition is fulfilled */
+  private final int branchAddress;
+
+  /**
+   * Constructs a single instruction of the Mic-2.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param a the register on the A-bus or <code>null</code>
+   * @param b the register on the B-bus or <code>null</code>
+   * @param alu the signals of the ALU and the shifter
+   * @param cBus the registers that are filled with the value of the C-bus
+   * @param mem the signals to read or write a word of the memory
+   * @param jmp the signals of the jump
+   * @param next the address of the next instruction, or the value to OR with <code>MBR1</code> for a dispatch
+   * @param branch the address of the next instruction, if the condition is fulfilled
+   */
+  Mic2Instruction(final Mic2Register a,
+                  final Mic2Register b,
+                  final ALUSignalSet alu,
+                  final CBusSignalSet cBus,
+                  final MemorySignalSet mem,
+                  final JMPSignalSet jmp,
+                  final int next,
+                  final int branch) {
+    this.aBus = a;
+    this.bBus = b;
+    this.aluSignals.copyOf(alu);
+    this.cBusSignals.copyOf(cBus);
+    this.memorySignals.copyOf(mem);
+    this.jmpSignals.copyOf(jmp);
+    this.nextAddress = next;
+    this.branchAddress = branch;
+  }
+
+  /**
+   * Returns the register on the A-bus.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the register or <code>null</code> if the ALU doesn't read the A-bus
+   */
+  @Nullable
+  public Mic2Register getABus() {
+    return this.aBus;
+  }
+
+  /**
+   * Returns the register on the B-bus.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the register or <code>null</code> if the ALU doesn't read the B-bus
+   */
+  @Nullable
+  public Mic2Register getBBus() {
+    return this.bBus;
+  }
+
+  /**
+   * Returns the signals of the ALU and the shifter.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link ALUSignalSet} of this instruction
+   */
+  @NotNull
+  public ALUSignalSet getAluSignals() {
+    return this.aluSignals;
+  }
+
+  /**
+   * Returns the signals that select the registers that are filled with the value of the C-bus.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link CBusSignalSet} of this instruction
+   */
+  @NotNull
+  public CBusSignalSet getCBusSignals() {
+    return this.cBusSignals;
+  }
+
+  /**
+   * Returns the signals to read or write a word of the memory.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link MemorySignalSet} of this instruction
+   */
+  @NotNull
+  public MemorySignalSet getMemorySignals() {
+    return this.memorySignals;
+  }
+
+  /**
+   * Returns the signals of the jump.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link JMPSignalSet} of this instruction
+   */
+  @NotNull
+  public JMPSignalSet getJmpSignals() {
+    return this.jmpSignals;
+  }
+
+  /**
+   * Returns the address of the next instruction, if no condition is fulfilled. For a dispatch this is the value that
+   * is combined with <code>MBR1</code> by a bitwise OR.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the address of the next instruction
+   */
+  public int getNextAddress() {
+    return this.nextAddress;
+  }
+
+  /**
+   * Returns the address of the next instruction, if the condition of this instruction is fulfilled.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the target of the conditional jump
+   */
+  public int getBranchAddress() {
+    return this.branchAddress;
+  }
+
+  /**
+   * Returns the number of bytes of the macro code, the instruction fetch unit has to deliver to execute this
+   * instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of bytes read via the B-bus and by the dispatch
+   */
+  public int getRequiredBytes() {
+    int bytes = 0;
+    if (this.bBus != null) {
+      bytes += this.bBus.getConsumedBytes();
+    }
+    if (this.jmpSignals.isJmpC()) {
+      ++bytes;
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns whether this instruction only jumps to itself, so that the processor halts when executing it.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param address the address of this instruction in the control store
+   * @return <code>true</code>, if this instruction is like <code>halt: goto halt</code>
+   */
+  public boolean isHalt(final int address) {
+    return !this.jmpSignals.isAnythingSet() && !this.aluSignals.isAnythingSet()
+           && !this.cBusSignals.isAnythingSet() && !this.memorySignals.isAnythingSet()
+           && this.nextAddress == address;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.mic1.register.Register;
+
+/**
+ * The registers of the Mic-2, that can be put on the A-bus or the B-bus. Besides the registers shared with the Mic-1,
+ * the Mic-2 reads the bytes of the macro code from the instruction fetch unit via <code>MBR1</code> and
+ * <code>MBR2</code>.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum Mic2Register {
+
+  /** the memory address register */
+  MAR (Register.MAR, 0, false),
+
+  /** the memory data register */
+  MDR (Register.MDR, 0, false),
+
+  /** the program counter, pointing to the next byte the instruction fetch unit delivers */
+  PC (Register.PC, 0, false),
+
+  /** the stack pointer */
+  SP (Register.SP, 0, false),
+
+  /** the pointer to the local variables */
+  LV (Register.LV, 0, false),
+
+  /** the pointer to the constant pool */
+  CPP (Register.CPP, 0, false),
+
+  /** the register containing the top of the stack */
+  TOS (Register.TOS, 0, false),
+
+  /** the old program counter, used as scratch register */
+  OPC (Register.OPC, 0, false),
+
+  /** the holding register */
+  H (Register.H, 0, false),
+
+  /** the next byte of the macro code, sign extended */
+  MBR1 (null, 1, true),
+
+  /** the next byte of the macro code, without sign extension */
+  MBR1U (null, 1, false),
+
+  /** the next two bytes of the macro code, sign extended */
+  MBR2 (null, 2, true),
+
+  /** the next two bytes of the macro code, without sign extension */
+  MBR2U (null, 2, false);
+
+  /** the register of the register file holding the value, or <code>null</code> for the instruction fetch unit */
+  @Nullable
+  private final Register register;
+
+  /** the number of bytes of the macro code that are consumed, when reading this register */
+  private final int bytes;
+
+  /** whether the value of the bytes is sign extended */
+  private final boolean signed;
+
+  /**
+   * Constructs a register of the Mic-2.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register of the register file holding the value, or <code>null</code> for the instruction fetch unit
+   * @param consumedBytes the number of bytes of the macro code that are consumed, when reading this register
+   * @param signExtended whether the value of the bytes is sign extended
+   */
+  private Mic2Register(final Register r, final int consumedBytes, final boolean signExtended) {
+    this.register = r;
+    this.bytes = consumedBytes;
+    this.signed = signExtended;
+  }
+
+  /**
+   * Returns the register of the register file that holds the value of this register.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link Register} or <code>null</code> if the value is delivered by the instruction fetch unit
+   */
+  @Nullable
+  public Register getRegister() {
+    return this.register;
+  }
+
+  /**
+   * Returns the number of bytes of the macro code that are consumed, when this register is put on a bus.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>1</code> for <code>MBR1</code>, <code>2</code> for <code>MBR2</code> and <code>0</code> for the
+   *         other registers
+   */
+  public int getConsumedBytes() {
+    return this.bytes;
+  }
+
+  /**
+   * Returns whether the bytes delivered by the instruction fetch unit are sign extended.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code> for <code>MBR1</code> and <code>MBR2</code>
+   */
+  public boolean isSigned() {
+    return this.signed;
+  }
+}
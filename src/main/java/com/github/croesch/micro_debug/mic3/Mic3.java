@@ -0,0 +1,411 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic3;
+
+import java.io.InputStream;
+
+import com.github.croesch.micro_debug.annotation.NotNull;
+import com.github.croesch.micro_debug.annotation.Nullable;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.controlstore.CBusSignalSet;
+import com.github.croesch.micro_debug.mic1.controlstore.JMPSignalSet;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic2.IMic2Listener;
+import com.github.croesch.micro_debug.mic2.Mic2;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+import com.github.croesch.micro_debug.mic2.Mic2Instruction;
+import com.github.croesch.micro_debug.mic2.Mic2Register;
+
+/**
+ * A pipelined processor, the Mic-3 or the Mic-4. The micro program of the {@link Mic2} is executed by a {@link Mic2},
+ * so the results are computed by the same ALU, shifter and memory. Each executed micro instruction is scheduled on the
+ * pipeline: its operands are latched one cycle after the ones of the previous instruction, unless it has to wait for
+ * a register that hasn't been written yet, for the memory, for the instruction fetch unit or for the result of a
+ * conditional jump. The cycles are counted for each IJVM instruction, so the utilization of the pipeline can be
+ * reported per opcode.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public final class Mic3 implements IMic2Listener {
+
+  /** the number of cycles after latching the operands, until the written registers can be latched again */
+  private static final int WRITE_LATENCY = 3;
+
+  /** the number of cycles after latching the operands, until the word being read can be latched from MDR */
+  private static final int MEMORY_LATENCY = 4;
+
+  /** the number of cycles after latching the operands, until the result of the ALU decides a conditional jump */
+  private static final int BRANCH_LATENCY = 2;
+
+  /** the processor computing the results */
+  @NotNull
+  private final Mic2 core;
+
+  /** the modelled pipeline */
+  @NotNull
+  private final PipelineModel model;
+
+  /** for each register the first cycle in which it can be latched */
+  @NotNull
+  private final long[] ready = new long[Register.values().length];
+
+  /** for each register whether its value is delivered by the memory */
+  @NotNull
+  private final boolean[] readFromMemory = new boolean[Register.values().length];
+
+  /** the cycles in which each cause delayed the micro instructions */
+  @NotNull
+  private final long[] stallCycles = new long[StallCause.values().length];
+
+  /** the number of times each opcode has been dispatched */
+  @NotNull
+  private final long[] opcodeInstructions = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the cycles spent in each opcode */
+  @NotNull
+  private final long[] opcodeCycles = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the number of micro instructions executed in each opcode */
+  @NotNull
+  private final long[] opcodeMicroInstructions = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+
+  /** the cycle in which the operands of the last micro instruction have been latched */
+  private long cycle;
+
+  /** the first cycle in which the next micro instruction can be latched, after a conditional jump */
+  private long branchReady = 0;
+
+  /** the first cycle in which the front end delivers macro code again, after the program counter has been written */
+  private long flushReady = 0;
+
+  /** the number of ticks the Mic-2 has waited for the instruction fetch unit since the last micro instruction */
+  private int pendingFetchStalls = 0;
+
+  /** the opcode of the IJVM instruction being executed, or <code>-1</code> before the first dispatch */
+  private int opcode = -1;
+
+  /** the number of micro instructions that occupied the pipeline */
+  private long microInstructions = 0;
+
+  /** the number of dispatched IJVM instructions */
+  private long macroInstructions = 0;
+
+  /**
+   * Constructs a new pipelined processor, executing the micro program of the given control store and reading the
+   * given stream as assembler program.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param store the control store containing the micro program of the Mic-2
+   * @param pipeline the pipeline to model
+   * @param asm the assembler program
+   * @throws MacroFileFormatException if the macro assembler program has invalid format
+   */
+  public Mic3(final Mic2ControlStore store,
+              final PipelineModel pipeline,
+              final InputStream asm) throws MacroFileFormatException {
+    this.core = new Mic2(store, asm);
+    this.core.setListener(this);
+    this.model = pipeline;
+    // the first operands can be latched, when the front end has been filled
+    this.cycle = pipeline.getFrontStages() - 1;
+  }
+
+  /**
+   * Executes instructions until the processor reaches the halt instruction or the tick limit of the underlying
+   * {@link Mic2}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of cycles executed since the processor has been created
+   */
+  public long run() {
+    this.core.run();
+    return getCycles();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void fetchStalled() {
+    ++this.pendingFetchStalls;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void instructionExecuted(final int address, final Mic2Instruction instruction, final int next) {
+    final JMPSignalSet jmpSignals = instruction.getJmpSignals();
+    final boolean dispatch = jmpSignals.isJmpC() && instruction.getNextAddress() == 0;
+
+    if (!this.model.hasDecodingUnit() || !isOnlyDispatching(instruction)) {
+      schedule(instruction);
+    }
+    this.pendingFetchStalls = 0;
+
+    if (dispatch) {
+      this.opcode = next & (IJVMOpcodeTable.NUMBER_OF_OPCODES - 1);
+      ++this.opcodeInstructions[this.opcode];
+      ++this.macroInstructions;
+    }
+  }
+
+  /**
+   * Returns whether the given instruction does nothing but dispatching the next IJVM instruction.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the micro instruction to check
+   * @return <code>true</code>, if the instruction neither writes a register nor accesses the memory
+   */
+  private static boolean isOnlyDispatching(final Mic2Instruction instruction) {
+    return instruction.getJmpSignals().isJmpC() && instruction.getNextAddress() == 0
+           && !instruction.getCBusSignals().isAnythingSet() && !instruction.getMemorySignals().isAnythingSet();
+  }
+
+  /**
+   * Returns the register of the given buses that is available later. The registers delivered by the instruction fetch
+   * unit are always available.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param aBus the register on the A-bus, may be <code>null</code>
+   * @param bBus the register on the B-bus, may be <code>null</code>
+   * @return the register of the Mic-1 that is available later, the one on the A-bus if both are available in the same
+   *         cycle, or <code>null</code> if no register of the Mic-1 is put on the buses
+   */
+  @Nullable
+  private Register laterOperand(final Mic2Register aBus, final Mic2Register bBus) {
+    Register a = null;
+    if (aBus != null) {
+      a = aBus.getRegister();
+    }
+    if (bBus == null || bBus.getRegister() == null) {
+      return a;
+    }
+    final Register b = bBus.getRegister();
+    if (a == null || this.ready[b.ordinal()] > this.ready[a.ordinal()]) {
+      return b;
+    }
+    return a;
+  }
+
+  /**
+   * Schedules the given micro instruction on the pipeline: finds the first cycle its operands can be latched, counts
+   * the cycles it has been delayed and marks when the registers it writes are available.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param instruction the executed micro instruction
+   */
+  private void schedule(final Mic2Instruction instruction) {
+    final long earliest = this.cycle + 1;
+    long start = earliest;
+    StallCause cause = null;
+
+    final Register operand = laterOperand(instruction.getABus(), instruction.getBBus());
+    if (operand != null && this.ready[operand.ordinal()] > start) {
+      start = this.ready[operand.ordinal()];
+      if (this.readFromMemory[operand.ordinal()]) {
+        cause = StallCause.MEMORY;
+      } else {
+        cause = StallCause.REGISTER;
+      }
+    }
+    if (this.model.hasDecodingUnit()) {
+      if (instruction.getRequiredBytes() > 0 && this.flushReady > start) {
+        start = this.flushReady;
+        cause = StallCause.FLUSH;
+      }
+    } else if (earliest + this.pendingFetchStalls > start) {
+      start = earliest + this.pendingFetchStalls;
+      cause = StallCause.FETCH;
+    }
+    if (this.branchReady > start) {
+      start = this.branchReady;
+      cause = StallCause.BRANCH;
+    }
+    if (cause != null) {
+      this.stallCycles[cause.ordinal()] += start - earliest;
+    }
+    if (this.opcode >= 0) {
+      this.opcodeCycles[this.opcode] += start - this.cycle;
+      ++this.opcodeMicroInstructions[this.opcode];
+    }
+    this.cycle = start;
+    ++this.microInstructions;
+
+    final CBusSignalSet cBusSignals = instruction.getCBusSignals();
+    markWritten(Register.CPP, cBusSignals.isCpp());
+    markWritten(Register.H, cBusSignals.isH());
+    markWritten(Register.LV, cBusSignals.isLv());
+    markWritten(Register.MAR, cBusSignals.isMar());
+    markWritten(Register.MDR, cBusSignals.isMdr());
+    markWritten(Register.OPC, cBusSignals.isOpc());
+    markWritten(Register.PC, cBusSignals.isPc());
+    markWritten(Register.SP, cBusSignals.isSp());
+    markWritten(Register.TOS, cBusSignals.isTos());
+    if (instruction.getMemorySignals().isRead()) {
+      this.ready[Register.MDR.ordinal()] = start + MEMORY_LATENCY;
+      this.readFromMemory[Register.MDR.ordinal()] = true;
+    }
+    if (cBusSignals.isPc()) {
+      this.flushReady = start + WRITE_LATENCY + this.model.getFrontStages();
+    }
+    final JMPSignalSet jmpSignals = instruction.getJmpSignals();
+    if (jmpSignals.isJmpN() || jmpSignals.isJmpZ()) {
+      this.branchReady = start + BRANCH_LATENCY;
+    }
+  }
+
+  /**
+   * Marks when the given register can be latched, if it is written by the micro instruction latched in the current
+   * cycle.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param r the register
+   * @param written whether the register is written
+   */
+  private void markWritten(final Register r, final boolean written) {
+    if (written) {
+      this.ready[r.ordinal()] = this.cycle + WRITE_LATENCY;
+      this.readFromMemory[r.ordinal()] = false;
+    }
+  }
+
+  /**
+   * Sets the maximum number of ticks the underlying {@link Mic2} executes in {@link #run()}.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param limit the maximum number of ticks, zero means unlimited
+   */
+  public void setTickLimit(final long limit) {
+    this.core.setTickLimit(limit);
+  }
+
+  /**
+   * Returns why the last execution has stopped.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link HaltReason} or <code>null</code> if the processor hasn't been executed yet
+   */
+  @Nullable
+  public HaltReason getHaltReason() {
+    return this.core.getHaltReason();
+  }
+
+  /**
+   * Returns the main memory of this processor.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link Memory} of this processor
+   */
+  @NotNull
+  public Memory getMemory() {
+    return this.core.getMemory();
+  }
+
+  /**
+   * Returns the modelled pipeline.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the {@link PipelineModel} of this processor
+   */
+  @NotNull
+  public PipelineModel getModel() {
+    return this.model;
+  }
+
+  /**
+   * Returns the number of cycles until the last executed micro instruction has left the pipeline.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of executed cycles
+   */
+  public long getCycles() {
+    if (this.microInstructions == 0) {
+      return 0;
+    }
+    return this.cycle + this.model.getBackStages() + 1;
+  }
+
+  /**
+   * Returns the number of micro instructions that occupied the datapath.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of micro instructions
+   */
+  public long getMicroInstructions() {
+    return this.microInstructions;
+  }
+
+  /**
+   * Returns the number of dispatched IJVM instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of IJVM instructions
+   */
+  public long getMacroInstructions() {
+    return this.macroInstructions;
+  }
+
+  /**
+   * Returns the number of cycles the given cause delayed the micro instructions.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param cause the cause of the stalls
+   * @return the number of stall cycles
+   */
+  public long getStallCycles(final StallCause cause) {
+    return this.stallCycles[cause.ordinal()];
+  }
+
+  /**
+   * Returns how often the given opcode has been dispatched.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode
+   * @return the number of executed IJVM instructions with the given opcode
+   */
+  public long getOpcodeInstructions(final int op) {
+    return this.opcodeInstructions[op];
+  }
+
+  /**
+   * Returns the number of cycles spent in the IJVM instructions with the given opcode, including the stalls.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode
+   * @return the number of cycles
+   */
+  public long getOpcodeCycles(final int op) {
+    return this.opcodeCycles[op];
+  }
+
+  /**
+   * Returns the number of micro instructions executed in the IJVM instructions with the given opcode. Divided by the
+   * number of cycles it's the utilization of the pipeline while executing the opcode.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param op the opcode
+   * @return the number of micro instructions
+   */
+  public long getOpcodeMicroInstructions(final int op) {
+    return this.opcodeMicroInstructions[op];
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic3;
+
+/**
+ * The pipelined datapaths that can be modelled by a {@link Mic3}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum PipelineModel {
+
+  /**
+   * The Mic-3: the Mic-2 with latches in front of and behind the ALU. The stages are the instruction fetch unit, the
+   * operand latches, the ALU and the write of the C-bus.
+   */
+  MIC3 ("Mic-3", 1, 2, false),
+
+  /**
+   * The Mic-4: a decoding unit and a queueing unit run ahead of the datapath, so the datapath doesn't wait for the
+   * instruction fetch unit and executes the dispatch of the next IJVM instruction without a micro instruction of its
+   * own. Writing the program counter refills the front end.
+   */
+  MIC4 ("Mic-4", 3, 3, true);
+
+  /** the name of the processor */
+  private final String name;
+
+  /** the number of stages in front of the operand latches */
+  private final int frontStages;
+
+  /** the number of stages behind the operand latches */
+  private final int backStages;
+
+  /** whether the front end decodes the IJVM instructions ahead of the datapath */
+  private final boolean decoding;
+
+  /**
+   * Constructs a model of a pipeline.
+   * 
+   * @since Date: Oct 19, 2026
+   * @param n the name of the processor
+   * @param front the number of stages in front of the operand latches
+   * @param back the number of stages behind the operand latches
+   * @param decodingUnit whether the front end decodes the IJVM instructions ahead of the datapath
+   */
+  private PipelineModel(final String n, final int front, final int back, final boolean decodingUnit) {
+    this.name = n;
+    this.frontStages = front;
+    this.backStages = back;
+    this.decoding = decodingUnit;
+  }
+
+  /**
+   * Returns the name of the processor with this pipeline.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the name of the processor, e.g. <code>Mic-3</code>
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the number of stages in front of the operand latches, that have to be filled before the first micro
+   * instruction and after the program counter has been written.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of stages in front of the datapath
+   */
+  public int getFrontStages() {
+    return this.frontStages;
+  }
+
+  /**
+   * Returns the number of stages behind the operand latches, that the last micro instruction has to pass.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return the number of stages behind the operand latches
+   */
+  public int getBackStages() {
+    return this.backStages;
+  }
+
+  /**
+   * Returns whether the front end decodes the IJVM instructions ahead of the datapath. Then the datapath doesn't wait
+   * for the instruction fetch unit and doesn't spend a cycle on a micro instruction that only dispatches.
+   * 
+   * @since Date: Oct 19, 2026
+   * @return <code>true</code>, if the pipeline has a decoding unit
+   */
+  public boolean hasDecodingUnit() {
+    return this.decoding;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic3;
+
+/**
+ * The reasons why a pipeline can't latch the operands of the next micro instruction in the next cycle.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public enum StallCause {
+
+  /** the instruction reads a register that a previous instruction hasn't written yet */
+  REGISTER,
+
+  /** the instruction reads MDR before the memory has delivered the word being read */
+  MEMORY,
+
+  /** the instruction fetch unit hasn't fetched the bytes of macro code the instruction reads */
+  FETCH,
+
+  /** the address of the instruction depends on the result of the ALU of the previous instruction */
+  BRANCH,
+
+  /** the front end is refilled after the program counter has been written */
+  FLUSH;
+}
@@ -61,7 +61,79 @@ public enum Settings {
   MIC1_MEM_MACRO_MAXSIZE (0x10000),
 
   /** the address of micro assembler code that reads the next ijvm instruction */
-  MIC1_MICRO_ADDRESS_IJVM (0x2);
+  MIC1_MICRO_ADDRESS_IJVM (0x2),
+
+  /** the maximum number of ticks the processor executes per run or step, zero means unlimited */
+  MIC1_MAX_TICKS (0),
+  /** the maximum time in milliseconds the processor executes per run or step, zero means unlimited */
+  MIC1_MAX_MILLIS (0),
+  /** whether the processor stops when its state repeats, zero means disabled */
+  MIC1_LOOP_DETECTION (0),
+  /** the maximum number of ticks a fork of the processor executes, zero means the limit of the processor is used */
+  MIC1_FORK_MAX_TICKS (10000000),
+
+  /** the maximum number of ticks each processor executes a program, when comparing two micro programs */
+  MIC1_COMPARE_MAX_TICKS (100000000),
+
+  /** the number of macro instructions between two checkpoints, when searching the divergence of two processors */
+  MIC1_BISECT_CHECKPOINT_INTERVAL (4096),
+
+  /** the number of ticks between two checkpoints, when searching the first tick where a condition holds */
+  MIC1_SEARCH_CHECKPOINT_INTERVAL (1048576),
+
+  /** the maximum number of ticks to search for the first tick where a condition holds */
+  MIC1_SEARCH_MAX_TICKS (1000000000),
+
+  /** the average number of ticks between two samples, when profiling the execution */
+  MIC1_PROFILE_INTERVAL (1000),
+
+  /** the maximum number of ticks each program is executed, when measuring the coverage of the micro program */
+  MIC1_COVERAGE_MAX_TICKS (100000000),
+
+  /** the size of the instruction cache in bytes, when modelling caches */
+  MIC1_CACHE_INSTRUCTION_SIZE (1024),
+
+  /** the size of the data cache in bytes, when modelling caches */
+  MIC1_CACHE_DATA_SIZE (1024),
+
+  /** the number of lines of each set of the caches, when modelling caches */
+  MIC1_CACHE_ASSOCIATIVITY (2),
+
+  /** the size of a line of the caches in bytes, when modelling caches */
+  MIC1_CACHE_LINE_SIZE (16),
+
+  /** the number of ticks the processor would be stalled by a cache miss, when modelling caches */
+  MIC1_CACHE_MISS_PENALTY (10),
+
+  /** the number of entries of the tables of the branch predictors, when evaluating branch predictors */
+  MIC1_PREDICTOR_ENTRIES (1024),
+
+  /** the number of outcomes in the global history of gshare, when evaluating branch predictors */
+  MIC1_PREDICTOR_HISTORY (8),
+
+  /** the number of words of the stack of each core, when executing a program on several cores */
+  MIC1_SMP_STACK_SIZE (0x400),
+
+  /** the number of ticks a core executes before the next core's turn, when executing cores in lockstep */
+  MIC1_SMP_QUANTUM (1),
+
+  /** the opcode of the IJVM instruction that the cores execute atomically, a negative value for none */
+  MIC1_SMP_ATOMIC_OPCODE (-1),
+
+  /** the maximum number of ticks each core executes, when executing a program on several cores */
+  MIC1_SMP_MAX_TICKS (100000000),
+
+  /** the port on the loopback interface the daemon listens on */
+  DAEMON_PORT (7399),
+
+  /** the number of programs the daemon executes at the same time, zero for the number of available processors */
+  DAEMON_THREADS (0),
+
+  /** the number of micro programs the daemon keeps in its cache */
+  DAEMON_CACHE_SIZE (32),
+
+  /** the maximum number of ticks the daemon executes a program, if the request doesn't limit the ticks */
+  DAEMON_MAX_TICKS (100000000);
 
   /** the value set up in the properties file */
   private int value;
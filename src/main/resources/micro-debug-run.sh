@@ -0,0 +1,94 @@
+#!/bin/bash
+###################
+# Copyright (C) 2011-2012  Christian Roesch
+#
+# This file is part of micro-debug.
+#
+# micro-debug is free software: you can redistribute it and/or modify
+# it under the terms of the GNU General Public License as published by
+# the Free Software Foundation, either version 3 of the License, or
+# (at your option) any later version.
+#
+# micro-debug is distributed in the hope that it will be useful,
+# but WITHOUT ANY WARRANTY; without even the implied warranty of
+# MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+# GNU General Public License for more details.
+#
+# You should have received a copy of the GNU General Public License
+# along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+###################
+
+
+# Executes an IJVM program on the daemon started with micro-debug-daemon.sh, without starting a JVM.
+# The standard input is passed to the program, its output is written to the standard output
+# and the statistics of the execution are written to the standard error.
+#
+# usage: micro-debug-run.sh [-p PORT] [-t TICKS] [-m MILLIS] MIC1-FILE IJVM-FILE
+#
+# Exits with 0 if the program executed its halt instruction, with 1 if the execution failed
+# and with 2 if it was stopped by one of the limits.
+
+PORT=7399
+TICKS=0
+MILLIS=0
+
+while getopts "p:t:m:" OPTION; do
+  case "$OPTION" in
+    p) PORT="$OPTARG" ;;
+    t) TICKS="$OPTARG" ;;
+    m) MILLIS="$OPTARG" ;;
+    *) exit 1 ;;
+  esac
+done
+shift $((OPTIND - 1))
+
+if [ $# -ne 2 ]; then
+  echo "usage: $(basename "$0") [-p PORT] [-t TICKS] [-m MILLIS] MIC1-FILE IJVM-FILE" >&2
+  exit 1
+fi
+
+# the daemon has its own working directory, so it needs absolute paths
+absolute() {
+  echo "$(cd "$(dirname "$1")" && pwd)/$(basename "$1")"
+}
+MICRO="$(absolute "$1")"
+PROGRAM="$(absolute "$2")"
+
+# the length of the input has to be known before it's sent
+INPUT="$(mktemp)"
+trap 'rm -f "$INPUT"' EXIT
+if [ ! -t 0 ]; then
+  cat > "$INPUT"
+fi
+
+exec 3<>"/dev/tcp/127.0.0.1/$PORT" || exit 1
+
+printf 'micro=%s\nprogram=%s\nticks=%s\nmillis=%s\ninput=%s\n\n' \
+       "$MICRO" "$PROGRAM" "$TICKS" "$MILLIS" "$(wc -c < "$INPUT")" >&3
+cat "$INPUT" >&3
+
+# the header of the response ends with an empty line, the output of the program follows
+while IFS= read -r LINE <&3 && [ -n "$LINE" ]; do
+  VALUE="${LINE#*=}"
+  case "${LINE%%=*}" in
+    status) STATUS="$VALUE" ;;
+    message) MESSAGE="$VALUE" ;;
+    ticks) EXECUTED_TICKS="$VALUE" ;;
+    instructions) INSTRUCTIONS="$VALUE" ;;
+    millis) EXECUTED_MILLIS="$VALUE" ;;
+    output) LENGTH="$VALUE" ;;
+  esac
+done
+
+if [ "$STATUS" = "error" ] || [ -z "$STATUS" ]; then
+  echo "$MESSAGE" >&2
+  exit 1
+fi
+
+head -c "$LENGTH" <&3
+exec 3<&-
+
+echo "$STATUS: $EXECUTED_TICKS ticks, $INSTRUCTIONS instructions, $EXECUTED_MILLIS ms" >&2
+if [ "$STATUS" != "halt_instruction" ]; then
+  exit 2
+fi
@@ -99,6 +99,18 @@ public class MicroDebugTest extends DefaultTestCase {
                                                  + getLineSeparator());
   }
 
+  @Test
+  public final void testMain_AssemblerError() {
+    printlnMethodName();
+    MicroDebug.main(new String[] { "src/test/resources/mic1/hi.mic1", "src/test/resources/mic1/invalid.jas" });
+
+    assertThat(out.toString()).isEqualTo(this.GREETING
+                                                 + this.WELCOME
+                                                 + Text.ERROR.text(Text.ASSEMBLER_ERROR
+                                                   .text("src/test/resources/mic1/invalid.jas",
+                                                         "line 2: unknown instruction: FOO")) + getLineSeparator());
+  }
+
   @Test
   public final void testMain_TooFewArgs() {
     printlnMethodName();
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.assembler;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.InputStreamReader;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.io.Output;
+
+/**
+ * Provides test cases for {@link IJVMAssembler}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class IJVMAssemblerTest extends DefaultTestCase {
+
+  private static final String PROGRAM = ".constant\n" + "one 1\n" + ".end-constant\n" + ".main\n" + ".var\n" + "a\n"
+                                        + ".end-var\n" + "start: LDC_W one // load the constant\n" + "       ISTORE a\n"
+                                        + "       GOTO start\n" + ".end-main\n" + ".method m(x)\n" + ".var\n"
+                                        + "y\n" + ".end-var\n" + "       ILOAD x\n" + "       istore y\n"
+                                        + "       ILOAD y\n" + "       IRETURN\n" + ".end-method\n";
+
+  private static byte[] bytes(final int... values) {
+    final byte[] result = new byte[values.length];
+    for (int i = 0; i < values.length; ++i) {
+      result[i] = (byte) values[i];
+    }
+    return result;
+  }
+
+  @Test
+  public void testAssemble() throws MacroFileFormatException {
+    printlnMethodName();
+    final IJVMProgram program = new IJVMAssembler().assemble(PROGRAM);
+
+    assertThat(program.getImage()).isEqualTo(bytes(0x1D, 0xEA, 0xDF, 0xAD,
+                                                   // constant pool
+                                                   0x00, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x08,
+                                                   0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x08,
+                                                   // code
+                                                   0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x13,
+                                                   // main
+                                                   0x13, 0x00, 0x00, 0x36, 0x00, 0xA7, 0xFF, 0xFB,
+                                                   // method m
+                                                   0x00, 0x02, 0x00, 0x01, 0x15, 0x01, 0x36, 0x02, 0x15, 0x02, 0xAC));
+    assertThat(program.getConstantPool()).isEqualTo(new int[] { 1, 8 });
+    assertThat(program.getConstants().toString()).isEqualTo("{one=0, m=1}");
+    assertThat(program.getSymbols().toString()).isEqualTo("{main=0, main.start=0, m=8}");
+  }
+
+  private static byte[] code(final IJVMProgram program) {
+    // skip magic number and empty constant pool and code block header
+    final byte[] image = program.getImage();
+    return Arrays.copyOfRange(image, 20, image.length);
+  }
+
+  @Test
+  public void testAssemble_Wide() throws MacroFileFormatException {
+    printlnMethodName();
+    IJVMProgram program = new IJVMAssembler().assemble(".main\nWIDE ILOAD 1\nWIDE\nISTORE 2\nILOAD 0x100\n.end-main");
+    assertThat(code(program)).isEqualTo(bytes(0xC4, 0x15, 0x00, 0x01, 0xC4, 0x36, 0x00, 0x02, 0xC4, 0x15, 0x01, 0x00));
+
+    program = new IJVMAssembler().assemble(".main\nl: WIDE\nILOAD 1\nGOTO l\n.end-main");
+    assertThat(code(program)).isEqualTo(bytes(0xC4, 0x15, 0x00, 0x01, 0xA7, 0xFF, 0xFC));
+  }
+
+  @Test
+  public void testAssemble_Run() throws FileFormatException {
+    printlnMethodName();
+    final IJVMProgram program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+      .getSystemResourceAsStream("mic1/hello.jas")));
+    final Mic1 processor = new Mic1(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"),
+                                    program.toInputStream());
+    processor.run();
+    Output.flush();
+
+    assertThat(micOut.toString()).isEqualTo("ABCDE\n");
+    assertThat(program.getSymbols().keySet()).containsOnly("main", "main.loop", "print");
+  }
+
+  private void assertError(final String source, final String message) {
+    try {
+      new IJVMAssembler().assemble(source);
+      fail("source should be invalid: " + source);
+    } catch (final MacroFileFormatException e) {
+      assertThat(e.getMessage()).isEqualTo(message);
+    }
+  }
+
+  @Test
+  public void testAssemble_Errors() {
+    printlnMethodName();
+    assertError("", "missing main program");
+    assertError(".main\nNOP", "unexpected end of file, block isn't closed");
+    assertError("NOP", "line 1: instruction outside of a method: NOP");
+    assertError(".main\n  FOO 1\n.end-main", "line 2: unknown instruction: FOO");
+    assertError(".main\nBIPUSH\n.end-main", "line 2: BIPUSH expects 1 operand(s)");
+    assertError(".main\nBIPUSH 256\n.end-main", "line 2: value out of range: 256");
+    assertError(".main\nGOTO nowhere\n.end-main", "line 2: unknown name: nowhere");
+    assertError(".main\nILOAD x\n.end-main", "line 2: unknown variable: x");
+    assertError(".main\nLDC_W x\n.end-main", "line 2: unknown name: x");
+    assertError(".main\nl: NOP\nl: NOP\n.end-main", "line 3: label defined twice: l");
+    assertError(".main\n.var\na\na\n.end-var\n.end-main", "line 4: variable defined twice: a");
+    assertError(".main\n.end-main\n.main\n.end-main", "line 3: method defined twice: main");
+    assertError(".main\nWIDE\n.end-main", "line 2: WIDE without instruction");
+    assertError(".constant\nc\n.end-constant", "line 2: invalid declaration of constant: c");
+    assertError(".main\n.end-method", "line 2: unexpected directive: .end-method");
+    assertError(".constant\nm 1\n.end-constant\n.main\n.end-main\n.method m()\n.end-method",
+                "name of method is already used by a constant: m");
+  }
+}
@@ -26,8 +26,12 @@ import org.junit.Test;
 
 import com.github.croesch.micro_debug.DefaultTestCase;
 import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.smp.SchedulingMode;
+import com.github.croesch.micro_debug.mic3.PipelineModel;
 
 /**
  * Provides test cases for {@link Parameter}.
@@ -117,6 +121,59 @@ public class ParameterTest extends DefaultTestCase {
     assertThat(Parameter.DEBUG_MODE.getValue(null)).isNull();
   }
 
+  @Test
+  public void testReplacementPolicy() {
+    assertThat(Parameter.REPLACEMENT_POLICY.getValue("lru")).isSameAs(ReplacementPolicy.LRU);
+    assertThat(Parameter.REPLACEMENT_POLICY.getValue("Fifo")).isSameAs(ReplacementPolicy.FIFO);
+    assertThat(Parameter.REPLACEMENT_POLICY.getValue("RANDOM")).isSameAs(ReplacementPolicy.RANDOM);
+    assertThat(out.toString()).isEmpty();
+
+    assertThat(Parameter.REPLACEMENT_POLICY.getValue("lfu")).isNull();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_REPLACEMENT_POLICY.text("lfu"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(Parameter.REPLACEMENT_POLICY.getValue(null)).isNull();
+  }
+
+  @Test
+  public void testPipelineModel() {
+    assertThat(Parameter.PIPELINE_MODEL.getValue("mic3")).isSameAs(PipelineModel.MIC3);
+    assertThat(Parameter.PIPELINE_MODEL.getValue("Mic4")).isSameAs(PipelineModel.MIC4);
+    assertThat(out.toString()).isEmpty();
+
+    assertThat(Parameter.PIPELINE_MODEL.getValue("mic5")).isNull();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_PIPELINE_MODEL.text("mic5"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(Parameter.PIPELINE_MODEL.getValue(null)).isNull();
+  }
+
+  @Test
+  public void testSchedulingMode() {
+    assertThat(Parameter.SCHEDULING_MODE.getValue("lockstep")).isSameAs(SchedulingMode.LOCKSTEP);
+    assertThat(Parameter.SCHEDULING_MODE.getValue("Free")).isSameAs(SchedulingMode.FREE);
+    assertThat(out.toString()).isEmpty();
+
+    assertThat(Parameter.SCHEDULING_MODE.getValue("random")).isNull();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_SCHEDULING_MODE.text("random"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(Parameter.SCHEDULING_MODE.getValue(null)).isNull();
+  }
+
+  @Test
+  public void testConsistencyModel() {
+    assertThat(Parameter.CONSISTENCY_MODEL.getValue("sequential")).isSameAs(ConsistencyModel.SEQUENTIAL);
+    assertThat(Parameter.CONSISTENCY_MODEL.getValue("FENCED")).isSameAs(ConsistencyModel.FENCED);
+    assertThat(out.toString()).isEmpty();
+
+    assertThat(Parameter.CONSISTENCY_MODEL.getValue("weak")).isNull();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CONSISTENCY_MODEL.text("weak"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(Parameter.CONSISTENCY_MODEL.getValue(null)).isNull();
+  }
+
   @Test
   public void testRegister_Invalid() {
     testInvalidRegister("a", out);
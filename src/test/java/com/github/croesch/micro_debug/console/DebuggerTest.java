@@ -27,6 +27,7 @@ import org.junit.Test;
 
 import com.github.croesch.micro_debug.DefaultTestCase;
 import com.github.croesch.micro_debug.commons.Reader;
+import com.github.croesch.micro_debug.error.FileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.Mic1;
 
@@ -104,4 +105,23 @@ public class DebuggerTest extends DefaultTestCase {
     assertThat(out.toString()).isEqualTo(Text.INPUT_DEBUGGER.text() + sb.toString() + Text.INPUT_DEBUGGER.text());
     out.reset();
   }
+
+  @Test(timeout = 5000)
+  public void testRun_Background() throws FileFormatException {
+    printlnMethodName();
+    this.debugger = new Debugger(new Mic1(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"),
+                                          ClassLoader.getSystemResourceAsStream("mic1/endless-loop.ijvm")));
+
+    Reader.setReader(new StringReader("start\nls-reg\nstep\npause\nexit"));
+    this.debugger.run();
+    assertThat(out.toString()).contains(Text.INPUT_DEBUGGER.text() + Text.ERROR.text(Text.PROCESSOR_RUNNING)
+                                                + getLineSeparator() + Text.INPUT_DEBUGGER.text()
+                                                + Text.ERROR.text(Text.PROCESSOR_RUNNING));
+    out.reset();
+
+    // exiting the debugger pauses the execution
+    Reader.setReader(new StringReader("start\nexit"));
+    this.debugger.run();
+    assertThat(out.toString()).contains(Text.RUNNING_PAUSED.text(""));
+  }
 }
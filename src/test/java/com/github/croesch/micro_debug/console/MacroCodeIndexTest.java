@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.console;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommand;
+import com.github.croesch.micro_debug.mic1.mem.IJVMCommandArgument;
+import com.github.croesch.micro_debug.mic1.mem.IJVMConfigReader;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Provides test cases for {@link MacroCodeIndex}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class MacroCodeIndexTest extends DefaultTestCase {
+
+  private static final int LAST_ADDRESS = 0xFFFF;
+
+  private Memory mem;
+
+  private Map<Integer, IJVMCommand> commands;
+
+  private MacroCodeIndex index;
+
+  @Override
+  protected void setUpDetails() throws FileFormatException {
+    this.mem = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(),
+                          ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"));
+    this.commands = new IJVMConfigReader().readConfig(ClassLoader.getSystemResourceAsStream("ijvm.conf"));
+    this.index = new MacroCodeIndex(this.mem, new IJVMOpcodeTable(this.commands), 0, LAST_ADDRESS);
+  }
+
+  /** walks through the whole code and returns the addresses of all instructions */
+  private List<Integer> walk(final int end) {
+    final List<Integer> addresses = new ArrayList<Integer>();
+    for (int addr = 0; addr <= end; ++addr) {
+      addresses.add(addr);
+      final IJVMCommand cmd = this.commands.get(this.mem.getByte(addr));
+      if (cmd != null) {
+        for (final IJVMCommandArgument arg : cmd.getArgs()) {
+          addr += arg.getNumberOfBytes();
+        }
+      }
+    }
+    return addresses;
+  }
+
+  private List<Integer> indexedAddresses() {
+    final List<Integer> addresses = new ArrayList<Integer>();
+    for (int i = 0; i < this.index.getSize(); ++i) {
+      addresses.add(this.index.getAddress(i));
+    }
+    return addresses;
+  }
+
+  @Test
+  public void testIndex() {
+    printlnMethodName();
+    assertThat(this.index.getEnd()).isEqualTo(0x11D);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x11D));
+
+    assertThat(this.index.indexOf(0x0)).isEqualTo(0);
+    assertThat(this.index.indexOf(0x2)).isEqualTo(1);
+    assertThat(this.index.indexOf(0x1)).isNegative();
+    assertThat(this.index.indexOf(0x117)).isEqualTo(this.index.getSize() - 4);
+    assertThat(this.index.getArgumentBytes(this.index.indexOf(0x117))).isEqualTo(2);
+    assertThat(this.index.indexOf(0x118)).isNegative();
+  }
+
+  @Test
+  public void testIndex_ModifiedCode() {
+    printlnMethodName();
+    final int size = this.index.getSize();
+
+    // BIPUSH 0x0 becomes NOP NOP
+    this.mem.setWord(0, this.mem.getWord(0) & 0x0000FFFF);
+    assertThat(this.index.getSize()).isEqualTo(size + 1);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x11D));
+    assertThat(this.index.indexOf(0x1)).isEqualTo(1);
+
+    // writing to the stack doesn't modify the code
+    this.mem.setWord(Settings.MIC1_REGISTER_SP_DEFVAL.getValue(), 0x10101010);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x11D));
+
+    // HALT behind the code
+    this.mem.setWord(0x200 / 4, 0xFF000000);
+    assertThat(this.index.getEnd()).isEqualTo(0x200);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x200));
+
+    // code in another block of the memory
+    this.mem.setWord(0x5000 / 4, 0x10FF0000);
+    assertThat(this.index.getEnd()).isEqualTo(0x5001);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x5001));
+
+    this.mem.setWord(0x5000 / 4, 0);
+    this.mem.setWord(0x200 / 4, 0);
+    assertThat(this.index.getEnd()).isEqualTo(0x11D);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x11D));
+
+    this.mem.reset();
+    assertThat(this.index.getSize()).isEqualTo(size);
+    assertThat(indexedAddresses()).isEqualTo(walk(0x11D));
+  }
+
+  @Test
+  public void testIndex_NoCode() throws FileFormatException {
+    printlnMethodName();
+    this.mem = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(),
+                          ClassLoader.getSystemResourceAsStream("mic1/empty.ijvm"));
+    this.index = new MacroCodeIndex(this.mem, new IJVMOpcodeTable(this.commands), 0, LAST_ADDRESS);
+    assertThat(this.index.getEnd()).isEqualTo(-1);
+    assertThat(this.index.getSize()).isZero();
+
+    this.mem.setWord(1, 0xFF000000);
+    assertThat(this.index.getEnd()).isEqualTo(4);
+    assertThat(indexedAddresses()).isEqualTo(walk(4));
+  }
+}
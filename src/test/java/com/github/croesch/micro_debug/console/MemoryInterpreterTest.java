@@ -285,4 +285,24 @@ public class MemoryInterpreterTest extends DefaultTestCase {
   public void testNullMemory() {
     new MemoryInterpreter(null);
   }
+
+  @Test
+  public void testGetFormattedLine_SelfModifyingCode() {
+    printlnMethodName();
+
+    final String line = this.interpreter.getFormattedLine(0);
+    assertThat(line).isEqualTo("     0x0: [ 0x10] BIPUSH 0x0");
+    assertThat(this.interpreter.getFormattedLine(0)).isSameAs(line);
+
+    // writing to the stack doesn't change the code
+    this.mem.setWord(Settings.MIC1_REGISTER_SP_DEFVAL.getValue(), 42);
+    assertThat(this.interpreter.getFormattedLine(0)).isSameAs(line);
+
+    // BIPUSH 0x5 instead of BIPUSH 0x0
+    this.mem.setWord(0, (this.mem.getWord(0) & 0xFF00FFFF) | 0x00050000);
+    assertThat(this.interpreter.getFormattedLine(0)).isEqualTo("     0x0: [ 0x10] BIPUSH 0x5");
+
+    this.mem.reset();
+    assertThat(this.interpreter.getFormattedLine(0)).isEqualTo(line);
+  }
 }
@@ -22,21 +22,31 @@ import static org.fest.assertions.Assertions.assertThat;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.junit.Test;
 
 import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.assembler.IJVMProgram;
+import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
 import com.github.croesch.micro_debug.error.FileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
 import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionDecoder;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
 import com.github.croesch.micro_debug.mic1.io.Input;
 import com.github.croesch.micro_debug.mic1.io.Output;
+import com.github.croesch.micro_debug.mic1.io.StandardIO;
 import com.github.croesch.micro_debug.mic1.register.Register;
 import com.github.croesch.micro_debug.settings.Settings;
 
@@ -592,6 +602,640 @@ public class UserInstructionTest extends DefaultTestCase {
     assertThatThreeParametersAreWrong(UserInstruction.SET_MEM, 2);
   }
 
+  @Test
+  public void testExecuteFork_WrongNumberOfParameters() {
+    printlnMethodName();
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "H")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 1);
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "H", "1", "TOS")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(4, 3);
+  }
+
+  @Test
+  public void testExecuteFork_Invalid() {
+    printlnMethodName();
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "abc", "14")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_REGISTER.text("abc")) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "H", "1", "TOS", "x")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_NUMBER.text("x")) + getLineSeparator());
+  }
+
+  @Test
+  public void testExecuteFork() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    final Mic1 processor = this.interpreter.getProcessor();
+    processor.microStep(1000);
+    out.reset();
+    final int tos = Register.TOS.getValue();
+
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_HALTED.text(31816 - 1000) + getLineSeparator());
+    assertThat(out.toString()).endsWith(Text.FORK_OUTPUT.text("OK") + getLineSeparator());
+    assertThat(out.toString()).contains(Text.FORK_REGISTER_DIFFERENCE.text(Register.PC,
+                                                                          Utils.toHexString(Register.PC.getValue()),
+                                                                          ""));
+    out.reset();
+
+    // the processor isn't touched by the fork
+    Output.flush();
+    assertThat(micOut.toString()).isEmpty();
+    assertThat(Register.TOS.getValue()).isEqualTo(tos);
+
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "TOS", "0x1234")).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_HALTED.text(31816 - 1000) + getLineSeparator());
+    assertThat(Register.TOS.getValue()).isEqualTo(tos);
+    out.reset();
+
+    assertThat(UserInstruction.RUN.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(31816 - 1000) + getLineSeparator());
+  }
+
+  @Test(timeout = 60000)
+  public void testExecuteFork_EndlessLoop() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/endless-loop.ijvm");
+    final long maxTicks = Settings.MIC1_FORK_MAX_TICKS.getValue();
+
+    // the console waits for the fork, so it's stopped after the maximum number of ticks for forks
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_TICK_LIMIT.text(maxTicks) + getLineSeparator());
+    out.reset();
+
+    // a lower limit of the processor is kept
+    this.interpreter.getProcessor().setTickLimit(100);
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_INTERRUPTED.text(100) + getLineSeparator());
+    out.reset();
+
+    // a negative limit means unlimited, too
+    this.interpreter.getProcessor().setTickLimit(-1);
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_TICK_LIMIT.text(maxTicks) + getLineSeparator());
+    out.reset();
+
+    // the limit of the processor has stopped the fork, even if it's equal to the maximum number of ticks for forks
+    this.interpreter.getProcessor().setTickLimit(maxTicks);
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_INTERRUPTED.text(maxTicks) + getLineSeparator());
+  }
+
+  @Test
+  public void testExecuteFork_Breakpoint() {
+    printlnMethodName();
+    assertThat(UserInstruction.MICRO_BREAK.execute(this.interpreter, "3")).isTrue();
+    assertThat(UserInstruction.FORK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).startsWith(Text.FORK_STOPPED.text(3) + getLineSeparator());
+    out.reset();
+
+    // fork of a halted processor doesn't diverge
+    assertThat(UserInstruction.RM_ALL_BREAKPOINTS.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.RUN.execute(this.interpreter)).isTrue();
+    out.reset();
+    assertThat(UserInstruction.FORK.execute(this.interpreter, "H", String.valueOf(Register.H.getValue()))).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.FORK_HALTED.text(0) + getLineSeparator()
+                                         + Text.FORK_NO_DIFFERENCE + getLineSeparator());
+  }
+
+  @Test
+  public void testExecuteBisect() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String hello = "src/test/resources/mic1/hello.jas";
+    assertThat(UserInstruction.BISECT.execute(this.interpreter, "src/test/resources/mic1/mic1ijvm.mic1", hello))
+      .isTrue();
+    assertThat(out.toString()).isEqualTo(Text.BISECT_EQUAL.text(70, 566, 566) + getLineSeparator());
+    out.reset();
+
+    // the other micro program fetches the first instruction one tick later
+    assertThat(UserInstruction.BISECT.execute(this.interpreter, "src/test/resources/mic1/mic1ijvm2.mic1", hello))
+      .isTrue();
+    assertThat(out.toString()).startsWith(Text.BISECT_DIVERGENCE.text(0, "0xFFFFFFFF", 3, 4) + getLineSeparator()
+                                          + Text.BISECT_INSTRUCTION.text("0x0", "goto 0x2", "0x5",
+                                                                         "PC=PC+1;fetch;goto (MBR)")
+                                          + getLineSeparator() + Text.BISECT_REGISTER.text(Register.MAR, "0x0", "0x0"));
+    assertThat(out.toString()).contains(Text.BISECT_REGISTER_DIFFERENCE.text(Register.PC, "0x0", "0x1"));
+    out.reset();
+
+    assertThat(UserInstruction.BISECT.execute(this.interpreter, "src/test/resources/mic1/mic1ijvm.mic1",
+                                              "not-existing.ijvm")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.FILE_NOT_FOUND.text("not-existing.ijvm"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.BISECT.execute(this.interpreter, "a")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 1);
+  }
+
+  @Test
+  public void testExecuteCompare() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String hello = "src/test/resources/mic1/hello.jas";
+    assertThat(UserInstruction.COMPARE.execute(this.interpreter, "src/test/resources/mic1/mic1ijvm.mic1", hello))
+      .isTrue();
+    assertThat(out.toString()).startsWith(hello + ":");
+    assertThat(out.toString()).endsWith(Text.COMPARISON_EQUAL + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.COMPARE.execute(this.interpreter, "src/test/resources/mic1/mic1ijvm.mic1",
+                                               "not-existing.ijvm")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.FILE_NOT_FOUND.text("not-existing.ijvm"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.COMPARE.execute(this.interpreter, "a")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 1);
+  }
+
+  @Test
+  public void testExecuteMic2() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String hello = "src/test/resources/mic1/hello.jas";
+    assertThat(UserInstruction.MIC2.execute(this.interpreter, hello)).isTrue();
+    final String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith(hello + ": Mic-1 ");
+    assertThat(lines[1]).startsWith("total: Mic-1 ");
+    out.reset();
+
+    assertThat(UserInstruction.MIC2.execute(this.interpreter, "not-existing.ijvm")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.FILE_NOT_FOUND.text("not-existing.ijvm"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.MIC2.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  @Test
+  public void testExecutePipeline() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String hello = "src/test/resources/mic1/hello.jas";
+    assertThat(UserInstruction.PIPELINE.execute(this.interpreter, hello)).isTrue();
+    assertThat(out.toString()).startsWith("Mic-3: ");
+    assertThat(out.toString()).contains(Text.PIPELINE_INSTRUCTIONS.text());
+    assertThat(out.toString()).contains("  0x10 BIPUSH: 7 times, ");
+    out.reset();
+
+    assertThat(UserInstruction.PIPELINE.execute(this.interpreter, hello, "mic4")).isTrue();
+    assertThat(out.toString()).startsWith("Mic-4: ");
+    out.reset();
+
+    assertThat(UserInstruction.PIPELINE.execute(this.interpreter, hello, "mic5")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_PIPELINE_MODEL.text("mic5"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.PIPELINE.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  @Test
+  public void testExecuteSmp() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String counter = "src/test/resources/mic1/counter.jas";
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "2")).isTrue();
+    final String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines).hasSize(3);
+    assertThat(lines[0]).startsWith("2 cores (lockstep, sequential): ");
+    assertThat(lines[1]).startsWith("  core 0: ");
+    assertThat(lines[2]).isEqualTo(lines[1].replace("core 0", "core 1"));
+    out.reset();
+
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "3", "free", "fenced")).isTrue();
+    assertThat(out.toString()).startsWith("3 cores (free, fenced): ");
+    out.reset();
+
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "2", "sometimes")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_SCHEDULING_MODE.text("sometimes"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "2", "free", "weak")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CONSISTENCY_MODEL.text("weak"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "0")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CORES.text(0, 16)) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 1);
+    assertThat(UserInstruction.SMP.execute(this.interpreter, counter, "1", "free", "fenced", "1")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(4, 5);
+  }
+
+  @Test
+  public void testExecutePredict() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    assertThat(UserInstruction.LS_PREDICT.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_BRANCH_PREDICTORS) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.PREDICT.execute(this.interpreter, "1000")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_BRANCH_PREDICTORS.text(1000))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.PREDICT.execute(this.interpreter, "1024", "40")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_NUMBER.text("40")) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.PREDICT.execute(this.interpreter, "1", "2", "3")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 3);
+    assertThat(this.interpreter.getProcessor().getBranchModel()).isNull();
+
+    assertThat(UserInstruction.PREDICT.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEmpty();
+    assertThat(this.interpreter.getProcessor().getBranchModel().getNumberOfPredictors()).isEqualTo(5);
+
+    assertThat(UserInstruction.PREDICT.execute(this.interpreter, "256", "4")).isTrue();
+    assertThat(out.toString()).isEmpty();
+    this.interpreter.getProcessor().setPrintingTicks(false);
+    this.interpreter.getProcessor().run();
+    out.reset();
+
+    assertThat(UserInstruction.LS_PREDICT.execute(this.interpreter)).isTrue();
+    final String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines[0]).endsWith(" branch sites");
+    assertThat(lines[1]).startsWith("  static: ");
+    assertThat(lines[5]).startsWith("  BTB: ");
+    assertThat(lines[6]).isEqualTo(Text.BRANCH_SITES.text());
+    assertThat(lines.length).isGreaterThan(7);
+    assertThat(lines[7]).contains(" static ");
+    assertThat(lines[7]).contains(" gshare ");
+    out.reset();
+
+    assertThat(UserInstruction.UNPREDICT.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.getProcessor().getBranchModel()).isNull();
+  }
+
+  @Test
+  public void testExecuteCache() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/divtest.ijvm");
+    assertThat(UserInstruction.LS_CACHE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_CACHE) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.CACHE.execute(this.interpreter, "1000", "2", "16")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CACHE.text(1000, 2, 16)) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.CACHE.execute(this.interpreter, "1024", "2", "16", "lfu")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_REPLACEMENT_POLICY.text("lfu"))
+                                         + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.CACHE.execute(this.interpreter, "1024", "2")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(3, 2);
+    assertThat(this.interpreter.getProcessor().getCacheModel()).isNull();
+
+    assertThat(UserInstruction.CACHE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEmpty();
+    assertThat(this.interpreter.getProcessor().getCacheModel().getDataCache().getSize())
+      .isEqualTo(Settings.MIC1_CACHE_DATA_SIZE.getValue());
+
+    assertThat(UserInstruction.CACHE.execute(this.interpreter, "512", "4", "32", "fifo")).isTrue();
+    assertThat(out.toString()).isEmpty();
+    this.interpreter.getProcessor().setPrintingTicks(false);
+    this.interpreter.getProcessor().run();
+    out.reset();
+
+    assertThat(UserInstruction.LS_CACHE.execute(this.interpreter)).isTrue();
+    final String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines[0]).isEqualTo(Text.CACHE_CONFIGURATION.text(Text.CACHE_INSTRUCTION_CACHE, 512, 4, 32, "FIFO"));
+    assertThat(lines[2]).isEqualTo(Text.CACHE_CONFIGURATION.text(Text.CACHE_DATA_CACHE, 512, 4, 32, "FIFO"));
+    assertThat(lines[4]).isEqualTo(Text.CACHE_STALLS.text(this.interpreter.getProcessor().getCacheModel()
+                                                            .getStallTicks(),
+                                                          Settings.MIC1_CACHE_MISS_PENALTY.getValue()));
+    assertThat(lines[5]).isEqualTo(Text.CACHE_INSTRUCTIONS.text());
+    assertThat(lines.length).isGreaterThan(6);
+    out.reset();
+
+    assertThat(UserInstruction.UNCACHE.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.getProcessor().getCacheModel()).isNull();
+    assertThat(UserInstruction.LS_CACHE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_CACHE) + getLineSeparator());
+    out.reset();
+  }
+
+  @Test
+  public void testExecuteCoverage() throws IOException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    assertThat(UserInstruction.LS_COVERAGE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_COVERAGE) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.COVERAGE_REPORT.execute(this.interpreter, "coverage.info")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_COVERAGE) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.COVERAGE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEmpty();
+    assertThat(this.interpreter.getProcessor().getCoverage()).isNotNull();
+    assertThat(UserInstruction.LS_COVERAGE.execute(this.interpreter)).isTrue();
+    String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines).hasSize(4);
+    assertThat(lines[0]).endsWith("(0%)");
+    assertThat(lines[3]).endsWith("(0%)");
+    out.reset();
+
+    this.interpreter.getProcessor().getMemory().setIO(new BufferedIO("12\n34\n".getBytes("UTF-8")));
+    this.interpreter.getProcessor().setPrintingTicks(false);
+    this.interpreter.getProcessor().run();
+    out.reset();
+    assertThat(UserInstruction.LS_COVERAGE.execute(this.interpreter)).isTrue();
+    lines = out.toString().split(getLineSeparator());
+    assertThat(lines[1]).isEqualTo(Text.COVERAGE_BRANCHES.text(6, 6, 100));
+    assertThat(lines[3].endsWith("(0%)")).isFalse();
+    final String microBefore = lines[0];
+    final String macroBefore = lines[3];
+    out.reset();
+
+    final String hello = "src/test/resources/mic1/hello.jas";
+    assertThat(UserInstruction.COVERAGE.execute(this.interpreter, hello, "not-existing.ijvm")).isTrue();
+    lines = out.toString().split(getLineSeparator());
+    assertThat(lines[0]).isEqualTo(Text.ERROR.text(Text.FILE_NOT_FOUND.text("not-existing.ijvm")));
+    assertThat(lines[1]).matches(Text.COVERAGE_RUN.text(hello, "[0-9]+"));
+    out.reset();
+    assertThat(UserInstruction.LS_COVERAGE.execute(this.interpreter)).isTrue();
+    lines = out.toString().split(getLineSeparator());
+    // hello.jas executes instructions that add.ijvm doesn't, but its macro code isn't merged
+    assertThat(lines[0]).isNotEqualTo(microBefore);
+    assertThat(lines[3]).isEqualTo(macroBefore);
+    out.reset();
+
+    final File lcov = File.createTempFile("coverage", ".info");
+    final File html = File.createTempFile("coverage", ".html");
+    try {
+      assertThat(UserInstruction.COVERAGE_REPORT.execute(this.interpreter, lcov.getPath())).isTrue();
+      assertThat(UserInstruction.COVERAGE_REPORT.execute(this.interpreter, html.getPath())).isTrue();
+      assertThat(out.toString()).isEmpty();
+      final String tracefile = readFile(lcov);
+      assertThat(tracefile).startsWith("TN:\nSF:micro-program\n");
+      assertThat(tracefile).contains("FNDA:1,BIPUSH\n");
+      assertThat(tracefile).contains("FNDA:0,");
+      assertThat(tracefile).contains("DA:3,1\n");
+      assertThat(tracefile).contains("SF:macro-program\n");
+      assertThat(tracefile).endsWith("end_of_record\n");
+      final String page = readFile(html);
+      assertThat(page).startsWith("<!DOCTYPE html>");
+      assertThat(page).contains("class=\"covered\"");
+      assertThat(page).contains("class=\"uncovered\"");
+      assertThat(page.contains("<<")).isFalse();
+    } finally {
+      assertThat(lcov.delete()).isTrue();
+      assertThat(html.delete()).isTrue();
+    }
+
+    assertThat(UserInstruction.COVERAGE_REPORT.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  private static String readFile(final File file) throws IOException {
+    final StringBuilder sb = new StringBuilder();
+    final Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+    try {
+      final char[] buffer = new char[1024];
+      int read;
+      while ((read = reader.read(buffer)) >= 0) {
+        sb.append(buffer, 0, read);
+      }
+    } finally {
+      reader.close();
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testExecuteSearch() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter, "ticks", "==", "5")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.SEARCH_HIT.text("ticks == 5", 5) + getLineSeparator());
+    out.reset();
+
+    // the processor has been moved to the hit, so the next search starts there and counts the ticks of the program
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter, "ticks==5")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.SEARCH_NO_HIT.text("ticks == 5", 77) + getLineSeparator()
+                                         + Text.SEARCH_INPUT + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.RESET.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.MICRO_STEP.execute(this.interpreter, "5")).isTrue();
+    out.reset();
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter, "ticks==10")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.SEARCH_HIT.text("ticks == 10", 10) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter, "SP", "<", "0")).isTrue();
+    // the program reads input after 72 more ticks
+    assertThat(out.toString()).isEqualTo(Text.SEARCH_NO_HIT.text("SP < 0", 72) + getLineSeparator()
+                                         + Text.SEARCH_INPUT + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter, "SP", "<")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CONDITION.text("SP <")) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.SEARCH.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  @Test
+  public void testExecuteBacktrace() throws FileFormatException {
+    printlnMethodName();
+    final IJVMProgram program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                               .getSystemResourceAsStream("mic1/recursion.jas")));
+    final Mic1 mic = new Mic1(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"), program.toInputStream());
+    this.interpreter = new Mic1Interpreter(mic);
+    final MemoryInterpreter code = new MemoryInterpreter(mic.getMemory());
+    final int call = program.getSymbols().get("main").intValue() + 5;
+    final int sum = program.getSymbols().get("sum").intValue();
+    final String method = Utils.toHexString(sum);
+
+    assertThat(UserInstruction.BACKTRACE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.BACKTRACE_MAIN.text(0, code.getFormattedLine(0)) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.STEP.execute(this.interpreter, "4")).isTrue();
+    out.reset();
+    assertThat(UserInstruction.BACKTRACE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.BACKTRACE_FRAME.text(0, method, code.getFormattedLine(sum + 4))
+                                         + getLineSeparator()
+                                         + Text.BACKTRACE_MAIN.text(1, code.getFormattedLine(call))
+                                         + getLineSeparator());
+    out.reset();
+
+    // the second recursive call
+    while (mic.getCallStack().getDepth() < 3) {
+      mic.step();
+    }
+    final int recursiveCall = sum + 17;
+    out.reset();
+    assertThat(UserInstruction.BACKTRACE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.BACKTRACE_FRAME.text(0, method, code.getFormattedLine(sum + 4))
+                                         + getLineSeparator()
+                                         + Text.BACKTRACE_FRAME.text(1, method, code.getFormattedLine(recursiveCall))
+                                         + getLineSeparator()
+                                         + Text.BACKTRACE_FRAME.text(2, method, code.getFormattedLine(recursiveCall))
+                                         + getLineSeparator()
+                                         + Text.BACKTRACE_MAIN.text(3, code.getFormattedLine(call))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.STEP_OUT.execute(this.interpreter)).isTrue();
+    assertThat(mic.getCallStack().getDepth()).isEqualTo(2);
+    assertThat(mic.getNextMacroAddress()).isEqualTo(recursiveCall + 3);
+    assertThat(UserInstruction.STEP_OVER.execute(this.interpreter)).isTrue();
+    assertThat(mic.getCallStack().getDepth()).isEqualTo(2);
+    assertThat(mic.getNextMacroAddress()).isEqualTo(recursiveCall + 5);
+    assertThat(UserInstruction.STEP_OUT.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.STEP_OUT.execute(this.interpreter)).isTrue();
+    assertThat(mic.getCallStack().getDepth()).isZero();
+    assertThat(mic.getNextMacroAddress()).isEqualTo(call + 3);
+    assertThat(mic.getRegisters().get(Register.TOS)).isEqualTo(55);
+    out.reset();
+
+    assertThat(UserInstruction.STEP_OUT.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NOT_IN_METHOD) + getLineSeparator());
+    assertThat(mic.getNextMacroAddress()).isEqualTo(call + 3);
+  }
+
+  @Test
+  public void testExecuteCycles() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    assertThat(UserInstruction.CYCLES.execute(this.interpreter)).isTrue();
+    final String nop = Text.CYCLES.text("0x0", "NOP", Text.CYCLES_EXACT.text(2)) + getLineSeparator();
+    assertThat(out.toString()).startsWith(nop);
+    assertThat(out.toString()).contains(Text.CYCLES.text("0x99", "IFEQ", Text.CYCLES_RANGE.text(8, 11)));
+    assertThat(out.toString()).contains(Text.CYCLES.text("0xFF", "HALT", Text.CYCLES_NEVER));
+    out.reset();
+
+    assertThat(UserInstruction.CYCLES.execute(this.interpreter, "src/test/resources/mic1/hi.mic1")).isTrue();
+    assertThat(out.toString()).startsWith(Text.CYCLES_COMPARISON_HEADER.text("src/test/resources/mic1/hi.mic1")
+                                          + getLineSeparator()
+                                          + Text.CYCLES_COMPARISON.text("0x0", "NOP", Text.CYCLES_EXACT.text(2),
+                                                                        Text.CYCLES_NEVER));
+    out.reset();
+
+    assertThat(UserInstruction.CYCLES.execute(this.interpreter, "not-existing.mic1")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.FILE_NOT_FOUND.text("not-existing.mic1"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.CYCLES.execute(this.interpreter, "a", "b")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 2);
+  }
+
+  @Test
+  public void testExecuteCyclesDot() throws IOException {
+    printlnMethodName();
+    final File file = File.createTempFile("micro-code", ".dot");
+    try {
+      assertThat(UserInstruction.CYCLES_DOT.execute(this.interpreter, file.getPath())).isTrue();
+      assertThat(out.toString()).isEmpty();
+      final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+      try {
+        assertThat(reader.readLine()).isEqualTo("digraph micro_code {");
+      } finally {
+        reader.close();
+      }
+    } finally {
+      assertThat(file.delete()).isTrue();
+    }
+
+    assertThat(UserInstruction.CYCLES_DOT.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  @Test
+  public void testExecuteProfile() throws IOException {
+    printlnMethodName();
+    assertThat(UserInstruction.LS_PROFILE.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_PROFILE) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.FLAMEGRAPH.execute(this.interpreter, "profile.folded")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.NO_PROFILE) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.PROFILE.execute(this.interpreter, "0")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_NUMBER.text("0")) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.PROFILE.execute(this.interpreter, "1", "2")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 2);
+    assertThat(this.interpreter.getProcessor().getProfile()).isNull();
+
+    assertThat(UserInstruction.PROFILE.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.getProcessor().getProfile().getInterval())
+      .isEqualTo(Settings.MIC1_PROFILE_INTERVAL.getValue());
+
+    assertThat(UserInstruction.PROFILE.execute(this.interpreter, "1")).isTrue();
+    assertThat(out.toString()).isEmpty();
+    this.interpreter.getProcessor().setPrintingTicks(false);
+    final long ticks = this.interpreter.getProcessor().run();
+    assertThat(UserInstruction.UNPROFILE.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.getProcessor().getProfile()).isNull();
+    this.interpreter.getProcessor().reset();
+    this.interpreter.getProcessor().run();
+    out.reset();
+
+    assertThat(UserInstruction.LS_PROFILE.execute(this.interpreter)).isTrue();
+    final String[] lines = out.toString().split(getLineSeparator());
+    assertThat(lines[0]).isEqualTo(Text.PROFILE_HEADER.text(ticks, 1));
+    assertThat(lines[1]).isEqualTo(Text.PROFILE_INSTRUCTIONS.text());
+    assertThat(out.toString()).contains(Text.PROFILE_METHODS.text() + getLineSeparator()
+                                        + Text.PROFILE_SAMPLES.text(Text.PROFILE_MAIN.text(), ticks, 100)
+                                        + getLineSeparator() + Text.PROFILE_MICRO_INSTRUCTIONS.text());
+    out.reset();
+
+    final File file = File.createTempFile("profile", ".folded");
+    try {
+      assertThat(UserInstruction.FLAMEGRAPH.execute(this.interpreter, file.getPath())).isTrue();
+      assertThat(out.toString()).isEmpty();
+      final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+      try {
+        // the ticks before the first instruction has been fetched
+        assertThat(reader.readLine()).matches("main [0-9]+");
+        assertThat(reader.readLine()).startsWith("main;");
+      } finally {
+        reader.close();
+      }
+    } finally {
+      assertThat(file.delete()).isTrue();
+    }
+
+    assertThat(UserInstruction.FLAMEGRAPH.execute(this.interpreter)).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(1, 0);
+  }
+
+  @Test
+  public void testExecuteSetMicro() {
+    printlnMethodName();
+    assertThat(UserInstruction.SET_MICRO.execute(this.interpreter, "0x2")).isTrue();
+    assertThatWrongNumberOfParametersIsPrintedAndResetOut(2, 1);
+
+    assertThat(UserInstruction.SET_MICRO.execute(this.interpreter, "0x2", "H", "=", "TOS;", "goto", "0x3")).isTrue();
+    assertThat(out.toString()).isEmpty();
+    assertThat(MicroInstructionDecoder.decode(this.interpreter.getProcessor().getControlStore().getInstruction(2)))
+      .isEqualTo("H=TOS;goto 0x3");
+
+    assertThat(UserInstruction.SET_MICRO.execute(this.interpreter, "0x200", "goto", "0x3")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_MICRO_ADDR.text("0x200"))
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.SET_MICRO.execute(this.interpreter, "0x2", "H", "=", "XYZ")).isTrue();
+    assertThat(out.toString()).startsWith(Text.ERROR.text(Text.INVALID_MICRO_INSTRUCTION.text("line 1:")));
+    out.reset();
+
+    assertThat(UserInstruction.SET_MICRO.execute(this.interpreter, "abc", "goto", "0x3")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_NUMBER.text("abc")) + getLineSeparator());
+  }
+
   @Test
   public void testExecuteSetMem_Valid() {
     printlnMethodName();
@@ -1025,6 +1669,44 @@ public class UserInstructionTest extends DefaultTestCase {
                                                  + getLineSeparator());
   }
 
+  @Test
+  public void testExecuteBreak_Condition() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    Input.setIn(new ByteArrayInputStream("2\n2\n".getBytes()));
+
+    assertThat(UserInstruction.MACRO_BREAK.execute(this.interpreter, "0x2", "if", "TOS", "==", "0x1234")).isTrue();
+    assertThat(UserInstruction.MACRO_BREAK.execute(this.interpreter, "0x3", "IF", "hits", "==", "1")).isTrue();
+    assertThat(UserInstruction.BREAK.execute(this.interpreter, "if", "ticks==25")).isTrue();
+    assertThat(UserInstruction.MICRO_BREAK.execute(this.interpreter, "0x1", "if", "H", "<", "0")).isTrue();
+    assertThat(out.toString()).isEmpty();
+
+    assertThat(UserInstruction.RUN.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(10) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.RUN.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(15) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.RUN.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.INPUT_MIC1.text() + Text.INPUT_MIC1.text() + Text.TICKS.text(3267)
+                                         + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.LS_BREAK.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).contains(" if TOS == 0x1234" + getLineSeparator());
+    assertThat(out.toString()).contains(" if hits == 1" + getLineSeparator());
+    assertThat(out.toString()).contains(": if ticks == 25" + getLineSeparator());
+    assertThat(out.toString()).contains(" if H < 0" + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.MACRO_BREAK.execute(this.interpreter, "0x2", "if", "TOS", "<")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CONDITION.text("TOS <")) + getLineSeparator());
+    out.reset();
+    assertThat(UserInstruction.BREAK.execute(this.interpreter, "if")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.INVALID_CONDITION.text("")) + getLineSeparator());
+    out.reset();
+  }
+
   @Test
   public final void testExecuteBreak_WrongNumberOfParameters() {
     printlnMethodName();
@@ -1815,4 +2497,117 @@ public class UserInstructionTest extends DefaultTestCase {
     assertThat(micOut.toString()).isEqualTo(" 2\n+2\n========\n00000004\n");
     out.reset();
   }
+
+  @Test(timeout = 5000)
+  public final void testExecuteStart_StatusPauseStop() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/endless-loop.ijvm");
+    final int pc = Register.PC.getValue();
+
+    assertThat(UserInstruction.STATUS.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.PAUSE.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.STOP.execute(this.interpreter)).isTrue();
+    final String notRunning = Text.ERROR.text(Text.PROCESSOR_NOT_RUNNING) + getLineSeparator();
+    assertThat(out.toString()).isEqualTo(notRunning + notRunning + notRunning);
+    out.reset();
+
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.isRunningInBackground()).isTrue();
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.PROCESSOR_RUNNING) + getLineSeparator());
+    out.reset();
+
+    while (this.interpreter.getProcessor().getPublishedTicks() == 0) {
+      Thread.yield();
+    }
+    assertThat(UserInstruction.STATUS.execute(this.interpreter)).isTrue();
+    final Pattern status = Pattern.compile(Text.RUNNING_STATUS.text("\\d+", "\\d+", "0x\\p{XDigit}+"));
+    assertThat(status.matcher(out.toString().trim()).matches()).isTrue();
+    out.reset();
+
+    assertThat(UserInstruction.PAUSE.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.isRunningInBackground()).isFalse();
+    final String macroAddress = Utils.toHexString(this.interpreter.getProcessor().getLastMacroAddress());
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(this.interpreter.getProcessor().getPublishedTicks())
+                                                 + getLineSeparator() + Text.RUNNING_PAUSED.text(macroAddress)
+                                                 + getLineSeparator());
+    assertThat(Register.PC.getValue()).isNotEqualTo(pc);
+    out.reset();
+
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    assertThat(UserInstruction.STOP.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.isRunningInBackground()).isFalse();
+    assertThat(out.toString()).endsWith(Text.RUNNING_STOPPED + getLineSeparator());
+    assertThat(Register.PC.getValue()).isEqualTo(pc);
+  }
+
+  @Test(timeout = 5000)
+  public final void testExecuteStart_Input() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/add.ijvm");
+    final String waiting = Text.WAITING_FOR_INPUT + getLineSeparator();
+
+    assertThat(UserInstruction.INPUT.execute(this.interpreter, "2")).isTrue();
+    assertThat(out.toString()).isEqualTo(Text.ERROR.text(Text.PROCESSOR_NOT_RUNNING) + getLineSeparator());
+    out.reset();
+
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    while (!out.toString().equals(waiting)) {
+      Thread.yield();
+    }
+    // pausing cancels the read, that waits for input
+    assertThat(UserInstruction.PAUSE.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.isRunningInBackground()).isFalse();
+    assertThat(this.interpreter.getProcessor().isInterrupted()).isFalse();
+    out.reset();
+
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    while (!out.toString().equals(waiting)) {
+      Thread.yield();
+    }
+    assertThat(UserInstruction.INPUT.execute(this.interpreter, "2")).isTrue();
+    while (!out.toString().equals(waiting + waiting)) {
+      Thread.yield();
+    }
+    assertThat(UserInstruction.INPUT.execute(this.interpreter, "2")).isTrue();
+    while (this.interpreter.isRunningInBackground()) {
+      Thread.yield();
+    }
+    assertThat(this.interpreter.getProcessor().getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(this.interpreter.getProcessor().getMemory().getIO()).isSameAs(StandardIO.getInstance());
+    Output.flush();
+    assertThat(micOut.toString()).isEqualTo(" 2\n+2\n========\n00000004\n");
+    out.reset();
+
+    // stopping cancels the read as well
+    assertThat(UserInstruction.RESET.execute(this.interpreter)).isTrue();
+    out.reset();
+    assertThat(UserInstruction.START.execute(this.interpreter)).isTrue();
+    while (!out.toString().equals(waiting)) {
+      Thread.yield();
+    }
+    assertThat(UserInstruction.STOP.execute(this.interpreter)).isTrue();
+    assertThat(this.interpreter.isRunningInBackground()).isFalse();
+    assertThat(out.toString()).endsWith(Text.RUNNING_STOPPED + getLineSeparator());
+  }
+
+  @Test
+  public final void testIsAllowedWhileRunning() {
+    printlnMethodName();
+    for (final UserInstruction in : UserInstruction.values()) {
+      switch (in) {
+        case EXIT:
+        case HELP:
+        case INPUT:
+        case PAUSE:
+        case STATUS:
+        case STOP:
+          assertThat(in.isAllowedWhileRunning()).isTrue();
+          break;
+        default:
+          assertThat(in.isAllowedWhileRunning()).isFalse();
+          break;
+      }
+    }
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.daemon;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+
+/**
+ * Contains test cases for {@link Daemon}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class DaemonTest extends DefaultTestCase {
+
+  private static final String MICRO = "src/test/resources/mic1/mic1ijvm.mic1";
+
+  private Daemon daemon;
+
+  private Thread thread;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.daemon = new Daemon(0, 2, new ControlStoreCache(2));
+    this.thread = new Thread(this.daemon);
+    this.thread.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    this.daemon.stop();
+    this.thread.join();
+  }
+
+  private RunResponse send(final RunRequest request) throws Exception {
+    final Socket socket = new Socket(InetAddress.getByName(null), this.daemon.getPort());
+    try {
+      request.write(new BufferedOutputStream(socket.getOutputStream()));
+      return RunResponse.read(new BufferedInputStream(socket.getInputStream()));
+    } finally {
+      socket.close();
+    }
+  }
+
+  @Test
+  public void testRunSource() throws Exception {
+    printlnMethodName();
+
+    final RunResponse response = send(new RunRequest(MICRO, "src/test/resources/mic1/hello.jas", 0, 0, null));
+    assertThat(response.getStatus()).isEqualTo("halt_instruction");
+    assertThat(new String(response.getOutput())).isEqualTo("ABCDE\n");
+    assertThat(response.getTicks()).isGreaterThan(0);
+    assertThat(response.getInstructions()).isGreaterThan(0);
+    assertThat(this.daemon.getCache().getMisses()).isEqualTo(1);
+
+    final RunResponse again = send(new RunRequest(MICRO, "src/test/resources/mic1/hello.jas", 0, 0, null));
+    assertThat(again.getOutput()).isEqualTo(response.getOutput());
+    assertThat(again.getTicks()).isEqualTo(response.getTicks());
+    assertThat(this.daemon.getCache().getMisses()).isEqualTo(1);
+    assertThat(this.daemon.getCache().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void testRunWithInput() throws Exception {
+    printlnMethodName();
+
+    final RunResponse response = send(new RunRequest(MICRO, "src/test/resources/mic1/add.ijvm", 0, 0, "2\n2\n"
+      .getBytes()));
+    assertThat(response.getStatus()).isEqualTo("halt_instruction");
+    assertThat(new String(response.getOutput())).contains("00000004");
+  }
+
+  @Test
+  public void testTickLimit() throws Exception {
+    printlnMethodName();
+
+    final RunResponse response = send(new RunRequest(MICRO, "src/test/resources/mic1/endless-loop.ijvm", 1000, 0,
+                                                     null));
+    assertThat(response.getStatus()).isEqualTo("tick_limit");
+    assertThat(response.getTicks()).isEqualTo(1000);
+  }
+
+  @Test
+  public void testMissingFile() throws Exception {
+    printlnMethodName();
+
+    RunResponse response = send(new RunRequest(MICRO, "src/test/resources/mic1/missing.ijvm", 0, 0, null));
+    assertThat(response.getStatus()).isEqualTo(RunResponse.ERROR);
+    assertThat(response.getMessage()).contains("missing.ijvm");
+
+    response = send(new RunRequest("src/test/resources/mic1/missing.mic1", "src/test/resources/mic1/add.ijvm", 0, 0,
+                                   null));
+    assertThat(response.getStatus()).isEqualTo(RunResponse.ERROR);
+    assertThat(response.getMessage()).contains("missing.mic1");
+  }
+
+  @Test
+  public void testInvalidRequest() throws Exception {
+    printlnMethodName();
+
+    final Socket socket = new Socket(InetAddress.getByName(null), this.daemon.getPort());
+    try {
+      socket.getOutputStream().write("ticks=abc\n\n".getBytes());
+      final RunResponse response = RunResponse.read(new BufferedInputStream(socket.getInputStream()));
+      assertThat(response.getStatus()).isEqualTo(RunResponse.ERROR);
+    } finally {
+      socket.close();
+    }
+  }
+}
@@ -28,10 +28,14 @@ import java.util.regex.Pattern;
 import org.junit.Test;
 
 import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.datatypes.DebugMode;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
 import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionReader;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 import com.github.croesch.micro_debug.settings.Settings;
 
 /**
@@ -124,6 +128,70 @@ public class BreakpointManagerTest extends DefaultTestCase {
     printEndOfMethod();
   }
 
+  @Test
+  public void testIsBreakpoint_RegisterFile() {
+    printlnMethodName();
+    final RegisterFile registers = new RegisterFile();
+    Register.TOS.setValue(0);
+    this.bpm.addRegisterBreakpoint(Register.TOS, Integer.valueOf(5));
+
+    assertThat(this.bpm.isBreakpoint(registers, 0, 0, null, null)).isFalse();
+    registers.set(Register.TOS, 5);
+    assertThat(this.bpm.isBreakpoint(registers, 0, 0, null, null)).isTrue();
+    assertThat(this.bpm.isBreakpoint(0, 0, null, null)).isFalse();
+
+    this.bpm.addMicroBreakpoint(Integer.valueOf(3));
+    registers.set(Register.TOS, 0);
+    assertThat(this.bpm.isBreakpoint(registers, 3, 0, null, null)).isTrue();
+    assertThat(this.bpm.isBreakpoint(registers, 4, 0, null, null)).isFalse();
+  }
+
+  @Test
+  public void testIsBreakpoint_Condition() throws Exception {
+    printlnMethodName();
+    final Mic1 processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                                    ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"), new RegisterFile());
+    final int ijvm = Settings.MIC1_MICRO_ADDRESS_IJVM.getValue();
+    this.bpm.addMacroBreakpoint(Integer.valueOf(4), Condition.parse("hits == 2 || TOS == 7"));
+    this.bpm.addConditionBreakpoint(Condition.parse("H == 3"));
+
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 4, null, null)).isFalse();
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 5, null, null)).isFalse();
+    final BreakpointManager copy = new BreakpointManager(this.bpm);
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 4, null, null)).isTrue();
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 4, null, null)).isFalse();
+    // the copy counts its hits independently
+    assertThat(copy.isBreakpoint(processor, ijvm, 4, null, null)).isTrue();
+
+    processor.getRegisters().set(Register.TOS, 7);
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 4, null, null)).isTrue();
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 5, null, null)).isFalse();
+
+    processor.getRegisters().set(Register.H, 3);
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 5, null, null)).isTrue();
+    this.bpm.setDebuggingMode(DebugMode.MACRO);
+    assertThat(this.bpm.isBreakpoint(processor, ijvm, 5, null, null)).isFalse();
+  }
+
+  @Test
+  public void testCopyConstructor() {
+    printlnMethodName();
+    this.bpm.addMicroBreakpoint(Integer.valueOf(3));
+    this.bpm.addMacroBreakpoint(Integer.valueOf(4));
+    this.bpm.setDebuggingMode(DebugMode.MACRO);
+
+    final BreakpointManager copy = new BreakpointManager(this.bpm);
+    assertThat(copy.isMicroBreakpoint(Integer.valueOf(3))).isTrue();
+    assertThat(copy.isMacroBreakpoint(Integer.valueOf(4))).isTrue();
+    // micro breakpoints are skipped in macro mode
+    assertThat(copy.isBreakpoint(3, 0, null, null)).isFalse();
+
+    copy.removeAllBreakpoints();
+    copy.addRegisterBreakpoint(Register.H);
+    assertThat(this.bpm.isMicroBreakpoint(Integer.valueOf(3))).isTrue();
+    assertThat(this.bpm.isRegisterBreakpoint(Register.H)).isFalse();
+  }
+
   @Test
   public void testListBreakpoints() {
     printlnMethodName();
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+
+/**
+ * Contains test cases for {@link ConditionSearch}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class ConditionSearchTest extends DefaultTestCase {
+
+  private static final int[] INTERVALS = { 1, 3, 64, 1000000 };
+
+  private static final long LIMIT = 1000000;
+
+  private MicroControlStore store;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.store = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  private Mic1 createProcessor(final BufferedIO io) throws Exception {
+    final Mic1 mic1 = new Mic1(this.store, new ByteArrayInputStream(this.program), new RegisterFile());
+    mic1.setPrintingTicks(false);
+    mic1.getMemory().setIO(io);
+    return mic1;
+  }
+
+  /**
+   * Executes the given processor tick by tick until the condition holds and returns the ticks of the program.
+   */
+  private static long searchSequentially(final Mic1 processor, final Condition condition) {
+    while (true) {
+      processor.microStep();
+      if (processor.getPublishedTicks() == 0) {
+        return -1;
+      }
+      if (condition.isMet(processor, processor.getTotalTicks())) {
+        return processor.getTotalTicks();
+      }
+    }
+  }
+
+  private void assertSearchFindsSameTick(final String text) throws Exception {
+    final Condition condition = Condition.parse(text);
+    final BufferedIO referenceIO = new BufferedIO();
+    final Mic1 reference = createProcessor(referenceIO);
+    // start the search in the middle of the program
+    reference.microStep(17);
+    final long expected = searchSequentially(reference, condition);
+    assertThat(expected).as(text).isGreaterThan(0);
+
+    for (final int interval : INTERVALS) {
+      for (int threads = 1; threads <= 4; threads += 3) {
+        final BufferedIO io = new BufferedIO();
+        final Mic1 processor = createProcessor(io);
+        processor.microStep(17);
+        final ConditionSearch search = new ConditionSearch(processor, condition, interval, LIMIT, threads);
+        assertThat(search.run()).as(text).isTrue();
+        assertThat(search.getHit()).as(text + " interval=" + interval).isEqualTo(expected);
+        assertThat(processor.getTotalTicks()).isEqualTo(expected);
+        assertThat(processor.getRegisters()).isEqualTo(reference.getRegisters());
+        assertThat(processor.getOldMpc()).isEqualTo(reference.getOldMpc());
+        assertThat(processor.getNextMpc()).isEqualTo(reference.getNextMpc());
+        assertThat(processor.getMemory().getDifferentWords(reference.getMemory())).isEmpty();
+        assertThat(io.getOutputAsString()).isEqualTo(referenceIO.getOutputAsString());
+        assertThat(condition.isMet(processor, expected)).isTrue();
+
+        // the processor continues like the reference
+        final BufferedIO continuedIO = new BufferedIO();
+        final Mic1 continued = reference.fork();
+        continued.getMemory().setIO(continuedIO);
+        processor.getMemory().setIO(new BufferedIO());
+        assertThat(processor.run()).isEqualTo(continued.run());
+        assertThat(processor.getRegisters()).isEqualTo(continued.getRegisters());
+      }
+    }
+  }
+
+  @Test
+  public void testRun_Register() throws Exception {
+    printlnMethodName();
+    assertSearchFindsSameTick("SP > 0xC004");
+    assertSearchFindsSameTick("TOS == 0x43 && PC > 0x10");
+  }
+
+  @Test
+  public void testRun_Memory() throws Exception {
+    printlnMethodName();
+    assertSearchFindsSameTick("local[1] == 0x44");
+    assertSearchFindsSameTick("stack[0] == 0x45");
+  }
+
+  @Test
+  public void testRun_Ticks() throws Exception {
+    printlnMethodName();
+    assertSearchFindsSameTick("ticks == 300");
+    assertSearchFindsSameTick("ticks >= 1");
+  }
+
+  @Test
+  public void testRun_NoHit() throws Exception {
+    printlnMethodName();
+    final Mic1 reference = createProcessor(new BufferedIO());
+    final long total = reference.run();
+
+    for (final int interval : INTERVALS) {
+      final BufferedIO io = new BufferedIO();
+      final Mic1 processor = createProcessor(io);
+      final ConditionSearch search = new ConditionSearch(processor, Condition.parse("SP < 0"), interval, LIMIT, 2);
+      assertThat(search.run()).isFalse();
+      assertThat(search.getHit()).isEqualTo(-1);
+      assertThat(search.getSearchedTicks()).isEqualTo(total);
+      assertThat(search.isHaltReached()).isTrue();
+      assertThat(search.isInputReached()).isFalse();
+      // the processor hasn't been moved
+      final Mic1 untouched = createProcessor(new BufferedIO());
+      assertThat(processor.getOldMpc()).isEqualTo(untouched.getOldMpc());
+      assertThat(processor.getRegisters()).isEqualTo(untouched.getRegisters());
+      assertThat(io.getOutput()).isEmpty();
+    }
+  }
+
+  @Test
+  public void testRun_Limit() throws Exception {
+    printlnMethodName();
+    final Mic1 processor = createProcessor(new BufferedIO());
+    final ConditionSearch search = new ConditionSearch(processor, Condition.parse("ticks == 200"), 64, 100, 2);
+    assertThat(search.run()).isFalse();
+    assertThat(search.getSearchedTicks()).isEqualTo(100);
+    assertThat(search.isHaltReached()).isFalse();
+    assertThat(search.isInputReached()).isFalse();
+  }
+
+  @Test
+  public void testRun_Input() throws Exception {
+    printlnMethodName();
+    final Mic1 processor = new Mic1(this.store, ClassLoader.getSystemResourceAsStream("mic1/endless-read.ijvm"),
+                                    new RegisterFile());
+    processor.setPrintingTicks(false);
+    final ConditionSearch search = new ConditionSearch(processor, Condition.parse("SP < 0"), 16, LIMIT, 2);
+    assertThat(search.run()).isFalse();
+    assertThat(search.isInputReached()).isTrue();
+    assertThat(search.getSearchedTicks()).isGreaterThan(0).isLessThan(LIMIT);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Contains test cases for {@link Condition}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class ConditionTest extends DefaultTestCase {
+
+  private Mic1 processor;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"),
+                              new RegisterFile());
+  }
+
+  private boolean isMet(final String condition) {
+    final Condition c = Condition.parse(condition);
+    assertThat(c).as(condition).isNotNull();
+    return c.isMet(this.processor, 42);
+  }
+
+  @Test
+  public void testParse_Invalid() {
+    printlnMethodName();
+    assertThat(Condition.parse(null)).isNull();
+    assertThat(Condition.parse("")).isNull();
+    assertThat(Condition.parse("   ")).isNull();
+    assertThat(Condition.parse("SP >")).isNull();
+    assertThat(Condition.parse("SP > > 1")).isNull();
+    assertThat(Condition.parse("SP 1")).isNull();
+    assertThat(Condition.parse("XY == 1")).isNull();
+    assertThat(Condition.parse("mem[1")).isNull();
+    assertThat(Condition.parse("mem 1")).isNull();
+    assertThat(Condition.parse("(SP == 1")).isNull();
+    assertThat(Condition.parse("SP == 1)")).isNull();
+    assertThat(Condition.parse("SP $ 1")).isNull();
+    assertThat(Condition.parse("SP = 1")).isNull();
+    assertThat(Condition.parse("SP == 1 &&")).isNull();
+    assertThat(Condition.parse("1 < 2 < 3")).isNull();
+  }
+
+  @Test
+  public void testToString() {
+    printlnMethodName();
+    assertThat(Condition.parse("SP>0xC100&&local[3]<0").toString()).isEqualTo("SP > 0xC100 && local [ 3 ] < 0");
+    assertThat(Condition.parse("  tos  ==  -1 ").toString()).isEqualTo("tos == - 1");
+  }
+
+  @Test
+  public void testIsMet_Registers() {
+    printlnMethodName();
+    this.processor.getRegisters().set(Register.SP, 0xC101);
+    this.processor.getRegisters().set(Register.TOS, -5);
+    assertThat(isMet("SP > 0xC100")).isTrue();
+    assertThat(isMet("SP > 0xC101")).isFalse();
+    assertThat(isMet("SP >= 0xC101")).isTrue();
+    assertThat(isMet("sp <= 0xC100")).isFalse();
+    assertThat(isMet("TOS < 0")).isTrue();
+    assertThat(isMet("TOS == -5")).isTrue();
+    assertThat(isMet("TOS != -5")).isFalse();
+    assertThat(isMet("-TOS == 5")).isTrue();
+    assertThat(isMet("SP - TOS == 0xC106")).isTrue();
+    assertThat(isMet("SP + TOS - 0xC100 == -4")).isTrue();
+    assertThat(isMet("TOS")).isTrue();
+    assertThat(isMet("!TOS")).isFalse();
+    assertThat(isMet("!!TOS")).isTrue();
+    assertThat(isMet("ticks == 42")).isTrue();
+    assertThat(isMet("ticks > 42")).isFalse();
+  }
+
+  @Test
+  public void testIsMet_Logical() {
+    printlnMethodName();
+    this.processor.getRegisters().set(Register.H, 1);
+    assertThat(isMet("H == 1 && H < 2")).isTrue();
+    assertThat(isMet("H == 1 && H > 2")).isFalse();
+    assertThat(isMet("H == 2 || H < 2")).isTrue();
+    assertThat(isMet("H == 2 || H > 2")).isFalse();
+    assertThat(isMet("H == 2 || H == 1 && H > 2")).isFalse();
+    assertThat(isMet("(H == 2 || H == 1) && H < 2")).isTrue();
+    assertThat(isMet("(H == 1) == 1")).isTrue();
+  }
+
+  @Test
+  public void testIsMet_Memory() {
+    printlnMethodName();
+    final RegisterFile registers = this.processor.getRegisters();
+    this.processor.setMemoryValue(0x100, 7);
+    this.processor.setMemoryValue(0x103, -3);
+    assertThat(isMet("mem[0x100] == 7")).isTrue();
+    assertThat(isMet("mem[0x101 - 1] == 7")).isTrue();
+    assertThat(isMet("mem[-1] == 0")).isTrue();
+    assertThat(isMet("mem[0x7FFFFFFF] == 0")).isTrue();
+
+    registers.set(Register.LV, 0x100);
+    assertThat(isMet("local[0] == 7")).isTrue();
+    assertThat(isMet("local[3] < 0")).isTrue();
+
+    registers.set(Register.SP, 0x103);
+    assertThat(isMet("stack[0] == -3")).isTrue();
+    assertThat(isMet("stack[3] == 7")).isTrue();
+    assertThat(isMet("stack[SP - 0x100] == local[0]")).isTrue();
+  }
+
+  @Test
+  public void testIsMet_HitsAndDepth() {
+    printlnMethodName();
+    final Condition c = Condition.parse("hits > 2 && depth == 3");
+    this.processor.getRegisters().set(Register.SP, Settings.MIC1_REGISTER_SP_DEFVAL.getValue() + 3);
+    assertThat(c.isMet(this.processor, 0, 2)).isFalse();
+    assertThat(c.isMet(this.processor, 0, 3)).isTrue();
+    // without a breakpoint there are no hits
+    assertThat(c.isMet(this.processor, 0)).isFalse();
+
+    this.processor.getRegisters().set(Register.SP, Settings.MIC1_REGISTER_SP_DEFVAL.getValue() - 1);
+    assertThat(c.isMet(this.processor, 0, 3)).isFalse();
+    assertThat(isMet("depth == -1")).isTrue();
+  }
+
+  @Test
+  public void testIsMet_Constant() {
+    printlnMethodName();
+    assertThat(isMet("1 + 2 == 3")).isTrue();
+    assertThat(isMet("!(1 < 2) || -(3 - 4) != 1")).isFalse();
+    assertThat(isMet("mem[0x100 + 1] == 0 && 0x10 - 0x10 == 0")).isTrue();
+    // the constant parts are calculated while parsing, so a processor isn't needed
+    assertThat(Condition.parse("(2 - 1) >= 0 && 4 > 3").isMet(null, 0)).isTrue();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.datatypes.DebugMode;
+import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Provides test cases for {@link ConditionalBreakpoint}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class ConditionalBreakpointTest extends DefaultTestCase {
+
+  private static final int IJVM = Settings.MIC1_MICRO_ADDRESS_IJVM.getValue();
+
+  private Mic1 processor;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"),
+                              new RegisterFile());
+    this.processor.setPrintingTicks(false);
+  }
+
+  @Test
+  public void testShouldBreak_Location() {
+    printlnMethodName();
+    final ConditionalBreakpoint bp = new ConditionalBreakpoint(new MacroBreakpoint(0x2F),
+                                                               Condition.parse("TOS < 0 && hits > 2"));
+    this.processor.getRegisters().set(Register.TOS, -1);
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM, 0x2F, null, null)).isFalse();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM, 0x2F, null, null)).isFalse();
+    // other lines don't count as hits
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM, 0x2E, null, null)).isFalse();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM + 1, 0x2F, null, null)).isFalse();
+    assertThat(bp.getHits()).isEqualTo(2);
+
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM, 0x2F, null, null)).isTrue();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.MACRO, IJVM, 0x2F, null, null)).isTrue();
+    this.processor.getRegisters().set(Register.TOS, 0);
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, IJVM, 0x2F, null, null)).isFalse();
+
+    // a macro breakpoint isn't reached in micro mode
+    this.processor.getRegisters().set(Register.TOS, -1);
+    assertThat(bp.shouldBreak(this.processor, DebugMode.MICRO, IJVM, 0x2F, null, null)).isFalse();
+    assertThat(bp.getHits()).isEqualTo(5);
+  }
+
+  @Test
+  public void testShouldBreak_Ticks() {
+    printlnMethodName();
+    final ConditionalBreakpoint bp = new ConditionalBreakpoint(Condition.parse("ticks >= 5 && depth > 0"));
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isFalse();
+    this.processor.microStep(3);
+    this.processor.getRegisters().set(Register.SP, Settings.MIC1_REGISTER_SP_DEFVAL.getValue() + 1);
+    this.processor.microStep(2);
+    assertThat(this.processor.getTotalTicks()).isEqualTo(5);
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isTrue();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.MICRO, 0, 0, null, null)).isTrue();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.MACRO, 0, 0, null, null)).isFalse();
+    assertThat(bp.getHits()).isEqualTo(3);
+
+    this.processor.reset();
+    assertThat(this.processor.getTotalTicks()).isZero();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isFalse();
+  }
+
+  @Test
+  public void testIsConditionMet() {
+    printlnMethodName();
+    final ConditionalBreakpoint bp = new ConditionalBreakpoint(new MicroBreakpoint(3), Condition.parse("1 == 1"));
+    // the condition can't be checked without the processor
+    assertThat(bp.isConditionMet(3, 0, null, null)).isFalse();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 3, 0, null, null)).isTrue();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 2, 0, null, null)).isFalse();
+    assertThat(bp.shouldBreak(this.processor, DebugMode.MACRO, 3, 0, null, null)).isFalse();
+  }
+
+  @Test
+  public void testCopy() {
+    printlnMethodName();
+    final ConditionalBreakpoint bp = new ConditionalBreakpoint(Condition.parse("hits == 2"));
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isFalse();
+
+    final Breakpoint copy = bp.copy();
+    assertThat(copy).isNotSameAs(bp);
+    assertThat(copy.getId()).isEqualTo(bp.getId());
+    assertThat(copy.toString()).isEqualTo(bp.toString());
+    assertThat(copy.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isTrue();
+    assertThat(bp.getHits()).isEqualTo(1);
+    assertThat(bp.shouldBreak(this.processor, DebugMode.BOTH, 0, 0, null, null)).isTrue();
+
+    // breakpoints without state aren't copied
+    final MicroBreakpoint micro = new MicroBreakpoint(3);
+    assertThat(micro.copy()).isSameAs(micro);
+  }
+
+  @Test
+  public void testToString() {
+    printlnMethodName();
+    final MacroBreakpoint location = new MacroBreakpoint(0x2F);
+    final ConditionalBreakpoint bp = new ConditionalBreakpoint(location, Condition.parse("TOS<0&&hits>100"));
+    assertThat(bp.getId()).isEqualTo(location.getId());
+    assertThat(bp.toString()).isEqualTo(Text.BREAKPOINT_CONDITIONAL.text(Text.BREAKPOINT_MACRO.text(bp.getId(),
+                                                                                                      "0x2F"),
+                                                                         "TOS < 0 && hits > 100"));
+
+    final ConditionalBreakpoint bp2 = new ConditionalBreakpoint(Condition.parse("H == 1"));
+    assertThat(bp2.getId()).isNotEqualTo(bp.getId());
+    assertThat(bp2.toString()).isEqualTo(Text.BREAKPOINT_CONDITION.text(bp2.getId(), "H == 1"));
+  }
+}
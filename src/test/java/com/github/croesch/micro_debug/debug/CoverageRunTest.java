@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.Coverage;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+
+/**
+ * Contains test cases for {@link CoverageRun}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class CoverageRunTest extends DefaultTestCase {
+
+  private static final long LIMIT = 1000000;
+
+  private MicroControlStore store;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.store = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  @Test
+  public void testRun() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    final CoverageRun run = new CoverageRun("hello", this.store, this.program, null, LIMIT, coverage);
+    assertThat(coverage.isMicroInstructionCovered(0x2)).isFalse();
+    run.run();
+    assertThat(run.getName()).isEqualTo("hello");
+    assertThat(run.getError()).isNull();
+    assertThat(run.isHalted()).isTrue();
+    assertThat(run.getTicks()).isGreaterThan(0);
+    assertThat(coverage.isMicroInstructionCovered(0x2)).isTrue();
+    assertThat(coverage.isDispatchTarget(0x10)).isTrue();
+    // the addresses of the macro code don't belong to the debugged program
+    for (int addr = 0; addr < this.program.length; ++addr) {
+      assertThat(coverage.isMacroInstructionCovered(addr)).isFalse();
+    }
+  }
+
+  @Test
+  public void testRun_Limit() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    final CoverageRun run = new CoverageRun("hello", this.store, this.program, null, 10, coverage);
+    run.run();
+    assertThat(run.getError()).isNull();
+    assertThat(run.isHalted()).isFalse();
+    assertThat(run.getTicks()).isEqualTo(10);
+    assertThat(coverage.isMicroInstructionCovered(0x2)).isTrue();
+  }
+
+  @Test
+  public void testRun_InvalidProgram() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    final CoverageRun run = new CoverageRun("invalid", this.store, new byte[] { 1, 2, 3 }, null, LIMIT, coverage);
+    run.run();
+    assertThat(run.getError()).isNotNull();
+    assertThat(run.getTicks()).isZero();
+    assertThat(coverage.isMicroInstructionCovered(0x2)).isFalse();
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstructionDecoder;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
+
+/**
+ * Contains test cases for {@link DivergenceBisector}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class DivergenceBisectorTest extends DefaultTestCase {
+
+  private static final long LIMIT = 1000000;
+
+  private MicroControlStore original;
+
+  private MicroControlStore modified;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.original = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.modified = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  @Test
+  public void testRun_Equal() throws Exception {
+    printlnMethodName();
+    final DivergenceBisector b = new DivergenceBisector(this.original, this.modified, this.program, null, LIMIT);
+    assertThat(b.run()).isFalse();
+    assertThat(b.hasDiverged()).isFalse();
+    assertThat(b.isLimitReached()).isFalse();
+    assertThat(b.getFirstOutput()).isEqualTo("ABCDE\n");
+    assertThat(b.getSecondOutput()).isEqualTo("ABCDE\n");
+    assertThat(b.getFirstTicks()).isGreaterThan(0).isEqualTo(b.getSecondTicks());
+    assertThat(b.getNumberOfEqualInstructions()).isEqualTo(70);
+    assertThat(b.getDivergingAddress()).isEqualTo(-1);
+    assertThat(b.getFirstInstruction()).isNull();
+    assertThat(b.getSecondMpc()).isEqualTo(-1);
+  }
+
+  @Test
+  public void testRun_SlowerBipush() throws Exception {
+    printlnMethodName();
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x1FF, assembler.assembleInstruction("goto 0x2"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("TOS = MDR = MBR; wr; goto 0x1FF"));
+
+    final DivergenceBisector b = new DivergenceBisector(this.original, this.modified, this.program, null, LIMIT);
+    assertThat(b.run()).isFalse();
+    assertThat(b.getSecondTicks() - b.getFirstTicks()).isEqualTo(7);
+  }
+
+  @Test
+  public void testRun_DifferentBipush() throws Exception {
+    printlnMethodName();
+    this.modified.setInstruction(0x17, new MicroAssembler().assembleInstruction("TOS = MDR = MBR + 1; wr; goto 0x2"));
+
+    final DivergenceBisector b = new DivergenceBisector(this.original, this.modified, this.program, null, LIMIT);
+    assertThat(b.run()).isTrue();
+    assertThat(b.hasDiverged()).isTrue();
+    assertThat(b.getNumberOfEqualInstructions()).isZero();
+    assertThat(b.getDivergingAddress()).isZero();
+    assertThat(b.getFirstTicks()).isEqualTo(b.getSecondTicks());
+    assertThat(b.getFirstMpc()).isEqualTo(0x17);
+    assertThat(b.getSecondMpc()).isEqualTo(0x17);
+    assertThat(MicroInstructionDecoder.decode(b.getFirstInstruction())).isEqualTo("TOS=MDR=MBR;wr;goto 0x2");
+    assertThat(MicroInstructionDecoder.decode(b.getSecondInstruction())).isEqualTo("TOS=MDR=MBR+1;wr;goto 0x2");
+    assertThat(b.getFirstRegisters().get(Register.TOS)).isEqualTo('A');
+    assertThat(b.getSecondRegisters().get(Register.TOS)).isEqualTo('B');
+    assertThat(b.getFirstRegisters().get(Register.SP)).isEqualTo(b.getSecondRegisters().get(Register.SP));
+  }
+
+  @Test
+  public void testRun_Checkpoints() throws Exception {
+    printlnMethodName();
+    // IINC adds one more than requested
+    this.modified.setInstruction(0x2E, new MicroAssembler().assembleInstruction("MDR = H + MBR + 1; wr; goto 0x2"));
+
+    final DivergenceBisector reference = new DivergenceBisector(this.original, this.modified, this.program, null,
+                                                                LIMIT);
+    assertThat(reference.run()).isTrue();
+    assertThat(reference.getNumberOfEqualInstructions()).isEqualTo(10);
+    assertThat(MicroInstructionDecoder.decode(reference.getSecondInstruction())).isEqualTo("MDR=H+MBR+1;wr;goto 0x2");
+
+    for (int interval = 1; interval < 12; ++interval) {
+      final DivergenceBisector b = new DivergenceBisector(create(this.original), create(this.modified), null,
+                                                          interval, LIMIT);
+      assertThat(b.run()).isTrue();
+      assertThat(b.getNumberOfEqualInstructions()).isEqualTo(reference.getNumberOfEqualInstructions());
+      assertThat(b.getDivergingAddress()).isEqualTo(reference.getDivergingAddress());
+      assertThat(b.getFirstTicks()).isEqualTo(reference.getFirstTicks());
+      assertThat(b.getSecondTicks()).isEqualTo(reference.getSecondTicks());
+      assertThat(b.getFirstMpc()).isEqualTo(reference.getFirstMpc());
+      assertThat(b.getSecondRegisters()).isEqualTo(reference.getSecondRegisters());
+      assertThat(b.getFirstOutput()).isEqualTo("A");
+    }
+  }
+
+  @Test
+  public void testRun_Limit() throws Exception {
+    printlnMethodName();
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x1FF, assembler.assembleInstruction("goto 0x2"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("TOS = MDR = MBR; wr; goto 0x1FF"));
+
+    final DivergenceBisector b = new DivergenceBisector(this.original, this.modified, this.program, null, 100);
+    assertThat(b.run()).isFalse();
+    assertThat(b.isLimitReached()).isTrue();
+    assertThat(b.getSecondTicks()).isLessThan(120);
+  }
+
+  @Test(timeout = 60000)
+  public void testRun_LoopingInstruction() throws Exception {
+    printlnMethodName();
+    // the micro program never finishes BIPUSH
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x16, assembler.assembleInstruction("goto 0x17"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("goto 0x16"));
+
+    final DivergenceBisector b = new DivergenceBisector(this.original, this.modified, this.program, null, 100000);
+    assertThat(b.run()).isFalse();
+    assertThat(b.isLimitReached()).isTrue();
+    assertThat(b.getSecondTicks()).isEqualTo(100000);
+  }
+
+  @Test(timeout = 60000)
+  public void testRun_LoopingInstructionOfPreparedProcessors() throws Exception {
+    printlnMethodName();
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x16, assembler.assembleInstruction("goto 0x17"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("goto 0x16"));
+
+    final DivergenceBisector b = new DivergenceBisector(create(this.original), create(this.modified), null, 4, 100000);
+    assertThat(b.run()).isFalse();
+    assertThat(b.isLimitReached()).isTrue();
+  }
+
+  private Mic1 create(final MicroControlStore store) throws Exception {
+    final Mic1 mic1 = new Mic1(store, new ByteArrayInputStream(this.program), new RegisterFile());
+    mic1.setLoopDetection(false);
+    return mic1;
+  }
+}
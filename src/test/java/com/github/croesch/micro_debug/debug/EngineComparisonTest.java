@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+
+/**
+ * Contains test cases for {@link EngineComparison}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class EngineComparisonTest extends DefaultTestCase {
+
+  private static final long LIMIT = 1000000;
+
+  private MicroControlStore store;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.store = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  @Test
+  public void testCompare() {
+    printlnMethodName();
+    final EngineComparison c = new EngineComparison("hello", this.store, Mic2ControlStore.getDefault(), this.program,
+                                                    null, LIMIT);
+    c.run();
+    assertThat(c.getName()).isEqualTo("hello");
+    assertThat(c.getError()).isNull();
+    assertThat(c.isHalted()).isTrue();
+    assertThat(c.isOutputEqual()).isTrue();
+    assertThat(c.getMic1Output()).isEqualTo("ABCDE\n");
+    assertThat(c.getMic2Output()).isEqualTo("ABCDE\n");
+    assertThat(c.getNumberOfDifferentWords()).isZero();
+    assertThat(c.getInstructions()).isGreaterThan(0);
+    assertThat(c.getMic2Ticks()).isGreaterThan(0).isLessThan(c.getMic1Ticks());
+    assertThat(c.getStallTicks()).isLessThan(c.getMic2Ticks());
+  }
+
+  @Test
+  public void testCompare_Limit() {
+    printlnMethodName();
+    final EngineComparison c = new EngineComparison("hello", this.store, Mic2ControlStore.getDefault(), this.program,
+                                                    null, 100);
+    c.run();
+    assertThat(c.isHalted()).isFalse();
+    assertThat(c.getMic1Ticks()).isEqualTo(100);
+    assertThat(c.getMic2Ticks()).isEqualTo(100);
+  }
+
+  @Test
+  public void testCompare_InvalidProgram() {
+    printlnMethodName();
+    final EngineComparison c = new EngineComparison("invalid", this.store, Mic2ControlStore.getDefault(),
+                                                    new byte[] { 1, 2, 3 }, null, LIMIT);
+    c.run();
+    assertThat(c.getError()).isNotNull();
+  }
+}
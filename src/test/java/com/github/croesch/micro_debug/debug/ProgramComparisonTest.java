@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.debug;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroAssembler;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+
+/**
+ * Contains test cases for {@link ProgramComparison}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class ProgramComparisonTest extends DefaultTestCase {
+
+  private static final long LIMIT = 1000000;
+
+  private MicroControlStore original;
+
+  private MicroControlStore modified;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.original = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.modified = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  @Test
+  public void testCompare_Equal() {
+    printlnMethodName();
+    final ProgramComparison c = new ProgramComparison("hello", this.original, this.modified, this.program, null, LIMIT);
+    c.run();
+    assertThat(c.getName()).isEqualTo("hello");
+    assertThat(c.getError()).isNull();
+    assertThat(c.getFirstTicks()).isGreaterThan(0);
+    assertThat(c.getSecondTicks()).isEqualTo(c.getFirstTicks());
+    assertThat(c.isOutputEqual()).isTrue();
+    assertThat(c.getFirstOutput()).isEqualTo("ABCDE\n");
+    assertThat(c.isStackEqual()).isTrue();
+    assertThat(c.getNumberOfDifferentWords()).isZero();
+    assertThat(c.hasDiverged()).isFalse();
+    assertThat(c.getDivergingInstruction()).isEqualTo(-1);
+    assertThat(c.isLimitReached()).isFalse();
+  }
+
+  @Test
+  public void testCompare_SlowerBipush() throws Exception {
+    printlnMethodName();
+    // BIPUSH takes a detour over 0x1FF
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x1FF, assembler.assembleInstruction("goto 0x2"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("TOS = MDR = MBR; wr; goto 0x1FF"));
+
+    final ProgramComparison c = new ProgramComparison("hello", this.original, this.modified, this.program, null, LIMIT);
+    c.run();
+    // BIPUSH is executed seven times
+    assertThat(c.getSecondTicks() - c.getFirstTicks()).isEqualTo(7);
+    assertThat(c.isOutputEqual()).isTrue();
+    assertThat(c.isStackEqual()).isTrue();
+    assertThat(c.getNumberOfDifferentWords()).isZero();
+    assertThat(c.hasDiverged()).isFalse();
+  }
+
+  @Test
+  public void testCompare_DifferentBipush() throws Exception {
+    printlnMethodName();
+    this.modified.setInstruction(0x17, new MicroAssembler().assembleInstruction("TOS = MDR = MBR + 1; wr; goto 0x2"));
+
+    final ProgramComparison c = new ProgramComparison("hello", this.original, this.modified, this.program, null, LIMIT);
+    c.run();
+    assertThat(c.isOutputEqual()).isFalse();
+    assertThat(c.getFirstOutput()).isEqualTo("ABCDE\n");
+    assertThat(c.getSecondOutput()).isEqualTo("BCDE\u000B");
+    assertThat(c.hasDiverged()).isTrue();
+    // the first instruction is BIPUSH
+    assertThat(c.getDivergingInstruction()).isEqualTo(0);
+    assertThat(c.getDivergingAddress()).isEqualTo(0);
+    assertThat(c.getDivergingTick()).isGreaterThan(0).isLessThan(c.getFirstTicks());
+  }
+
+  @Test
+  public void testCompare_Limit() {
+    printlnMethodName();
+    final ProgramComparison c = new ProgramComparison("hello", this.original, this.modified, this.program, null, 100);
+    c.run();
+    assertThat(c.isLimitReached()).isTrue();
+    assertThat(c.getFirstTicks()).isLessThan(110);
+  }
+
+  @Test(timeout = 60000)
+  public void testCompare_LoopingInstruction() throws Exception {
+    printlnMethodName();
+    // the micro program never finishes BIPUSH
+    final MicroAssembler assembler = new MicroAssembler();
+    this.modified.setInstruction(0x16, assembler.assembleInstruction("goto 0x17"));
+    this.modified.setInstruction(0x17, assembler.assembleInstruction("goto 0x16"));
+
+    final ProgramComparison c = new ProgramComparison("hello", this.original, this.modified, this.program, null,
+                                                      100000);
+    c.run();
+    assertThat(c.isLimitReached()).isTrue();
+    assertThat(c.getSecondTicks()).isEqualTo(100000);
+    assertThat(c.getFirstTicks()).isLessThan(100000);
+    assertThat(c.getFirstOutput()).isEqualTo("ABCDE\n");
+    assertThat(c.hasDiverged()).isFalse();
+  }
+
+  @Test
+  public void testCompare_InvalidProgram() {
+    printlnMethodName();
+    final ProgramComparison c = new ProgramComparison("x", this.original, this.modified, new byte[] { 1, 2 }, null,
+                                                      LIMIT);
+    c.run();
+    assertThat(c.getError()).isNotNull();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link CallStack}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class CallStackTest extends DefaultTestCase {
+
+  @Test
+  public void testPushPop() {
+    printlnMethodName();
+    final CallStack stack = new CallStack();
+    assertThat(stack.getDepth()).isZero();
+    // the main program returns
+    stack.pop();
+    assertThat(stack.getDepth()).isZero();
+
+    for (int i = 0; i < 1000; ++i) {
+      stack.push(i, 2 * i);
+    }
+    assertThat(stack.getDepth()).isEqualTo(1000);
+    assertThat(stack.getCallSite(0)).isEqualTo(999);
+    assertThat(stack.getMethod(0)).isEqualTo(1998);
+    assertThat(stack.getCallSite(999)).isZero();
+    assertThat(stack.getMethod(998)).isEqualTo(2);
+
+    stack.pop();
+    assertThat(stack.getDepth()).isEqualTo(999);
+    assertThat(stack.getCallSite(0)).isEqualTo(998);
+
+    stack.clear();
+    assertThat(stack.getDepth()).isZero();
+  }
+
+  @Test
+  public void testCopyOf() {
+    printlnMethodName();
+    final CallStack stack = new CallStack();
+    stack.push(1, 2);
+    stack.push(3, 4);
+
+    final CallStack copy = new CallStack();
+    copy.push(5, 6);
+    copy.copyOf(stack);
+    assertThat(copy.getDepth()).isEqualTo(2);
+    assertThat(copy.getCallSite(0)).isEqualTo(3);
+    assertThat(copy.getMethod(1)).isEqualTo(2);
+
+    copy.pop();
+    copy.push(7, 8);
+    assertThat(stack.getCallSite(0)).isEqualTo(3);
+    assertThat(stack.getMethod(0)).isEqualTo(4);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.assembler.IJVMProgram;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Provides test cases for {@link Coverage}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class CoverageTest extends DefaultTestCase {
+
+  private Mic1 processor;
+
+  private IJVMProgram program;
+
+  @Override
+  protected void setUpDetails() throws FileFormatException {
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/recursion.jas")));
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              this.program.toInputStream());
+    this.processor.setPrintingTicks(false);
+    this.processor.getMemory().setIO(new BufferedIO());
+  }
+
+  private int countMicroInstructions(final Coverage coverage) {
+    int count = 0;
+    for (int mpc = 0; mpc < 512; ++mpc) {
+      if (coverage.isMicroInstructionCovered(mpc)) {
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void testEmpty() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    assertThat(countMicroInstructions(coverage)).isZero();
+    assertThat(coverage.isMicroInstructionCovered(-1)).isFalse();
+    assertThat(coverage.isBranchTaken(-1)).isFalse();
+    assertThat(coverage.isBranchNotTaken(-1)).isFalse();
+    assertThat(coverage.isDispatchTarget(-1)).isFalse();
+    assertThat(coverage.isMacroInstructionCovered(-1)).isFalse();
+    assertThat(coverage.isMacroInstructionCovered(0)).isFalse();
+  }
+
+  @Test
+  public void testRecording() {
+    printlnMethodName();
+    assertThat(this.processor.getCoverage()).isNull();
+    final Coverage coverage = new Coverage();
+    this.processor.setCoverage(coverage);
+    assertThat(this.processor.getCoverage()).isSameAs(coverage);
+    this.processor.run();
+
+    // Main1
+    assertThat(coverage.isMicroInstructionCovered(0x2)).isTrue();
+    assertThat(coverage.isBranchTaken(0x2)).isFalse();
+    assertThat(coverage.isBranchNotTaken(0x2)).isFalse();
+    // the program starts with BIPUSH
+    final IJVMOpcodeTable opcodes = IJVMOpcodeTable.getDefault();
+    assertThat(opcodes.getCommand(0x10).getName()).isEqualTo("BIPUSH");
+    assertThat(coverage.isDispatchTarget(0x10)).isTrue();
+    assertThat(coverage.isMicroInstructionCovered(0x10)).isTrue();
+    assertThat(coverage.isDispatchTarget(0x2)).isFalse();
+    // no micro instruction is stored there
+    assertThat(coverage.isMicroInstructionCovered(0x1FF)).isFalse();
+
+    // the conditional jump of the program has been executed in both directions
+    boolean taken = false;
+    boolean notTaken = false;
+    for (int mpc = 0; mpc < 512; ++mpc) {
+      taken |= coverage.isBranchTaken(mpc);
+      notTaken |= coverage.isBranchNotTaken(mpc);
+      if (coverage.isBranchTaken(mpc) || coverage.isBranchNotTaken(mpc)) {
+        assertThat(coverage.isMicroInstructionCovered(mpc)).isTrue();
+      }
+    }
+    assertThat(taken).isTrue();
+    assertThat(notTaken).isTrue();
+
+    assertThat(coverage.isMacroInstructionCovered(this.processor.getLastMacroAddress())).isTrue();
+  }
+
+  @Test
+  public void testStopRecording() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    this.processor.setCoverage(coverage);
+    this.processor.microStep();
+    this.processor.setCoverage(null);
+    this.processor.run();
+    assertThat(countMicroInstructions(coverage)).isEqualTo(1);
+  }
+
+  @Test
+  public void testForkDoesntRecord() {
+    printlnMethodName();
+    final Coverage coverage = new Coverage();
+    this.processor.setCoverage(coverage);
+    final Mic1 fork = this.processor.fork();
+    assertThat(fork.getCoverage()).isNull();
+    fork.setPrintingTicks(false);
+    fork.getMemory().setIO(new BufferedIO());
+    fork.run();
+    assertThat(countMicroInstructions(coverage)).isZero();
+  }
+
+  @Test
+  public void testMerge() {
+    printlnMethodName();
+    final Coverage recorded = new Coverage();
+    this.processor.setCoverage(recorded);
+    this.processor.run();
+    final int addr = this.processor.getLastMacroAddress();
+
+    final Coverage micro = new Coverage();
+    micro.mergeMicroCoverage(recorded);
+    assertThat(countMicroInstructions(micro)).isEqualTo(countMicroInstructions(recorded));
+    assertThat(micro.isDispatchTarget(0x10)).isTrue();
+    assertThat(micro.isMacroInstructionCovered(addr)).isFalse();
+
+    final Coverage all = new Coverage();
+    all.merge(recorded);
+    assertThat(countMicroInstructions(all)).isEqualTo(countMicroInstructions(recorded));
+    assertThat(all.isMacroInstructionCovered(addr)).isTrue();
+
+    // merging is additive
+    all.merge(new Coverage());
+    assertThat(countMicroInstructions(all)).isEqualTo(countMicroInstructions(recorded));
+    assertThat(all.isMacroInstructionCovered(addr)).isTrue();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+
+/**
+ * Provides test cases for {@link Mic1Monitor}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class Mic1MonitorTest extends DefaultTestCase {
+
+  private Mic1 processor;
+
+  private Mic1Monitor monitor;
+
+  @Override
+  protected void setUpDetails() throws FileFormatException {
+    this.processor = new Mic1(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"),
+                              ClassLoader.getSystemResourceAsStream("mic1/ijvmtest.ijvm"));
+    this.processor.setPrintingTicks(false);
+    this.processor.getMemory().setIO(new BufferedIO());
+    this.monitor = new Mic1Monitor(this.processor);
+  }
+
+  @After
+  public void tearDown() {
+    this.monitor.unregister();
+  }
+
+  @Test
+  public void testRegister() {
+    printlnMethodName();
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    assertThat(server.isRegistered(this.monitor.getObjectName())).isFalse();
+
+    assertThat(this.monitor.register()).isTrue();
+    assertThat(server.isRegistered(this.monitor.getObjectName())).isTrue();
+    // registering twice fails
+    assertThat(this.monitor.register()).isFalse();
+
+    this.monitor.unregister();
+    assertThat(server.isRegistered(this.monitor.getObjectName())).isFalse();
+    this.monitor.unregister();
+    assertThat(server.isRegistered(this.monitor.getObjectName())).isFalse();
+  }
+
+  @Test
+  public void testObjectName() {
+    printlnMethodName();
+    final Mic1Monitor other = new Mic1Monitor(this.processor);
+    assertThat(other.getObjectName()).isNotEqualTo(this.monitor.getObjectName());
+    assertThat(this.monitor.getObjectName().getDomain()).isEqualTo("com.github.croesch.micro_debug");
+    assertThat(this.monitor.getObjectName().getKeyProperty("type")).isEqualTo("Mic1");
+  }
+
+  @Test
+  public void testAttributes() throws JMException {
+    printlnMethodName();
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    this.monitor.register();
+    assertThat(server.getAttribute(this.monitor.getObjectName(), "Ticks")).isEqualTo(Long.valueOf(0));
+
+    final long ticks = this.processor.run();
+    final ProcessorStatistics stats = this.processor.getStatistics();
+    assertThat(server.getAttribute(this.monitor.getObjectName(), "Ticks")).isEqualTo(Long.valueOf(ticks));
+    assertThat(server.getAttribute(this.monitor.getObjectName(), "MacroInstructions"))
+      .isEqualTo(Long.valueOf(stats.getMacroInstructions()));
+    assertThat(server.getAttribute(this.monitor.getObjectName(), "TicksPerSecond"))
+      .isEqualTo(Double.valueOf(stats.getTicksPerSecond()));
+    assertThat(server.getAttribute(this.monitor.getObjectName(), "OutputBytes")).isEqualTo(Long.valueOf(2));
+
+    assertThat(this.monitor.getTicks()).isEqualTo(ticks);
+    assertThat(this.monitor.getTicksPerSecond()).isEqualTo(stats.getTicksPerSecond());
+    assertThat(this.monitor.getMacroInstructions()).isEqualTo(stats.getMacroInstructions());
+    assertThat(this.monitor.getMemoryReads()).isEqualTo(stats.getMemoryReads());
+    assertThat(this.monitor.getMemoryWrites()).isEqualTo(stats.getMemoryWrites());
+    assertThat(this.monitor.getMemoryFetches()).isEqualTo(stats.getMemoryFetches());
+    assertThat(this.monitor.getTakenBranches()).isEqualTo(stats.getTakenBranches());
+    assertThat(this.monitor.getDispatches()).isEqualTo(stats.getDispatches());
+    assertThat(this.monitor.getInputBytes()).isZero();
+    assertThat(this.monitor.getOutputBytes()).isEqualTo(2);
+    assertThat(this.monitor.getBreakpointHits()).isZero();
+  }
+}
@@ -24,6 +24,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -31,12 +32,19 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.junit.Test;
 
 import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.assembler.IJVMProgram;
 import com.github.croesch.micro_debug.commons.Printer;
 import com.github.croesch.micro_debug.console.Mic1Interpreter;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
 import com.github.croesch.micro_debug.error.FileFormatException;
 import com.github.croesch.micro_debug.error.MacroFileFormatException;
 import com.github.croesch.micro_debug.error.MicroFileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.api.IProcessorInterpreter;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroInstruction;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
 import com.github.croesch.micro_debug.mic1.io.Input;
 import com.github.croesch.micro_debug.mic1.io.Output;
 import com.github.croesch.micro_debug.mic1.register.Register;
@@ -796,7 +804,46 @@ public class Mic1Test extends DefaultTestCase {
     assertThat(this.processor.isInterrupted()).isTrue();
   }
 
-  int ticks = Integer.MAX_VALUE;
+  @Test
+  public void testInterruptWhileIdle() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/endless-loop.ijvm");
+
+    // an interruption that arrives after an execution has ended stops the next execution before its first tick
+    this.processor.interrupt();
+    this.processor.microStep(10);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.INTERRUPTED);
+    assertThat(this.processor.getPublishedTicks()).isZero();
+    assertThat(this.processor.isInterrupted()).isFalse();
+
+    this.processor.microStep(10);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+    assertThat(this.processor.getPublishedTicks()).isEqualTo(10);
+
+    // unless it has been discarded
+    this.processor.interrupt();
+    this.processor.clearInterrupt();
+    assertThat(this.processor.isInterrupted()).isFalse();
+    this.processor.microStep(10);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+    assertThat(this.processor.getPublishedTicks()).isEqualTo(10);
+  }
+
+  @Test
+  public void testPatchedUndefinedTarget() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    this.processor.microStep(100);
+    out.reset();
+
+    // the verification is repeated for the next execution, so the undefined target is detected
+    this.processor.getControlStore().setInstruction(this.processor.getNextMpc(), null);
+    this.processor.microStep(10);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(this.processor.getPublishedTicks()).isZero();
+  }
+
+  long ticks = Long.MAX_VALUE;
 
   @Test
   public void testInterrupt() throws InterruptedException, FileFormatException {
@@ -830,4 +877,340 @@ public class Mic1Test extends DefaultTestCase {
     Thread.sleep(10);
     assertThat(this.ticks).isLessThan(3965);
   }
+
+  @Test
+  public void testFork() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    this.processor.microStep(1000);
+    out.reset();
+
+    final int pc = Register.PC.getValue();
+    final int sp = Register.SP.getValue();
+    final Mic1 fork = this.processor.fork();
+    final BufferedIO io = new BufferedIO();
+    fork.getMemory().setIO(io);
+
+    assertThat(fork.getRegisters()).isNotSameAs(this.processor.getRegisters());
+    assertThat(fork.getRegisters()).isEqualTo(this.processor.getRegisters());
+    assertThat(fork.getMemory()).isNotSameAs(this.processor.getMemory());
+    assertThat(fork).isEqualTo(this.processor);
+    assertThat(fork.getControlStore()).isSameAs(this.processor.getControlStore());
+    assertThat(fork.getNextMpc()).isEqualTo(this.processor.getNextMpc());
+    assertThat(fork.getLastMacroAddress()).isEqualTo(this.processor.getLastMacroAddress());
+
+    // the fork continues the program, without printing the ticks
+    assertThat(fork.run()).isEqualTo(31816 - 1000);
+    assertThat(io.getOutputAsString()).isEqualTo("OK");
+    assertThat(out.toString()).isEmpty();
+    assertThat(fork.isHaltInstruction()).isTrue();
+
+    // the processor isn't touched by the fork
+    Output.flush();
+    assertThat(micOut.toString()).isEmpty();
+    assertThat(Register.PC.getValue()).isEqualTo(pc);
+    assertThat(Register.SP.getValue()).isEqualTo(sp);
+    assertThat(fork).isNotEqualTo(this.processor);
+    assertThat(this.processor.run()).isEqualTo(31816 - 1000);
+    assertThat(fork).isEqualTo(this.processor);
+  }
+
+  @Test
+  public void testHaltReason() throws FileFormatException {
+    printlnMethodName();
+    assertThat(this.processor.getHaltReason()).isNull();
+    this.processor.microStep(2);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+    this.processor.run();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+
+    this.processor.reset();
+    final Mic1Interpreter interpreter = new Mic1Interpreter(this.processor);
+    interpreter.addMicroBreakpoint(Integer.valueOf(3));
+    this.processor.run();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.BREAKPOINT);
+    this.processor.step();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+  }
+
+  @Test
+  public void testTickLimit() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    assertThat(this.processor.getTickLimit()).isZero();
+    this.processor.setTickLimit(30000);
+    assertThat(this.processor.getTickLimit()).isEqualTo(30000);
+
+    assertThat(this.processor.run()).isEqualTo(30000);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.TICK_LIMIT);
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(30000) + getLineSeparator()
+                                         + Text.TICK_LIMIT_REACHED.text(30000) + getLineSeparator());
+    out.reset();
+
+    // the limit is per run, so the processor can continue
+    this.processor.microStep(100);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+    this.processor.step(1000);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(100) + getLineSeparator()
+                                         + Text.TICKS.text(31816 - 30100) + getLineSeparator());
+  }
+
+  @Test
+  public void testTimeLimit() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    assertThat(this.processor.getTimeLimit()).isZero();
+    this.processor.setTimeLimit(1);
+    assertThat(this.processor.getTimeLimit()).isEqualTo(1);
+    this.processor.setProcessorInterpreter(new IProcessorInterpreter() {
+      private boolean slept = false;
+
+      public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
+        // nothing to do
+      }
+
+      public boolean canContinue(final int microLine,
+                                 final int macroLine,
+                                 final MicroInstruction currentInstruction,
+                                 final MicroInstruction nextInstruction) {
+        if (!this.slept) {
+          this.slept = true;
+          try {
+            Thread.sleep(5);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return true;
+      }
+    });
+
+    // time is checked every 4096 ticks
+    assertThat(this.processor.run()).isEqualTo(4096);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.TIME_LIMIT);
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(4096) + getLineSeparator()
+                                         + Text.TIME_LIMIT_REACHED.text(1) + getLineSeparator());
+
+    this.processor.setTimeLimit(0);
+    assertThat(this.processor.run()).isEqualTo(31816 - 4096);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+  }
+
+  @Test
+  public void testInterrupt_HaltReason() throws FileFormatException, InterruptedException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/ijvmtest.ijvm");
+    this.processor.setProcessorInterpreter(new IProcessorInterpreter() {
+      public void tickDone(final MicroInstruction instruction, final boolean macroCodeFetching) {
+        // nothing to do
+      }
+
+      public boolean canContinue(final int microLine,
+                                 final int macroLine,
+                                 final MicroInstruction currentInstruction,
+                                 final MicroInstruction nextInstruction) {
+        Mic1Test.this.processor.interrupt();
+        return true;
+      }
+    });
+
+    assertThat(this.processor.run()).isEqualTo(2);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.INTERRUPTED);
+  }
+
+  @Test(timeout = 4000)
+  public void testLoopDetection() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/endless-loop.ijvm");
+    assertThat(this.processor.isLoopDetection()).isFalse();
+    this.processor.setLoopDetection(true);
+    assertThat(this.processor.isLoopDetection()).isTrue();
+    assertThat(this.processor.getLoopPeriod()).isZero();
+
+    final long ticks = this.processor.run();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.LOOP);
+    final long period = this.processor.getLoopPeriod();
+    // BIPUSH (4 ticks), POP (4 ticks) and GOTO (7 ticks)
+    assertThat(period).isEqualTo(15);
+    assertThat(ticks).isGreaterThan(period);
+    assertThat(out.toString()).isEqualTo(Text.TICKS.text(ticks) + getLineSeparator()
+                                         + Text.LOOP_DETECTED.text(period) + getLineSeparator());
+
+    // a fork keeps detecting loops
+    final Mic1 fork = this.processor.fork();
+    assertThat(fork.isLoopDetection()).isTrue();
+    fork.run();
+    assertThat(fork.getHaltReason()).isEqualTo(HaltReason.LOOP);
+    assertThat(fork.getLoopPeriod()).isEqualTo(period);
+
+    this.processor.setLoopDetection(false);
+    this.processor.setTickLimit(10000);
+    assertThat(this.processor.run()).isEqualTo(10000);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.TICK_LIMIT);
+    assertThat(this.processor.getLoopPeriod()).isZero();
+  }
+
+  @Test(timeout = 4000)
+  public void testLoopDetection_ReadingInput() throws FileFormatException {
+    printlnMethodName();
+    init("mic1/mic1ijvm.mic1", "mic1/endless-read.ijvm");
+    this.processor.getMemory().setIO(new BufferedIO());
+    this.processor.setLoopDetection(true);
+    this.processor.setTickLimit(10000);
+
+    // each input may change the following states, so this isn't detected as a loop
+    assertThat(this.processor.run()).isEqualTo(10000);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.TICK_LIMIT);
+    assertThat(this.processor.getLoopPeriod()).isZero();
+  }
+
+  private IJVMProgram initRecursion() throws FileFormatException {
+    final IJVMProgram program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                               .getSystemResourceAsStream("mic1/recursion.jas")));
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              program.toInputStream());
+    new Mic1Interpreter(this.processor);
+    this.processor.setPrintingTicks(false);
+    this.processor.getMemory().setIO(new BufferedIO());
+    return program;
+  }
+
+  @Test
+  public void testCallStack() throws FileFormatException {
+    printlnMethodName();
+    final IJVMProgram program = initRecursion();
+    final int sum = program.getSymbols().get("sum").intValue();
+    final CallStack stack = this.processor.getCallStack();
+
+    // the first step only fetches the first instruction, then LDC_W and BIPUSH are executed
+    this.processor.step(3);
+    assertThat(stack.getDepth()).isZero();
+    this.processor.step();
+    assertThat(stack.getDepth()).isEqualTo(1);
+    assertThat(stack.getCallSite(0)).isEqualTo(program.getSymbols().get("main").intValue() + 5);
+    assertThat(stack.getMethod(0)).isEqualTo(sum);
+
+    // sum(10) .. sum(0)
+    while (stack.getDepth() < 11) {
+      this.processor.step();
+    }
+    // header, ILOAD, IFEQ, LDC_W, ILOAD, BIPUSH, ISUB
+    final int recursiveCall = sum + 4 + 2 + 3 + 3 + 2 + 2 + 1;
+    for (int frame = 0; frame < 10; ++frame) {
+      assertThat(stack.getCallSite(frame)).isEqualTo(recursiveCall);
+      assertThat(stack.getMethod(frame)).isEqualTo(sum);
+    }
+    assertThat(stack.getCallSite(10)).isEqualTo(program.getSymbols().get("main").intValue() + 5);
+
+    // a fork has its own call stack
+    final Mic1 fork = this.processor.fork();
+    fork.getMemory().setIO(new BufferedIO());
+    fork.run();
+    assertThat(fork.getCallStack().getDepth()).isZero();
+    assertThat(stack.getDepth()).isEqualTo(11);
+
+    this.processor.stepOut();
+    assertThat(stack.getDepth()).isEqualTo(10);
+    assertThat(this.processor.getNextMacroAddress()).isEqualTo(recursiveCall + 3);
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isZero();
+    this.processor.stepOut();
+    assertThat(stack.getDepth()).isEqualTo(9);
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(1);
+
+    // ILOAD n
+    this.processor.stepOver();
+    assertThat(stack.getDepth()).isEqualTo(9);
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(2);
+    while (stack.getDepth() > 0) {
+      this.processor.stepOut();
+    }
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(55);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+
+    // in the main program stepping out runs until the end
+    this.processor.stepOut();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(((BufferedIO) this.processor.getMemory().getIO()).getOutputAsString()).isEqualTo("A\n");
+
+    this.processor.reset();
+    assertThat(stack.getDepth()).isZero();
+  }
+
+  @Test
+  public void testStepOver() throws FileFormatException {
+    printlnMethodName();
+    initRecursion();
+    final CallStack stack = this.processor.getCallStack();
+
+    this.processor.step(3);
+    // INVOKEVIRTUAL
+    this.processor.stepOver();
+    assertThat(stack.getDepth()).isZero();
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(55);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.STEPS_DONE);
+
+    // other instructions are simply executed
+    this.processor.stepOver();
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(10);
+    this.processor.stepOver();
+    assertThat(this.processor.getRegisters().get(Register.TOS)).isEqualTo(65);
+
+    // the same as stepping
+    final Mic1 fork = this.processor.fork();
+    fork.getMemory().setIO(new BufferedIO());
+    fork.step(6);
+    assertThat(fork.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    for (int i = 0; i < 5; ++i) {
+      this.processor.stepOver();
+    }
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(this.processor.getRegisters()).isEqualTo(fork.getRegisters());
+  }
+
+  @Test
+  public void testStatistics() throws FileFormatException {
+    printlnMethodName();
+    final IJVMProgram program = initRecursion();
+    final ProcessorStatistics initial = this.processor.getStatistics();
+    assertThat(initial.getTicks()).isZero();
+    assertThat(initial.getMacroInstructions()).isZero();
+    assertThat(initial.getTicksPerSecond()).isZero();
+
+    final long ticks = this.processor.run();
+    final ProcessorStatistics stats = this.processor.getStatistics();
+    assertThat(stats.getTicks()).isEqualTo(ticks);
+    assertThat(stats.getTime()).isGreaterThan(initial.getTime());
+    assertThat(stats.getTicksPerSecond()).isGreaterThan(0);
+    // main: 9 instructions, sum(10) .. sum(1): 10 instructions each, sum(0): 4 instructions
+    assertThat(stats.getMacroInstructions()).isEqualTo(9 + 10 * 10 + 4);
+    // each instruction is dispatched via MBR, plus the NOP while starting, only IFEQ in sum(0) takes the branch
+    assertThat(stats.getDispatches()).isEqualTo(stats.getMacroInstructions() + 1);
+    assertThat(stats.getTakenBranches()).isEqualTo(1);
+    assertThat(stats.getMemoryFetches()).isGreaterThanOrEqualTo(stats.getMacroInstructions());
+    assertThat(stats.getMemoryReads()).isGreaterThan(0);
+    assertThat(stats.getMemoryWrites()).isGreaterThan(0);
+    assertThat(stats.getInputBytes()).isZero();
+    assertThat(stats.getOutputBytes()).isEqualTo(2);
+    assertThat(stats.getBreakpointHits()).isZero();
+
+    // the counters aren't reset with the processor, but forks and restored processors take them over
+    this.processor.reset();
+    final Mic1 fork = this.processor.fork();
+    assertThat(fork.getStatistics().getTicks()).isEqualTo(ticks);
+    fork.getMemory().setIO(new BufferedIO());
+    new Mic1Interpreter(fork).addMacroBreakpoint(program.getSymbols().get("sum.zero"));
+    fork.run();
+    assertThat(fork.getBreakpointHits()).isEqualTo(1);
+    assertThat(fork.getTakenBranches()).isEqualTo(2);
+    assertThat(this.processor.getStatistics().getTicks()).isEqualTo(ticks);
+
+    this.processor.restore(fork);
+    assertThat(this.processor.getStatistics().getBreakpointHits()).isEqualTo(1);
+    assertThat(this.processor.getStatistics().getTicks()).isEqualTo(fork.getExecutedTicks());
+    this.processor.run();
+    assertThat(this.processor.getStatistics().getTicks()).isEqualTo(2 * ticks);
+    assertThat(this.processor.getStatistics().getMacroInstructions()).isEqualTo(2 * stats.getMacroInstructions());
+    assertThat(this.processor.getStatistics().getOutputBytes()).isEqualTo(4);
+  }
 }
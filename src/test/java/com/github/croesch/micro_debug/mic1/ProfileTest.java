@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.assembler.IJVMProgram;
+import com.github.croesch.micro_debug.commons.Utils;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.mem.IJVMOpcodeTable;
+
+/**
+ * Provides test cases for {@link Profile}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class ProfileTest extends DefaultTestCase {
+
+  private Mic1 processor;
+
+  private IJVMProgram program;
+
+  @Override
+  protected void setUpDetails() throws FileFormatException {
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/recursion.jas")));
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              this.program.toInputStream());
+    this.processor.setPrintingTicks(false);
+    this.processor.getMemory().setIO(new BufferedIO());
+  }
+
+  private long sum(final long[] values) {
+    long sum = 0;
+    for (final long v : values) {
+      sum += v;
+    }
+    return sum;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_ZeroInterval() {
+    printlnMethodName();
+    new Profile(512, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_TooLargeInterval() {
+    printlnMethodName();
+    new Profile(512, Profile.MAX_INTERVAL + 1);
+  }
+
+  @Test
+  public void testNextInterval() {
+    printlnMethodName();
+    assertThat(new Profile(512, 1).nextInterval()).isEqualTo(1);
+
+    final Profile profile = new Profile(512, 10, new Random(1));
+    long sum = 0;
+    final int n = 10000;
+    for (int i = 0; i < n; ++i) {
+      final long interval = profile.nextInterval();
+      assertThat(interval).isGreaterThanOrEqualTo(1).isLessThanOrEqualTo(19);
+      sum += interval;
+    }
+    assertThat(sum / (double) n).isGreaterThan(9.5).isLessThan(10.5);
+  }
+
+  @Test
+  public void testExactProfile() {
+    printlnMethodName();
+    final Profile profile = new Profile(this.processor.getControlStore().getSize(), 1);
+    this.processor.setProfile(profile);
+    assertThat(this.processor.getProfile()).isSameAs(profile);
+    final long ticks = this.processor.run();
+
+    assertThat(profile.getInterval()).isEqualTo(1);
+    assertThat(profile.getSamples()).isEqualTo(ticks);
+    assertThat(profile.getNumberOfMicroInstructions()).isEqualTo(512);
+    final long[] micro = new long[profile.getNumberOfMicroInstructions()];
+    for (int mpc = 0; mpc < micro.length; ++mpc) {
+      micro[mpc] = profile.getMicroSamples(mpc);
+    }
+    assertThat(sum(micro)).isEqualTo(ticks);
+    assertThat(profile.getMicroSamples(-1)).isZero();
+    assertThat(profile.getMicroSamples(micro.length)).isZero();
+
+    // the first instruction is fetched after three ticks
+    final long[] opcodes = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+    for (int opcode = 0; opcode < opcodes.length; ++opcode) {
+      opcodes[opcode] = profile.getOpcodeSamples(opcode);
+    }
+    assertThat(sum(opcodes)).isEqualTo(ticks - 3);
+    assertThat(profile.getOpcodeSamples(-1)).isZero();
+    // INVOKEVIRTUAL is executed eleven times
+    assertThat(profile.getOpcodeSamples(0xB6) % 11).isZero();
+
+    final int sum = this.program.getSymbols().get("sum").intValue();
+    final Map<Integer, Long> methods = profile.getMethodSamples();
+    assertThat(methods).hasSize(2);
+    assertThat(methods.get(Integer.valueOf(Profile.MAIN_PROGRAM)).longValue()
+               + methods.get(Integer.valueOf(sum)).longValue()).isEqualTo(ticks);
+
+    final Map<String, Long> stacks = profile.getStackSamples();
+    final String method = ";" + Utils.toHexString(sum);
+    assertThat(stacks.get("main")).isEqualTo(Long.valueOf(3));
+    assertThat(stacks.containsKey("main;HALT")).isTrue();
+    assertThat(stacks.containsKey("main;OUT")).isTrue();
+    assertThat(stacks.containsKey("main" + method + ";IFEQ")).isTrue();
+    assertThat(stacks.containsKey("main" + method + method + method + method + method + method + method + method
+                                  + method + method + method + ";BIPUSH")).isTrue();
+    long stackSamples = 0;
+    for (final Long s : stacks.values()) {
+      stackSamples += s.longValue();
+    }
+    assertThat(stackSamples).isEqualTo(ticks);
+  }
+
+  @Test
+  public void testSampledProfile() {
+    printlnMethodName();
+    final Mic1 fork = this.processor.fork();
+    fork.getMemory().setIO(new BufferedIO());
+    final Profile exact = new Profile(512, 1);
+    fork.setProfile(exact);
+    final long ticks = fork.run();
+    // the original processor isn't profiled together with the fork
+    assertThat(this.processor.getProfile()).isNull();
+
+    // execute the program several times, to have enough samples
+    final int interval = 10;
+    final int runs = 20;
+    final Profile sampled = new Profile(512, interval, new Random(1));
+    this.processor.setProfile(sampled);
+    for (int i = 0; i < runs; ++i) {
+      this.processor.reset();
+      this.processor.getMemory().setIO(new BufferedIO());
+      this.processor.run();
+    }
+    this.processor.setProfile(null);
+    this.processor.reset();
+    this.processor.run();
+
+    final double expectedSamples = ticks * runs / (double) interval;
+    assertThat(sampled.getSamples()).isGreaterThan((long) (expectedSamples * 0.9))
+      .isLessThan((long) (expectedSamples * 1.1));
+    // the share of the frequent instructions is about the same as in the exact profile
+    for (final int opcode : new int[] {0x10, 0x15, 0x60, 0x64 }) {
+      final double exactShare = exact.getOpcodeSamples(opcode) / (double) exact.getSamples();
+      final double sampledShare = sampled.getOpcodeSamples(opcode) / (double) sampled.getSamples();
+      assertThat(sampledShare).isGreaterThan(exactShare * 0.8).isLessThan(exactShare * 1.2);
+    }
+    assertThat(sampled.getStackSamples().keySet()).isEqualTo(exact.getStackSamples().keySet());
+  }
+}
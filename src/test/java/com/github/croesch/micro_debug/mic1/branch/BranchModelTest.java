@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.mic1.mem.Memory;
+
+/**
+ * Provides test cases for {@link BranchModel}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class BranchModelTest extends DefaultTestCase {
+
+  private Memory mem;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.mem = new Memory(64, ClassLoader.getSystemResourceAsStream("mic1/empty.ijvm"));
+    // 0: BIPUSH 0x05, 2: IFEQ 0x0006, 5: GOTO 0xFFFB, 8: NOP
+    this.mem.setWord(0, 0x10059900);
+    this.mem.setWord(1, 0x06A7FFFB);
+    this.mem.setWord(2, 0x00000000);
+  }
+
+  private void dispatch(final BranchModel model, final int ... addresses) {
+    for (final int addr : addresses) {
+      model.instructionDispatched(this.mem, addr);
+    }
+  }
+
+  @Test
+  public void testInstructionDispatched() {
+    printlnMethodName();
+    final BranchModel model = new BranchModel(new StaticPredictor(), new OneBitPredictor(16));
+    assertThat(model.getNumberOfPredictors()).isEqualTo(2);
+    assertThat(model.getPredictor(0).getName()).isEqualTo("static");
+
+    // IFEQ isn't taken, GOTO is taken, IFEQ is taken
+    dispatch(model, 0, 2, 5, 0, 2, 8);
+    assertThat(model.getBranches()).isEqualTo(3);
+    assertThat(model.getTakenBranches()).isEqualTo(2);
+    assertThat(model.getMispredictions(0)).isEqualTo(1);
+    assertThat(model.getMispredictions(1)).isEqualTo(2);
+
+    assertThat(model.getNumberOfSites()).isEqualTo(2);
+    assertThat(model.getSiteAddress(0)).isEqualTo(2);
+    assertThat(model.getSiteExecutions(0)).isEqualTo(2);
+    assertThat(model.getSiteTaken(0)).isEqualTo(1);
+    assertThat(model.getSiteMispredictions(0, 0)).isEqualTo(1);
+    assertThat(model.getSiteMispredictions(1, 0)).isEqualTo(1);
+    assertThat(model.getSiteAddress(1)).isEqualTo(5);
+    assertThat(model.getSiteExecutions(1)).isEqualTo(1);
+    assertThat(model.getSiteTaken(1)).isEqualTo(1);
+    assertThat(model.getSiteMispredictions(0, 1)).isZero();
+    assertThat(model.getSiteMispredictions(1, 1)).isEqualTo(1);
+  }
+
+  @Test
+  public void testManySites() {
+    printlnMethodName();
+    // 40 times GOTO 0x0003, each one jumps to the next
+    final int[] code = { 0xA7, 0x00, 0x03 };
+    for (int addr = 0; addr < 40 * code.length; addr += 4) {
+      int word = 0;
+      for (int b = addr; b < addr + 4; ++b) {
+        word = word << Byte.SIZE | code[b % code.length];
+      }
+      this.mem.setWord(addr / 4, word);
+    }
+    final BranchModel model = BranchModel.createDefault(64, 4);
+    assertThat(model.getNumberOfPredictors()).isEqualTo(5);
+    for (int addr = 0; addr < 40 * code.length; addr += code.length) {
+      model.instructionDispatched(this.mem, addr);
+    }
+    assertThat(model.getBranches()).isEqualTo(39);
+    assertThat(model.getTakenBranches()).isZero();
+    assertThat(model.getNumberOfSites()).isEqualTo(40);
+    for (int site = 0; site < model.getNumberOfSites(); ++site) {
+      assertThat(model.getSiteAddress(site)).isEqualTo(site * 3);
+    }
+  }
+
+  @Test
+  public void testIsValidSize() {
+    printlnMethodName();
+    assertThat(BranchModel.isValidSize(1)).isTrue();
+    assertThat(BranchModel.isValidSize(1024)).isTrue();
+    assertThat(BranchModel.isValidSize(0)).isFalse();
+    assertThat(BranchModel.isValidSize(-4)).isFalse();
+    assertThat(BranchModel.isValidSize(1000)).isFalse();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.branch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+
+/**
+ * Provides test cases for the implementations of {@link IBranchPredictor}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class BranchPredictorTest extends DefaultTestCase {
+
+  private static final int ENTRIES = 16;
+
+  @Test
+  public void testStatic() {
+    printlnMethodName();
+    final IBranchPredictor p = new StaticPredictor();
+    assertThat(p.getName()).isEqualTo("static");
+    assertThat(p.predict(0x20, 0x10)).isTrue();
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+    p.update(0x20, 0x30, true);
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+  }
+
+  @Test
+  public void testOneBit() {
+    printlnMethodName();
+    final IBranchPredictor p = new OneBitPredictor(ENTRIES);
+    assertThat(p.getName()).isEqualTo("1-bit");
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+    p.update(0x20, 0x30, true);
+    assertThat(p.predict(0x20, 0x30)).isTrue();
+    // the branch shares its entry with the branch 16 bytes before
+    assertThat(p.predict(0x10, 0x30)).isTrue();
+    assertThat(p.predict(0x21, 0x30)).isFalse();
+    p.update(0x20, 0x30, false);
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+  }
+
+  @Test
+  public void testTwoBit() {
+    printlnMethodName();
+    final IBranchPredictor p = new TwoBitPredictor(ENTRIES);
+    assertThat(p.getName()).isEqualTo("2-bit");
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+    p.update(0x20, 0x30, true);
+    assertThat(p.predict(0x20, 0x30)).isTrue();
+    p.update(0x20, 0x30, true);
+    p.update(0x20, 0x30, true);
+    // a single different outcome doesn't change the prediction
+    p.update(0x20, 0x30, false);
+    assertThat(p.predict(0x20, 0x30)).isTrue();
+    p.update(0x20, 0x30, false);
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+    p.update(0x20, 0x30, false);
+    p.update(0x20, 0x30, false);
+    p.update(0x20, 0x30, true);
+    assertThat(p.predict(0x20, 0x30)).isFalse();
+  }
+
+  @Test
+  public void testGshare() {
+    printlnMethodName();
+    final IBranchPredictor p = new GsharePredictor(ENTRIES, 2);
+    assertThat(p.getName()).isEqualTo("gshare");
+    // a branch that alternates its outcome is learned, because the history selects different counters
+    boolean taken = false;
+    for (int i = 0; i < 20; ++i) {
+      p.update(0x20, 0x30, taken);
+      taken = !taken;
+    }
+    for (int i = 0; i < 10; ++i) {
+      assertThat(p.predict(0x20, 0x30)).isEqualTo(taken);
+      p.update(0x20, 0x30, taken);
+      taken = !taken;
+    }
+  }
+
+  @Test
+  public void testBranchTargetBuffer() {
+    printlnMethodName();
+    final IBranchPredictor p = new BranchTargetBuffer(ENTRIES);
+    assertThat(p.getName()).isEqualTo("BTB");
+    assertThat(p.predict(0x20, 0x10)).isFalse();
+    p.update(0x20, 0x10, false);
+    assertThat(p.predict(0x20, 0x10)).isFalse();
+    p.update(0x20, 0x10, true);
+    assertThat(p.predict(0x20, 0x10)).isTrue();
+    assertThat(p.predict(0x20, 0x11)).isFalse();
+    // another branch replaces the entry
+    p.update(0x30, 0x10, true);
+    assertThat(p.predict(0x30, 0x10)).isTrue();
+    assertThat(p.predict(0x20, 0x10)).isFalse();
+    p.update(0x30, 0x10, false);
+    assertThat(p.predict(0x30, 0x10)).isFalse();
+  }
+}
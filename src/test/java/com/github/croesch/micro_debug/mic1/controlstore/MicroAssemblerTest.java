@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+import com.github.croesch.micro_debug.mic1.register.Register;
+
+/**
+ * Contains test cases for {@link MicroAssembler}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class MicroAssemblerTest extends DefaultTestCase {
+
+  private static final int STORE_SIZE = 512;
+
+  private MicroAssembler assembler;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.assembler = new MicroAssembler();
+  }
+
+  @Test
+  public void testAssemble_Disassembly() throws IOException, MicroFileFormatException {
+    printlnMethodName();
+
+    final MicroControlStore original = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.txt")));
+    final StringBuilder source = new StringBuilder();
+    for (int i = 0; i < STORE_SIZE; ++i) {
+      source.append(".label l").append(i).append(' ').append(i).append('\n');
+      source.append("l").append(i).append(' ').append(reader.readLine()).append('\n');
+    }
+
+    final MicroControlStore store = this.assembler.assemble(source.toString());
+    for (int i = 0; i < STORE_SIZE; ++i) {
+      assertThat(MicroInstructionDecoder.decode(store.getInstruction(i)))
+        .isEqualTo(MicroInstructionDecoder.decode(original.getInstruction(i)));
+    }
+  }
+
+  @Test
+  public void testAssemble_Labels() throws MicroFileFormatException {
+    printlnMethodName();
+
+    final MicroControlStore store = this.assembler.assemble("// a small program\n" + ".label start 0x10\n"
+                                                            + ".default goto start\n" + "\n"
+                                                            + "start H = TOS // comment\n"
+                                                            + "      Z = TOS - 1 ; if (Z) goto zero; else goto other\n"
+                                                            + "zero: MAR = SP = SP + 1; wr; goto start\n"
+                                                            + "other TOS = MDR << 8; rd; goto (MBR OR 0x100)\n");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x10))).isEqualTo("H=TOS;goto 0x1");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x1)))
+      .isEqualTo("Z=TOS-1;if (Z) goto 0x100; else goto 0x0");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x100))).isEqualTo("SP=MAR=SP+1;wr;goto 0x10");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x0)))
+      .isEqualTo("TOS=MDR<<8;rd;goto (MBR OR 0x100)");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x2))).isEqualTo("goto 0x10");
+    assertThat(MicroInstructionDecoder.decode(store.getInstruction(0x1FF))).isEqualTo("goto 0x10");
+  }
+
+  @Test
+  public void testAssembleInstruction() throws MicroFileFormatException {
+    printlnMethodName();
+
+    final ALUSignalSet alu = new ALUSignalSet();
+    alu.setF0(true).setF1(true).setEnB(true).setInc(true);
+    final CBusSignalSet cBus = new CBusSignalSet();
+    cBus.setPc(true);
+    final JMPSignalSet jmp = new JMPSignalSet();
+    jmp.setJmpC(true);
+    final MemorySignalSet mem = new MemorySignalSet();
+    mem.setFetch(true);
+    final MicroInstruction expected = new MicroInstruction(0, jmp, alu, cBus, mem, Register.PC);
+    assertThat(this.assembler.assembleInstruction("PC = PC + 1; fetch; goto (MBR)")).isEqualTo(expected);
+  }
+
+  @Test
+  public void testAssemble_Errors() {
+    printlnMethodName();
+
+    assertError("goto 0x1\nfoo bar baz", "line 2:");
+    assertError("H = XYZ; goto 0x1", "line 1:");
+    assertError("MBR = H; goto 0x1", "line 1:");
+    assertError(".label a 0x1\n.label b 0x1\na goto a\nb goto b", "line ");
+    assertError("if (Z) goto 0x101", "line 1:");
+    assertError("H = TOS", "line 1:");
+    assertError(".foo", "line 1:");
+    assertError("goto 0x200", "line 1:");
+    assertError("goto nowhere", "line 1:");
+    assertError("a goto a\na goto a", "line 2:");
+
+    try {
+      this.assembler.assembleInstruction("H = TOS");
+      fail();
+    } catch (final MicroFileFormatException e) {
+      // expected, there is no next instruction
+    }
+  }
+
+  private void assertError(final String source, final String messageStart) {
+    try {
+      this.assembler.assemble(source);
+      fail("no error for: " + source);
+    } catch (final MicroFileFormatException e) {
+      assertThat(e.getMessage()).startsWith(messageStart);
+    }
+  }
+}
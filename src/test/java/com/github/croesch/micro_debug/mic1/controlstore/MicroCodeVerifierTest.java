@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+
+/**
+ * Contains test cases for {@link MicroCodeVerifier}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class MicroCodeVerifierTest extends DefaultTestCase {
+
+  private MicroControlStore store;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.store = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+  }
+
+  @Test
+  public void testVerify_DefaultProgram() {
+    printlnMethodName();
+    final MicroCodeVerifier verifier = this.store.getVerifier();
+    assertThat(verifier.isClosed()).isTrue();
+    assertThat(verifier.getUndefinedTargets()).isEmpty();
+    assertThat(verifier.getIllegalShifts()).isEmpty();
+    assertThat(verifier.isReachable(0)).isTrue();
+    assertThat(verifier.isReachable(0x2)).isTrue();
+    assertThat(verifier.isReachable(0xFF)).isTrue();
+    assertThat(verifier.isReachable(-1)).isFalse();
+    assertThat(verifier.isReachable(0x200)).isFalse();
+    assertThat(this.store.getVerifier()).isSameAs(verifier);
+  }
+
+  @Test
+  public void testGetSuccessors() throws MicroFileFormatException {
+    printlnMethodName();
+    final MicroAssembler assembler = new MicroAssembler();
+    assertThat(MicroCodeVerifier.getSuccessors(assembler.assembleInstruction("H = TOS; goto 0x1A2")))
+      .isEqualTo(new int[] { 0x1A2 });
+    final MicroInstruction condZ = assembler.assembleInstruction("Z = TOS; if (Z) goto 0x105; else goto 0x5");
+    assertThat(MicroCodeVerifier.getSuccessors(condZ))
+      .isEqualTo(new int[] { 0x5, 0x105 });
+    final MicroInstruction condN = assembler.assembleInstruction("N = TOS; if (N) goto 0x105; else goto 0x5");
+    assertThat(MicroCodeVerifier.getSuccessors(condN))
+      .isEqualTo(new int[] { 0x5, 0x105 });
+
+    final int[] dispatch = MicroCodeVerifier.getSuccessors(assembler.assembleInstruction("goto (MBR)"));
+    assertThat(dispatch).hasSize(0x100);
+    assertThat(dispatch[0]).isEqualTo(0);
+    assertThat(dispatch[0xFF]).isEqualTo(0xFF);
+
+    final int[] dispatchHigh = MicroCodeVerifier.getSuccessors(assembler.assembleInstruction("goto (MBR OR 0x100)"));
+    assertThat(dispatchHigh).hasSize(0x100);
+    assertThat(dispatchHigh[0]).isEqualTo(0x100);
+    assertThat(dispatchHigh[0xFF]).isEqualTo(0x1FF);
+  }
+
+  @Test
+  public void testVerify_UndefinedAndUnreachable() throws MicroFileFormatException {
+    printlnMethodName();
+    final MicroControlStore s = new MicroAssembler().assemble(".label a 0x0\n" + ".label b 0x10\n" + ".label c 0x20\n"
+                                                              + "a H = TOS; goto b\n" + "b goto 0x30\n"
+                                                              + "c goto c\n");
+    final MicroCodeVerifier verifier = s.getVerifier();
+    assertThat(verifier.isClosed()).isFalse();
+    assertThat(verifier.getUndefinedTargets()).containsExactly(Integer.valueOf(0x10));
+    assertThat(verifier.isReachable(0x0)).isTrue();
+    assertThat(verifier.isReachable(0x10)).isTrue();
+    assertThat(verifier.isReachable(0x20)).isFalse();
+    assertThat(verifier.getNumberOfUnreachableInstructions()).isEqualTo(1);
+
+    // the analysis is repeated after the store has been modified
+    s.setInstruction(0x30, new MicroAssembler().assembleInstruction("goto 0x20"));
+    assertThat(s.getVerifier()).isNotSameAs(verifier);
+    assertThat(s.getVerifier().isClosed()).isTrue();
+    assertThat(s.getVerifier().getNumberOfUnreachableInstructions()).isZero();
+  }
+
+  @Test(expected = MicroFileFormatException.class)
+  public void testVerify_IllegalShift() throws MicroFileFormatException {
+    printlnMethodName();
+    new MicroControlStore(new ByteArrayInputStream(new byte[] { 0x12, 0x34, 0x56, 0x78, 0x00, 0x0C, 0x00, 0x00,
+                                                               0x00 }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetInstruction_IllegalShift() {
+    printlnMethodName();
+    final ALUSignalSet alu = new ALUSignalSet();
+    alu.setSLL8(true).setSRA1(true);
+    this.store.setInstruction(0x20, new MicroInstruction(0x20, new JMPSignalSet(), alu, new CBusSignalSet(),
+                                                         new MemorySignalSet(), null));
+  }
+}
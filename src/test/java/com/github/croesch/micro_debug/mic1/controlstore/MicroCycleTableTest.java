@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.controlstore;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+
+/**
+ * Contains test cases for {@link MicroCycleTable}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class MicroCycleTableTest extends DefaultTestCase {
+
+  private MicroCycleTable table;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.table = new MicroCycleTable(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")));
+  }
+
+  @Test
+  public void testTicks_DefaultProgram() {
+    printlnMethodName();
+    // NOP
+    assertThat(this.table.getEntry(0x00)).isEqualTo(0x00);
+    assertThat(this.table.getMinimumTicks(0x00)).isEqualTo(2);
+    assertThat(this.table.getMaximumTicks(0x00)).isEqualTo(2);
+    // IADD
+    assertThat(this.table.getMinimumTicks(0x60)).isEqualTo(4);
+    assertThat(this.table.getMaximumTicks(0x60)).isEqualTo(4);
+    // BIPUSH
+    assertThat(this.table.getMinimumTicks(0x10)).isEqualTo(4);
+    assertThat(this.table.getMaximumTicks(0x10)).isEqualTo(4);
+    // IFEQ
+    assertThat(this.table.getMinimumTicks(0x99)).isEqualTo(8);
+    assertThat(this.table.getMaximumTicks(0x99)).isEqualTo(11);
+    // HALT
+    assertThat(this.table.getMinimumTicks(0xFF)).isEqualTo(MicroCycleTable.NEVER);
+    assertThat(this.table.getMaximumTicks(0xFF)).isEqualTo(MicroCycleTable.NEVER);
+  }
+
+  @Test
+  public void testTicks_Loop() throws MicroFileFormatException {
+    printlnMethodName();
+    final MicroControlStore store = new MicroAssembler().assemble(".label start 0x0\n" + ".label main 0x2\n"
+                                                                  + ".label nop1 0x10\n" + ".label loop 0x11\n"
+                                                                  + ".label halt 0x12\n" + ".default goto halt\n"
+                                                                  + "start goto main\n"
+                                                                  + "main PC = PC + 1; fetch; goto (MBR)\n"
+                                                                  + "nop1 goto main\n"
+                                                                  + "loop Z = TOS = TOS - 1; if (Z) goto out; "
+                                                                  + "else goto loop\n" + "out goto main\n"
+                                                                  + "halt goto halt\n");
+    final MicroCycleTable t = new MicroCycleTable(store);
+    assertThat(t.getMinimumTicks(0x10)).isEqualTo(2);
+    assertThat(t.getMaximumTicks(0x10)).isEqualTo(2);
+    assertThat(t.getMinimumTicks(0x11)).isEqualTo(3);
+    assertThat(t.getMaximumTicks(0x11)).isEqualTo(MicroCycleTable.UNBOUNDED);
+    assertThat(t.getMinimumTicks(0x12)).isEqualTo(MicroCycleTable.NEVER);
+    assertThat(t.getMinimumTicks(0x02)).isEqualTo(1);
+
+    final String dot = t.toDot();
+    assertThat(dot).startsWith("digraph micro_code {");
+    assertThat(dot).contains("\"0x2\" [label=\"0x2: PC=PC+1;fetch;goto (MBR)\"];");
+    assertThat(dot).contains("\"0x2\" -> \"0x10\";");
+    assertThat(dot).contains("\"0x11\" -> \"0x111\" [label=\"Z\"];");
+    assertThat(dot).contains("\"0x11\" -> \"0x11\";");
+  }
+
+  @Test
+  public void testTicks_NoDispatch() throws MicroFileFormatException {
+    printlnMethodName();
+    final MicroCycleTable t = new MicroCycleTable(new MicroAssembler().assemble("start goto start\n"));
+    assertThat(t.getEntry(0x10)).isEqualTo(MicroCycleTable.NEVER);
+    assertThat(t.getMinimumTicks(0x10)).isEqualTo(MicroCycleTable.NEVER);
+    assertThat(t.getMaximumTicks(0x10)).isEqualTo(MicroCycleTable.NEVER);
+  }
+}
@@ -504,4 +504,20 @@ public class MicroInstructionDecoderTest extends DefaultTestCase {
     }
     printEndOfMethod();
   }
+
+  @Test
+  public void testDecode_Cached() {
+    printlnMethodName();
+    final MicroInstruction in = new MicroInstruction(0x12,
+                                                     new JMPSignalSet().setJmpN(true),
+                                                     new ALUSignalSet().setEnB(true).setF0(true).setF1(true),
+                                                     new CBusSignalSet().setH(true),
+                                                     new MemorySignalSet().setRead(true),
+                                                     Register.TOS);
+    assertThat(in.getDecoded()).isNull();
+    final String decoded = MicroInstructionDecoder.decode(in);
+    assertThat(decoded).isEqualTo("N=H=TOS;rd;if (N) goto 0x112; else goto 0x12");
+    assertThat(in.getDecoded()).isSameAs(decoded);
+    assertThat(MicroInstructionDecoder.decode(in)).isSameAs(decoded);
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.io;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link BufferedIO}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class BufferedIOTest extends DefaultTestCase {
+
+  @Test
+  public void testRead() {
+    printlnMethodName();
+    final byte[] in = "Hi".getBytes();
+    final BufferedIO io = new BufferedIO(in);
+    in[1] = 'o';
+
+    assertThat(io.read()).isEqualTo((byte) 'H');
+    assertThat(io.read()).isEqualTo((byte) 'i');
+    assertThat(io.getBytesRead()).isEqualTo(2);
+    assertThat(io.read()).isEqualTo((byte) -1);
+    assertThat(io.read()).isEqualTo((byte) -1);
+    assertThat(io.getBytesRead()).isEqualTo(2);
+
+    io.reset();
+    assertThat(io.getBytesRead()).isZero();
+    assertThat(io.read()).isEqualTo((byte) 'H');
+  }
+
+  @Test
+  public void testRead_Empty() {
+    printlnMethodName();
+    assertThat(new BufferedIO().read()).isEqualTo((byte) -1);
+    assertThat(new BufferedIO(null).read()).isEqualTo((byte) -1);
+  }
+
+  @Test
+  public void testWrite() {
+    printlnMethodName();
+    final BufferedIO io = new BufferedIO();
+    assertThat(io.getOutput()).isEmpty();
+    assertThat(io.getOutputAsString()).isEmpty();
+
+    io.write((byte) 'O');
+    io.write((byte) 'K');
+    assertThat(io.getOutput()).isEqualTo("OK".getBytes());
+    assertThat(io.getOutputAsString()).isEqualTo("OK");
+    assertThat(micOut.toString()).isEmpty();
+
+    io.reset();
+    assertThat(io.getOutputAsString()).isEmpty();
+  }
+}
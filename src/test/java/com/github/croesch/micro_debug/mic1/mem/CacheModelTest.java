@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
+import com.github.croesch.micro_debug.error.FileFormatException;
+import com.github.croesch.micro_debug.mic1.Mic1;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+
+/**
+ * Provides test cases for {@link CacheModel}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class CacheModelTest extends DefaultTestCase {
+
+  private Mic1 processor;
+
+  private CacheModel model;
+
+  @Override
+  protected void setUpDetails() throws FileFormatException {
+    this.processor = new Mic1(new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1")),
+                              new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                             .getSystemResourceAsStream("mic1/recursion.jas")))
+                                .toInputStream());
+    this.processor.setPrintingTicks(false);
+    this.processor.getMemory().setIO(new BufferedIO());
+    this.model = new CacheModel(new Cache(256, 2, 16, ReplacementPolicy.LRU), new Cache(64, 1, 16,
+                                                                                          ReplacementPolicy.LRU), 10);
+  }
+
+  private long sum(final long[] values) {
+    long sum = 0;
+    for (final long v : values) {
+      sum += v;
+    }
+    return sum;
+  }
+
+  @Test
+  public void testCounters() {
+    printlnMethodName();
+    assertThat(this.processor.getCacheModel()).isNull();
+    this.processor.setCacheModel(this.model);
+    assertThat(this.processor.getCacheModel()).isSameAs(this.model);
+    assertThat(this.processor.getMemory().getCacheModel()).isSameAs(this.model);
+    this.processor.run();
+
+    final Memory mem = this.processor.getMemory();
+    final Cache iCache = this.model.getInstructionCache();
+    final Cache dCache = this.model.getDataCache();
+    assertThat(iCache.getHits() + iCache.getMisses()).isEqualTo(mem.getFetches());
+    // the output bypasses the cache
+    assertThat(dCache.getHits() + dCache.getMisses()).isEqualTo(mem.getReads() + mem.getWrites()
+                                                                - mem.getOutputWrites() - mem.getInputReads());
+    assertThat(iCache.getMisses()).isGreaterThan(0);
+    assertThat(dCache.getEvictions()).isGreaterThan(0);
+    assertThat(this.model.getStallTicks()).isEqualTo((iCache.getMisses() + dCache.getMisses()) * 10);
+    assertThat(this.model.getMissPenalty()).isEqualTo(10);
+
+    final long[] fetches = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+    final long[] data = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+    final long[] misses = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+    final long[] evictions = new long[IJVMOpcodeTable.NUMBER_OF_OPCODES];
+    for (int op = 0; op < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++op) {
+      fetches[op] = this.model.getInstructionAccesses(op);
+      data[op] = this.model.getDataAccesses(op);
+      misses[op] = this.model.getInstructionMisses(op) + this.model.getDataMisses(op);
+      evictions[op] = this.model.getEvictions(op);
+      assertThat(this.model.getInstructionMisses(op)).isLessThanOrEqualTo(fetches[op]);
+      assertThat(this.model.getDataMisses(op)).isLessThanOrEqualTo(data[op]);
+    }
+    // the opcode of the first instruction is fetched before it is known
+    assertThat(sum(fetches)).isEqualTo(mem.getFetches() - 1);
+    assertThat(sum(data)).isEqualTo(dCache.getHits() + dCache.getMisses());
+    assertThat(sum(misses)).isEqualTo(iCache.getMisses() + dCache.getMisses() - 1);
+    assertThat(sum(evictions)).isEqualTo(iCache.getEvictions() + dCache.getEvictions());
+    // BIPUSH fetches its argument and writes it onto the stack
+    assertThat(this.model.getInstructionAccesses(0x10)).isGreaterThan(0);
+    assertThat(this.model.getDataAccesses(0x10)).isGreaterThan(0);
+  }
+
+  @Test
+  public void testDisable() {
+    printlnMethodName();
+    this.processor.setCacheModel(this.model);
+    this.processor.microStep();
+    this.processor.setCacheModel(null);
+    assertThat(this.processor.getMemory().getCacheModel()).isNull();
+    this.processor.run();
+    assertThat(this.model.getInstructionCache().getHits() + this.model.getInstructionCache().getMisses())
+      .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  public void testForkHasNoCaches() {
+    printlnMethodName();
+    this.processor.setCacheModel(this.model);
+    final Mic1 fork = this.processor.fork();
+    assertThat(fork.getCacheModel()).isNull();
+    assertThat(fork.getMemory().getCacheModel()).isNull();
+  }
+}
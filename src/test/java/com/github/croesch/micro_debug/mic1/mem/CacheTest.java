@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.datatypes.ReplacementPolicy;
+
+/**
+ * Provides test cases for {@link Cache}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class CacheTest extends DefaultTestCase {
+
+  @Test
+  public void testIsValidConfiguration() {
+    printlnMethodName();
+    assertThat(Cache.isValidConfiguration(1024, 2, 16)).isTrue();
+    assertThat(Cache.isValidConfiguration(16, 1, 16)).isTrue();
+    assertThat(Cache.isValidConfiguration(64, 16, 4)).isTrue();
+
+    assertThat(Cache.isValidConfiguration(1000, 2, 16)).isFalse();
+    assertThat(Cache.isValidConfiguration(1024, 3, 16)).isFalse();
+    assertThat(Cache.isValidConfiguration(1024, 2, 12)).isFalse();
+    assertThat(Cache.isValidConfiguration(1024, 2, 2)).isFalse();
+    assertThat(Cache.isValidConfiguration(16, 2, 16)).isFalse();
+    assertThat(Cache.isValidConfiguration(0, 1, 4)).isFalse();
+    assertThat(Cache.isValidConfiguration(-16, 1, 4)).isFalse();
+    assertThat(Cache.isValidConfiguration(Integer.MIN_VALUE, 1, 4)).isFalse();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_Invalid() {
+    printlnMethodName();
+    new Cache(1024, 3, 16, ReplacementPolicy.LRU);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_NoPolicy() {
+    printlnMethodName();
+    new Cache(1024, 2, 16, null);
+  }
+
+  @Test
+  public void testAccess_SameLine() {
+    printlnMethodName();
+    final Cache cache = new Cache(64, 1, 16, ReplacementPolicy.LRU);
+    assertThat(cache.access(0x20)).isFalse();
+    assertThat(cache.access(0x21)).isTrue();
+    assertThat(cache.access(0x2F)).isTrue();
+    assertThat(cache.access(0x30)).isFalse();
+    assertThat(cache.getHits()).isEqualTo(2);
+    assertThat(cache.getMisses()).isEqualTo(2);
+    assertThat(cache.getEvictions()).isZero();
+  }
+
+  @Test
+  public void testAccess_DirectMappedConflict() {
+    printlnMethodName();
+    // four sets of one line, addresses that differ by 64 bytes map to the same set
+    final Cache cache = new Cache(64, 1, 16, ReplacementPolicy.LRU);
+    assertThat(cache.access(0x0)).isFalse();
+    assertThat(cache.access(0x40)).isFalse();
+    assertThat(cache.access(0x0)).isFalse();
+    assertThat(cache.access(0x10)).isFalse();
+    assertThat(cache.access(0x0)).isTrue();
+    assertThat(cache.getMisses()).isEqualTo(4);
+    assertThat(cache.getEvictions()).isEqualTo(2);
+  }
+
+  @Test
+  public void testAccess_LRU() {
+    printlnMethodName();
+    // a single set of two lines
+    final Cache cache = new Cache(32, 2, 16, ReplacementPolicy.LRU);
+    cache.access(0x0);
+    cache.access(0x10);
+    assertThat(cache.access(0x0)).isTrue();
+    // replaces 0x10, that hasn't been accessed for the longest time
+    assertThat(cache.access(0x20)).isFalse();
+    assertThat(cache.access(0x0)).isTrue();
+    assertThat(cache.access(0x10)).isFalse();
+    assertThat(cache.getEvictions()).isEqualTo(2);
+  }
+
+  @Test
+  public void testAccess_FIFO() {
+    printlnMethodName();
+    final Cache cache = new Cache(32, 2, 16, ReplacementPolicy.FIFO);
+    cache.access(0x0);
+    cache.access(0x10);
+    assertThat(cache.access(0x0)).isTrue();
+    // replaces 0x0, that has been stored first
+    assertThat(cache.access(0x20)).isFalse();
+    assertThat(cache.access(0x10)).isTrue();
+    assertThat(cache.access(0x0)).isFalse();
+    assertThat(cache.getEvictions()).isEqualTo(2);
+  }
+
+  @Test
+  public void testAccess_Random() {
+    printlnMethodName();
+    final Cache first = new Cache(64, 4, 16, ReplacementPolicy.RANDOM);
+    final Cache second = new Cache(64, 4, 16, ReplacementPolicy.RANDOM);
+    for (int i = 0; i < 1000; ++i) {
+      final int addr = (i * 7919) % 512;
+      assertThat(first.access(addr)).isEqualTo(second.access(addr));
+      // the line that has just been stored is found
+      assertThat(first.access(addr)).isTrue();
+      second.access(addr);
+    }
+    assertThat(first.getHits() + first.getMisses()).isEqualTo(2000);
+    assertThat(first.getEvictions()).isEqualTo(first.getMisses() - 4);
+  }
+
+  @Test
+  public void testGetters() {
+    printlnMethodName();
+    final Cache cache = new Cache(1024, 4, 32, ReplacementPolicy.FIFO);
+    assertThat(cache.getSize()).isEqualTo(1024);
+    assertThat(cache.getAssociativity()).isEqualTo(4);
+    assertThat(cache.getLineSize()).isEqualTo(32);
+    assertThat(cache.getPolicy()).isSameAs(ReplacementPolicy.FIFO);
+  }
+}
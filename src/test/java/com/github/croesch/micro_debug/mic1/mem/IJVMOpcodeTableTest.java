@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.mem;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.MacroFileFormatException;
+
+/**
+ * Provides test cases for {@link IJVMOpcodeTable}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class IJVMOpcodeTableTest extends DefaultTestCase {
+
+  @Test
+  public void testGetCommand() {
+    printlnMethodName();
+    final Map<Integer, IJVMCommand> commands = new IJVMConfigReader().readConfig(ClassLoader
+      .getSystemResourceAsStream("ijvm.conf"));
+    final IJVMOpcodeTable table = IJVMOpcodeTable.getDefault();
+
+    assertThat(IJVMOpcodeTable.getDefault()).isSameAs(table);
+    for (int opcode = 0; opcode < IJVMOpcodeTable.NUMBER_OF_OPCODES; ++opcode) {
+      final IJVMCommand cmd = commands.get(Integer.valueOf(opcode));
+      assertThat(table.getCommand(opcode)).isEqualTo(cmd);
+      int length = 1;
+      if (cmd != null) {
+        for (final IJVMCommandArgument arg : cmd.getArgs()) {
+          length += arg.getNumberOfBytes();
+        }
+      }
+      assertThat(table.getLength(opcode)).isEqualTo(length);
+    }
+    assertThat(table.getCommand(0x1A7)).isEqualTo(commands.get(Integer.valueOf(0xA7)));
+  }
+
+  @Test
+  public void testGetOpcode() {
+    printlnMethodName();
+    final IJVMOpcodeTable table = IJVMOpcodeTable.getDefault();
+    assertThat(table.getOpcode("INVOKEVIRTUAL")).isEqualTo(0xB6);
+    assertThat(table.getOpcode("IRETURN")).isEqualTo(0xAC);
+    assertThat(table.getOpcode("BIPUSH")).isEqualTo(0x10);
+    assertThat(table.getOpcode("UNKNOWN")).isEqualTo(-1);
+  }
+
+  @Test
+  public void testDecode() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory mem = new Memory(16, ClassLoader.getSystemResourceAsStream("mic1/empty.ijvm"));
+    // IINC 0x03 0xFF, BIPUSH 0x05, GOTO 0xFFFD, WIDE, unknown, NOP
+    mem.setWord(0, 0x8403FF10);
+    mem.setWord(1, 0x05A7FFFD);
+    mem.setWord(2, 0xC4010000);
+
+    final IJVMOpcodeTable table = IJVMOpcodeTable.getDefault();
+    final IJVMInstruction instr = table.createInstruction();
+
+    assertThat(table.decode(mem, 0, instr)).isSameAs(instr);
+    assertThat(instr.getAddress()).isZero();
+    assertThat(instr.getOpcode()).isEqualTo(0x84);
+    assertThat(instr.getCommand().getName()).isEqualTo("IINC");
+    assertThat(instr.getLength()).isEqualTo(3);
+    assertThat(instr.getNumberOfArguments()).isEqualTo(2);
+    assertThat(instr.getArgumentType(0)).isEqualTo(IJVMCommandArgument.VARNUM);
+    assertThat(instr.getArgumentValue(0)).isEqualTo(0x03);
+    assertThat(instr.getArgumentType(1)).isEqualTo(IJVMCommandArgument.CONST);
+    assertThat(instr.getArgumentValue(1)).isEqualTo(0xFF);
+
+    table.decode(mem, 3, instr);
+    assertThat(instr.getAddress()).isEqualTo(3);
+    assertThat(instr.getCommand().getName()).isEqualTo("BIPUSH");
+    assertThat(instr.getLength()).isEqualTo(2);
+    assertThat(instr.getNumberOfArguments()).isEqualTo(1);
+    assertThat(instr.getArgumentValue(0)).isEqualTo(0x05);
+
+    table.decode(mem, 5, instr);
+    assertThat(instr.getCommand().getName()).isEqualTo("GOTO");
+    assertThat(instr.getLength()).isEqualTo(3);
+    assertThat(instr.getArgumentType(0)).isEqualTo(IJVMCommandArgument.LABEL);
+    assertThat(instr.getArgumentValue(0)).isEqualTo(0xFFFD);
+
+    table.decode(mem, 8, instr);
+    assertThat(instr.getCommand().getName()).isEqualTo("WIDE");
+    assertThat(instr.getLength()).isEqualTo(1);
+    assertThat(instr.getNumberOfArguments()).isZero();
+
+    table.decode(mem, 9, instr);
+    assertThat(instr.getOpcode()).isEqualTo(0x01);
+    assertThat(instr.getCommand()).isNull();
+    assertThat(instr.getLength()).isEqualTo(1);
+    assertThat(instr.getNumberOfArguments()).isZero();
+  }
+
+  @Test
+  public void testBranches() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory mem = new Memory(16, ClassLoader.getSystemResourceAsStream("mic1/empty.ijvm"));
+    // BIPUSH 0x05, GOTO 0xFFFE, IFEQ 0x0010
+    mem.setWord(0, 0x1005A7FF);
+    mem.setWord(1, 0xFE990010);
+
+    final IJVMOpcodeTable table = IJVMOpcodeTable.getDefault();
+    assertThat(table.isBranch(0x10)).isFalse();
+    assertThat(table.isBranch(0xA7)).isTrue();
+    assertThat(table.isBranch(0x99)).isTrue();
+    assertThat(table.isBranch(0x9B)).isTrue();
+    assertThat(table.isBranch(0x9F)).isTrue();
+    assertThat(table.isBranch(0xB6)).isFalse();
+
+    assertThat(table.getBranchTarget(mem, 0)).isEqualTo(-1);
+    assertThat(table.getBranchTarget(mem, 2)).isZero();
+    assertThat(table.getBranchTarget(mem, 5)).isEqualTo(0x15);
+  }
+}
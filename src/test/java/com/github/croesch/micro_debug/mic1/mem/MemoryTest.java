@@ -29,9 +29,14 @@ import com.github.croesch.micro_debug.DefaultTestCase;
 import com.github.croesch.micro_debug.commons.Utils;
 import com.github.croesch.micro_debug.error.MacroFileFormatException;
 import com.github.croesch.micro_debug.i18n.Text;
+import com.github.croesch.micro_debug.mic1.api.IProcessorIO;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
 import com.github.croesch.micro_debug.mic1.io.Input;
+import com.github.croesch.micro_debug.mic1.io.InputCancelledException;
 import com.github.croesch.micro_debug.mic1.io.Output;
+import com.github.croesch.micro_debug.mic1.io.StandardIO;
 import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.mic1.register.RegisterFile;
 import com.github.croesch.micro_debug.settings.Settings;
 
 /**
@@ -582,4 +587,318 @@ public class MemoryTest extends DefaultTestCase {
     assertThat(two.hashCode()).isEqualTo(two.hashCode());
     assertThat(one.hashCode()).isEqualTo(two.hashCode());
   }
+
+  @Test
+  public void testFork() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory one = new Memory(3000, ClassLoader.getSystemResourceAsStream("mic1/test.ijvm"));
+    one.setWord(2500, 42);
+    final Memory two = one.fork();
+
+    assertThat(two).isEqualTo(one);
+    assertThat(two.getSize()).isEqualTo(3000);
+    assertThat(two.getWord(0)).isEqualTo(0x00010203);
+    assertThat(two.getWord(2500)).isEqualTo(42);
+    assertThat(one.getDifferentWords(two)).isEmpty();
+
+    two.setWord(0, 17);
+    two.setWord(1500, 18);
+    one.setWord(2500, 19);
+
+    assertThat(one.getWord(0)).isEqualTo(0x00010203);
+    assertThat(one.getWord(1500)).isZero();
+    assertThat(one.getWord(2500)).isEqualTo(19);
+    assertThat(two.getWord(0)).isEqualTo(17);
+    assertThat(two.getWord(1500)).isEqualTo(18);
+    assertThat(two.getWord(2500)).isEqualTo(42);
+    assertThat(one.getDifferentWords(two)).containsExactly(0, 1500, 2500);
+    assertThat(two.getDifferentWords(one)).containsExactly(0, 1500, 2500);
+    assertThat(two).isNotEqualTo(one);
+
+    two.reset();
+    assertThat(two.getWord(0)).isEqualTo(0x00010203);
+    assertThat(two.getWord(1500)).isZero();
+    assertThat(two.getWord(2500)).isZero();
+    assertThat(one.getWord(2500)).isEqualTo(19);
+  }
+
+  @Test
+  public void testFork_ReadWriteAndFetch() {
+    printlnMethodName();
+    final Memory fork = this.mem.fork();
+
+    fork.setWordAddress(1);
+    fork.setWordValue(0x11223344);
+    fork.setWrite(true);
+    fork.doTick();
+    fork.setWrite(false);
+
+    fork.setByteAddress(5);
+    fork.setFetch(true);
+    fork.doTick();
+    fork.fillRegisters(Register.MBR, Register.MBR);
+    assertThat(Register.MBRU.getValue()).isEqualTo(0x22);
+    assertThat(this.mem.getWord(1)).isEqualTo(0x04050607);
+  }
+
+  @Test
+  public void testBusPorts() {
+    printlnMethodName();
+    final Memory fork = this.mem.fork();
+    final MemoryBus bus = new MemoryBus(this.mem, ConsistencyModel.FENCED, -1);
+    final Memory one = bus.createPort();
+    final Memory two = bus.createPort();
+    assertThat(one.getBus()).isSameAs(bus);
+    assertThat(this.mem.getBus()).isNull();
+
+    one.setWordAddress(1);
+    one.setWordValue(0x11223344);
+    one.setWrite(true);
+    one.doTick();
+    one.setWrite(false);
+    assertThat(this.mem.getWord(1)).isEqualTo(0x11223344);
+    assertThat(fork.getWord(1)).isEqualTo(0x04050607);
+
+    two.setWordAddress(1);
+    two.setRead(true);
+    two.doTick();
+    two.fillRegisters(Register.MDR, Register.MBR);
+    assertThat(Register.MDR.getValue()).isEqualTo(0x11223344);
+    assertThat(one.getWrites()).isEqualTo(1);
+    assertThat(one.getReads()).isZero();
+    assertThat(two.getReads()).isEqualTo(1);
+    assertThat(two.getWrites()).isZero();
+  }
+
+  @Test
+  public void testBusAtomicInstruction() {
+    printlnMethodName();
+    final MemoryBus bus = new MemoryBus(this.mem, ConsistencyModel.SEQUENTIAL, 0x84);
+    assertThat(bus.isLockedByCurrentThread()).isFalse();
+    bus.instructionDispatched(0x84);
+    assertThat(bus.isLockedByCurrentThread()).isTrue();
+    bus.instructionDispatched(0x84);
+    assertThat(bus.isLockedByCurrentThread()).isTrue();
+    bus.instructionDispatched(0x10);
+    assertThat(bus.isLockedByCurrentThread()).isFalse();
+    bus.instructionDispatched(0x84);
+    bus.release();
+    assertThat(bus.isLockedByCurrentThread()).isFalse();
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void testFork_WriteToOOM() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory fork = new Memory(3000, ClassLoader.getSystemResourceAsStream("mic1/test.ijvm")).fork();
+    fork.setWordAddress(3000);
+    fork.setWrite(true);
+    fork.doTick();
+  }
+
+  @Test
+  public void testFillRegisters_RegisterFile() {
+    printlnMethodName();
+    final RegisterFile registers = new RegisterFile();
+    Register.MDR.setValue(4711);
+    this.mem.setWordAddress(1);
+    this.mem.setRead(true);
+    this.mem.doTick();
+    this.mem.fillRegisters(registers, Register.MDR, Register.MBR);
+
+    assertThat(registers.get(Register.MDR)).isEqualTo(0x04050607);
+    assertThat(Register.MDR.getValue()).isEqualTo(4711);
+  }
+
+  @Test
+  public void testSetIO() {
+    printlnMethodName();
+    final BufferedIO io = new BufferedIO("Hi".getBytes());
+    assertThat(this.mem.getIO()).isSameAs(StandardIO.getInstance());
+    this.mem.setIO(null);
+    assertThat(this.mem.getIO()).isSameAs(StandardIO.getInstance());
+    this.mem.setIO(io);
+    assertThat(this.mem.getIO()).isSameAs(io);
+
+    this.mem.setWordAddress(Memory.MEMORY_MAPPED_IO_ADDRESS);
+    this.mem.setRead(true);
+    this.mem.doTick();
+    this.mem.fillRegisters(Register.H, null);
+    assertThat(Register.H.getValue()).isEqualTo('H');
+
+    this.mem.setRead(false);
+    this.mem.setWordValue('x');
+    this.mem.setWrite(true);
+    this.mem.doTick();
+    Output.flush();
+    assertThat(io.getOutputAsString()).isEqualTo("x");
+    assertThat(micOut.toString()).isEmpty();
+  }
+
+  @Test
+  public void testContentHash() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory one = new Memory(3000, ClassLoader.getSystemResourceAsStream("mic1/test.ijvm"));
+    final Memory two = new Memory(3000, ClassLoader.getSystemResourceAsStream("mic1/test.ijvm"));
+    assertThat(one.isContentHashing()).isFalse();
+    one.setContentHashing(true);
+    two.setContentHashing(true);
+    assertThat(one.isContentHashing()).isTrue();
+    final int initialHash = one.getContentHash();
+    assertThat(two.getContentHash()).isEqualTo(initialHash);
+
+    one.setWord(2500, 42);
+    assertThat(one.getContentHash()).isNotEqualTo(initialHash);
+    one.setWord(2500, 0);
+    assertThat(one.getContentHash()).isEqualTo(initialHash);
+
+    // the hash doesn't depend on the order of the writes
+    one.setWord(10, 1);
+    one.setWord(20, 2);
+    two.setWord(20, 2);
+    two.setWord(10, 1);
+    assertThat(one.getContentHash()).isEqualTo(two.getContentHash());
+
+    // the hash isn't maintained while hashing is disabled, but recalculated when it's enabled again
+    two.setContentHashing(false);
+    two.setWord(30, 3);
+    one.setWord(30, 3);
+    two.setContentHashing(true);
+    assertThat(two.getContentHash()).isEqualTo(one.getContentHash());
+
+    final Memory fork = one.fork();
+    assertThat(fork.isContentHashing()).isTrue();
+    assertThat(fork.getContentHash()).isEqualTo(one.getContentHash());
+    fork.setWord(30, 0);
+    assertThat(fork.getContentHash()).isNotEqualTo(one.getContentHash());
+
+    fork.reset();
+    assertThat(fork.getContentHash()).isEqualTo(initialHash);
+  }
+
+  @Test
+  public void testHasSameState() {
+    printlnMethodName();
+    this.mem.setIO(new BufferedIO("Hi".getBytes()));
+    final Memory fork = this.mem.fork();
+    assertThat(fork.hasSameState(this.mem)).isTrue();
+
+    fork.setWordAddress(1);
+    assertThat(fork.hasSameState(this.mem)).isFalse();
+    this.mem.setWordAddress(1);
+    assertThat(fork.hasSameState(this.mem)).isTrue();
+
+    fork.setRead(true);
+    assertThat(fork.hasSameState(this.mem)).isFalse();
+    fork.setRead(false);
+
+    fork.setWord(2, 3);
+    assertThat(fork.hasSameState(this.mem)).isFalse();
+    this.mem.setWord(2, 3);
+    assertThat(fork.hasSameState(this.mem)).isTrue();
+
+    assertThat(this.mem.getInputReads()).isZero();
+    this.mem.setWordAddress(Memory.MEMORY_MAPPED_IO_ADDRESS);
+    this.mem.setRead(true);
+    this.mem.doTick();
+    this.mem.doTick();
+    assertThat(this.mem.getInputReads()).isEqualTo(2);
+    assertThat(this.mem.fork().getInputReads()).isEqualTo(2);
+  }
+
+  @Test
+  public void testCancelledInput() {
+    printlnMethodName();
+    final BufferedIO input = new BufferedIO("H".getBytes());
+    this.mem.setIO(new IProcessorIO() {
+      private boolean cancelled = false;
+
+      public byte read() {
+        if (!this.cancelled) {
+          this.cancelled = true;
+          throw new InputCancelledException();
+        }
+        return input.read();
+      }
+
+      public void write(final byte value) {
+        input.write(value);
+      }
+
+      public void reset() {
+        input.reset();
+      }
+    });
+    assertThat(this.mem.repeatCancelledInput()).isTrue();
+
+    this.mem.setWordAddress(Memory.MEMORY_MAPPED_IO_ADDRESS);
+    this.mem.setRead(true);
+    this.mem.doTick();
+    assertThat(this.mem.getInputReads()).isZero();
+
+    assertThat(this.mem.repeatCancelledInput()).isTrue();
+    assertThat(this.mem.getInputReads()).isEqualTo(1);
+    this.mem.fillRegisters(Register.MDR, Register.MBR);
+    assertThat(Register.MDR.getValue()).isEqualTo('H');
+    assertThat(this.mem.repeatCancelledInput()).isTrue();
+    assertThat(this.mem.getInputReads()).isEqualTo(1);
+  }
+
+  @Test
+  public void testOperationCounters() {
+    printlnMethodName();
+    this.mem.setIO(new BufferedIO("Hi".getBytes()));
+    this.mem.setWrite(true);
+    this.mem.setRead(true);
+    this.mem.setFetch(true);
+    this.mem.setWordAddress(1);
+    this.mem.doTick();
+    this.mem.setFetch(false);
+    this.mem.setWordAddress(Memory.MEMORY_MAPPED_IO_ADDRESS);
+    this.mem.doTick();
+    this.mem.setWrite(false);
+    this.mem.doTick();
+    this.mem.setRead(false);
+    this.mem.doTick();
+
+    assertThat(this.mem.getWrites()).isEqualTo(2);
+    assertThat(this.mem.getReads()).isEqualTo(3);
+    assertThat(this.mem.getFetches()).isEqualTo(1);
+    assertThat(this.mem.getOutputWrites()).isEqualTo(1);
+    assertThat(this.mem.getInputReads()).isEqualTo(2);
+
+    final Memory fork = this.mem.fork();
+    assertThat(fork.getWrites()).isEqualTo(2);
+    assertThat(fork.getReads()).isEqualTo(3);
+    assertThat(fork.getFetches()).isEqualTo(1);
+    assertThat(fork.getOutputWrites()).isEqualTo(1);
+
+    fork.setFetch(true);
+    fork.doTick();
+    assertThat(fork.getFetches()).isEqualTo(2);
+    assertThat(this.mem.getFetches()).isEqualTo(1);
+    this.mem.restore(fork);
+    assertThat(this.mem.getFetches()).isEqualTo(2);
+  }
+
+  @Test
+  public void testGetCodeModifications() throws MacroFileFormatException {
+    printlnMethodName();
+    final Memory memory = new Memory(Settings.MIC1_MEM_MACRO_MAXSIZE.getValue(),
+                                     ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"));
+    final long modifications = memory.getCodeModifications();
+
+    memory.setWord(Settings.MIC1_REGISTER_SP_DEFVAL.getValue() + 1, 4);
+    memory.setWord(Settings.MIC1_REGISTER_LV_DEFVAL.getValue(), 4);
+    assertThat(memory.getCodeModifications()).isEqualTo(modifications);
+
+    memory.setWord(0, 4);
+    assertThat(memory.getCodeModifications()).isGreaterThan(modifications);
+    memory.setWord(Settings.MIC1_REGISTER_CPP_DEFVAL.getValue(), 4);
+    assertThat(memory.getCodeModifications()).isGreaterThan(modifications + 1);
+
+    final long forked = memory.fork().getCodeModifications();
+    assertThat(forked).isEqualTo(memory.getCodeModifications());
+    memory.reset();
+    assertThat(memory.getCodeModifications()).isGreaterThan(forked);
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.register;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+
+/**
+ * Provides test cases for {@link RegisterFile}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class RegisterFileTest extends DefaultTestCase {
+
+  private RegisterFile registers;
+
+  @Override
+  protected void setUpDetails() {
+    this.registers = new RegisterFile();
+    for (final Register r : Register.values()) {
+      r.setValue(0);
+    }
+  }
+
+  @Test
+  public void testGetSet() {
+    printlnMethodName();
+    for (final Register r : Register.values()) {
+      assertThat(this.registers.get(r)).isZero();
+    }
+
+    this.registers.set(Register.TOS, -42);
+    this.registers.set(Register.H, Integer.MAX_VALUE);
+    assertThat(this.registers.get(Register.TOS)).isEqualTo(-42);
+    assertThat(this.registers.get(Register.H)).isEqualTo(Integer.MAX_VALUE);
+    assertThat(this.registers.get(Register.SP)).isZero();
+
+    // the enumeration uses the default register file
+    assertThat(Register.TOS.getValue()).isZero();
+    assertThat(Register.H.getValue()).isZero();
+  }
+
+  @Test
+  public void testSetMBR() {
+    printlnMethodName();
+    this.registers.set(Register.MBR, 0x1234567F);
+    assertThat(this.registers.get(Register.MBR)).isEqualTo(0x7F);
+    assertThat(this.registers.get(Register.MBRU)).isEqualTo(0x7F);
+
+    this.registers.set(Register.MBR, 0x80);
+    assertThat(this.registers.get(Register.MBR)).isEqualTo(0xFFFFFF80);
+    assertThat(this.registers.get(Register.MBRU)).isEqualTo(0x80);
+  }
+
+  @Test
+  public void testGetDefault() {
+    printlnMethodName();
+    assertThat(RegisterFile.getDefault()).isSameAs(RegisterFile.getDefault());
+
+    Register.OPC.setValue(4711);
+    assertThat(RegisterFile.getDefault().get(Register.OPC)).isEqualTo(4711);
+
+    RegisterFile.getDefault().set(Register.LV, 17);
+    assertThat(Register.LV.getValue()).isEqualTo(17);
+  }
+
+  @Test
+  public void testCopyOf() {
+    printlnMethodName();
+    this.registers.set(Register.CPP, 12);
+    this.registers.set(Register.MBR, 0xFF);
+
+    final RegisterFile copy = new RegisterFile();
+    copy.copyOf(this.registers);
+    assertThat(copy).isEqualTo(this.registers);
+    assertThat(copy.hashCode()).isEqualTo(this.registers.hashCode());
+    assertThat(copy.get(Register.MBR)).isEqualTo(-1);
+    assertThat(copy.get(Register.MBRU)).isEqualTo(0xFF);
+
+    copy.set(Register.CPP, 13);
+    assertThat(this.registers.get(Register.CPP)).isEqualTo(12);
+    assertThat(copy).isNotEqualTo(this.registers);
+
+    copy.copyOf(null);
+    assertThat(copy.get(Register.CPP)).isEqualTo(13);
+  }
+
+  @Test
+  public void testEquals() {
+    printlnMethodName();
+    assertThat(this.registers).isEqualTo(this.registers);
+    assertThat(this.registers).isEqualTo(new RegisterFile());
+    assertThat(this.registers).isNotEqualTo(null);
+    assertThat(this.registers).isNotEqualTo(this.registers.toString());
+  }
+}
@@ -170,6 +170,23 @@ public class ShifterTest extends DefaultTestCase {
     printEndOfMethod();
   }
 
+  @Test
+  public void testCalculateVerified() {
+    printlnMethodName();
+
+    final Shifter s = new Shifter();
+    s.setInput(0x900abcde);
+    s.calculateVerified();
+    assertThat(s.getOutput()).isEqualTo(0x900abcde);
+    s.setSLL8(true);
+    s.calculateVerified();
+    assertThat(s.getOutput()).isEqualTo(0x0abcde00);
+    s.setSLL8(false);
+    s.setSRA1(true);
+    s.calculateVerified();
+    assertThat(s.getOutput()).isEqualTo(0xc8055e6f);
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testGetOutput_ShiftBoth() {
     printlnMethodName();
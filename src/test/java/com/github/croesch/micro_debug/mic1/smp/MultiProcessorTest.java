@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic1.smp;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.mic1.controlstore.MicroControlStore;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic1.mem.ConsistencyModel;
+import com.github.croesch.micro_debug.mic1.register.Register;
+import com.github.croesch.micro_debug.settings.Settings;
+
+/**
+ * Contains test cases for {@link MultiProcessor}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class MultiProcessorTest extends DefaultTestCase {
+
+  /** the opcode of IINC */
+  private static final int IINC = 0x84;
+
+  private MicroControlStore store;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.store = new MicroControlStore(ClassLoader.getSystemResourceAsStream("mic1/mic1ijvm.mic1"));
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/counter.jas"))).getImage();
+  }
+
+  private MultiProcessor run(final int cores,
+                             final SchedulingMode mode,
+                             final ConsistencyModel model,
+                             final int atomicOpcode) throws Exception {
+    final MultiProcessor mp = new MultiProcessor(this.store, this.program, cores, mode, model, atomicOpcode,
+                                                 new BufferedIO());
+    mp.run();
+    assertThat(mp.getError()).isNull();
+    assertThat(mp.isHalted()).isTrue();
+    return mp;
+  }
+
+  private int getCount(final MultiProcessor mp) {
+    return mp.getMemory().getWord(Settings.MIC1_REGISTER_LV_DEFVAL.getValue());
+  }
+
+  @Test
+  public void testSingleCore() throws Exception {
+    printlnMethodName();
+
+    final MultiProcessor mp = run(1, SchedulingMode.LOCKSTEP, ConsistencyModel.SEQUENTIAL, -1);
+    assertThat(mp.getNumberOfCores()).isEqualTo(1);
+    assertThat(getCount(mp)).isEqualTo(100);
+    assertThat(mp.getTicks()).isEqualTo(mp.getCore(0).getExecutedTicks());
+    // the number of the core and the counter of the loop have been popped
+    final int sp = Settings.MIC1_REGISTER_SP_DEFVAL.getValue() - 1;
+    assertThat(mp.getCore(0).getRegisters().get(Register.SP)).isEqualTo(sp);
+  }
+
+  @Test
+  public void testLockstep_LostUpdates() throws Exception {
+    printlnMethodName();
+
+    // the cores execute the same instructions at the same time, so they read the same value of count
+    final MultiProcessor mp = run(4, SchedulingMode.LOCKSTEP, ConsistencyModel.SEQUENTIAL, -1);
+    assertThat(getCount(mp)).isEqualTo(100);
+    for (int i = 0; i < mp.getNumberOfCores(); ++i) {
+      assertThat(mp.getCore(i).getExecutedTicks()).isEqualTo(mp.getCore(0).getExecutedTicks());
+      assertThat(mp.getCore(i).getMemory().getWrites()).isEqualTo(mp.getCore(0).getMemory().getWrites());
+      assertThat(mp.getCore(i).getRegisters().get(Register.SP))
+        .isEqualTo(Settings.MIC1_REGISTER_SP_DEFVAL.getValue() - 1 + i * Settings.MIC1_SMP_STACK_SIZE.getValue());
+    }
+  }
+
+  @Test
+  public void testLockstep_Atomic() throws Exception {
+    printlnMethodName();
+
+    final MultiProcessor mp = run(4, SchedulingMode.LOCKSTEP, ConsistencyModel.FENCED, IINC);
+    assertThat(getCount(mp)).isEqualTo(400);
+    assertThat(mp.getBus().getAtomicOpcode()).isEqualTo(IINC);
+    assertThat(mp.getBus().getModel()).isSameAs(ConsistencyModel.FENCED);
+  }
+
+  @Test
+  public void testLockstep_Reproducible() throws Exception {
+    printlnMethodName();
+
+    final MultiProcessor first = new MultiProcessor(this.store, this.program, 3, SchedulingMode.LOCKSTEP,
+                                                    ConsistencyModel.SEQUENTIAL, -1, new BufferedIO());
+    first.setQuantum(7);
+    first.run();
+    final MultiProcessor second = new MultiProcessor(this.store, this.program, 3, SchedulingMode.LOCKSTEP,
+                                                     ConsistencyModel.SEQUENTIAL, -1, new BufferedIO());
+    second.setQuantum(7);
+    second.run();
+    assertThat(first.getQuantum()).isEqualTo(7);
+    assertThat(getCount(second)).isEqualTo(getCount(first));
+    assertThat(second.getTicks()).isEqualTo(first.getTicks());
+    assertThat(getCount(first)).isGreaterThan(100);
+    assertThat(getCount(first)).isLessThan(300);
+  }
+
+  @Test
+  public void testFree_Atomic() throws Exception {
+    printlnMethodName();
+
+    MultiProcessor mp = run(4, SchedulingMode.FREE, ConsistencyModel.SEQUENTIAL, IINC);
+    assertThat(getCount(mp)).isEqualTo(400);
+    assertThat(mp.getNanos()).isGreaterThan(0);
+
+    mp = run(4, SchedulingMode.FREE, ConsistencyModel.FENCED, IINC);
+    assertThat(getCount(mp)).isEqualTo(400);
+  }
+
+  @Test
+  public void testFree_WithoutAtomic() throws Exception {
+    printlnMethodName();
+
+    final MultiProcessor mp = run(2, SchedulingMode.FREE, ConsistencyModel.FENCED, -1);
+    assertThat(getCount(mp)).isGreaterThan(0);
+    assertThat(getCount(mp)).isLessThan(201);
+  }
+
+  @Test
+  public void testTickLimit() throws Exception {
+    printlnMethodName();
+
+    for (final SchedulingMode mode : SchedulingMode.values()) {
+      final MultiProcessor mp = new MultiProcessor(this.store, this.program, 2, mode, ConsistencyModel.SEQUENTIAL,
+                                                   -1, new BufferedIO());
+      mp.setTickLimit(50);
+      mp.run();
+      assertThat(mp.getTickLimit()).isEqualTo(50);
+      assertThat(mp.isHalted()).isFalse();
+      assertThat(mp.getCore(0).getExecutedTicks()).isEqualTo(50);
+      assertThat(mp.getCore(1).getExecutedTicks()).isGreaterThan(49);
+      assertThat(mp.getCore(0).getHaltReason()).isNotEqualTo(HaltReason.HALT_INSTRUCTION);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyCores() throws Exception {
+    printlnMethodName();
+
+    new MultiProcessor(this.store, this.program, MultiProcessor.getMaxCores() + 1, SchedulingMode.FREE,
+                       ConsistencyModel.FENCED, -1, new BufferedIO());
+  }
+}
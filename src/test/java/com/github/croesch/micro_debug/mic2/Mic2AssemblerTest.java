@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.error.MicroFileFormatException;
+
+/**
+ * Contains test cases for {@link Mic2Assembler}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class Mic2AssemblerTest extends DefaultTestCase {
+
+  private Mic2Assembler assembler;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.assembler = new Mic2Assembler();
+  }
+
+  @Test
+  public void testAssemble_Buses() throws MicroFileFormatException {
+    printlnMethodName();
+
+    final Mic2ControlStore store = this.assembler.assemble(".label start 0x10\n" + ".label other 0x20\n"
+                                                           + "start MAR = SP = SP - 1; rd\n"
+                                                           + "      TOS = MDR + H; wr; goto (MBR1)\n"
+                                                           + "other H = MBR2U; goto start\n");
+    final Mic2Instruction first = store.getInstruction(0x10);
+    assertThat(first.getBBus()).isEqualTo(Mic2Register.SP);
+    assertThat(first.getCBusSignals().isSp()).isTrue();
+    assertThat(first.getCBusSignals().isMar()).isTrue();
+    assertThat(first.getMemorySignals().isRead()).isTrue();
+    assertThat(first.getRequiredBytes()).isZero();
+
+    final Mic2Instruction second = store.getInstruction(first.getNextAddress());
+    assertThat(second.getABus()).isEqualTo(Mic2Register.MDR);
+    assertThat(second.getBBus()).isEqualTo(Mic2Register.H);
+    assertThat(second.getMemorySignals().isWrite()).isTrue();
+    assertThat(second.getJmpSignals().isJmpC()).isTrue();
+    assertThat(second.getRequiredBytes()).isEqualTo(1);
+
+    final Mic2Instruction third = store.getInstruction(0x20);
+    assertThat(third.getBBus()).isEqualTo(Mic2Register.MBR2U);
+    assertThat(third.getRequiredBytes()).isEqualTo(2);
+    assertThat(third.getNextAddress()).isEqualTo(0x10);
+  }
+
+  @Test
+  public void testAssemble_Conditional() throws MicroFileFormatException {
+    printlnMethodName();
+
+    final Mic2ControlStore store = this.assembler.assemble(".label start 0x10\n"
+                                                           + "start Z = TOS; if (Z) goto t; else goto f\n"
+                                                           + "t     goto start\n" + "f     goto (MBR1)\n");
+    final Mic2Instruction i = store.getInstruction(0x10);
+    assertThat(i.getJmpSignals().isJmpZ()).isTrue();
+    assertThat(store.getInstruction(i.getBranchAddress()).getNextAddress()).isEqualTo(0x10);
+    assertThat(store.getInstruction(i.getNextAddress()).getJmpSignals().isJmpC()).isTrue();
+  }
+
+  @Test
+  public void testAssemble_Halt() throws MicroFileFormatException {
+    printlnMethodName();
+
+    final Mic2ControlStore store = this.assembler.assemble(".label halt 0xFF\n" + "halt goto halt\n");
+    assertThat(store.getInstruction(0xFF).isHalt(0xFF)).isTrue();
+    assertThat(store.getInstruction(512)).isNull();
+  }
+
+  @Test
+  public void testAssemble_Errors() {
+    printlnMethodName();
+
+    assertInvalid("MBR1 = H\n");
+    assertInvalid("H = MBR1 + MBR2\n");
+    assertInvalid("H = TOS; fetch\n");
+    assertInvalid("goto unknown\n");
+    assertInvalid("H = TOS * 2\n");
+    assertInvalid(".label a 0x10\n.label b 0x10\na goto a\nb goto b\n");
+  }
+
+  @Test
+  public void testDefault() {
+    printlnMethodName();
+
+    final Mic2ControlStore store = Mic2ControlStore.getDefault();
+    assertThat(store).isSameAs(Mic2ControlStore.getDefault());
+    // NOP only dispatches to the next opcode
+    assertThat(store.getInstruction(0x00).getJmpSignals().isJmpC()).isTrue();
+    assertThat(store.getInstruction(0xFF).isHalt(0xFF)).isTrue();
+  }
+
+  private void assertInvalid(final String source) {
+    try {
+      this.assembler.assemble(source);
+      fail("invalid source has been assembled: " + source);
+    } catch (final MicroFileFormatException e) {
+      assertThat(e.getMessage()).isNotEmpty();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic2;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+
+/**
+ * Contains test cases for {@link Mic2}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class Mic2Test extends DefaultTestCase {
+
+  private Mic2 processor;
+
+  private BufferedIO io;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    final byte[] program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                          .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+    this.processor = new Mic2(Mic2ControlStore.getDefault(), new ByteArrayInputStream(program));
+    this.io = new BufferedIO();
+    this.processor.getMemory().setIO(this.io);
+  }
+
+  @Test
+  public void testRun() {
+    printlnMethodName();
+
+    final long ticks = this.processor.run();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(this.io.getOutputAsString()).isEqualTo("ABCDE\n");
+    assertThat(ticks).isEqualTo(this.processor.getTicks());
+    assertThat(this.processor.getMicroInstructions() + this.processor.getStallTicks()).isEqualTo(ticks);
+    assertThat(this.processor.getMacroInstructions()).isGreaterThan(0);
+    assertThat(this.processor.getFetchedWords()).isGreaterThan(0);
+    assertThat(this.processor.getFlushes()).isGreaterThan(0);
+  }
+
+  @Test
+  public void testRun_Input() throws Exception {
+    printlnMethodName();
+
+    this.processor = new Mic2(Mic2ControlStore.getDefault(), ClassLoader.getSystemResourceAsStream("mic1/add.ijvm"));
+    this.io = new BufferedIO("12\n34\n".getBytes());
+    this.processor.getMemory().setIO(this.io);
+    this.processor.run();
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(this.io.getOutputAsString()).contains("46");
+  }
+
+  @Test
+  public void testRun_TickLimit() {
+    printlnMethodName();
+
+    this.processor.setTickLimit(50);
+    assertThat(this.processor.run()).isEqualTo(50);
+    assertThat(this.processor.getHaltReason()).isEqualTo(HaltReason.TICK_LIMIT);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2011-2012  Christian Roesch
+ * 
+ * This file is part of micro-debug.
+ * 
+ * micro-debug is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * micro-debug is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with micro-debug.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.croesch.micro_debug.mic3;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import org.junit.Test;
+
+import com.github.croesch.micro_debug.DefaultTestCase;
+import com.github.croesch.micro_debug.assembler.IJVMAssembler;
+import com.github.croesch.micro_debug.datatypes.HaltReason;
+import com.github.croesch.micro_debug.mic1.io.BufferedIO;
+import com.github.croesch.micro_debug.mic2.Mic2;
+import com.github.croesch.micro_debug.mic2.Mic2ControlStore;
+
+/**
+ * Contains test cases for {@link Mic3}.
+ * 
+ * @author croesch
+ * @since Date: Oct 19, 2026
+ */
+public class Mic3Test extends DefaultTestCase {
+
+  /** the opcode of BIPUSH */
+  private static final int BIPUSH = 0x10;
+
+  private byte[] program;
+
+  @Override
+  protected void setUpDetails() throws Exception {
+    this.program = new IJVMAssembler().assemble(new InputStreamReader(ClassLoader
+                                                  .getSystemResourceAsStream("mic1/hello.jas"))).getImage();
+  }
+
+  private Mic3 run(final PipelineModel model, final BufferedIO io) throws Exception {
+    final Mic3 processor = new Mic3(Mic2ControlStore.getDefault(), model, new ByteArrayInputStream(this.program));
+    processor.getMemory().setIO(io);
+    processor.run();
+    return processor;
+  }
+
+  @Test
+  public void testRun_Mic3() throws Exception {
+    printlnMethodName();
+
+    final BufferedIO io = new BufferedIO();
+    final Mic3 processor = run(PipelineModel.MIC3, io);
+    assertThat(processor.getHaltReason()).isEqualTo(HaltReason.HALT_INSTRUCTION);
+    assertThat(io.getOutputAsString()).isEqualTo("ABCDE\n");
+    assertThat(processor.getModel()).isSameAs(PipelineModel.MIC3);
+
+    final Mic2 mic2 = new Mic2(Mic2ControlStore.getDefault(), new ByteArrayInputStream(this.program));
+    mic2.getMemory().setIO(new BufferedIO());
+    mic2.run();
+    assertThat(processor.getMicroInstructions()).isEqualTo(mic2.getMicroInstructions());
+    assertThat(processor.getMacroInstructions()).isEqualTo(mic2.getMacroInstructions());
+
+    long stalls = 0;
+    for (final StallCause cause : StallCause.values()) {
+      stalls += processor.getStallCycles(cause);
+    }
+    assertThat(processor.getStallCycles(StallCause.REGISTER)).isGreaterThan(0);
+    assertThat(processor.getStallCycles(StallCause.MEMORY)).isGreaterThan(0);
+    assertThat(processor.getStallCycles(StallCause.FLUSH)).isZero();
+    // the front end, one cycle per micro instruction, the stalls and the stages behind the operand latches
+    assertThat(processor.getCycles()).isEqualTo(1 + processor.getMicroInstructions() + stalls + 2);
+  }
+
+  @Test
+  public void testRun_Mic4() throws Exception {
+    printlnMethodName();
+
+    final Mic3 mic3 = run(PipelineModel.MIC3, new BufferedIO());
+    final BufferedIO io = new BufferedIO();
+    final Mic3 mic4 = run(PipelineModel.MIC4, io);
+    assertThat(io.getOutputAsString()).isEqualTo("ABCDE\n");
+    assertThat(mic4.getMacroInstructions()).isEqualTo(mic3.getMacroInstructions());
+    // the micro instructions that only dispatch are executed by the front end
+    assertThat(mic4.getMicroInstructions()).isLessThan(mic3.getMicroInstructions());
+    assertThat(mic4.getStallCycles(StallCause.FETCH)).isZero();
+    assertThat(mic4.getStallCycles(StallCause.FLUSH)).isGreaterThan(0);
+  }
+
+  @Test
+  public void testOpcodeStatistics() throws Exception {
+    printlnMethodName();
+
+    final Mic3 processor = run(PipelineModel.MIC3, new BufferedIO());
+    long instructions = 0;
+    long cycles = 0;
+    for (int opcode = 0; opcode < 256; ++opcode) {
+      instructions += processor.getOpcodeInstructions(opcode);
+      cycles += processor.getOpcodeCycles(opcode);
+      assertThat(processor.getOpcodeMicroInstructions(opcode)).isLessThanOrEqualTo(processor.getOpcodeCycles(opcode));
+    }
+    assertThat(instructions).isEqualTo(processor.getMacroInstructions());
+    assertThat(cycles).isLessThan(processor.getCycles());
+    assertThat(processor.getOpcodeInstructions(BIPUSH)).isEqualTo(7);
+  }
+
+  @Test
+  public void testTickLimit() throws Exception {
+    printlnMethodName();
+
+    final Mic3 processor = new Mic3(Mic2ControlStore.getDefault(), PipelineModel.MIC3,
+                                    new ByteArrayInputStream(this.program));
+    processor.getMemory().setIO(new BufferedIO());
+    processor.setTickLimit(20);
+    processor.run();
+    assertThat(processor.getHaltReason()).isEqualTo(HaltReason.TICK_LIMIT);
+    assertThat(processor.getMicroInstructions()).isLessThanOrEqualTo(20);
+  }
+}